@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The transposed adjacency of a directed graph in compressed sparse row format.
+ * For every node, the sources of all relationships pointing to that node are stored
+ * in a contiguous range of {@link #sources}, optionally together with the relationship weights.
+ * <p>
+ * The order of the sources of a single node depends on the thread scheduling during construction.
+ */
+final class InverseAdjacency {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray sources;
+    private final @Nullable HugeDoubleArray weights;
+
+    static MemoryEstimation memoryEstimation(boolean weighted) {
+        var builder = MemoryEstimations.builder(InverseAdjacency.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("insert positions", HugeAtomicLongArray::memoryEstimation)
+            .perGraphDimension("sources", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.maxRelCount())));
+        if (weighted) {
+            builder.perGraphDimension("weights", (dimensions, concurrency) ->
+                MemoryRange.of(HugeDoubleArray.memoryEstimation(dimensions.maxRelCount())));
+        }
+        return builder.build();
+    }
+
+    static InverseAdjacency of(
+        Graph graph,
+        boolean weighted,
+        int concurrency,
+        long chunkSize,
+        TerminationFlag terminationFlag,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        long nodeCount = graph.nodeCount();
+
+        // count the incoming relationships of every node
+        var positions = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.runWithDynamicChunks(
+            nodeCount,
+            chunkSize,
+            workers(graph, concurrency, (source, target, weight) -> {
+                positions.getAndAdd(target, 1L);
+                return true;
+            }),
+            terminationFlag,
+            executor
+        );
+
+        // turn the counts into start offsets, which are used as insert positions afterwards
+        var offsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        long relationshipCount = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, relationshipCount);
+            relationshipCount += positions.get(nodeId);
+            positions.set(nodeId, offsets.get(nodeId));
+        }
+        offsets.set(nodeCount, relationshipCount);
+
+        var sources = HugeLongArray.newArray(relationshipCount, tracker);
+        var weights = weighted ? HugeDoubleArray.newArray(relationshipCount, tracker) : null;
+        ParallelUtil.runWithDynamicChunks(
+            nodeCount,
+            chunkSize,
+            workers(graph, concurrency, (source, target, weight) -> {
+                long position = positions.getAndAdd(target, 1L);
+                sources.set(position, source);
+                if (weights != null) {
+                    weights.set(position, weight);
+                }
+                return true;
+            }),
+            terminationFlag,
+            executor
+        );
+        tracker.remove(positions.release());
+
+        return new InverseAdjacency(offsets, sources, weights);
+    }
+
+    private static List<BiLongConsumer> workers(
+        Graph graph,
+        int concurrency,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        List<BiLongConsumer> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            RelationshipIterator relationships = graph.concurrentCopy();
+            workers.add((start, end) -> {
+                for (long nodeId = start; nodeId < end; nodeId++) {
+                    relationships.forEachRelationship(nodeId, PageRank.DEFAULT_WEIGHT, consumer);
+                }
+            });
+        }
+        return workers;
+    }
+
+    private InverseAdjacency(HugeLongArray offsets, HugeLongArray sources, @Nullable HugeDoubleArray weights) {
+        this.offsets = offsets;
+        this.sources = sources;
+        this.weights = weights;
+    }
+
+    int degree(long nodeId) {
+        return Math.toIntExact(offsets.get(nodeId + 1) - offsets.get(nodeId));
+    }
+
+    /**
+     * Calls the consumer for every relationship pointing to the given node.
+     * The given node is passed as the source and the node on the other end of the relationship as the target.
+     * Without stored weights, the fallback value is passed as the relationship weight.
+     */
+    void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        long end = offsets.get(nodeId + 1);
+        for (long position = offsets.get(nodeId); position < end; position++) {
+            double weight = weights == null ? fallbackValue : weights.get(position);
+            if (!consumer.accept(nodeId, sources.get(position), weight)) {
+                return;
+            }
+        }
+    }
+
+    void release(AllocationTracker tracker) {
+        tracker.remove(offsets.release());
+        tracker.remove(sources.release());
+        if (weights != null) {
+            tracker.remove(weights.release());
+        }
+    }
+}
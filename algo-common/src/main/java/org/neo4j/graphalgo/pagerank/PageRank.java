@@ -94,6 +94,10 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
  * [1]: <a href="http://delab.csd.auth.gr/~dimitris/courses/ir_spring06/page_rank_computing/01531136.pdf">An Efficient Partition-Based Parallel PageRank Algorithm</a><br>
  * [2]: <a href="https://www.cs.purdue.edu/homes/dgleich/publications/gleich2004-parallel.pdf">Fast Parallel PageRank: A Linear System Approach</a>
  * </p>
+ * <p>
+ * If {@link PageRankBaseConfig#pullBased()} is set, the scores are computed by a {@link PullComputation} instead,
+ * which does not need the partitioned score arrays and whose memory does not depend on the concurrency.
+ * </p>
  */
 public class PageRank extends Algorithm<PageRank, PageRank> {
 
@@ -113,8 +117,10 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
     private final Graph graph;
     private final LongStream sourceNodeIds;
     private final PageRankVariant pageRankVariant;
+    private final boolean pullBased;
 
     private ComputeSteps computeSteps;
+    private PullComputation pullComputation;
 
     private final HugeDoubleArray result;
 
@@ -147,6 +153,7 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         this.toleranceValue = algoConfig.tolerance();
         this.sourceNodeIds = sourceNodeIds;
         this.pageRankVariant = pageRankVariant;
+        this.pullBased = algoConfig.pullBased();
         this.result = HugeDoubleArray.newArray(graph.nodeCount(), tracker);
         this.progressLogger = progressLogger;
     }
@@ -170,9 +177,13 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
     public PageRank compute() {
         getProgressLogger().logMessage(":: Start");
 
-        initializeSteps();
-        computeSteps.run(maxIterations);
-        computeSteps.mergeResults();
+        if (pullBased) {
+            computePullBased();
+        } else {
+            initializeSteps();
+            computeSteps.run(maxIterations);
+            computeSteps.mergeResults();
+        }
 
         getProgressLogger().logMessage(":: Finished");
         return this;
@@ -182,6 +193,41 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         return new CentralityResult(result);
     }
 
+    private void computePullBased() {
+        ExecutorService executor = ParallelUtil.canRunInParallel(this.executor)
+            ? this.executor
+            : null;
+
+        DegreeCache degreeCache = pageRankVariant.degreeComputer(graph).degree(executor, concurrency, tracker);
+        ScoreShare scoreShare = pageRankVariant.scoreShare(graph, degreeCache);
+        if (scoreShare == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "%s does not support pull-based computation.",
+                pageRankVariant.getClass().getSimpleName()
+            ));
+        }
+
+        pullComputation = new PullComputation(
+            graph,
+            scoreShare,
+            dampingFactor,
+            toleranceValue,
+            concurrency,
+            batchSize == 0 ? ParallelUtil.DEFAULT_BATCH_SIZE : batchSize,
+            executor,
+            tracker,
+            getProgressLogger(),
+            terminationFlag,
+            result
+        );
+        ranIterations = pullComputation.run(
+            maxIterations,
+            sourceNodeIds.map(graph::toMappedNodeId).filter(mappedId -> mappedId != -1L).toArray(),
+            1.0 - dampingFactor
+        );
+        didConverge = pullComputation.didConverge();
+    }
+
     // we cannot do this in the constructor anymore since
     // we want to allow the user to provide a log instance
     private void initializeSteps() {
@@ -286,7 +332,12 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
 
     @Override
     public void release() {
-        computeSteps.release();
+        if (computeSteps != null) {
+            computeSteps.release();
+        }
+        if (pullComputation != null) {
+            pullComputation.release();
+        }
     }
 
     public final class ComputeSteps {
@@ -55,4 +55,13 @@ public interface PageRankBaseConfig extends
     default boolean cacheWeights() {
         return false;
     }
+
+    /**
+     * Compute the scores by pulling them from the incoming neighbours of every node
+     * instead of pushing them into per-partition buffers.
+     */
+    @Value.Default
+    default boolean pullBased() {
+        return false;
+    }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.pagerank;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
@@ -39,6 +40,14 @@ public interface PageRankVariant {
     );
 
     DegreeComputer degreeComputer(Graph graph);
+
+    /**
+     * Returns how nodes pass on their score in a pull-based computation,
+     * or {@code null} if the variant can only be computed by {@link ComputeStep}s.
+     */
+    default @Nullable ScoreShare scoreShare(Graph graph, DegreeCache degreeCache) {
+        return null;
+    }
 }
 
 
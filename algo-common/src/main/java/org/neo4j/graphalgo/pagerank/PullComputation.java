@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Pull-based computation of the Page Rank scores.
+ * <p>
+ * Every node reads the score changes of the nodes pointing to it and sums them up, so
+ * every score is only written by the thread that owns the node and no per-partition
+ * score buffers need to be exchanged between iterations.
+ * The incoming relationships are read from the graph itself if it is undirected or
+ * {@link Graph#isInverseIndexed() inverse indexed}, otherwise an {@link InverseAdjacency} is built upfront.
+ * <p>
+ * Instead of the score changes, the shares that nodes pass on to each of their neighbours
+ * are stored, see {@link ScoreShare}. Only two {@link HugeDoubleArray}s of that size are needed
+ * next to the result, which are swapped after every iteration.
+ */
+final class PullComputation {
+
+    private final Graph graph;
+    private final ScoreShare scoreShare;
+    private final double dampingFactor;
+    private final double tolerance;
+    private final int concurrency;
+    private final long chunkSize;
+    private final ExecutorService executor;
+    private final AllocationTracker tracker;
+    private final ProgressLogger progressLogger;
+    private final TerminationFlag terminationFlag;
+
+    private final HugeDoubleArray pageRank;
+    private HugeDoubleArray shares;
+    private HugeDoubleArray nextShares;
+    private @Nullable InverseAdjacency inverseAdjacency;
+    private boolean didConverge;
+
+    /**
+     * The inverse adjacency is only built if the graph is neither undirected nor inverse indexed,
+     * which is not known before the graph is loaded, so it adds to the upper bound only.
+     */
+    static MemoryEstimation memoryEstimation(boolean weighted) {
+        return MemoryEstimations.builder(PullComputation.class)
+            .perNode("shares", HugeDoubleArray::memoryEstimation)
+            .perNode("next shares", HugeDoubleArray::memoryEstimation)
+            .add("inverse adjacency", MemoryEstimations.andThen(
+                InverseAdjacency.memoryEstimation(weighted),
+                range -> MemoryRange.of(0L, range.max)
+            ))
+            .build();
+    }
+
+    PullComputation(
+        Graph graph,
+        ScoreShare scoreShare,
+        double dampingFactor,
+        double tolerance,
+        int concurrency,
+        long chunkSize,
+        ExecutorService executor,
+        AllocationTracker tracker,
+        ProgressLogger progressLogger,
+        TerminationFlag terminationFlag,
+        HugeDoubleArray pageRank
+    ) {
+        this.graph = graph;
+        this.scoreShare = scoreShare;
+        this.dampingFactor = dampingFactor;
+        this.tolerance = tolerance;
+        this.concurrency = concurrency;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.tracker = tracker;
+        this.progressLogger = progressLogger;
+        this.terminationFlag = terminationFlag;
+        this.pageRank = pageRank;
+    }
+
+    /**
+     * Runs until no score changes by more than the tolerance, but at most {@code maxIterations} iterations.
+     * Returns the number of iterations that ran.
+     */
+    int run(int maxIterations, long[] sourceNodeIds, double initialValue) {
+        long nodeCount = graph.nodeCount();
+        if (!graph.isInverseIndexed()) {
+            progressLogger.logMessage(":: Inverse adjacency :: Start");
+            inverseAdjacency = InverseAdjacency.of(
+                graph,
+                scoreShare.weighted(),
+                concurrency,
+                chunkSize,
+                terminationFlag,
+                executor,
+                tracker
+            );
+            progressLogger.logMessage(":: Inverse adjacency :: Finished");
+        }
+
+        shares = HugeDoubleArray.newArray(nodeCount, tracker);
+        nextShares = HugeDoubleArray.newArray(nodeCount, tracker);
+        if (sourceNodeIds.length == 0) {
+            pageRank.setAll(nodeId -> initialValue);
+        } else {
+            pageRank.fill(0.0);
+            for (long sourceNodeId : sourceNodeIds) {
+                pageRank.set(sourceNodeId, initialValue);
+            }
+        }
+        shares.setAll(nodeId -> share(nodeId, pageRank.get(nodeId)));
+
+        int iteration = 0;
+        didConverge = false;
+        while (iteration < maxIterations && !didConverge) {
+            progressLogger.logMessage(formatWithLocale(":: Iteration %d :: Start", iteration + 1));
+
+            List<PullTask> tasks = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                tasks.add(new PullTask());
+            }
+            ParallelUtil.runWithDynamicChunks(nodeCount, chunkSize, tasks, terminationFlag, executor);
+            didConverge = tasks.stream().allMatch(task -> task.isStable);
+
+            HugeDoubleArray tmp = shares;
+            shares = nextShares;
+            nextShares = tmp;
+
+            iteration++;
+            if (iteration < maxIterations && !didConverge) {
+                progressLogger.reset(graph.relationshipCount());
+            }
+            progressLogger.logMessage(formatWithLocale(":: Iteration %d :: Finished", iteration));
+        }
+        return iteration;
+    }
+
+    boolean didConverge() {
+        return didConverge;
+    }
+
+    private double share(long nodeId, double delta) {
+        double denominator = scoreShare.denominator(nodeId);
+        return denominator > 0 ? delta / denominator : 0.0;
+    }
+
+    void release() {
+        if (shares != null) {
+            tracker.remove(shares.release());
+            tracker.remove(nextShares.release());
+            shares = null;
+            nextShares = null;
+        }
+        if (inverseAdjacency != null) {
+            inverseAdjacency.release(tracker);
+            inverseAdjacency = null;
+        }
+    }
+
+    private final class PullTask implements BiLongConsumer, RelationshipWithPropertyConsumer {
+
+        private final RelationshipIterator relationships;
+        private final boolean weighted;
+        private double sum;
+        private boolean isStable;
+
+        PullTask() {
+            this.relationships = inverseAdjacency == null ? graph.concurrentCopy() : null;
+            this.weighted = scoreShare.weighted();
+            this.isStable = true;
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                sum = 0.0;
+                if (inverseAdjacency != null) {
+                    inverseAdjacency.forEachRelationship(nodeId, PageRank.DEFAULT_WEIGHT, this);
+                } else {
+                    relationships.forEachInverseRelationship(nodeId, PageRank.DEFAULT_WEIGHT, this);
+                }
+
+                double delta = dampingFactor * sum;
+                if (delta > tolerance) {
+                    isStable = false;
+                }
+                pageRank.addTo(nodeId, delta);
+                nextShares.set(nodeId, share(nodeId, delta));
+
+                progressLogger.logProgress(graph.degree(nodeId));
+            }
+        }
+
+        @Override
+        public boolean accept(long nodeId, long neighbourId, double weight) {
+            if (!weighted) {
+                sum += shares.get(neighbourId);
+            } else if (weight > 0) {
+                sum += shares.get(neighbourId) * weight;
+            }
+            return true;
+        }
+    }
+}
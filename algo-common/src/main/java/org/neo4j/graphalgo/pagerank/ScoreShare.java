@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Describes how a node passes on its score change along its relationships
+ * when the scores are computed pull-based, see {@link PullComputation}.
+ * <p>
+ * The score change of a node is divided by its {@link #denominator(long) denominator}
+ * and, for weighted variants, multiplied with the weight of each relationship.
+ */
+public interface ScoreShare {
+
+    /**
+     * Returns the value by which the score change of the given node is divided.
+     * Nodes with a denominator of zero or less do not pass on their score.
+     */
+    double denominator(long nodeId);
+
+    /**
+     * Whether the share of a node is multiplied with the relationship weight.
+     * Relationships with a weight of zero or less do not pass on any score.
+     */
+    boolean weighted();
+
+    static ScoreShare of(LongToDoubleFunction denominator, boolean weighted) {
+        return new ScoreShare() {
+            @Override
+            public double denominator(long nodeId) {
+                return denominator.applyAsDouble(nodeId);
+            }
+
+            @Override
+            public boolean weighted() {
+                return weighted;
+            }
+        };
+    }
+}
@@ -0,0 +1,632 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.leiden;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
+import org.neo4j.graphalgo.beta.modularity.ImmutableModularityOptimizationStreamConfig;
+import org.neo4j.graphalgo.beta.modularity.ModularityOptimization;
+import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationFactory;
+import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationStreamConfig;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.loading.IdMap;
+import org.neo4j.graphalgo.core.loading.builder.GraphBuilder;
+import org.neo4j.graphalgo.core.loading.builder.NodesBuilder;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.graphalgo.louvain.CommunityAggregation;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Implementation of the Leiden algorithm, see
+ *
+ * Traag, V.A., Waltman, L. & van Eck, N.J. From Louvain to Leiden: guaranteeing well-connected communities.
+ * Sci Rep 9, 5233 (2019). https://doi.org/10.1038/s41598-019-41695-z
+ *
+ * Every level consists of three phases:
+ * <ol>
+ * <li>local moving of nodes using {@link ModularityOptimization},</li>
+ * <li>refinement of every community into sub-communities, which are connected by construction,</li>
+ * <li>aggregation of the refined partition into a new graph using {@link CommunityAggregation}.</li>
+ * </ol>
+ * In contrast to Louvain, the aggregated nodes are not initialized as singletons on the next level,
+ * but keep the community that was found by the local moving phase.
+ *
+ * The intermediate levels of the result are the refined partitions, so every community of a level
+ * is contained in exactly one community of the next level. The final level is the partition of the
+ * last local moving phase, split into connected components, so every final community is connected.
+ *
+ * The refinement merges singletons greedily into the well-connected sub-community with the largest
+ * modularity gain. Sub-communities of different communities are refined in parallel.
+ */
+public final class Leiden extends Algorithm<Leiden, Leiden> {
+
+    // number of nodes or communities that are processed by a refinement task at once
+    private static final long REFINE_CHUNK_SIZE = 1024;
+
+    private final Graph rootGraph;
+    private final LeidenBaseConfig config;
+    private final NodeProperties seedingValues;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+
+    // results
+    private HugeLongArray[] dendrograms;
+    private double[] modularities;
+    private int ranLevels;
+
+    public Leiden(
+        Graph graph,
+        LeidenBaseConfig config,
+        ExecutorService executorService,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        this.config = config;
+        this.rootGraph = graph;
+        this.seedingValues = Optional.ofNullable(config.seedProperty()).map(graph::nodeProperties).orElse(null);
+        this.executorService = executorService;
+        this.tracker = tracker;
+        this.dendrograms = new HugeLongArray[config.maxLevels()];
+        this.modularities = new double[config.maxLevels()];
+        this.progressLogger = progressLogger;
+    }
+
+    @Override
+    public Leiden compute() {
+        getProgressLogger().logMessage(":: Start");
+
+        Graph workingGraph = rootGraph;
+        NodeProperties nextSeedingValues = seedingValues;
+        // maps every node of the root graph to its node in the working graph, identity on the first level
+        HugeLongArray workingNodes = null;
+
+        for (ranLevels = 0; ranLevels < config.maxLevels(); ranLevels++) {
+            getProgressLogger().logMessage(formatWithLocale("Level %d :: Start", ranLevels + 1));
+
+            assertRunning();
+
+            ModularityOptimization modularityOptimization = runModularityOptimization(
+                workingGraph,
+                nextSeedingValues
+            );
+            modularityOptimization.release();
+
+            modularities[ranLevels] = modularityOptimization.getModularity();
+
+            HugeLongArray communities = HugeLongArray.newArray(workingGraph.nodeCount(), tracker);
+            long maxCommunityId = copyCommunities(workingGraph, modularityOptimization, communities);
+
+            assertRunning();
+
+            HugeLongArray refinedCommunities = refine(workingGraph, communities, maxCommunityId);
+            Graph aggregatedGraph = CommunityAggregation.summarize(
+                workingGraph,
+                refinedCommunities::get,
+                workingGraph.nodeCount() - 1,
+                rootGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL,
+                config.concurrency(),
+                this,
+                executorService,
+                tracker
+            );
+
+            getProgressLogger().logMessage(formatWithLocale("Level %d :: Finished", ranLevels + 1));
+
+            if (ranLevels == config.maxLevels() - 1
+                || aggregatedGraph.nodeCount() == workingGraph.nodeCount()
+                || aggregatedGraph.nodeCount() == 1
+                || hasConverged()
+            ) {
+                refinedCommunities.release();
+                HugeLongArray finalCommunities = buildDendrogram(communities, workingNodes);
+                communities.release();
+                dendrograms[ranLevels++] = splitIntoConnectedCommunities(finalCommunities);
+                finalCommunities.release();
+                break;
+            }
+
+            // the refined partition is nested in the partitions of all following levels
+            dendrograms[ranLevels] = buildDendrogram(refinedCommunities, workingNodes);
+            workingNodes = mapToAggregatedNodes(workingNodes, refinedCommunities, aggregatedGraph);
+            refinedCommunities.release();
+
+            nextSeedingValues = new CommunityNodeProperties(aggregatedGraph, communities);
+            workingGraph = aggregatedGraph;
+        }
+
+        resizeResultArrays();
+        getProgressLogger().logMessage(":: Finished");
+
+        return this;
+    }
+
+    private void resizeResultArrays() {
+        int numLevels = levels();
+        this.dendrograms = Arrays.copyOf(this.dendrograms, numLevels);
+        this.modularities = Arrays.copyOf(this.modularities, numLevels);
+    }
+
+    private ModularityOptimization runModularityOptimization(Graph leidenGraph, NodeProperties seed) {
+        ModularityOptimizationStreamConfig modularityOptimizationConfig = ImmutableModularityOptimizationStreamConfig
+            .builder()
+            .maxIterations(config.maxIterations())
+            .tolerance(config.tolerance())
+            .concurrency(config.concurrency())
+            .batchSize(DEFAULT_BATCH_SIZE)
+            .build();
+
+        ModularityOptimization modularityOptimization = new ModularityOptimizationFactory<>()
+            .build(
+                leidenGraph,
+                modularityOptimizationConfig,
+                seed,
+                tracker,
+                progressLogger.getLog()
+            ).withTerminationFlag(terminationFlag);
+
+        modularityOptimization.compute();
+
+        return modularityOptimization;
+    }
+
+    /**
+     * Splits every community into its connected components. The local moving phase can disconnect
+     * a community, e.g. by moving away a node that bridges two parts, and seeding can start from a
+     * disconnected one. This is never repaired on the final level since no further refinement follows.
+     * Splitting keeps the final partition nested in the previous levels and does not decrease its modularity.
+     *
+     * The components are computed on the root graph, so every final community is identified
+     * by its smallest node id, independent of the concurrency used for the aggregated graphs.
+     */
+    private HugeLongArray splitIntoConnectedCommunities(HugeLongArray communities) {
+        long nodeCount = rootGraph.nodeCount();
+        DisjointSetStruct components = new HugeAtomicDisjointSetStruct(nodeCount, tracker, config.concurrency());
+
+        List<ConnectTask> connectTasks = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            connectTasks.add(new ConnectTask(rootGraph, communities, components));
+        }
+        ParallelUtil.runWithDynamicChunks(
+            nodeCount,
+            REFINE_CHUNK_SIZE,
+            connectTasks,
+            terminationFlag,
+            executorService
+        );
+
+        HugeLongArray connectedCommunities = HugeLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.parallelForEachNode(
+            rootGraph,
+            config.concurrency(),
+            nodeId -> connectedCommunities.set(nodeId, components.setIdOf(nodeId))
+        );
+        return connectedCommunities;
+    }
+
+    private long copyCommunities(
+        Graph workingGraph,
+        ModularityOptimization modularityOptimization,
+        HugeLongArray communities
+    ) {
+        AtomicLong maxCommunityId = new AtomicLong(0L);
+        ParallelUtil.parallelForEachNode(workingGraph, config.concurrency(), (nodeId) -> {
+            long communityId = modularityOptimization.getCommunityId(nodeId);
+            maxCommunityId.accumulateAndGet(communityId, Math::max);
+            communities.set(nodeId, communityId);
+        });
+        return maxCommunityId.get();
+    }
+
+    private HugeLongArray buildDendrogram(HugeLongArray communities, HugeLongArray workingNodes) {
+        HugeLongArray dendrogram = HugeLongArray.newArray(rootGraph.nodeCount(), tracker);
+        ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), (nodeId) -> {
+            long workingNodeId = workingNodes == null ? nodeId : workingNodes.get(nodeId);
+            dendrogram.set(nodeId, communities.get(workingNodeId));
+        });
+        return dendrogram;
+    }
+
+    private HugeLongArray mapToAggregatedNodes(
+        HugeLongArray workingNodes,
+        HugeLongArray refinedCommunities,
+        Graph aggregatedGraph
+    ) {
+        HugeLongArray aggregatedNodes = workingNodes == null
+            ? HugeLongArray.newArray(rootGraph.nodeCount(), tracker)
+            : workingNodes;
+        ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), (nodeId) -> {
+            long workingNodeId = workingNodes == null ? nodeId : workingNodes.get(nodeId);
+            aggregatedNodes.set(nodeId, aggregatedGraph.toMappedNodeId(refinedCommunities.get(workingNodeId)));
+        });
+        return aggregatedNodes;
+    }
+
+    /**
+     * Splits every community into sub-communities. The id of a sub-community is the working node
+     * it was started from, so the result can be used as original ids of the aggregated graph.
+     */
+    private HugeLongArray refine(Graph workingGraph, HugeLongArray communities, long maxCommunityId) {
+        long nodeCount = workingGraph.nodeCount();
+
+        NodesBuilder nodesBuilder = GraphBuilder.createNodesBuilder(
+            maxCommunityId,
+            false,
+            config.concurrency(),
+            tracker
+        );
+        ParallelUtil.parallelForEachNode(
+            workingGraph,
+            config.concurrency(),
+            nodeId -> nodesBuilder.addNode(communities.get(nodeId))
+        );
+        IdMap communityIdMap = nodesBuilder.build();
+        long communityCount = communityIdMap.nodeCount();
+
+        // group the nodes by community, in node order to keep the refinement deterministic
+        HugeLongArray communityOffsets = HugeLongArray.newArray(communityCount + 1, tracker);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long community = communityIdMap.toMappedNodeId(communities.get(nodeId));
+            communityOffsets.addTo(community + 1, 1);
+        }
+        for (long community = 0; community < communityCount; community++) {
+            communityOffsets.addTo(community + 1, communityOffsets.get(community));
+        }
+        HugeLongArray communityCursors = communityOffsets.copyOf(communityCount, tracker);
+        HugeLongArray communityMembers = HugeLongArray.newArray(nodeCount, tracker);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long community = communityIdMap.toMappedNodeId(communities.get(nodeId));
+            communityMembers.set(communityCursors.get(community), nodeId);
+            communityCursors.addTo(community, 1);
+        }
+        communityCursors.release();
+
+        assertRunning();
+
+        HugeDoubleArray nodeWeights = HugeDoubleArray.newArray(nodeCount, tracker);
+        List<NodeWeightTask> nodeWeightTasks = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            nodeWeightTasks.add(new NodeWeightTask(workingGraph, nodeWeights));
+        }
+        ParallelUtil.runWithDynamicChunks(
+            nodeCount,
+            REFINE_CHUNK_SIZE,
+            nodeWeightTasks,
+            terminationFlag,
+            executorService
+        );
+        double totalWeight = nodeWeightTasks.stream().mapToDouble(task -> task.totalWeight).sum();
+
+        HugeLongArray refinedCommunities = HugeLongArray.newArray(nodeCount, tracker);
+        HugeDoubleArray refinedWeights = HugeDoubleArray.newArray(nodeCount, tracker);
+        HugeDoubleArray externalWeights = HugeDoubleArray.newArray(nodeCount, tracker);
+        List<RefineTask> refineTasks = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            refineTasks.add(new RefineTask(
+                workingGraph,
+                communities,
+                communityOffsets,
+                communityMembers,
+                nodeWeights,
+                totalWeight,
+                refinedCommunities,
+                refinedWeights,
+                externalWeights
+            ));
+        }
+        ParallelUtil.runWithDynamicChunks(
+            communityCount,
+            REFINE_CHUNK_SIZE,
+            refineTasks,
+            terminationFlag,
+            executorService
+        );
+
+        communityOffsets.release();
+        communityMembers.release();
+        nodeWeights.release();
+        refinedWeights.release();
+        externalWeights.release();
+
+        return refinedCommunities;
+    }
+
+    private static final class NodeWeightTask implements BiLongConsumer {
+
+        private final Graph graph;
+        private final HugeDoubleArray nodeWeights;
+        private double totalWeight;
+
+        NodeWeightTask(Graph graph, HugeDoubleArray nodeWeights) {
+            this.graph = graph.concurrentCopy();
+            this.nodeWeights = nodeWeights;
+        }
+
+        @Override
+        public void apply(long startNode, long endNode) {
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                double[] weight = {0.0};
+                graph.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
+                    weight[0] += property;
+                    return true;
+                });
+                nodeWeights.set(nodeId, weight[0]);
+                totalWeight += weight[0];
+            }
+        }
+    }
+
+    private static final class ConnectTask implements BiLongConsumer {
+
+        private final Graph graph;
+        private final HugeLongArray communities;
+        private final DisjointSetStruct components;
+
+        ConnectTask(Graph graph, HugeLongArray communities, DisjointSetStruct components) {
+            this.graph = graph.concurrentCopy();
+            this.communities = communities;
+            this.components = components;
+        }
+
+        @Override
+        public void apply(long startNode, long endNode) {
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                long community = communities.get(nodeId);
+                graph.forEachRelationship(nodeId, (source, target) -> {
+                    if (communities.get(target) == community) {
+                        components.union(source, target);
+                    }
+                    return true;
+                });
+            }
+        }
+    }
+
+    /**
+     * Refines whole communities, so that all writes of a task are confined to the members
+     * of its communities. Every node starts in its own sub-community. A node that is still a singleton
+     * and well connected to the rest of its community joins the well-connected sub-community of
+     * a neighbour that yields the largest modularity gain, if any gain is positive.
+     */
+    private static final class RefineTask implements BiLongConsumer {
+
+        private final Graph graph;
+        private final HugeLongArray communities;
+        private final HugeLongArray communityOffsets;
+        private final HugeLongArray communityMembers;
+        private final HugeDoubleArray nodeWeights;
+        private final double totalWeight;
+        private final HugeLongArray refinedCommunities;
+        private final HugeDoubleArray refinedWeights;
+        private final HugeDoubleArray externalWeights;
+        private final LongDoubleHashMap neighbourWeights;
+        private final LongHashSet mergedCommunities;
+
+        RefineTask(
+            Graph graph,
+            HugeLongArray communities,
+            HugeLongArray communityOffsets,
+            HugeLongArray communityMembers,
+            HugeDoubleArray nodeWeights,
+            double totalWeight,
+            HugeLongArray refinedCommunities,
+            HugeDoubleArray refinedWeights,
+            HugeDoubleArray externalWeights
+        ) {
+            this.graph = graph.concurrentCopy();
+            this.communities = communities;
+            this.communityOffsets = communityOffsets;
+            this.communityMembers = communityMembers;
+            this.nodeWeights = nodeWeights;
+            this.totalWeight = totalWeight;
+            this.refinedCommunities = refinedCommunities;
+            this.refinedWeights = refinedWeights;
+            this.externalWeights = externalWeights;
+            this.neighbourWeights = new LongDoubleHashMap();
+            this.mergedCommunities = new LongHashSet();
+        }
+
+        @Override
+        public void apply(long startCommunity, long endCommunity) {
+            for (long community = startCommunity; community < endCommunity; community++) {
+                long start = communityOffsets.get(community);
+                long end = communityOffsets.get(community + 1);
+
+                double communityWeight = 0.0;
+                for (long offset = start; offset < end; offset++) {
+                    long nodeId = communityMembers.get(offset);
+                    communityWeight += nodeWeights.get(nodeId);
+                    refinedCommunities.set(nodeId, nodeId);
+                    refinedWeights.set(nodeId, nodeWeights.get(nodeId));
+                    externalWeights.set(nodeId, weightToOwnCommunity(nodeId));
+                }
+
+                mergedCommunities.clear();
+                for (long offset = start; offset < end; offset++) {
+                    long nodeId = communityMembers.get(offset);
+                    if (mergedCommunities.contains(nodeId)) {
+                        continue;
+                    }
+                    double nodeWeight = nodeWeights.get(nodeId);
+                    if (!isWellConnected(externalWeights.get(nodeId), nodeWeight, communityWeight)) {
+                        continue;
+                    }
+
+                    collectNeighbourWeights(nodeId);
+
+                    long bestCommunity = -1;
+                    double bestGain = 0.0;
+                    double bestWeight = 0.0;
+                    for (LongDoubleCursor cursor : neighbourWeights) {
+                        double refinedWeight = refinedWeights.get(cursor.key);
+                        if (!isWellConnected(externalWeights.get(cursor.key), refinedWeight, communityWeight)) {
+                            continue;
+                        }
+                        double gain = cursor.value - nodeWeight * refinedWeight / totalWeight;
+                        if (gain > bestGain) {
+                            bestCommunity = cursor.key;
+                            bestGain = gain;
+                            bestWeight = cursor.value;
+                        }
+                    }
+
+                    if (bestCommunity != -1) {
+                        refinedCommunities.set(nodeId, bestCommunity);
+                        refinedWeights.addTo(bestCommunity, nodeWeight);
+                        externalWeights.addTo(bestCommunity, externalWeights.get(nodeId) - 2 * bestWeight);
+                        mergedCommunities.add(bestCommunity);
+                    }
+                }
+            }
+        }
+
+        private boolean isWellConnected(double externalWeight, double weight, double communityWeight) {
+            return externalWeight >= weight * (communityWeight - weight) / totalWeight;
+        }
+
+        private double weightToOwnCommunity(long nodeId) {
+            long community = communities.get(nodeId);
+            double[] weight = {0.0};
+            graph.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
+                if (source != target && communities.get(target) == community) {
+                    weight[0] += property;
+                }
+                return true;
+            });
+            return weight[0];
+        }
+
+        private void collectNeighbourWeights(long nodeId) {
+            long community = communities.get(nodeId);
+            neighbourWeights.clear();
+            graph.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
+                if (source != target && communities.get(target) == community) {
+                    neighbourWeights.addTo(refinedCommunities.get(target), property);
+                }
+                return true;
+            });
+        }
+    }
+
+    private boolean hasConverged() {
+        if (ranLevels == 0) {
+            return false;
+        }
+
+        double previousModularity = modularities[ranLevels - 1];
+        double currentModularity = modularities[ranLevels];
+        return !(currentModularity > previousModularity && Math.abs(currentModularity - previousModularity) > config.tolerance());
+    }
+
+    public LeidenBaseConfig config() {
+        return this.config;
+    }
+
+    public HugeLongArray[] dendrograms() {
+        return this.dendrograms;
+    }
+
+    public HugeLongArray finalDendrogram() {
+        return this.dendrograms[levels() - 1];
+    }
+
+    public long getCommunity(long nodeId) {
+        return dendrograms[levels() - 1].get(nodeId);
+    }
+
+    public long[] getCommunities(long nodeId) {
+        long[] communities = new long[dendrograms.length];
+
+        for (int i = 0; i < dendrograms.length; i++) {
+            communities[i] = dendrograms[i].get(nodeId);
+        }
+
+        return communities;
+    }
+
+    public int levels() {
+        return this.ranLevels == 0 ? 1 : this.ranLevels;
+    }
+
+    public double[] modularities() {
+        return this.modularities;
+    }
+
+    @Override
+    public void release() {
+        this.rootGraph.releaseTopology();
+    }
+
+    @Override
+    public Leiden me() {
+        return this;
+    }
+
+    /**
+     * Seeds the nodes of an aggregated graph with the community of the sub-community they represent.
+     */
+    static class CommunityNodeProperties implements LongNodeProperties {
+        private final Graph graph;
+        private final HugeLongArray communities;
+
+        CommunityNodeProperties(Graph graph, HugeLongArray communities) {
+            this.graph = graph;
+            this.communities = communities;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return communities.get(graph.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public Value value(long nodeId) {
+            return Values.longValue(longValue(nodeId));
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.neo4j.graphalgo.beta.k1coloring.K1ColoringStreamConfig;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
@@ -62,6 +63,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private final long nodeCount;
     private final long batchSize;
     private final double tolerance;
+    private final boolean sparseFrontier;
     private final Graph graph;
     private final NodeProperties seedProperty;
     private final ExecutorService executor;
@@ -80,11 +82,15 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private HugeDoubleArray nodeCommunityInfluences;
     private HugeAtomicDoubleArray communityWeights;
     private HugeAtomicDoubleArray communityWeightUpdates;
+    private HugeAtomicBitSet nextActiveNodes;
+    private HugeLongArray activeNodes;
+    private long activeNodeCount;
 
     public ModularityOptimization(
         final Graph graph,
         int maxIterations,
         double tolerance,
+        boolean sparseFrontier,
         @Nullable NodeProperties seedProperty,
         int concurrency,
         int minBatchSize,
@@ -96,6 +102,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.nodeCount = graph.nodeCount();
         this.maxIterations = maxIterations;
         this.tolerance = tolerance;
+        this.sparseFrontier = sparseFrontier;
         this.seedProperty = seedProperty;
         this.executor = executor;
         this.concurrency = concurrency;
@@ -133,7 +140,10 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
 
             boolean hasConverged;
 
-            nodeCommunityInfluences.fill(0.0);
+            // with a sparse frontier, the influences of nodes that are not re-evaluated stay valid
+            if (!sparseFrontier) {
+                nodeCommunityInfluences.fill(0.0);
+            }
 
             long currentColor = colorsUsed.nextSetBit(0);
             while (currentColor != -1) {
@@ -143,6 +153,9 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
             }
 
             hasConverged = !updateModularity();
+            if (sparseFrontier && !hasConverged) {
+                hasConverged = !activateNextNodes();
+            }
 
             progressLogger.logMessage(formatWithLocale(":: Iteration %d :: Finished", iterationCounter + 1));
 
@@ -213,7 +226,12 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.cumulativeNodeWeights = HugeDoubleArray.newArray(nodeCount, tracker);
         this.nodeCommunityInfluences = HugeDoubleArray.newArray(nodeCount, tracker);
         this.communityWeights = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
-        this.communityWeightUpdates = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
+        if (sparseFrontier) {
+            this.nextActiveNodes = HugeAtomicBitSet.create(nodeCount, tracker);
+            this.activeNodeCount = nodeCount;
+        } else {
+            this.communityWeightUpdates = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
+        }
 
         double doubleTotalNodeWeight;
 
@@ -260,6 +278,11 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
             executor
         );
 
+        if (sparseFrontier) {
+            applyActiveNodeMoves(currentColor);
+            return;
+        }
+
         // swap old and new communities
         nextCommunities.copyTo(currentCommunities, nodeCount);
 
@@ -277,14 +300,61 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         communityWeightUpdates = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
     }
 
+    /**
+     * Only the active nodes of the given color can have moved, so only their moves are applied
+     * instead of copying all communities and community weights.
+     */
+    private void applyActiveNodeMoves(long currentColor) {
+        ParallelUtil.parallelStreamConsume(
+            LongStream.range(0, activeNodeCount),
+            concurrency,
+            stream -> stream.forEach(index -> {
+                long nodeId = activeNodes == null ? index : activeNodes.get(index);
+                if (colors.get(nodeId) != currentColor) {
+                    return;
+                }
+                long currentCommunity = currentCommunities.get(nodeId);
+                long nextCommunity = nextCommunities.get(nodeId);
+                if (currentCommunity != nextCommunity) {
+                    double cumulativeNodeWeight = cumulativeNodeWeights.get(nodeId);
+                    communityWeights.update(currentCommunity, w -> w - cumulativeNodeWeight);
+                    communityWeights.update(nextCommunity, w -> w + cumulativeNodeWeight);
+                    currentCommunities.set(nodeId, nextCommunity);
+                }
+            })
+        );
+    }
+
+    /**
+     * Collects the nodes that were activated during the last iteration into the active nodes of the next iteration.
+     *
+     * @return true iff there is at least one active node
+     */
+    private boolean activateNextNodes() {
+        if (activeNodes != null) {
+            activeNodes.release();
+        }
+
+        activeNodeCount = nextActiveNodes.cardinality();
+        activeNodes = HugeLongArray.newArray(activeNodeCount, tracker);
+        long index = 0;
+        for (long nodeId = nextActiveNodes.nextSetBit(0); nodeId != -1; nodeId = nextActiveNodes.nextSetBit(nodeId + 1)) {
+            activeNodes.set(index++, nodeId);
+        }
+        nextActiveNodes.clear();
+
+        return activeNodeCount > 0;
+    }
+
     private Collection<ModularityOptimizationTask> createModularityOptimizationTasks(long currentColor) {
+        final long taskNodeCount = sparseFrontier ? activeNodeCount : nodeCount;
         final Collection<ModularityOptimizationTask> tasks = new ArrayList<>(concurrency);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
+        for (long i = 0L; i < taskNodeCount; i += batchSize) {
             tasks.add(
                 new ModularityOptimizationTask(
                     graph,
                     i,
-                    Math.min(i + batchSize, nodeCount),
+                    Math.min(i + batchSize, taskNodeCount),
                     currentColor,
                     totalNodeWeight,
                     colors,
@@ -294,6 +364,8 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                     nodeCommunityInfluences,
                     communityWeights,
                     communityWeightUpdates,
+                    activeNodes,
+                    nextActiveNodes,
                     getProgressLogger()
                 )
             );
@@ -341,7 +413,13 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     public void release() {
         this.nextCommunities.release();
         this.communityWeights.release();
-        this.communityWeightUpdates.release();
+        if (this.communityWeightUpdates != null) {
+            this.communityWeightUpdates.release();
+        }
+        if (this.activeNodes != null) {
+            this.activeNodes.release();
+        }
+        this.nextActiveNodes = null;
         this.cumulativeNodeWeights.release();
         this.nodeCommunityInfluences.release();
         this.colors.release();
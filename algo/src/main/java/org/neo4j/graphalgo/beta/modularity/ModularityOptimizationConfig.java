@@ -56,6 +56,14 @@ public interface ModularityOptimizationConfig extends
         return ParallelUtil.DEFAULT_BATCH_SIZE;
     }
 
+    /**
+     * Only re-evaluate nodes that have a neighbour which changed its community in the previous iteration.
+     */
+    @Value.Default
+    default boolean sparseFrontier() {
+        return false;
+    }
+
     @Value.Check
     default void validate() {
         if (isIncremental() && consecutiveIds()) {
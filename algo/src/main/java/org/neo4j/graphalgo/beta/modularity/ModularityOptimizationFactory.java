@@ -29,6 +29,7 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
@@ -64,7 +65,17 @@ public class ModularityOptimizationFactory<T extends ModularityOptimizationConfi
 
     @Override
     public MemoryEstimation memoryEstimation(T configuration) {
-        return MEMORY_ESTIMATION;
+        if (!configuration.sparseFrontier()) {
+            return MEMORY_ESTIMATION;
+        }
+        return MemoryEstimations.builder(ModularityOptimization.class)
+            .add(MEMORY_ESTIMATION)
+            .perNode("nextActiveNodes", HugeAtomicBitSet::memoryEstimation)
+            .rangePerNode(
+                "activeNodes",
+                (nodeCount) -> MemoryRange.of(0, HugeLongArray.memoryEstimation(nodeCount))
+            )
+            .build();
     }
 
     @Override
@@ -90,6 +101,7 @@ public class ModularityOptimizationFactory<T extends ModularityOptimizationConfi
             graph,
             configuration.maxIterations(),
             configuration.tolerance(),
+            configuration.sparseFrontier(),
             seed,
             configuration.concurrency(),
             configuration.batchSize(),
@@ -23,9 +23,11 @@ import com.carrotsearch.hppc.LongDoubleHashMap;
 import com.carrotsearch.hppc.LongDoubleMap;
 import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
@@ -46,6 +48,8 @@ final class ModularityOptimizationTask implements Runnable {
     private final HugeDoubleArray nodeCommunityInfluences;
     private final HugeAtomicDoubleArray communityWeights;
     private final HugeAtomicDoubleArray communityWeightUpdates;
+    private final @Nullable HugeLongArray activeNodes;
+    private final @Nullable HugeAtomicBitSet nextActiveNodes;
 
     ModularityOptimizationTask(
         Graph graph,
@@ -59,7 +63,9 @@ final class ModularityOptimizationTask implements Runnable {
         HugeDoubleArray cumulativeNodeWeights,
         HugeDoubleArray nodeCommunityInfluences,
         HugeAtomicDoubleArray communityWeights,
-        HugeAtomicDoubleArray communityWeightUpdates,
+        @Nullable HugeAtomicDoubleArray communityWeightUpdates,
+        @Nullable HugeLongArray activeNodes,
+        @Nullable HugeAtomicBitSet nextActiveNodes,
         ProgressLogger progressLogger
     ) {
         this.graph = graph;
@@ -71,6 +77,8 @@ final class ModularityOptimizationTask implements Runnable {
         this.nextCommunities = nextCommunities;
         this.communityWeights = communityWeights;
         this.communityWeightUpdates = communityWeightUpdates;
+        this.activeNodes = activeNodes;
+        this.nextActiveNodes = nextActiveNodes;
         this.totalNodeWeight = totalNodeWeight;
         this.cumulativeNodeWeights = cumulativeNodeWeights;
         this.nodeCommunityInfluences = nodeCommunityInfluences;
@@ -81,7 +89,8 @@ final class ModularityOptimizationTask implements Runnable {
     @Override
     public void run() {
         LongDoubleMap reuseCommunityInfluences = new LongDoubleHashMap(50);
-        for (long nodeId = batchStart; nodeId < batchEnd; nodeId++) {
+        for (long index = batchStart; index < batchEnd; index++) {
+            long nodeId = activeNodes == null ? index : activeNodes.get(index);
 
             if (colors.get(nodeId) != color) {
                 continue;
@@ -142,10 +151,23 @@ final class ModularityOptimizationTask implements Runnable {
             nodeCommunityInfluences.set(nodeId, communityInfluences.get(nextCommunity));
 
             nextCommunities.set(nodeId, nextCommunity);
-            communityWeightUpdates.update(currentCommunity, agg -> agg - cumulativeNodeWeight);
-            communityWeightUpdates.update(nextCommunity, agg -> agg + cumulativeNodeWeight);
+            if (nextActiveNodes == null) {
+                communityWeightUpdates.update(currentCommunity, agg -> agg - cumulativeNodeWeight);
+                communityWeightUpdates.update(nextCommunity, agg -> agg + cumulativeNodeWeight);
+            } else if (nextCommunity != currentCommunity) {
+                activateNeighbours(nodeId);
+            }
             progressLogger.logProgress(graph.degree(nodeId));
         }
 
     }
+
+    private void activateNeighbours(long nodeId) {
+        localGraph.forEachRelationship(nodeId, (s, t) -> {
+            if (!nextActiveNodes.get(t)) {
+                nextActiveNodes.set(t);
+            }
+            return true;
+        });
+    }
 }
@@ -19,25 +19,18 @@
  */
 package org.neo4j.graphalgo.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayQueue;
-import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Consumer;
 
 public class BetweennessCentrality extends Algorithm<BetweennessCentrality, HugeAtomicDoubleArray> {
 
@@ -89,15 +82,20 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
         selectionStrategy = null;
     }
 
+    /**
+     * Computes the dependencies of the selected start nodes using Brandes' algorithm.
+     *
+     * Predecessors are not stored, instead the backward phase visits the successors of each node,
+     * i.e. all neighbours with a distance of one more than the node itself. The nodes are visited
+     * in reverse BFS order, so the dependencies of all successors are final at that point.
+     * The BFS order is recorded in a single array, which serves as queue and as stack.
+     */
     final class BCTask implements Runnable {
 
         private final RelationshipIterator localRelationshipIterator;
 
-        private final HugeObjectArray<LongArrayList> predecessors;
-        private final HugeCursor<LongArrayList[]> predecessorsCursor;
-
-        private final HugeLongArrayQueue forwardNodes;
-        private final HugeLongArrayStack backwardNodes;
+        private final HugeLongArray visitedNodes;
+        private long visitedNodeCount;
 
         private final HugeDoubleArray delta;
         private final HugeLongArray sigma;
@@ -106,15 +104,12 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
         private BCTask(AllocationTracker tracker) {
             this.localRelationshipIterator = graph.concurrentCopy();
 
-            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker);
-            this.predecessorsCursor = predecessors.newCursor();
-            this.backwardNodes = HugeLongArrayStack.newStack(nodeCount, tracker);
-            // TODO: make queue growable
-            this.forwardNodes = HugeLongArrayQueue.newQueue(nodeCount, tracker);
+            this.visitedNodes = HugeLongArray.newArray(nodeCount, tracker);
 
-            this.sigma = HugeLongArray.newArray(nodeCount, tracker);;
+            this.sigma = HugeLongArray.newArray(nodeCount, tracker);
             this.delta = HugeDoubleArray.newArray(nodeCount, tracker);
             this.distance = HugeIntArray.newArray(nodeCount, tracker);
+            this.distance.fill(-1);
         }
 
         @Override
@@ -129,86 +124,67 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
                 if (!selectionStrategy.select(startNodeId)) {
                     continue;
                 }
-                // reset
                 getProgressLogger().logProgress(startNodeId / (nodeCount - 1));
 
-                clear();
-
-                sigma.addTo(startNodeId, 1);
+                sigma.set(startNodeId, 1);
                 distance.set(startNodeId, 0);
 
-                forwardNodes.add(startNodeId);
+                visitedNodes.set(0, startNodeId);
+                visitedNodeCount = 1;
 
                 // BC forward traversal
-                while (!forwardNodes.isEmpty()) {
-                    long node = forwardNodes.remove();
-                    backwardNodes.push(node);
+                for (long head = 0; head < visitedNodeCount; head++) {
+                    long node = visitedNodes.get(head);
                     int distanceNode = distance.get(node);
+                    long sigmaNode = sigma.get(node);
 
                     localRelationshipIterator.forEachRelationship(node, (source, target) -> {
                         if (distance.get(target) < 0) {
-                            forwardNodes.add(target);
+                            visitedNodes.set(visitedNodeCount++, target);
                             distance.set(target, distanceNode + 1);
                         }
 
                         if (distance.get(target) == distanceNode + 1) {
-                            sigma.addTo(target, sigma.get(source));
-                            append(target, source);
+                            sigma.addTo(target, sigmaNode);
                         }
                         return true;
                     });
                 }
 
-                while (!backwardNodes.isEmpty()) {
-                    long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
-
-                    double dependencyNode = delta.get(node);
+                // BC backward accumulation
+                for (long tail = visitedNodeCount - 1; tail >= 0; tail--) {
+                    long node = visitedNodes.get(tail);
+                    int successorDistance = distance.get(node) + 1;
                     double sigmaNode = sigma.get(node);
 
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
-                    }
+                    localRelationshipIterator.forEachRelationship(node, (source, target) -> {
+                        if (distance.get(target) == successorDistance) {
+                            double dependency = sigmaNode / sigma.get(target) * (delta.get(target) + 1.0);
+                            delta.addTo(source, dependency);
+                        }
+                        return true;
+                    });
+
                     if (node != startNodeId) {
+                        double dependencyNode = delta.get(node) / divisor;
                         double current;
                         do {
                             current = centrality.get(node);
-                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                        } while (!centrality.compareAndSet(node, current, current + dependencyNode));
                     }
                 }
-            }
-        }
 
-        // append node to the path at target
-        private void append(long target, long node) {
-            LongArrayList targetPredecessors = predecessors.get(target);
-            if (null == targetPredecessors) {
-                targetPredecessors = new LongArrayList();
-                predecessors.set(target, targetPredecessors);
+                clear();
             }
-            targetPredecessors.add(node);
         }
 
+        // only the visited nodes need to be reset
         private void clear() {
-            distance.fill(-1);
-            sigma.fill(0);
-            delta.fill(0);
-
-            predecessors.initCursor(predecessorsCursor);
-
-            while (predecessorsCursor.next()) {
-                for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
-                    if (predecessorsCursor.array[i] != null) {
-                        // We avoid using LongArrayList#clear since it would
-                        // fill the inner array with zeros. We don't need that
-                        // so we just reset the index which is cheaper
-                        predecessorsCursor.array[i].elementsCount = 0;
-                    }
-                }
+            for (long i = 0; i < visitedNodeCount; i++) {
+                long node = visitedNodes.get(i);
+                distance.set(node, -1);
+                sigma.set(node, 0);
+                delta.set(node, 0);
             }
         }
     }
@@ -29,11 +29,8 @@ import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.logging.Log;
 
-import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
-
 public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBaseConfig> implements AlgorithmFactory<BetweennessCentrality, CONFIG> {
 
     @Override
@@ -59,15 +56,7 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
         return MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
             .perThread("compute task", MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-                .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                    // Predecessors are represented by LongArrayList which wrap a long[]
-                    long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                    return MemoryEstimations.builder(HugeObjectArray.class)
-                        .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                        .build();
-                }))
-                .perNode("forwardNodes", HugeLongArray::memoryEstimation)
-                .perNode("backwardNodes", HugeLongArray::memoryEstimation)
+                .perNode("visitedNodes", HugeLongArray::memoryEstimation)
                 .perNode("deltas", HugeDoubleArray::memoryEstimation)
                 .perNode("sigmas", HugeLongArray::memoryEstimation)
                 .perNode("distances", HugeIntArray::memoryEstimation)
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.labelpropagation;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.graphalgo.labelpropagation.LabelPropagation.DEFAULT_WEIGHT;
+
+/**
+ * Computes the labels of the active nodes of an iteration. Whenever the label of a node changes,
+ * its neighbours are activated for the next iteration. All other nodes would compute the same label again,
+ * since the label of a node only depends on the labels of its neighbours.
+ */
+final class FrontierComputeStep implements BiLongConsumer {
+
+    private final Graph graph;
+    private final RelationshipIterator localRelationshipIterator;
+    private final HugeLongArray existingLabels;
+    private final @Nullable HugeLongArray activeNodes;
+    private final HugeAtomicBitSet nextActiveNodes;
+    private final ProgressLogger progressLogger;
+    private final ComputeStepConsumer consumer;
+
+    /**
+     * @param activeNodes the active nodes of the current iteration, {@code null} if all nodes are active
+     */
+    FrontierComputeStep(
+        Graph graph,
+        NodeProperties nodeWeights,
+        ProgressLogger progressLogger,
+        HugeLongArray existingLabels,
+        @Nullable HugeLongArray activeNodes,
+        HugeAtomicBitSet nextActiveNodes
+    ) {
+        this.graph = graph;
+        this.localRelationshipIterator = graph.concurrentCopy();
+        this.existingLabels = existingLabels;
+        this.activeNodes = activeNodes;
+        this.nextActiveNodes = nextActiveNodes;
+        this.progressLogger = progressLogger;
+        this.consumer = new ComputeStepConsumer(nodeWeights, existingLabels);
+    }
+
+    @Override
+    public void apply(long start, long end) {
+        for (long index = start; index < end; index++) {
+            long nodeId = activeNodes == null ? index : activeNodes.get(index);
+            compute(nodeId);
+            progressLogger.logProgress(graph.degree(nodeId));
+        }
+    }
+
+    private void compute(long nodeId) {
+        consumer.clearVotes();
+        long label = existingLabels.get(nodeId);
+        localRelationshipIterator.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
+        long newLabel = consumer.tallyVotes(label);
+        if (newLabel != label) {
+            existingLabels.set(nodeId, newLabel);
+            localRelationshipIterator.forEachRelationship(nodeId, (source, target) -> {
+                if (!nextActiveNodes.get(target)) {
+                    nextActiveNodes.set(target);
+                }
+                return true;
+            });
+        }
+    }
+
+    void release() {
+        consumer.release();
+    }
+}
@@ -31,6 +31,7 @@ import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
 import java.util.ArrayList;
@@ -94,6 +95,10 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
 
         maxLabelId = seedProperty.getMaxLongPropertyValue().orElse(NO_SUCH_LABEL);
 
+        if (config.sparseFrontier() && !graph.isUndirected()) {
+            throw new IllegalArgumentException("The `sparseFrontier` option requires an undirected graph.");
+        }
+
         this.progressLogger = progressLogger;
     }
 
@@ -136,22 +141,79 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
 
         List<StepRunner> stepRunners = stepRunners();
 
+        if (config.sparseFrontier()) {
+            computeWithFrontier();
+        } else {
+            while (ranIterations < config.maxIterations()) {
+                getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Start", ranIterations + 1));
+                ParallelUtil.runWithConcurrency(config.concurrency(), stepRunners, 1L, MICROSECONDS, terminationFlag, executor);
+                ++ranIterations;
+                didConverge = stepRunners.stream().allMatch(StepRunner::didConverge);
+                if (didConverge) {
+                    break;
+                }
+                getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Finished", ranIterations));
+                getProgressLogger().reset(graph.relationshipCount());
+            }
+        }
+
+        stepRunners.forEach(StepRunner::release);
+        getProgressLogger().logMessage(":: Finished");
+
+        return me();
+    }
+
+    /**
+     * Runs the iterations on the active nodes only. All nodes are active in the first iteration,
+     * afterwards only the neighbours of nodes that changed their label. The active nodes are
+     * collected into an array, which is split into chunks that are dynamically assigned to the threads.
+     */
+    private void computeWithFrontier() {
+        HugeAtomicBitSet nextActiveNodes = HugeAtomicBitSet.create(nodeCount, tracker);
+        HugeLongArray activeNodes = null;
+        long activeNodeCount = nodeCount;
+
         while (ranIterations < config.maxIterations()) {
             getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Start", ranIterations + 1));
-            ParallelUtil.runWithConcurrency(config.concurrency(), stepRunners, 1L, MICROSECONDS, terminationFlag, executor);
+
+            List<FrontierComputeStep> steps = new ArrayList<>(config.concurrency());
+            for (int i = 0; i < config.concurrency(); i++) {
+                steps.add(new FrontierComputeStep(
+                    graph,
+                    nodeWeights,
+                    getProgressLogger(),
+                    labels,
+                    activeNodes,
+                    nextActiveNodes
+                ));
+            }
+            ParallelUtil.runWithDynamicChunks(activeNodeCount, batchSize, steps, terminationFlag, executor);
+            steps.forEach(FrontierComputeStep::release);
             ++ranIterations;
-            didConverge = stepRunners.stream().allMatch(StepRunner::didConverge);
+
+            if (activeNodes != null) {
+                activeNodes.release();
+            }
+            activeNodeCount = nextActiveNodes.cardinality();
+            didConverge = activeNodeCount == 0;
             if (didConverge) {
                 break;
             }
+
+            activeNodes = HugeLongArray.newArray(activeNodeCount, tracker);
+            long index = 0;
+            for (long nodeId = nextActiveNodes.nextSetBit(0); nodeId != -1; nodeId = nextActiveNodes.nextSetBit(nodeId + 1)) {
+                activeNodes.set(index++, nodeId);
+            }
+            nextActiveNodes.clear();
+
             getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Finished", ranIterations));
             getProgressLogger().reset(graph.relationshipCount());
         }
 
-        stepRunners.forEach(StepRunner::release);
-        getProgressLogger().logMessage(":: Finished");
-
-        return me();
+        if (activeNodes != null) {
+            activeNodes.release();
+        }
     }
 
     private List<StepRunner> stepRunners() {
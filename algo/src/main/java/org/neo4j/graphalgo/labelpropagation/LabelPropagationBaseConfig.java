@@ -41,6 +41,15 @@ public interface LabelPropagationBaseConfig extends
         return 10;
     }
 
+    /**
+     * Only recompute the labels of nodes that have a neighbour whose label changed in the previous iteration.
+     * Requires an undirected graph.
+     */
+    @Value.Default
+    default boolean sparseFrontier() {
+        return false;
+    }
+
     @Value.Check
     default void validate(){
         if (isIncremental() && consecutiveIds()) {
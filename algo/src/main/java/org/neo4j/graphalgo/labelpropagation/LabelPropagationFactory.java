@@ -29,6 +29,7 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.logging.Log;
 
@@ -62,7 +63,7 @@ public class LabelPropagationFactory<CONFIG extends LabelPropagationBaseConfig>
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
-        return MemoryEstimations.builder(LabelPropagation.class)
+        MemoryEstimations.Builder builder = MemoryEstimations.builder(LabelPropagation.class)
             .perNode("labels", HugeLongArray::memoryEstimation)
             .perThread("votes", MemoryEstimations.builder()
                 .field("init step", InitStep.class)
@@ -79,7 +80,14 @@ public class LabelPropagationFactory<CONFIG extends LabelPropagationBaseConfig>
                     long min = sizeOfLongArray(minBufferSize) + sizeOfDoubleArray(minBufferSize);
                     long max = sizeOfLongArray(maxBufferSize) + sizeOfDoubleArray(maxBufferSize);
                     return MemoryRange.of(min, max);
-                }).build())
-            .build();
+                }).build());
+
+        if (config.sparseFrontier()) {
+            builder
+                .perNode("next active nodes", HugeAtomicBitSet::memoryEstimation)
+                .rangePerNode("active nodes", nodeCount -> MemoryRange.of(0, HugeLongArray.memoryEstimation(nodeCount)));
+        }
+
+        return builder.build();
     }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.louvain;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.loading.IdMap;
+import org.neo4j.graphalgo.core.loading.builder.GraphBuilder;
+import org.neo4j.graphalgo.core.loading.builder.NodesBuilder;
+import org.neo4j.graphalgo.core.loading.builder.RelationshipsBuilder;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Builds the summary graph of a community assignment: every community becomes a node and the relationships
+ * between the members of two communities are aggregated into a single relationship that carries the sum of
+ * their weights. The original id of a summary node is the id of its community.
+ */
+public final class CommunityAggregation {
+
+    // number of communities that are summarized by a task at once
+    private static final long SUMMARIZE_CHUNK_SIZE = 1024;
+
+    private CommunityAggregation() {}
+
+    public static Graph summarize(
+        Graph workingGraph,
+        LongUnaryOperator communities,
+        long maxCommunityId,
+        Orientation orientation,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        NodesBuilder nodesBuilder = GraphBuilder.createNodesBuilder(
+            maxCommunityId,
+            false,
+            concurrency,
+            tracker
+        );
+
+        terminationFlag.assertRunning();
+
+        if (concurrency > 1) {
+            ParallelUtil.parallelForEachNode(
+                workingGraph,
+                concurrency,
+                nodeId -> nodesBuilder.addNode(communities.applyAsLong(nodeId))
+            );
+        } else {
+            workingGraph.forEachNode((nodeId) -> {
+                nodesBuilder.addNode(communities.applyAsLong(nodeId));
+                return true;
+            });
+        }
+
+        terminationFlag.assertRunning();
+
+        IdMap idMap = nodesBuilder.build();
+        RelationshipsBuilder relationshipsBuilder = GraphBuilder.createRelationshipsBuilder(
+            idMap,
+            orientation,
+            true,
+            Aggregation.SUM,
+            true,
+            concurrency,
+            executorService,
+            tracker
+        );
+
+        if (concurrency > 1) {
+            summarizeRelationshipsParallel(
+                workingGraph,
+                communities,
+                idMap,
+                relationshipsBuilder,
+                concurrency,
+                terminationFlag,
+                executorService,
+                tracker
+            );
+        } else {
+            workingGraph.forEachNode((nodeId) -> {
+                long communityId = communities.applyAsLong(nodeId);
+                workingGraph.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
+                    relationshipsBuilder.add(communityId, communities.applyAsLong(target), property);
+                    return true;
+                });
+                return true;
+            });
+        }
+
+        return GraphBuilder.create(idMap, relationshipsBuilder.build(), tracker);
+    }
+
+    /**
+     * Groups the nodes of the working graph by community and lets every thread aggregate the relationships
+     * of whole communities. Each thread sums the weights per target community before adding them to the builder,
+     * so the builder only receives a single relationship per pair of communities and thread.
+     */
+    private static void summarizeRelationshipsParallel(
+        Graph workingGraph,
+        LongUnaryOperator communities,
+        IdMap idMap,
+        RelationshipsBuilder relationshipsBuilder,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        long communityCount = idMap.nodeCount();
+
+        HugeAtomicLongArray communityCursors = HugeAtomicLongArray.newArray(communityCount, tracker);
+        ParallelUtil.parallelForEachNode(workingGraph, concurrency, nodeId -> communityCursors.getAndAdd(
+            idMap.toMappedNodeId(communities.applyAsLong(nodeId)),
+            1
+        ));
+
+        HugeLongArray communityOffsets = HugeLongArray.newArray(communityCount + 1, tracker);
+        for (long community = 0; community < communityCount; community++) {
+            long offset = communityOffsets.get(community);
+            communityOffsets.set(community + 1, offset + communityCursors.get(community));
+            communityCursors.set(community, offset);
+        }
+
+        HugeLongArray communityMembers = HugeLongArray.newArray(workingGraph.nodeCount(), tracker);
+        ParallelUtil.parallelForEachNode(workingGraph, concurrency, nodeId -> {
+            long community = idMap.toMappedNodeId(communities.applyAsLong(nodeId));
+            communityMembers.set(communityCursors.getAndAdd(community, 1), nodeId);
+        });
+        communityCursors.release();
+
+        terminationFlag.assertRunning();
+
+        List<SummarizeTask> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new SummarizeTask(
+                workingGraph,
+                communities,
+                idMap,
+                communityOffsets,
+                communityMembers,
+                relationshipsBuilder
+            ));
+        }
+        ParallelUtil.runWithDynamicChunks(
+            communityCount,
+            SUMMARIZE_CHUNK_SIZE,
+            tasks,
+            terminationFlag,
+            executorService
+        );
+
+        communityOffsets.release();
+        communityMembers.release();
+    }
+
+    private static final class SummarizeTask implements BiLongConsumer {
+
+        private final Graph graph;
+        private final LongUnaryOperator communities;
+        private final IdMap idMap;
+        private final HugeLongArray communityOffsets;
+        private final HugeLongArray communityMembers;
+        private final RelationshipsBuilder relationshipsBuilder;
+        private final LongDoubleHashMap targetCommunityWeights;
+
+        SummarizeTask(
+            Graph graph,
+            LongUnaryOperator communities,
+            IdMap idMap,
+            HugeLongArray communityOffsets,
+            HugeLongArray communityMembers,
+            RelationshipsBuilder relationshipsBuilder
+        ) {
+            this.graph = graph.concurrentCopy();
+            this.communities = communities;
+            this.idMap = idMap;
+            this.communityOffsets = communityOffsets;
+            this.communityMembers = communityMembers;
+            this.relationshipsBuilder = relationshipsBuilder;
+            this.targetCommunityWeights = new LongDoubleHashMap();
+        }
+
+        @Override
+        public void apply(long startCommunity, long endCommunity) {
+            for (long community = startCommunity; community < endCommunity; community++) {
+                long end = communityOffsets.get(community + 1);
+                for (long offset = communityOffsets.get(community); offset < end; offset++) {
+                    graph.forEachRelationship(communityMembers.get(offset), 1.0, (source, target, property) -> {
+                        long targetCommunity = idMap.toMappedNodeId(communities.applyAsLong(target));
+                        targetCommunityWeights.addTo(targetCommunity, property);
+                        return true;
+                    });
+                }
+
+                for (LongDoubleCursor cursor : targetCommunityWeights) {
+                    relationshipsBuilder.addFromInternal(community, cursor.key, cursor.value);
+                }
+                targetCommunityWeights.clear();
+            }
+        }
+    }
+}
@@ -28,12 +28,7 @@ import org.neo4j.graphalgo.beta.modularity.ImmutableModularityOptimizationStream
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimization;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationFactory;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationStreamConfig;
-import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
-import org.neo4j.graphalgo.core.loading.IdMap;
-import org.neo4j.graphalgo.core.loading.builder.GraphBuilder;
-import org.neo4j.graphalgo.core.loading.builder.NodesBuilder;
-import org.neo4j.graphalgo.core.loading.builder.RelationshipsBuilder;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
@@ -190,44 +185,16 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         ModularityOptimization modularityOptimization,
         long maxCommunityId
     ) {
-        NodesBuilder nodesBuilder = GraphBuilder.createNodesBuilder(
+        return CommunityAggregation.summarize(
+            workingGraph,
+            modularityOptimization::getCommunityId,
             maxCommunityId,
-            false,
+            rootGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL,
             config.concurrency(),
-            tracker
-        );
-
-        assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimization.getCommunityId(nodeId));
-            return true;
-        });
-
-        assertRunning();
-
-        Orientation orientation = rootGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL;
-        IdMap idMap = nodesBuilder.build();
-        RelationshipsBuilder relationshipsBuilder = GraphBuilder.createRelationshipsBuilder(
-            idMap,
-            orientation,
-            true,
-            Aggregation.SUM,
-            true,
+            this,
             executorService,
             tracker
         );
-
-        workingGraph.forEachNode((nodeId) -> {
-            long communityId = modularityOptimization.getCommunityId(nodeId);
-            workingGraph.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                relationshipsBuilder.add(communityId, modularityOptimization.getCommunityId(target), property);
-                return true;
-            });
-            return true;
-        });
-
-        return GraphBuilder.create(idMap, relationshipsBuilder.build(), tracker);
     }
 
     private boolean hasConverged() {
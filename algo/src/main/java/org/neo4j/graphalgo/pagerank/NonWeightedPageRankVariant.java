@@ -57,6 +57,11 @@ public class NonWeightedPageRankVariant implements PageRankVariant {
         return new NoOpDegreeComputer();
     }
 
+    @Override
+    public ScoreShare scoreShare(Graph graph, DegreeCache degreeCache) {
+        return ScoreShare.of(graph::degree, false);
+    }
+
     class NoOpDegreeComputer implements DegreeComputer {
         @Override
         public DegreeCache degree(
@@ -57,6 +57,11 @@ public class PageRankFactory<CONFIG extends PageRankBaseConfig> implements Algor
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
+        if (config.pullBased()) {
+            return MemoryEstimations.builder(PageRank.class)
+                .add("pullComputation", PullComputation.memoryEstimation(config.relationshipWeightProperty() != null))
+                .build();
+        }
         return MemoryEstimations.builder(PageRank.class)
             .add(MemoryEstimations.setup("computeSteps", (dimensions, concurrency) -> MemoryEstimations
                 .builder(PageRank.ComputeSteps.class)
@@ -59,4 +59,9 @@ public class WeightedPageRankVariant implements PageRankVariant {
     public DegreeComputer degreeComputer(Graph graph) {
         return new WeightedDegreeComputer(graph, cacheWeights);
     }
+
+    @Override
+    public ScoreShare scoreShare(Graph graph, DegreeCache degreeCache) {
+        return ScoreShare.of(degreeCache.aggregatedDegrees()::get, true);
+    }
 }
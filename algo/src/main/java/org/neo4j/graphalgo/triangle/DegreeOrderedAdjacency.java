@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.triangle;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A temporary adjacency that orients every relationship of an undirected graph from the endpoint with the lower
+ * rank to the endpoint with the higher rank. Nodes are ranked by degree, ties are broken by node id.
+ *
+ * Every triangle is contained exactly once as (a, b, c) with b and c in the forward list of a and c in the forward
+ * list of b. The forward list of any node contains at most {@code O(sqrt(m))} nodes, which bounds the work for
+ * intersecting all forward lists by {@code O(m^1.5)}. Forward lists are sorted by node id and contain no duplicates.
+ *
+ * Nodes with a degree larger than {@code maxDegree} have no forward list and are not part of any other forward list.
+ *
+ * With a sampling rate below {@code 1.0}, every relationship is kept with that probability, independent of all other
+ * relationships. Whether a relationship is kept only depends on its endpoints and the seed.
+ */
+final class DegreeOrderedAdjacency {
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(DegreeOrderedAdjacency.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension("targets", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.maxRelCount()))
+            )
+            .build();
+    }
+
+    static DegreeOrderedAdjacency build(
+        Graph graph,
+        long maxDegree,
+        double samplingRate,
+        long samplingSeed,
+        int concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag,
+        AllocationTracker tracker
+    ) {
+        long nodeCount = graph.nodeCount();
+        HugeLongArray offsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+
+        List<CountTask> countTasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            countTasks.add(new CountTask(graph, maxDegree, samplingRate, samplingSeed, offsets));
+        }
+        ParallelUtil.runWithDynamicChunks(
+            nodeCount,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            countTasks,
+            terminationFlag,
+            executor
+        );
+
+        for (long nodeId = 1; nodeId <= nodeCount; nodeId++) {
+            offsets.addTo(nodeId, offsets.get(nodeId - 1));
+        }
+
+        HugeLongArray targets = HugeLongArray.newArray(offsets.get(nodeCount), tracker);
+        List<FillTask> fillTasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            fillTasks.add(new FillTask(graph, maxDegree, samplingRate, samplingSeed, offsets, targets));
+        }
+        ParallelUtil.runWithDynamicChunks(
+            nodeCount,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            fillTasks,
+            terminationFlag,
+            executor
+        );
+
+        return new DegreeOrderedAdjacency(offsets, targets);
+    }
+
+    private DegreeOrderedAdjacency(HugeLongArray offsets, HugeLongArray targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Index of the first forward neighbour of the given node, the list ends at {@code offset(nodeId + 1)}.
+     */
+    long offset(long nodeId) {
+        return offsets.get(nodeId);
+    }
+
+    long target(long index) {
+        return targets.get(index);
+    }
+
+    long relationshipCount() {
+        return targets.size();
+    }
+
+    void release() {
+        offsets.release();
+        targets.release();
+    }
+
+    private abstract static class ForwardNeighbours implements BiLongConsumer, RelationshipConsumer {
+
+        private final Graph graph;
+        private final long maxDegree;
+        private final boolean sample;
+        private final double samplingRate;
+        private final long samplingSeed;
+
+        long[] neighbours;
+        private int length;
+        private int sourceDegree;
+
+        ForwardNeighbours(Graph graph, long maxDegree, double samplingRate, long samplingSeed) {
+            this.graph = graph.concurrentCopy();
+            this.maxDegree = maxDegree;
+            this.sample = samplingRate < 1.0;
+            this.samplingRate = samplingRate;
+            this.samplingSeed = samplingSeed;
+            this.neighbours = new long[0];
+        }
+
+        /**
+         * Collects the forward neighbours of the given node into {@link #neighbours}.
+         *
+         * @return the number of forward neighbours
+         */
+        int collect(long nodeId) {
+            length = 0;
+            sourceDegree = graph.degree(nodeId);
+            if (sourceDegree > maxDegree) {
+                return 0;
+            }
+            graph.forEachRelationship(nodeId, this);
+            if (length == 0) {
+                return 0;
+            }
+
+            Arrays.sort(neighbours, 0, length);
+            int distinct = 1;
+            for (int i = 1; i < length; i++) {
+                if (neighbours[i] != neighbours[distinct - 1]) {
+                    neighbours[distinct++] = neighbours[i];
+                }
+            }
+            return distinct;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            int targetDegree = graph.degree(targetNodeId);
+            if (targetDegree > maxDegree) {
+                return true;
+            }
+            if (targetDegree > sourceDegree || (targetDegree == sourceDegree && targetNodeId > sourceNodeId)) {
+                if (sample && !isSampled(sourceNodeId, targetNodeId)) {
+                    return true;
+                }
+                if (length == neighbours.length) {
+                    neighbours = Arrays.copyOf(neighbours, Math.max(16, length + (length >> 1)));
+                }
+                neighbours[length++] = targetNodeId;
+            }
+            return true;
+        }
+
+        private boolean isSampled(long sourceNodeId, long targetNodeId) {
+            long hash = BitMixer.mix64(BitMixer.mix64(sourceNodeId ^ samplingSeed) ^ targetNodeId);
+            return (hash >>> 11) * 0x1.0p-53 < samplingRate;
+        }
+    }
+
+    private static final class CountTask extends ForwardNeighbours {
+
+        private final HugeLongArray offsets;
+
+        CountTask(Graph graph, long maxDegree, double samplingRate, long samplingSeed, HugeLongArray offsets) {
+            super(graph, maxDegree, samplingRate, samplingSeed);
+            this.offsets = offsets;
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                offsets.set(nodeId + 1, collect(nodeId));
+            }
+        }
+    }
+
+    private static final class FillTask extends ForwardNeighbours {
+
+        private final HugeLongArray offsets;
+        private final HugeLongArray targets;
+
+        FillTask(
+            Graph graph,
+            long maxDegree,
+            double samplingRate,
+            long samplingSeed,
+            HugeLongArray offsets,
+            HugeLongArray targets
+        ) {
+            super(graph, maxDegree, samplingRate, samplingSeed);
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                int count = collect(nodeId);
+                long offset = offsets.get(nodeId);
+                for (int i = 0; i < count; i++) {
+                    targets.set(offset + i, neighbours[i]);
+                }
+            }
+        }
+    }
+}
@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.triangle;
 
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -32,9 +34,11 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 
 import java.util.Collection;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
 
 /**
  * TriangleCount counts the number of triangles in the Graph as well
@@ -47,20 +51,35 @@ import java.util.concurrent.atomic.LongAdder;
  * http://www.cse.cuhk.edu.hk/~jcheng/papers/triangle_kdd11.pdf
  * https://i11www.iti.kit.edu/extra/publications/sw-fclt-05_t.pdf
  * http://www.math.cmu.edu/~ctsourak/tsourICDM08.pdf
+ *
+ * If {@link TriangleCountBaseConfig#degreeOrdered()} is set, the relationships are first oriented
+ * from lower to higher degree nodes in a temporary {@link DegreeOrderedAdjacency} and
+ * only the forward lists are intersected, which avoids repeated intersections with the lists of high degree nodes.
+ *
+ * With a {@link TriangleCountBaseConfig#samplingRate()} below {@code 1.0}, triangles are only counted on a random
+ * subset of the relationships and the counts are scaled up to unbiased estimates, see
+ * "DOULION: Counting Triangles in Massive Graphs with a Coin" by Tsourakakis et al.
+ *
+ * https://www.cs.cmu.edu/~christos/PUBLICATIONS/kdd09-doulion.pdf
  */
 @SuppressWarnings("FieldCanBeLocal")
 public class IntersectingTriangleCount extends Algorithm<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult> {
 
     static final int EXCLUDED_NODE_TRIANGLE_COUNT = -1;
 
+    // z-score of the two-sided 95% confidence interval
+    private static final double CONFIDENCE_95 = 1.96;
+
     private Graph graph;
     private final TriangleCountBaseConfig config;
     private ExecutorService executorService;
+    private final AllocationTracker tracker;
     private final AtomicLong queue;
 
     // results
     private final HugeAtomicLongArray triangleCounts;
     private long globalTriangleCount;
+    private double globalTriangleCountConfidenceInterval;
 
     private LongAdder globalTriangleCounter;
 
@@ -74,6 +93,7 @@ public class IntersectingTriangleCount extends Algorithm<IntersectingTriangleCou
         this.graph = graph;
         this.config = config;
         this.executorService = executorService;
+        this.tracker = tracker;
         triangleCounts = HugeAtomicLongArray.newArray(graph.nodeCount(), tracker);
         globalTriangleCounter = new LongAdder();
         queue = new AtomicLong();
@@ -106,17 +126,89 @@ public class IntersectingTriangleCount extends Algorithm<IntersectingTriangleCou
     public TriangleCountResult compute() {
         queue.set(0);
         globalTriangleCounter.reset();
-        // create tasks
-        final Collection<? extends Runnable> tasks = ParallelUtil.tasks(config.concurrency(), () -> new IntersectTask(graph));
-        // run
-        ParallelUtil.run(tasks, executorService);
+        globalTriangleCountConfidenceInterval = 0.0;
+        if (config.degreeOrdered() || config.samplingRate() < 1.0) {
+            computeDegreeOrdered();
+        } else {
+            // create tasks
+            final Collection<? extends Runnable> tasks = ParallelUtil.tasks(config.concurrency(), () -> new IntersectTask(graph));
+            // run
+            ParallelUtil.run(tasks, executorService);
+        }
 
-        globalTriangleCount = globalTriangleCounter.longValue();
+        if (config.samplingRate() >= 1.0) {
+            globalTriangleCount = globalTriangleCounter.longValue();
+        }
 
         return TriangleCountResult.of(
             triangleCounts,
-            globalTriangleCount
+            globalTriangleCount,
+            globalTriangleCountConfidenceInterval
+        );
+    }
+
+    private void computeDegreeOrdered() {
+        double samplingRate = config.samplingRate();
+        DegreeOrderedAdjacency adjacency = DegreeOrderedAdjacency.build(
+            graph,
+            config.maxDegree(),
+            samplingRate,
+            config.samplingSeed().orElseGet(() -> new SplittableRandom().nextLong()),
+            config.concurrency(),
+            executorService,
+            getTerminationFlag(),
+            tracker
+        );
+        // the number of sampled triangles that contain a relationship, only required for estimating the variance
+        HugeAtomicLongArray relationshipTriangles = samplingRate < 1.0
+            ? HugeAtomicLongArray.newArray(adjacency.relationshipCount(), tracker)
+            : null;
+
+        final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
+            config.concurrency(),
+            () -> new ForwardIntersectTask(adjacency, relationshipTriangles)
+        );
+        ParallelUtil.run(tasks, executorService);
+
+        if (relationshipTriangles != null) {
+            estimateFromSample(samplingRate, relationshipTriangles);
+            relationshipTriangles.release();
+        }
+        adjacency.release();
+    }
+
+    /**
+     * Scales the triangles counted on the sample to estimates for the whole graph.
+     * A triangle is sampled with probability {@code p^3}, two triangles that share a relationship with {@code p^5}.
+     * The variance of the global estimate is {@code T (p^-3 - 1) + 2 k (p^-1 - 1)},
+     * where {@code k} is the number of triangle pairs that share a relationship.
+     */
+    private void estimateFromSample(double samplingRate, HugeAtomicLongArray relationshipTriangles) {
+        double triangleScale = 1.0 / (samplingRate * samplingRate * samplingRate);
+
+        ParallelUtil.parallelForEachNode(graph, config.concurrency(), nodeId -> {
+            long sampledTriangles = triangleCounts.get(nodeId);
+            if (sampledTriangles > 0) {
+                triangleCounts.set(nodeId, Math.round(sampledTriangles * triangleScale));
+            }
+        });
+
+        long sampledTrianglePairs = ParallelUtil.parallelStream(
+            LongStream.range(0, relationshipTriangles.size()),
+            config.concurrency(),
+            stream -> stream.map(index -> {
+                long triangles = relationshipTriangles.get(index);
+                return triangles * (triangles - 1) / 2;
+            }).sum()
         );
+
+        double estimatedTriangles = globalTriangleCounter.longValue() * triangleScale;
+        double estimatedTrianglePairs = sampledTrianglePairs * triangleScale / (samplingRate * samplingRate);
+        double variance = estimatedTriangles * (triangleScale - 1.0)
+                          + 2.0 * estimatedTrianglePairs * (1.0 / samplingRate - 1.0);
+
+        globalTriangleCount = Math.round(estimatedTriangles);
+        globalTriangleCountConfidenceInterval = CONFIDENCE_95 * Math.sqrt(variance);
     }
 
     private class IntersectTask implements Runnable, IntersectionConsumer {
@@ -152,6 +244,89 @@ public class IntersectingTriangleCount extends Algorithm<IntersectingTriangleCou
         }
     }
 
+    private class ForwardIntersectTask implements Runnable {
+
+        private final DegreeOrderedAdjacency adjacency;
+        private final @Nullable HugeAtomicLongArray relationshipTriangles;
+        private long[] forwardNeighbours;
+
+        ForwardIntersectTask(DegreeOrderedAdjacency adjacency, @Nullable HugeAtomicLongArray relationshipTriangles) {
+            this.adjacency = adjacency;
+            this.relationshipTriangles = relationshipTriangles;
+            this.forwardNeighbours = new long[0];
+        }
+
+        @Override
+        public void run() {
+            long node;
+            while ((node = queue.getAndIncrement()) < graph.nodeCount() && running()) {
+                if (graph.degree(node) <= config.maxDegree()) {
+                    countTriangles(node);
+                } else {
+                    triangleCounts.set(node, EXCLUDED_NODE_TRIANGLE_COUNT);
+                }
+                getProgressLogger().logProgress();
+            }
+        }
+
+        // counts all triangles in which nodeA has the lowest rank
+        private void countTriangles(long nodeA) {
+            long offset = adjacency.offset(nodeA);
+            int length = Math.toIntExact(adjacency.offset(nodeA + 1) - offset);
+            if (length < 2) {
+                return;
+            }
+            if (forwardNeighbours.length < length) {
+                forwardNeighbours = new long[length];
+            }
+            for (int i = 0; i < length; i++) {
+                forwardNeighbours[i] = adjacency.target(offset + i);
+            }
+
+            long trianglesA = 0;
+            for (int i = 0; i < length; i++) {
+                long nodeB = forwardNeighbours[i];
+                long trianglesB = 0;
+
+                // merge the forward lists of nodeA and nodeB, both are sorted by id
+                int indexA = 0;
+                long indexB = adjacency.offset(nodeB);
+                long endB = adjacency.offset(nodeB + 1);
+                while (indexA < length && indexB < endB) {
+                    long nodeC = adjacency.target(indexB);
+                    long candidate = forwardNeighbours[indexA];
+                    if (candidate < nodeC) {
+                        indexA++;
+                    } else if (candidate > nodeC) {
+                        indexB++;
+                    } else {
+                        triangleCounts.getAndAdd(nodeC, 1);
+                        if (relationshipTriangles != null) {
+                            relationshipTriangles.getAndAdd(offset + indexA, 1);
+                            relationshipTriangles.getAndAdd(indexB, 1);
+                        }
+                        trianglesB++;
+                        indexA++;
+                        indexB++;
+                    }
+                }
+
+                if (trianglesB > 0) {
+                    triangleCounts.getAndAdd(nodeB, trianglesB);
+                    if (relationshipTriangles != null) {
+                        relationshipTriangles.getAndAdd(offset + i, trianglesB);
+                    }
+                    trianglesA += trianglesB;
+                }
+            }
+
+            if (trianglesA > 0) {
+                triangleCounts.getAndAdd(nodeA, trianglesA);
+                globalTriangleCounter.add(trianglesA);
+            }
+        }
+    }
+
     @ValueClass
     public interface TriangleCountResult {
         // value at index `i` is number of triangles for node with id `i`
@@ -159,14 +334,31 @@ public class IntersectingTriangleCount extends Algorithm<IntersectingTriangleCou
 
         long globalTriangles();
 
+        /**
+         * Half width of the 95% confidence interval of {@link #globalTriangles()}, which is {@code 0} for exact counts.
+         */
+        @Value.Default
+        default double globalTrianglesConfidenceInterval() {
+            return 0.0;
+        }
+
         static TriangleCountResult of(
             HugeAtomicLongArray triangles,
             long globalTriangles
+        ) {
+            return of(triangles, globalTriangles, 0.0);
+        }
+
+        static TriangleCountResult of(
+            HugeAtomicLongArray triangles,
+            long globalTriangles,
+            double globalTrianglesConfidenceInterval
         ) {
             return ImmutableTriangleCountResult
                 .builder()
                 .localTriangles(triangles)
                 .globalTriangles(globalTriangles)
+                .globalTrianglesConfidenceInterval(globalTrianglesConfidenceInterval)
                 .build();
         }
 
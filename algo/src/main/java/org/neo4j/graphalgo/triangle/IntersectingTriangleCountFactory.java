@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.logging.Log;
@@ -55,9 +56,19 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
-        return MemoryEstimations
+        MemoryEstimations.Builder builder = MemoryEstimations
             .builder(IntersectingTriangleCount.class)
-            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
-            .build();
+            .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation);
+
+        if (configuration.degreeOrdered() || configuration.samplingRate() < 1.0) {
+            builder.add("degree-ordered-adjacency", DegreeOrderedAdjacency.memoryEstimation());
+        }
+        if (configuration.samplingRate() < 1.0) {
+            builder.perGraphDimension("relationship-triangle-counts", (dimensions, concurrency) ->
+                MemoryRange.of(HugeAtomicLongArray.memoryEstimation(dimensions.maxRelCount()))
+            );
+        }
+
+        return builder.build();
     }
 }
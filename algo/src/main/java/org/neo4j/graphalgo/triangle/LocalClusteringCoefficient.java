@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.triangle;
 
+import org.immutables.value.Value;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.Graph;
@@ -47,6 +48,7 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
     // Results
     private HugeDoubleArray localClusteringCoefficients;
     private double averageClusteringCoefficient;
+    private double globalTriangleCountConfidenceInterval;
 
     LocalClusteringCoefficient(
         Graph graph,
@@ -70,7 +72,9 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
     public Result compute() {
 
         if (null == triangleCountProperty) {
-            HugeAtomicLongArray triangleCounts = computeTriangleCounts();
+            IntersectingTriangleCount.TriangleCountResult triangleCountResult = computeTriangleCounts();
+            HugeAtomicLongArray triangleCounts = triangleCountResult.localTriangles();
+            globalTriangleCountConfidenceInterval = triangleCountResult.globalTrianglesConfidenceInterval();
             calculateCoefficients((nodeId) -> Long.valueOf(triangleCounts.get(nodeId)).doubleValue());
         } else {
             calculateCoefficients(triangleCountProperty::doubleValue);
@@ -78,7 +82,8 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
 
         return Result.of(
             localClusteringCoefficients,
-            averageClusteringCoefficient
+            averageClusteringCoefficient,
+            globalTriangleCountConfidenceInterval
         );
     }
 
@@ -103,7 +108,7 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         averageClusteringCoefficient = localClusteringCoefficientSum.doubleValue() / nodeCount;
     }
 
-    private HugeAtomicLongArray computeTriangleCounts() {
+    private IntersectingTriangleCount.TriangleCountResult computeTriangleCounts() {
 
         IntersectingTriangleCount intersectingTriangleCount = new IntersectingTriangleCountFactory<>().build(
             graph,
@@ -112,7 +117,7 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
             progressLogger.getLog()
         );
 
-        return intersectingTriangleCount.compute().localTriangles();
+        return intersectingTriangleCount.compute();
     }
 
     private double calculateCoefficient(double triangles, int degree) {
@@ -125,7 +130,8 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         }
 
         // local clustering coefficient C(v) = 2 * triangles(v) / (degree(v) * (degree(v) - 1))
-        return triangles * 2 / (degree * (degree - 1));
+        // estimated triangle counts can exceed the number of node pairs
+        return Math.min(1.0, triangles * 2 / (degree * (degree - 1)));
     }
 
     @Override
@@ -146,14 +152,25 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
 
         double averageClusteringCoefficient();
 
+        /**
+         * Half width of the 95% confidence interval of the estimated global triangle count the coefficients
+         * are computed from, which is {@code 0} for exact or pre-computed triangle counts.
+         */
+        @Value.Default
+        default double globalTriangleCountConfidenceInterval() {
+            return 0.0;
+        }
+
         static Result of(
             HugeDoubleArray localClusteringCoefficients,
-            double averageClusteringCoefficient
+            double averageClusteringCoefficient,
+            double globalTriangleCountConfidenceInterval
         ) {
             return ImmutableResult
                 .builder()
                 .localClusteringCoefficients(localClusteringCoefficients)
                 .averageClusteringCoefficient(averageClusteringCoefficient)
+                .globalTriangleCountConfidenceInterval(globalTriangleCountConfidenceInterval)
                 .build();
         }
 
@@ -44,6 +44,33 @@ public interface LocalClusteringCoefficientBaseConfig extends AlgoBaseConfig, Co
         return null;
     }
 
+    /**
+     * Orients the relationships by node degree when computing the triangle counts,
+     * see {@link TriangleCountBaseConfig#degreeOrdered()}.
+     */
+    @Value.Default
+    default boolean degreeOrdered() {
+        return false;
+    }
+
+    /**
+     * The probability with which a relationship is considered when counting triangles,
+     * see {@link TriangleCountBaseConfig#samplingRate()}.
+     */
+    @Value.Default
+    default double samplingRate() {
+        return 1.0;
+    }
+
+    Optional<Long> samplingSeed();
+
+    @Value.Check
+    default void validateSamplingRate() {
+        if (samplingRate() <= 0.0 || samplingRate() > 1.0) {
+            throw new IllegalArgumentException("The 'samplingRate' parameter must be in the range (0, 1].");
+        }
+    }
+
     @Override
     @Configuration.Ignore
     default String propertyNameOverride() {
@@ -73,6 +73,9 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
             .graphName(configuration.graphName())
             .implicitCreateConfig(configuration.implicitCreateConfig())
             .concurrency(configuration.concurrency())
+            .degreeOrdered(configuration.degreeOrdered())
+            .samplingRate(configuration.samplingRate())
+            .samplingSeed(configuration.samplingSeed())
             .build();
     }
 
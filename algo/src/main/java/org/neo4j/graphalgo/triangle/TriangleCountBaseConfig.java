@@ -39,6 +39,32 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
         return Long.MAX_VALUE;
     }
 
+    /**
+     * Orients the relationships by node degree before counting, see {@link DegreeOrderedAdjacency}.
+     */
+    @Value.Default
+    default boolean degreeOrdered() {
+        return false;
+    }
+
+    /**
+     * The probability with which a relationship is considered for counting.
+     * Values below {@code 1.0} compute estimates instead of exact counts.
+     */
+    @Value.Default
+    default double samplingRate() {
+        return 1.0;
+    }
+
+    Optional<Long> samplingSeed();
+
+    @Value.Check
+    default void validateSamplingRate() {
+        if (samplingRate() <= 0.0 || samplingRate() > 1.0) {
+            throw new IllegalArgumentException("The 'samplingRate' parameter must be in the range (0, 1].");
+        }
+    }
+
     @Value.Check
     default void validateMaxDegree() {
         if (maxDegree() < 2) {
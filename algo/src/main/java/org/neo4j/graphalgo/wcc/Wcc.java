@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.wcc;
 
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.carrotsearch.hppc.cursors.LongIntCursor;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
@@ -26,43 +28,71 @@ import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 
-import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
 
 /**
  * Parallel Union-Find Algorithm based on the
  * "Wait-free Parallel Algorithms for the Union-Find Problem" paper.
  *
+ * <p>
+ * If {@link WccBaseConfig#sampling()} is enabled, the relationships are processed as described in
+ * "Afforest: A Fast Concurrent Algorithm for Connected Components".
+ * First, only the first {@value #NEIGHBOUR_ROUNDS} relationships of every node are linked.
+ * The largest intermediate component is then estimated by sampling {@value #SAMPLING_SIZE} nodes.
+ * Finally, the remaining relationships are linked for all nodes outside of that component.
+ * As the largest component typically contains most of the nodes, most relationships are never
+ * passed to the disjoint set struct. Skipping the relationships of a node is only correct if
+ * every relationship can also be seen from its other end, which requires an undirected
+ * or an {@link Graph#isInverseIndexed() inverse indexed} graph.
+ *
  * @see HugeAtomicDisjointSetStruct
  * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.56.8354&rep=rep1&type=pdf">the paper</a>
+ * @see <a href="https://arxiv.org/abs/1811.06911">Afforest</a>
  */
 public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
+    static final int NEIGHBOUR_ROUNDS = 2;
+    static final int SAMPLING_SIZE = 1024;
+
     private final WccBaseConfig config;
     private final NodeProperties initialComponents;
     private final ExecutorService executor;
     private final AllocationTracker tracker;
     private final long nodeCount;
-    private final long batchSize;
-    private final int threadSize;
+    private final long chunkSize;
 
     private Graph graph;
 
     public static MemoryEstimation memoryEstimation(boolean incremental) {
-        return MemoryEstimations
+        return memoryEstimation(incremental, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(boolean incremental, boolean sampling) {
+        MemoryEstimations.Builder builder = MemoryEstimations
             .builder(Wcc.class)
-            .add("dss", HugeAtomicDisjointSetStruct.memoryEstimation(incremental))
-            .build();
+            .add("dss", HugeAtomicDisjointSetStruct.memoryEstimation(incremental));
+        if (sampling) {
+            builder.perNode(
+                "largest component",
+                nodeCount -> HugeAtomicLongArray.memoryEstimation(ceilDiv(nodeCount, Long.SIZE))
+            );
+        }
+        return builder.build();
     }
 
     public Wcc(
@@ -81,23 +111,7 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         this.executor = executor;
         this.tracker = tracker;
         this.nodeCount = graph.nodeCount();
-        this.batchSize = ParallelUtil.adjustedBatchSize(
-            nodeCount,
-            config.concurrency(),
-            minBatchSize,
-            Integer.MAX_VALUE
-        );
-
-        long threadSize = ParallelUtil.threadCount(batchSize, nodeCount);
-        if (threadSize > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "Too many nodes (%d) to run union find with the given concurrency (%d) and batchSize (%d)",
-                nodeCount,
-                config.concurrency(),
-                batchSize
-            ));
-        }
-        this.threadSize = (int) threadSize;
+        this.chunkSize = Math.max(1, minBatchSize);
 
         this.progressLogger = progressLogger;
     }
@@ -112,19 +126,84 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, tracker, config.concurrency())
             : new HugeAtomicDisjointSetStruct(nodeCount, tracker, config.concurrency());
 
-        final Collection<Runnable> tasks = new ArrayList<>(threadSize);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
+        if (config.sampling()) {
+            if (graph.isInverseIndexed()) {
+                computeSampled(dss);
+                progressLogger.logMessage(":: Finished");
+                return dss;
+            }
+            progressLogger.logMessage(
+                ":: Sampling requires an undirected or inverse indexed graph, all relationships are processed"
+            );
+        }
+
+        // Union work is proportional to the degree, so nodes are
+        // claimed in small chunks to balance skewed degree distributions.
+        final Collection<WCCTask> tasks = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
             WCCTask wccTask = Double.isNaN(threshold()) || threshold() == 0
-                ? new WCCTask(dss, i)
-                : new WCCWithThresholdTask(threshold(), dss, i);
+                ? new WCCTask(dss)
+                : new WCCWithThresholdTask(threshold(), dss);
             tasks.add(wccTask);
         }
-        ParallelUtil.run(tasks, executor);
+        ParallelUtil.runWithDynamicChunks(nodeCount, chunkSize, tasks, terminationFlag, executor);
 
         progressLogger.logMessage(":: Finished");
         return dss;
     }
 
+    private void computeSampled(DisjointSetStruct dss) {
+        if (nodeCount == 0) {
+            return;
+        }
+
+        Collection<SampledTask> sampleTasks = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            sampleTasks.add(new SampleTask(dss));
+        }
+        ParallelUtil.runWithDynamicChunks(nodeCount, chunkSize, sampleTasks, terminationFlag, executor);
+
+        // Membership is fixed before linking the remaining relationships. Nodes that
+        // join the largest component afterwards still link all of their relationships.
+        long largestComponent = largestComponent(dss);
+        HugeAtomicBitSet largestComponentMembers = HugeAtomicBitSet.create(nodeCount, tracker);
+        Collection<BiLongConsumer> memberTasks = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            memberTasks.add((start, end) -> {
+                for (long node = start; node < end; node++) {
+                    if (dss.setIdOf(node) == largestComponent) {
+                        largestComponentMembers.set(node);
+                    }
+                }
+            });
+        }
+        ParallelUtil.runWithDynamicChunks(nodeCount, chunkSize, memberTasks, terminationFlag, executor);
+
+        Collection<SampledTask> linkTasks = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            linkTasks.add(new LinkRemainingTask(dss, largestComponentMembers));
+        }
+        ParallelUtil.runWithDynamicChunks(nodeCount, chunkSize, linkTasks, terminationFlag, executor);
+    }
+
+    private long largestComponent(DisjointSetStruct dss) {
+        var random = new SplittableRandom();
+        var componentSizes = new LongIntHashMap();
+        for (int i = 0; i < SAMPLING_SIZE; i++) {
+            componentSizes.addTo(dss.setIdOf(random.nextLong(nodeCount)), 1);
+        }
+
+        long largestComponent = -1L;
+        int largestSize = 0;
+        for (LongIntCursor cursor : componentSizes) {
+            if (cursor.value > largestSize) {
+                largestComponent = cursor.key;
+                largestSize = cursor.value;
+            }
+        }
+        return largestComponent;
+    }
+
     @Override
     public Wcc me() {
         return this;
@@ -143,23 +222,19 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         return threshold + 1;
     }
 
-    private class WCCTask implements Runnable, RelationshipConsumer {
+    private class WCCTask implements BiLongConsumer, RelationshipConsumer {
 
         final DisjointSetStruct struct;
         final RelationshipIterator rels;
-        private final long offset;
-        private final long end;
 
-        WCCTask(DisjointSetStruct struct, long offset) {
+        WCCTask(DisjointSetStruct struct) {
             this.struct = struct;
             this.rels = graph.concurrentCopy();
-            this.offset = offset;
-            this.end = Math.min(offset + batchSize, nodeCount);
         }
 
         @Override
-        public void run() {
-            for (long node = offset; node < end; node++) {
+        public void apply(long start, long end) {
+            for (long node = start; node < end; node++) {
                 compute(node);
                 if (node % RUN_CHECK_NODE_COUNT == 0) {
                     assertRunning();
@@ -184,8 +259,8 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
         private final double threshold;
 
-        WCCWithThresholdTask(double threshold, DisjointSetStruct struct, long offset) {
-            super(struct, offset);
+        WCCWithThresholdTask(double threshold, DisjointSetStruct struct) {
+            super(struct);
             this.threshold = threshold;
         }
 
@@ -202,4 +277,112 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             return true;
         }
     }
+
+    private abstract class SampledTask implements BiLongConsumer, RelationshipConsumer, RelationshipWithPropertyConsumer {
+
+        final DisjointSetStruct struct;
+        final Graph rels;
+        private final boolean weighted;
+        private int toSkip;
+        private int toLink;
+
+        SampledTask(DisjointSetStruct struct) {
+            this.struct = struct;
+            this.rels = graph.concurrentCopy();
+            this.weighted = !(Double.isNaN(threshold()) || threshold() == 0);
+        }
+
+        /**
+         * Links the relationships of the given node, starting at position {@code skip}, at most {@code limit} of them.
+         */
+        void link(long node, int skip, int limit, boolean inverse) {
+            toSkip = skip;
+            toLink = limit;
+            if (toLink <= 0) {
+                return;
+            }
+            if (inverse) {
+                if (weighted) {
+                    rels.forEachInverseRelationship(node, Wcc.defaultWeight(threshold()), this);
+                } else {
+                    rels.forEachInverseRelationship(node, this);
+                }
+            } else {
+                if (weighted) {
+                    rels.forEachRelationship(node, Wcc.defaultWeight(threshold()), this);
+                } else {
+                    rels.forEachRelationship(node, this);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (toSkip > 0) {
+                toSkip--;
+                return true;
+            }
+            struct.union(sourceNodeId, targetNodeId);
+            return --toLink > 0;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            if (toSkip > 0) {
+                toSkip--;
+                return true;
+            }
+            if (property > threshold()) {
+                struct.union(sourceNodeId, targetNodeId);
+            }
+            return --toLink > 0;
+        }
+    }
+
+    private final class SampleTask extends SampledTask {
+
+        SampleTask(DisjointSetStruct struct) {
+            super(struct);
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            for (long node = start; node < end; node++) {
+                link(node, 0, NEIGHBOUR_ROUNDS, false);
+                if (node % RUN_CHECK_NODE_COUNT == 0) {
+                    assertRunning();
+                }
+            }
+        }
+    }
+
+    private final class LinkRemainingTask extends SampledTask {
+
+        private final HugeAtomicBitSet largestComponentMembers;
+        private final boolean undirected;
+
+        LinkRemainingTask(DisjointSetStruct struct, HugeAtomicBitSet largestComponentMembers) {
+            super(struct);
+            this.largestComponentMembers = largestComponentMembers;
+            this.undirected = graph.isUndirected();
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            for (long node = start; node < end; node++) {
+                if (!largestComponentMembers.get(node)) {
+                    link(node, NEIGHBOUR_ROUNDS, Integer.MAX_VALUE, false);
+                    // relationships from the largest component are only seen from this end
+                    if (!undirected) {
+                        link(node, 0, Integer.MAX_VALUE, true);
+                    }
+                }
+                if (node % RUN_CHECK_NODE_COUNT == 0) {
+                    assertRunning();
+                }
+
+                getProgressLogger().logProgress(graph.degree(node));
+            }
+        }
+    }
 }
@@ -32,6 +32,11 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return 0D;
     }
 
+    @Value.Default
+    default boolean sampling() {
+        return false;
+    }
+
     @Value.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty() == null) {
@@ -41,5 +46,9 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         if (isIncremental() && consecutiveIds()) {
            throw new IllegalArgumentException("Seeding and the `consecutiveIds` option cannot be used at the same time.");
         }
+
+        if (isIncremental() && sampling()) {
+            throw new IllegalArgumentException("Seeding and the `sampling` option cannot be used at the same time.");
+        }
     }
 }
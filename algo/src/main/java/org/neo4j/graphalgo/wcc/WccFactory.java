@@ -55,6 +55,6 @@ public class WccFactory<CONFIG extends WccBaseConfig> implements AlgorithmFactor
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
-        return Wcc.memoryEstimation(config.isIncremental());
+        return Wcc.memoryEstimation(config.isIncremental(), config.sampling());
     }
 };
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.leiden;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.IdFunction;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+import org.neo4j.graphalgo.louvain.ImmutableLouvainStreamConfig;
+import org.neo4j.graphalgo.louvain.Louvain;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.CommunityHelper.assertCommunities;
+import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
+import static org.neo4j.graphalgo.TestSupport.ids;
+import static org.neo4j.graphalgo.core.ProcedureConstants.TOLERANCE_DEFAULT;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+@GdlExtension
+class LeidenTest {
+
+    static ImmutableLeidenStreamConfig.Builder defaultConfigBuilder() {
+        return ImmutableLeidenStreamConfig.builder()
+            .maxLevels(10)
+            .maxIterations(10)
+            .tolerance(TOLERANCE_DEFAULT)
+            .includeIntermediateCommunities(true)
+            .concurrency(1);
+    }
+
+    // two 4-cliques, connected by a single bridge
+    @GdlGraph(orientation = UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (a)-[:TYPE]->(c)" +
+        ", (a)-[:TYPE]->(d)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (b)-[:TYPE]->(d)" +
+        ", (c)-[:TYPE]->(d)" +
+
+        ", (e)-[:TYPE]->(f)" +
+        ", (e)-[:TYPE]->(g)" +
+        ", (e)-[:TYPE]->(h)" +
+        ", (f)-[:TYPE]->(g)" +
+        ", (f)-[:TYPE]->(h)" +
+        ", (g)-[:TYPE]->(h)" +
+
+        ", (d)-[:TYPE]->(e)";
+
+    // two 4-cliques without a bridge, all nodes seeded into the same community
+    @GdlGraph(graphNamePrefix = "disconnected", orientation = UNDIRECTED)
+    private static final String DISCONNECTED_DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {seed: 1})" +
+        ", (b:Node {seed: 1})" +
+        ", (c:Node {seed: 1})" +
+        ", (d:Node {seed: 1})" +
+        ", (e:Node {seed: 1})" +
+        ", (f:Node {seed: 1})" +
+        ", (g:Node {seed: 1})" +
+        ", (h:Node {seed: 1})" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (a)-[:TYPE]->(c)" +
+        ", (a)-[:TYPE]->(d)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (b)-[:TYPE]->(d)" +
+        ", (c)-[:TYPE]->(d)" +
+
+        ", (e)-[:TYPE]->(f)" +
+        ", (e)-[:TYPE]->(g)" +
+        ", (e)-[:TYPE]->(h)" +
+        ", (f)-[:TYPE]->(g)" +
+        ", (f)-[:TYPE]->(h)" +
+        ", (g)-[:TYPE]->(h)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Inject
+    private TestGraph disconnectedGraph;
+
+    @Inject
+    private IdFunction disconnectedIdFunction;
+
+    @Test
+    void testTwoCliques() {
+        Leiden algorithm = new Leiden(
+            graph,
+            defaultConfigBuilder().build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        algorithm.compute();
+
+        assertCommunities(
+            algorithm.finalDendrogram(),
+            ids(idFunction, "a", "b", "c", "d"),
+            ids(idFunction, "e", "f", "g", "h")
+        );
+        assertNotEquals(
+            algorithm.getCommunity(idFunction.of("a")),
+            algorithm.getCommunity(idFunction.of("e"))
+        );
+
+        // 2 * (6 / 13 - (13 / 26)^2)
+        double[] modularities = algorithm.modularities();
+        assertEquals(0.42, modularities[modularities.length - 1], 0.01);
+    }
+
+    @Test
+    void testTwoCliquesInParallel() {
+        Leiden algorithm = new Leiden(
+            graph,
+            defaultConfigBuilder().concurrency(4).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        algorithm.compute();
+
+        assertCommunities(
+            algorithm.finalDendrogram(),
+            ids(idFunction, "a", "b", "c", "d"),
+            ids(idFunction, "e", "f", "g", "h")
+        );
+
+        // final communities are identified by their smallest node
+        assertEquals(
+            LongStream.of(ids(idFunction, "a", "b", "c", "d")).min().getAsLong(),
+            algorithm.getCommunity(idFunction.of("a"))
+        );
+        assertEquals(
+            LongStream.of(ids(idFunction, "e", "f", "g", "h")).min().getAsLong(),
+            algorithm.getCommunity(idFunction.of("e"))
+        );
+
+        double[] modularities = algorithm.modularities();
+        assertEquals(0.42, modularities[modularities.length - 1], 0.01);
+    }
+
+    @Test
+    void testIntermediateCommunitiesAreNested() {
+        Leiden algorithm = new Leiden(
+            graph,
+            defaultConfigBuilder().build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        algorithm.compute();
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long[] communities = algorithm.getCommunities(nodeId);
+            assertEquals(algorithm.levels(), communities.length);
+            assertEquals(algorithm.getCommunity(nodeId), communities[communities.length - 1]);
+        }
+
+        HugeLongArray[] dendrograms = algorithm.dendrograms();
+        for (int level = 0; level < dendrograms.length - 1; level++) {
+            Map<Long, Long> nextLevelCommunities = new HashMap<>();
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                long community = dendrograms[level].get(nodeId);
+                long nextLevelCommunity = dendrograms[level + 1].get(nodeId);
+                assertEquals(
+                    nextLevelCommunity,
+                    nextLevelCommunities.computeIfAbsent(community, ignore -> nextLevelCommunity),
+                    formatWithLocale("Community %d of level %d is split on the next level", community, level)
+                );
+            }
+        }
+    }
+
+    @Test
+    void testDisconnectedCommunitiesAreSplit() {
+        Louvain louvain = new Louvain(
+            disconnectedGraph,
+            ImmutableLouvainStreamConfig.builder()
+                .maxLevels(10)
+                .maxIterations(10)
+                .tolerance(TOLERANCE_DEFAULT)
+                .seedProperty("seed")
+                .concurrency(1)
+                .build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        louvain.compute();
+
+        // Louvain keeps both cliques in the seeded community, although they are not connected
+        assertCommunities(
+            louvain.finalDendrogram(),
+            ids(disconnectedIdFunction, "a", "b", "c", "d", "e", "f", "g", "h")
+        );
+
+        Leiden leiden = new Leiden(
+            disconnectedGraph,
+            defaultConfigBuilder().seedProperty("seed").build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        leiden.compute();
+
+        assertCommunities(
+            leiden.finalDendrogram(),
+            ids(disconnectedIdFunction, "a", "b", "c", "d"),
+            ids(disconnectedIdFunction, "e", "f", "g", "h")
+        );
+        assertConnectedCommunities(disconnectedGraph, leiden.finalDendrogram());
+    }
+
+    @Test
+    void testFinalCommunitiesAreConnected() {
+        Leiden algorithm = new Leiden(
+            graph,
+            defaultConfigBuilder().build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        algorithm.compute();
+
+        assertConnectedCommunities(graph, algorithm.finalDendrogram());
+    }
+
+    @Test
+    void testMemoryEstimation() {
+        long nodeCount = 100_000L;
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .maxRelCount(500_000L)
+            .build();
+
+        MemoryTree oneLevel = new LeidenFactory<>()
+            .memoryEstimation(defaultConfigBuilder().maxLevels(1).build())
+            .estimate(dimensions, 4);
+        MemoryTree tenLevels = new LeidenFactory<>()
+            .memoryEstimation(defaultConfigBuilder().maxLevels(10).build())
+            .estimate(dimensions, 4);
+
+        // offsets, cursors, members, node weights, refined communities, refined weights and external weights
+        MemoryTree refine = oneLevel.components().stream()
+            .filter(component -> component.description().equals("refine()"))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(refine.memoryUsage().min >= 7 * HugeLongArray.memoryEstimation(nodeCount));
+
+        assertEquals(oneLevel.memoryUsage().min, tenLevels.memoryUsage().min);
+        assertEquals(
+            oneLevel.memoryUsage().max + 9 * HugeLongArray.memoryEstimation(nodeCount),
+            tenLevels.memoryUsage().max
+        );
+    }
+
+    private static void assertConnectedCommunities(Graph graph, HugeLongArray communities) {
+        Map<Long, Long> communityRoots = new HashMap<>();
+        BitSet reached = new BitSet(graph.nodeCount());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long community = communities.get(nodeId);
+            if (communityRoots.putIfAbsent(community, nodeId) != null) {
+                continue;
+            }
+            // every node that is reachable within the community is reached from its first node
+            Deque<Long> queue = new ArrayDeque<>();
+            queue.add(nodeId);
+            reached.set(nodeId);
+            while (!queue.isEmpty()) {
+                graph.forEachRelationship(queue.poll(), (source, target) -> {
+                    if (communities.get(target) == community && !reached.getAndSet(target)) {
+                        queue.add(target);
+                    }
+                    return true;
+                });
+            }
+        }
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertTrue(
+                reached.get(nodeId),
+                formatWithLocale("Community %d is not connected", communities.get(nodeId))
+            );
+        }
+    }
+}
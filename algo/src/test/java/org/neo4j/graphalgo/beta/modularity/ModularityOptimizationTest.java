@@ -123,6 +123,19 @@ class ModularityOptimizationTest {
         assertTrue(pmo.getIterations() <= 3);
     }
 
+    @Test
+    void testWeightedWithSparseFrontier() {
+        ModularityOptimization pmo = compute(graph, 3, null, 3, 2, true, ProgressLogger.NULL_LOGGER);
+
+        assertEquals(0.4985, pmo.getModularity(), 0.001);
+        assertCommunities(
+            getCommunityIds(graph.nodeCount(), pmo),
+            ids(idFunction, "a", "e", "f"),
+            ids(idFunction, "b", "c", "d")
+        );
+        assertTrue(pmo.getIterations() <= 3);
+    }
+
     @Test
     void testSeedingWithBiggerSeedValues() {
         var graph = unweightedGraph();
@@ -229,11 +242,24 @@ class ModularityOptimizationTest {
         int concurrency,
         int minBatchSize,
         ProgressLogger testLogger
+    ) {
+        return compute(graph, maxIterations, properties, concurrency, minBatchSize, false, testLogger);
+    }
+
+    private ModularityOptimization compute(
+        Graph graph,
+        int maxIterations,
+        NodeProperties properties,
+        int concurrency,
+        int minBatchSize,
+        boolean sparseFrontier,
+        ProgressLogger testLogger
     ) {
         return new ModularityOptimization(
             graph,
             maxIterations,
             TOLERANCE_DEFAULT,
+            sparseFrontier,
             properties,
             concurrency,
             minBatchSize,
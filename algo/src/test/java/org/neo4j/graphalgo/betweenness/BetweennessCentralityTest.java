@@ -164,9 +164,9 @@ class BetweennessCentralityTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 6_000_368L, 6_000_368L),
-            Arguments.of(4, 21_601_160L, 21_601_160L),
-            Arguments.of(42, 219_211_192L, 219_211_192L)
+            Arguments.of(1, 3_600_312L, 3_600_312L),
+            Arguments.of(4, 12_000_936L, 12_000_936L),
+            Arguments.of(42, 118_408_840L, 118_408_840L)
         );
     }
 
@@ -52,7 +52,9 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
 import static org.neo4j.graphalgo.TestSupport.assertMemoryEstimation;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
@@ -67,6 +69,7 @@ class LabelPropagationTest {
     );
 
     @GdlGraph
+    @GdlGraph(graphNamePrefix = "undirected", orientation = UNDIRECTED)
     private static final String GRAPH =
         "CREATE" +
         "  (nAlice:User   {seedId: 2})" +
@@ -89,6 +92,9 @@ class LabelPropagationTest {
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph undirectedGraph;
+
     @Test
     void shouldUseOriginalNodeIdWhenSeedPropertyIsMissing() {
         LabelPropagation lp = new LabelPropagation(
@@ -149,6 +155,41 @@ class LabelPropagationTest {
         testClustering(graph, 2);
     }
 
+    @Test
+    void sparseFrontierShouldMatchDenseIterations() {
+        LabelPropagation dense = new LabelPropagation(
+            undirectedGraph,
+            ImmutableLabelPropagationStreamConfig.builder().concurrency(1).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+
+        LabelPropagation sparse = new LabelPropagation(
+            undirectedGraph,
+            ImmutableLabelPropagationStreamConfig.builder().concurrency(1).sparseFrontier(true).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+
+        assertTrue(sparse.didConverge());
+        assertEquals(dense.ranIterations(), sparse.ranIterations());
+        assertArrayEquals(dense.labels().toArray(), sparse.labels().toArray());
+    }
+
+    @Test
+    void sparseFrontierShouldRequireUndirectedGraph() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> new LabelPropagation(
+            graph,
+            ImmutableLabelPropagationStreamConfig.builder().sparseFrontier(true).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ));
+        assertTrue(exception.getMessage().contains("sparseFrontier"));
+    }
+
     private void testClustering(Graph graph, int batchSize) {
         for (int i = 0; i < 20; i++) {
             testLPClustering(graph, batchSize);
@@ -230,6 +230,30 @@ class LouvainTest {
         assertEquals(0.37, modularities[modularities.length - 1], 0.01);
     }
 
+    @Test
+    void testWeightedWithParallelSummarization() {
+        var graph = graphStore.getGraph(
+            NodeLabel.listOf("Node"),
+            RelationshipType.listOf("TYPE_OUT", "TYPE_IN"),
+            Optional.of("weight")
+        );
+
+        Louvain algorithm = new Louvain(
+            graph,
+            defaultConfigBuilder().concurrency(4).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).withTerminationFlag(TerminationFlag.RUNNING_TRUE);
+
+        algorithm.compute();
+
+        final double[] modularities = algorithm.modularities();
+
+        assertEquals(2, algorithm.levels());
+        assertEquals(0.37, modularities[modularities.length - 1], 0.01);
+    }
+
     @Test
     void testSeeded() {
         var graph = graphStore.getGraph(
@@ -23,10 +23,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.TestLog;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.extension.GdlExtension;
@@ -34,6 +36,7 @@ import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.Inject;
 import org.neo4j.graphalgo.extension.TestGraph;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -43,6 +46,7 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.TestSupport.assertMemoryEstimation;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 @GdlExtension
@@ -85,8 +89,9 @@ final class PageRankTest {
             .maxIterations(40);
     }
 
-    @Test
-    void testOnOutgoingRelationships() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testOnOutgoingRelationships(boolean pullBased) {
         var expected = Map.of(
             naturalGraph.toMappedNodeId("a"), 0.243007,
             naturalGraph.toMappedNodeId("b"), 1.9183995,
@@ -100,11 +105,12 @@ final class PageRankTest {
             naturalGraph.toMappedNodeId("j"), 0.15
         );
 
-        assertResult(this.naturalGraph, PageRankAlgorithmType.NON_WEIGHTED, expected);
+        assertResult(this.naturalGraph, PageRankAlgorithmType.NON_WEIGHTED, pullBased, expected);
     }
 
-    @Test
-    void testOnIncomingRelationships() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testOnIncomingRelationships(boolean pullBased) {
         var expected = Map.of(
             reverseGraph.toMappedNodeId("a"), 0.15,
             reverseGraph.toMappedNodeId("b"), 0.3386727,
@@ -118,7 +124,7 @@ final class PageRankTest {
             reverseGraph.toMappedNodeId("j"), 0.15
         );
 
-        assertResult(reverseGraph, PageRankAlgorithmType.NON_WEIGHTED, expected);
+        assertResult(reverseGraph, PageRankAlgorithmType.NON_WEIGHTED, pullBased, expected);
     }
 
     @Test
@@ -138,6 +144,45 @@ final class PageRankTest {
         // should not throw
     }
 
+    @Test
+    void shouldComputePullBasedOnUndirectedGraph() {
+        var undirectedGraph = fromGdl(GRAPH, Orientation.UNDIRECTED);
+        var pushResult = PageRankAlgorithmType.NON_WEIGHTED
+            .create(undirectedGraph, DEFAULT_CONFIG, LongStream.empty(), ProgressLogger.NULL_LOGGER)
+            .compute()
+            .result();
+
+        var expected = new HashMap<Long, Double>();
+        undirectedGraph.forEachNode(nodeId -> {
+            expected.put(undirectedGraph.toOriginalNodeId(nodeId), pushResult.score(nodeId));
+            return true;
+        });
+
+        assertResult(undirectedGraph, PageRankAlgorithmType.NON_WEIGHTED, true, expected);
+    }
+
+    @Test
+    void shouldComputePersonalizedPageRankPullBased() {
+        var sourceNodes = LongStream.of(naturalGraph.toOriginalNodeId("e"));
+        var config = defaultConfigBuilder().concurrency(1).build();
+        var pullConfig = defaultConfigBuilder().concurrency(4).pullBased(true).build();
+
+        var pushResult = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, config, sourceNodes, ProgressLogger.NULL_LOGGER)
+            .compute()
+            .result();
+        var pullResult = PageRankAlgorithmType.NON_WEIGHTED
+            .create(naturalGraph, pullConfig, LongStream.of(naturalGraph.toOriginalNodeId("e")), ProgressLogger.NULL_LOGGER)
+            .compute()
+            .result();
+
+        naturalGraph.forEachNode(nodeId -> {
+            assertEquals(pushResult.score(nodeId), pullResult.score(nodeId), 1e-5, "Node#" + nodeId);
+            return true;
+        });
+        assertEquals(0.0, pullResult.score(naturalGraph.toMappedNodeId("g")));
+    }
+
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
             Arguments.of(1, 2000416L, 2000416L),
@@ -160,6 +205,25 @@ final class PageRankTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldEstimateInverseAdjacencyForPullBasedComputation(boolean weighted) {
+        var configBuilder = defaultConfigBuilder().pullBased(true);
+        if (weighted) {
+            configBuilder.relationshipWeightProperty("weight");
+        }
+        var dimensions = ImmutableGraphDimensions.builder().nodeCount(100_000).maxRelCount(1_000_000).build();
+
+        var estimation = new PageRankFactory<>().memoryEstimation(configBuilder.build())
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        var inverseAdjacency = InverseAdjacency.memoryEstimation(weighted)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        assertEquals(inverseAdjacency.max, estimation.max - estimation.min);
+    }
+
     @Test
     void shouldLogProgress() {
         var config = ImmutablePageRankStreamConfig.builder().build();
@@ -193,8 +257,13 @@ final class PageRankTest {
     }
 
     static void assertResult(Graph graph, PageRankAlgorithm algorithmType, Map<Long, Double> expected) {
+        assertResult(graph, algorithmType, false, expected);
+    }
+
+    static void assertResult(Graph graph, PageRankAlgorithm algorithmType, boolean pullBased, Map<Long, Double> expected) {
+        var config = defaultConfigBuilder().pullBased(pullBased).build();
         var rankResult = algorithmType
-            .create(graph, DEFAULT_CONFIG, LongStream.empty(), ProgressLogger.NULL_LOGGER)
+            .create(graph, config, LongStream.empty(), ProgressLogger.NULL_LOGGER)
             .compute()
             .result();
 
@@ -19,7 +19,8 @@
  */
 package org.neo4j.graphalgo.pagerank;
 
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.api.GraphStore;
@@ -101,8 +102,9 @@ class WeightedPageRankTest {
     @Inject
     private IdFunction idFunction;
 
-    @Test
-    void defaultWeightOf0MeansNoDiffusionOfPageRank() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void defaultWeightOf0MeansNoDiffusionOfPageRank(boolean pullBased) {
         var expected = Map.of(
             idFunction.of("a"), 0.15,
             idFunction.of("b"), 0.15,
@@ -122,11 +124,12 @@ class WeightedPageRankTest {
             Optional.of("weight")
         );
 
-        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, expected);
+        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, pullBased, expected);
     }
 
-    @Test
-    void allWeightsTheSameShouldBeTheSameAsPageRank() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void allWeightsTheSameShouldBeTheSameAsPageRank(boolean pullBased) {
         var expected = Map.of(
             idFunction.of("a"), 0.243007,
             idFunction.of("b"), 1.9183995,
@@ -146,11 +149,12 @@ class WeightedPageRankTest {
             Optional.of("weight")
         );
 
-        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, expected);
+        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, pullBased, expected);
     }
 
-    @Test
-    void higherWeightsLeadToHigherPageRank() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void higherWeightsLeadToHigherPageRank(boolean pullBased) {
         var expected = Map.of(
             idFunction.of("a"), 0.1900095,
             idFunction.of("b"), 2.2152279,
@@ -170,11 +174,12 @@ class WeightedPageRankTest {
             Optional.of("weight")
         );
 
-        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, expected);
+        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, pullBased, expected);
     }
 
-    @Test
-    void shouldExcludeNegativeWeights() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldExcludeNegativeWeights(boolean pullBased) {
         var expected = Map.of(
             idFunction.of("a"), 0.1900095,
             idFunction.of("b"), 2.2152279,
@@ -194,6 +199,6 @@ class WeightedPageRankTest {
             Optional.of("weight")
         );
 
-        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, expected);
+        PageRankTest.assertResult(graph, PageRankAlgorithmType.WEIGHTED, pullBased, expected);
     }
 }
@@ -25,6 +25,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.triangle.IntersectingTriangleCount.TriangleCountResult;
@@ -32,6 +34,7 @@ import org.neo4j.graphalgo.triangle.IntersectingTriangleCount.TriangleCountResul
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
 import static org.neo4j.graphalgo.TestSupport.fromGdl;
 import static org.neo4j.graphalgo.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
@@ -327,6 +330,147 @@ class IntersectingTriangleCountTest {
         assertEquals(1, result.globalTriangles());
     }
 
+    @Test
+    void degreeOrderedClique5WithHub() {
+        var graph = fromGdl(
+            "CREATE " +
+            " (a1)-[:T]->(a2), " +
+            " (a1)-[:T]->(a3), " +
+            " (a1)-[:T]->(a4), " +
+            " (a1)-[:T]->(a5), " +
+            " (a2)-[:T]->(a3), " +
+            " (a2)-[:T]->(a4), " +
+            " (a2)-[:T]->(a5), " +
+            " (a3)-[:T]->(a4), " +
+            " (a3)-[:T]->(a5), " +
+            " (a4)-[:T]->(a5), " +
+            " (a5)-[:T]->(b1), " +
+            " (a5)-[:T]->(b2), " +
+            " (a5)-[:T]->(b3), " +
+            " (a5)-[:T]->(b2)",
+            UNDIRECTED
+        );
+
+        TriangleCountBaseConfig config = ImmutableTriangleCountBaseConfig.builder().degreeOrdered(true).build();
+        TriangleCountResult result = compute(graph, config);
+
+        assertEquals(10, result.globalTriangles());
+        assertEquals(8, result.localTriangles().size());
+        for (int i = 0; i < 5; ++i) {
+            assertEquals(6, result.localTriangles().get(i));
+        }
+        for (int i = 5; i < 8; ++i) {
+            assertEquals(0, result.localTriangles().get(i));
+        }
+    }
+
+    @Test
+    void degreeOrderedWithMaxDegree() {
+        var graph = fromGdl(
+            "CREATE" +
+            "  (a)-[:T]->(b)"+
+            " ,(a)-[:T]->(c)"+
+            " ,(a)-[:T]->(d)"+
+            " ,(b)-[:T]->(c)"+
+            " ,(b)-[:T]->(d)"+
+
+            " ,(e)-[:T]->(f)"+
+            " ,(f)-[:T]->(g)"+
+            " ,(g)-[:T]->(e)",
+            UNDIRECTED
+        );
+
+        TriangleCountBaseConfig config = ImmutableTriangleCountBaseConfig
+            .builder()
+            .maxDegree(2)
+            .degreeOrdered(true)
+            .build();
+
+        TriangleCountResult result = compute(graph, config);
+
+        assertEquals(EXCLUDED_NODE_TRIANGLE_COUNT, result.localTriangles().get(0)); // a (deg = 3)
+        assertEquals(EXCLUDED_NODE_TRIANGLE_COUNT, result.localTriangles().get(1)); // b (deg = 3)
+        assertEquals(0, result.localTriangles().get(2));  // c (deg = 2)
+        assertEquals(0, result.localTriangles().get(3));  // d (deg = 2)
+
+        assertEquals(1, result.localTriangles().get(4)); // e (deg = 2)
+        assertEquals(1, result.localTriangles().get(5)); // f (deg = 2)
+        assertEquals(1, result.localTriangles().get(6)); // g (deg = 2)
+        assertEquals(1, result.globalTriangles());
+    }
+
+    @ValueSource(ints = {1, 4})
+    @ParameterizedTest
+    void degreeOrderedMatchesIntersection(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(UNDIRECTED)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        TriangleCountResult expected = compute(
+            graph,
+            ImmutableTriangleCountBaseConfig.builder().concurrency(concurrency).build()
+        );
+        TriangleCountResult actual = compute(
+            graph,
+            ImmutableTriangleCountBaseConfig.builder().concurrency(concurrency).degreeOrdered(true).build()
+        );
+
+        assertEquals(expected.globalTriangles(), actual.globalTriangles());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(expected.localTriangles().get(nodeId), actual.localTriangles().get(nodeId));
+        }
+    }
+
+    @Test
+    void estimateBySampling() {
+        int cliqueSize = 40;
+        StringBuilder gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < cliqueSize; ++i) {
+            for (int j = i + 1; j < cliqueSize; ++j) {
+                gdl.append(formatWithLocale("%s(a%d)-[:T]->(a%d)", gdl.length() > 7 ? ", " : "", i, j));
+            }
+        }
+        var graph = fromGdl(gdl.toString(), UNDIRECTED);
+        long expectedTriangles = 40 * 39 * 38 / 6;
+
+        TriangleCountBaseConfig config = ImmutableTriangleCountBaseConfig
+            .builder()
+            .samplingRate(0.5)
+            .samplingSeed(42L)
+            .build();
+
+        TriangleCountResult result = compute(graph, config);
+
+        double confidenceInterval = result.globalTrianglesConfidenceInterval();
+        assertTrue(confidenceInterval > 0);
+        assertEquals(expectedTriangles, result.globalTriangles(), 2 * confidenceInterval);
+
+        long localTriangleSum = 0;
+        for (int i = 0; i < cliqueSize; ++i) {
+            localTriangleSum += result.localTriangles().get(i);
+        }
+        assertEquals(3 * result.globalTriangles(), localTriangleSum, 3 * cliqueSize);
+
+        TriangleCountResult sameSeed = compute(graph, config);
+        assertEquals(result.globalTriangles(), sameSeed.globalTriangles());
+    }
+
+    @Test
+    void exactCountsHaveNoConfidenceInterval() {
+        var graph = fromGdl("CREATE (a)-[:T]->(b)-[:T]->(c)-[:T]->(a)", UNDIRECTED);
+
+        TriangleCountResult result = compute(graph);
+
+        assertEquals(1, result.globalTriangles());
+        assertEquals(0.0, result.globalTrianglesConfidenceInterval());
+    }
+
     private TriangleCountResult compute(Graph graph) {
         TriangleCountStatsConfig config = ImmutableTriangleCountStatsConfig.builder().build();
         return compute(graph, config);
@@ -25,6 +25,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
@@ -36,6 +37,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
 import static org.neo4j.graphalgo.TestSupport.fromGdl;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -314,10 +316,51 @@ class LocalClusteringCoefficientTest {
         assertEquals(0, result.localClusteringCoefficients().get(14)); // o
     }
 
+    @Test
+    void reportsConfidenceIntervalOfSampledTriangleCount() {
+        int cliqueSize = 40;
+        StringBuilder gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < cliqueSize; ++i) {
+            for (int j = i + 1; j < cliqueSize; ++j) {
+                gdl.append(formatWithLocale("%s(a%d)-[:T]->(a%d)", gdl.length() > 7 ? ", " : "", i, j));
+            }
+        }
+        var graph = fromGdl(gdl.toString(), UNDIRECTED);
+        var config = createConfig().samplingRate(0.5).samplingSeed(42L).build();
+
+        LocalClusteringCoefficient.Result result = compute(graph, config);
+        var triangleCountResult = new IntersectingTriangleCount(
+            graph,
+            LocalClusteringCoefficientFactory.createTriangleCountConfig(config),
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).compute();
+
+        assertTrue(result.globalTriangleCountConfidenceInterval() > 0);
+        assertEquals(
+            triangleCountResult.globalTrianglesConfidenceInterval(),
+            result.globalTriangleCountConfidenceInterval()
+        );
+    }
+
+    @Test
+    void exactCountsHaveNoConfidenceInterval() {
+        var graph = fromGdl("CREATE (a)-[:T]->(b)-[:T]->(c)-[:T]->(a)", UNDIRECTED);
+
+        LocalClusteringCoefficient.Result result = compute(graph);
+
+        assertEquals(1, result.averageClusteringCoefficient());
+        assertEquals(0.0, result.globalTriangleCountConfidenceInterval());
+    }
+
     private LocalClusteringCoefficient.Result compute(Graph graph) {
+        return compute(graph, createConfig().build());
+    }
+
+    private LocalClusteringCoefficient.Result compute(Graph graph, LocalClusteringCoefficientBaseConfig config) {
         return new LocalClusteringCoefficient(
             graph,
-            createConfig().build(),
+            config,
             AllocationTracker.empty(),
             ProgressLogger.NULL_LOGGER
         ).compute();
@@ -26,7 +26,10 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.TestLog;
 import org.neo4j.graphalgo.TestProgressLogger;
+import org.neo4j.graphalgo.api.FilterGraph;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.concurrency.Pools;
@@ -42,6 +45,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.TestSupport.fromGdl;
 
@@ -74,6 +78,42 @@ class WccTest {
 
         DisjointSetStruct result = run(graph);
 
+        assertComponents(graph, result);
+    }
+
+    @ParameterizedTest(name = "orientation = {0}")
+    @EnumSource(Orientation.class)
+    void shouldComputeComponentsWithSampling(Orientation orientation) {
+        var graph = createTestGraph(orientation);
+
+        DisjointSetStruct result = run(graph, ImmutableWccStreamConfig.builder().sampling(true).build());
+
+        assertComponents(graph, result);
+    }
+
+    @Test
+    void shouldLinkRelationshipsFromLargestComponentWithSampling() {
+        // the hub only links its first two relationships before the largest component is
+        // determined, (x3) can then only be reached via its inverse relationship
+        StringBuilder gdl = new StringBuilder("(hub)-[:REL]->(x1), (hub)-[:REL]->(x2), (hub)-[:REL]->(x3), (y)-[:REL]->(z)");
+        for (int i = 0; i < 200; i++) {
+            gdl.append(", (l").append(i).append(")-[:REL]->(hub)");
+        }
+        var natural = fromGdl(gdl.toString(), Orientation.NATURAL);
+        var reverse = fromGdl(gdl.toString(), Orientation.REVERSE);
+        var graph = new InverseIndexedGraph(natural, reverse);
+
+        DisjointSetStruct result = run(graph, ImmutableWccStreamConfig.builder().sampling(true).build());
+
+        long hubComponent = result.setIdOf(natural.toMappedNodeId("hub"));
+        for (String variable : List.of("x1", "x2", "x3", "l0", "l199")) {
+            assertEquals(hubComponent, result.setIdOf(natural.toMappedNodeId(variable)), variable);
+        }
+        assertEquals(result.setIdOf(natural.toMappedNodeId("y")), result.setIdOf(natural.toMappedNodeId("z")));
+        assertNotEquals(hubComponent, result.setIdOf(natural.toMappedNodeId("y")));
+    }
+
+    private static void assertComponents(Graph graph, DisjointSetStruct result) {
         assertEquals(SETS_COUNT, getSetCount(result));
         long[] setRegions = new long[SETS_COUNT];
         Arrays.fill(setRegions, -1);
@@ -220,6 +260,48 @@ class WccTest {
         return fromGdl(gdl.toString(), orientation);
     }
 
+    /**
+     * Serves the inverse relationships of a directed graph from a graph of the reverse orientation.
+     */
+    private static final class InverseIndexedGraph extends FilterGraph {
+
+        private final Graph reverse;
+
+        InverseIndexedGraph(Graph graph, Graph reverse) {
+            super(graph);
+            this.reverse = reverse;
+        }
+
+        @Override
+        public boolean isInverseIndexed() {
+            return true;
+        }
+
+        @Override
+        public int inverseDegree(long nodeId) {
+            return reverse.degree(nodeId);
+        }
+
+        @Override
+        public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+            reverse.forEachRelationship(nodeId, consumer);
+        }
+
+        @Override
+        public void forEachInverseRelationship(
+            long nodeId,
+            double fallbackValue,
+            RelationshipWithPropertyConsumer consumer
+        ) {
+            reverse.forEachRelationship(nodeId, fallbackValue, consumer);
+        }
+
+        @Override
+        public Graph concurrentCopy() {
+            return new InverseIndexedGraph(graph.concurrentCopy(), reverse.concurrentCopy());
+        }
+    }
+
     static String createLine(int setSize) {
         return IntStream.range(0, setSize)
             .mapToObj(i -> "()")
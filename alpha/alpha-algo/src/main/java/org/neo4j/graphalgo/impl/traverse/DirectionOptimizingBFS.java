@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.traverse;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
+
+/**
+ * Parallel, level-synchronous breadth first search that switches between
+ * top-down and bottom-up steps, as described in "Direction-Optimizing Breadth-First Search" by Beamer et al.
+ * <p>
+ * A top-down step expands the relationships of every frontier node.
+ * A bottom-up step lets every unvisited node look for a frontier node among its inverse relationships
+ * and stops at the first one found, which avoids scanning most relationships once the frontier is large.
+ * Bottom-up steps are only taken if the graph is {@link Graph#isInverseIndexed() inverse indexed},
+ * which includes all undirected graphs.
+ * <p>
+ * The frontiers and visited nodes are kept in {@link HugeAtomicBitSet}s. The instance can be reused
+ * for multiple traversals, e.g. one per source node, which only resets the state of the previous traversal.
+ */
+public final class DirectionOptimizingBFS {
+
+    public static final int NOT_REACHED = -1;
+
+    // switch to bottom-up once the frontier has more than 1/ALPHA of the unexplored relationships
+    static final int ALPHA = 14;
+    // switch back to top-down once the frontier has less than 1/BETA of all nodes
+    static final int BETA = 24;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final boolean canStepBottomUp;
+    private final int concurrency;
+    private final long chunkSize;
+    private final ExecutorService executor;
+    private final TerminationFlag terminationFlag;
+
+    private final HugeIntArray depths;
+    private final HugeAtomicBitSet visited;
+    private HugeAtomicBitSet frontier;
+    private HugeAtomicBitSet nextFrontier;
+
+    private int levelCount;
+    private int bottomUpSteps;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(DirectionOptimizingBFS.class)
+            .perNode("depths", HugeIntArray::memoryEstimation)
+            .perNode("visited", DirectionOptimizingBFS::bitSetMemoryEstimation)
+            .perNode("frontier", DirectionOptimizingBFS::bitSetMemoryEstimation)
+            .perNode("next frontier", DirectionOptimizingBFS::bitSetMemoryEstimation)
+            .build();
+    }
+
+    private static long bitSetMemoryEstimation(long nodeCount) {
+        return HugeAtomicLongArray.memoryEstimation(ceilDiv(nodeCount, Long.SIZE));
+    }
+
+    public DirectionOptimizingBFS(
+        Graph graph,
+        int concurrency,
+        long chunkSize,
+        ExecutorService executor,
+        TerminationFlag terminationFlag,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.canStepBottomUp = graph.isInverseIndexed();
+        this.concurrency = concurrency;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+        this.terminationFlag = terminationFlag;
+        this.depths = HugeIntArray.newArray(nodeCount, tracker);
+        this.visited = HugeAtomicBitSet.create(nodeCount, tracker);
+        this.frontier = HugeAtomicBitSet.create(nodeCount, tracker);
+        this.nextFrontier = HugeAtomicBitSet.create(nodeCount, tracker);
+    }
+
+    /**
+     * Traverses the graph from the given node until no more nodes are reachable
+     * or all nodes up to the given depth have been visited.
+     *
+     * @param startNodeId the internal id of the node to start at
+     * @param maxDepth    the maximum depth to visit, or a negative value to visit all reachable nodes
+     * @return the number of levels, including the level of the start node
+     */
+    public int compute(long startNodeId, int maxDepth) {
+        depths.fill(NOT_REACHED);
+        visited.clear();
+        frontier.clear();
+        levelCount = 0;
+        bottomUpSteps = 0;
+
+        depths.set(startNodeId, 0);
+        visited.set(startNodeId);
+        frontier.set(startNodeId);
+
+        long frontierSize = 1L;
+        long frontierRelationships = graph.degree(startNodeId);
+        long unexploredRelationships = graph.relationshipCount() - frontierRelationships;
+        boolean bottomUp = false;
+
+        int depth = 0;
+        while (frontierSize > 0 && (maxDepth < 0 || depth < maxDepth)) {
+            terminationFlag.assertRunning();
+
+            if (canStepBottomUp) {
+                if (!bottomUp && frontierRelationships > unexploredRelationships / ALPHA) {
+                    bottomUp = true;
+                } else if (bottomUp && frontierSize < nodeCount / BETA) {
+                    bottomUp = false;
+                }
+            }
+
+            depth++;
+            nextFrontier.clear();
+            List<Step> steps = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                steps.add(bottomUp ? new BottomUpStep(depth) : new TopDownStep(depth));
+            }
+            ParallelUtil.runWithDynamicChunks(nodeCount, chunkSize, steps, terminationFlag, executor);
+            if (bottomUp) {
+                bottomUpSteps++;
+            }
+
+            frontierSize = 0L;
+            frontierRelationships = 0L;
+            for (Step step : steps) {
+                frontierSize += step.visitedNodes;
+                frontierRelationships += step.visitedRelationships;
+            }
+            unexploredRelationships -= frontierRelationships;
+
+            HugeAtomicBitSet tmp = frontier;
+            frontier = nextFrontier;
+            nextFrontier = tmp;
+        }
+
+        levelCount = frontierSize > 0 ? depth + 1 : depth;
+        return levelCount;
+    }
+
+    /**
+     * The depth at which each node was visited by the last traversal, or {@link #NOT_REACHED}.
+     */
+    public HugeIntArray depths() {
+        return depths;
+    }
+
+    public int levelCount() {
+        return levelCount;
+    }
+
+    int bottomUpSteps() {
+        return bottomUpSteps;
+    }
+
+    public void release() {
+        depths.release();
+        visited.release();
+        frontier.release();
+        nextFrontier.release();
+    }
+
+    private abstract class Step implements BiLongConsumer {
+
+        final Graph relationships;
+        final int depth;
+        long visitedNodes;
+        long visitedRelationships;
+
+        Step(int depth) {
+            this.relationships = graph.concurrentCopy();
+            this.depth = depth;
+        }
+
+        void visit(long nodeId) {
+            depths.set(nodeId, depth);
+            nextFrontier.set(nodeId);
+            visitedNodes++;
+            visitedRelationships += relationships.degree(nodeId);
+        }
+    }
+
+    private final class TopDownStep extends Step implements RelationshipConsumer {
+
+        TopDownStep(int depth) {
+            super(depth);
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                if (frontier.get(nodeId)) {
+                    relationships.forEachRelationship(nodeId, this);
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (!visited.getAndSet(targetNodeId)) {
+                visit(targetNodeId);
+            }
+            return true;
+        }
+    }
+
+    private final class BottomUpStep extends Step implements RelationshipConsumer {
+
+        private boolean foundParent;
+
+        BottomUpStep(int depth) {
+            super(depth);
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                if (!visited.get(nodeId)) {
+                    foundParent = false;
+                    relationships.forEachInverseRelationship(nodeId, this);
+                    if (foundParent) {
+                        // every node is only checked by a single step
+                        visited.set(nodeId);
+                        visit(nodeId);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean accept(long nodeId, long parentNodeId) {
+            foundParent = frontier.get(parentNodeId);
+            return !foundParent;
+        }
+    }
+}
@@ -23,9 +23,14 @@ import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
 import com.carrotsearch.hppc.LongArrayDeque;
 import com.carrotsearch.hppc.LongArrayList;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.ObjDoubleConsumer;
 import java.util.function.ObjLongConsumer;
 
@@ -46,6 +51,8 @@ public final class Traverse extends Algorithm<Traverse, Traverse> {
     private final LongArrayDeque sources;
     private DoubleArrayDeque weights;
     private BitSet visited;
+    private @Nullable DirectionOptimizingBFS parallelBfs;
+    private final int maxDepth;
 
     private long[] resultNodes;
 
@@ -68,6 +75,20 @@ public final class Traverse extends Algorithm<Traverse, Traverse> {
         this.sources = new LongArrayDeque(nodeCount);
         this.weights = new DoubleArrayDeque(nodeCount);
         this.visited = new BitSet(nodeCount);
+        this.parallelBfs = null;
+        this.maxDepth = -1;
+    }
+
+    private Traverse(Graph graph, long startNodeId, int maxDepth) {
+        this.graph = graph;
+        this.nodeCount = Math.toIntExact(graph.nodeCount());
+        this.startNodeId = startNodeId;
+        this.exitPredicate = null;
+        this.aggregatorFunction = null;
+        this.nodeFunc = null;
+        this.weightFunc = null;
+        this.sources = null;
+        this.maxDepth = maxDepth;
     }
 
     public static Traverse dfs(
@@ -102,8 +123,38 @@ public final class Traverse extends Algorithm<Traverse, Traverse> {
         );
     }
 
+    /**
+     * A breadth first search that visits the nodes of every level in parallel, see {@link DirectionOptimizingBFS}.
+     * Nodes are returned level by level and ordered by their id within a level.
+     *
+     * @param maxDepth the maximum depth to visit, or a negative value to visit all reachable nodes
+     */
+    public static Traverse parallelBfs(
+        Graph graph,
+        long startNodeId,
+        long maxDepth,
+        int concurrency,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        Traverse traverse = new Traverse(graph, startNodeId, (int) Math.min(maxDepth, Integer.MAX_VALUE));
+        traverse.parallelBfs = new DirectionOptimizingBFS(
+            graph,
+            concurrency,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            executor,
+            traverse,
+            tracker
+        );
+        return traverse;
+    }
+
     @Override
     public Traverse compute() {
+        if (parallelBfs != null) {
+            return computeParallelBfs();
+        }
+
         LongArrayList result = new LongArrayList(nodeCount);
         BitSet inResult = new BitSet(nodeCount);
         nodes.clear();
@@ -152,6 +203,34 @@ public final class Traverse extends Algorithm<Traverse, Traverse> {
         return me();
     }
 
+    private Traverse computeParallelBfs() {
+        int levelCount = parallelBfs.compute(startNodeId, maxDepth);
+        HugeIntArray depths = parallelBfs.depths();
+
+        // counting sort by depth, nodes of the same depth stay in id order
+        int[] levelOffsets = new int[levelCount + 1];
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int depth = depths.get(nodeId);
+            if (depth != DirectionOptimizingBFS.NOT_REACHED) {
+                levelOffsets[depth + 1]++;
+            }
+        }
+        for (int level = 0; level < levelCount; level++) {
+            levelOffsets[level + 1] += levelOffsets[level];
+        }
+
+        long[] result = new long[levelOffsets[levelCount]];
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int depth = depths.get(nodeId);
+            if (depth != DirectionOptimizingBFS.NOT_REACHED) {
+                result[levelOffsets[depth]++] = graph.toOriginalNodeId(nodeId);
+            }
+        }
+
+        this.resultNodes = result;
+        return me();
+    }
+
     public long[] resultNodes() {
         return resultNodes;
     }
@@ -166,6 +245,10 @@ public final class Traverse extends Algorithm<Traverse, Traverse> {
         nodes = null;
         weights = null;
         visited = null;
+        if (parallelBfs != null) {
+            parallelBfs.release();
+            parallelBfs = null;
+        }
     }
 
     public interface ExitPredicate {
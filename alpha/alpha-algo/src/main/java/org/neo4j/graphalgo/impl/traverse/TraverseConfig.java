@@ -49,6 +49,21 @@ public interface TraverseConfig extends AlgoBaseConfig, RelationshipWeightConfig
         return -1L;
     }
 
+    /**
+     * Visits the nodes of every BFS level in parallel, using bottom-up steps on large frontiers.
+     */
+    @Value.Default
+    default boolean parallel() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateParallel() {
+        if (parallel() && !targetNodes().isEmpty()) {
+            throw new IllegalArgumentException("The `parallel` traversal does not support `targetNodes`.");
+        }
+    }
+
     static TraverseConfig of(
         Optional<String> graphName,
         Optional<GraphCreateConfig> maybeImplicitCreate,
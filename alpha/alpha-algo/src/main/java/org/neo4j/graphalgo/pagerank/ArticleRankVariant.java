@@ -54,4 +54,13 @@ public class ArticleRankVariant implements PageRankVariant {
     public DegreeComputer degreeComputer(Graph graph) {
         return new BasicDegreeComputer(graph);
     }
+
+    @Override
+    public ScoreShare scoreShare(Graph graph, DegreeCache degreeCache) {
+        double averageDegree = degreeCache.average();
+        return ScoreShare.of(nodeId -> {
+            int degree = graph.degree(nodeId);
+            return degree > 0 ? degree + averageDegree : 0.0;
+        }, false);
+    }
 }
@@ -22,6 +22,9 @@ package org.neo4j.graphalgo.impl.traverse;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.AlgoTestBase;
 import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.extension.GdlExtension;
 import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.Inject;
@@ -29,8 +32,10 @@ import org.neo4j.graphalgo.extension.TestGraph;
 import org.neo4j.graphalgo.impl.traverse.Traverse.ExitPredicate.Result;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.neo4j.graphalgo.impl.traverse.Traverse.DEFAULT_AGGREGATOR;
 
@@ -200,6 +205,75 @@ class TraverseTest extends AlgoTestBase {
         Traverse.dfs(loopGraph, 0, (s, t, w) -> Result.FOLLOW, Traverse.DEFAULT_AGGREGATOR).compute();
     }
 
+    @Test
+    void testParallelBfsOut() {
+        long source = naturalGraph.toMappedNodeId("a");
+        long[] nodes = Traverse.parallelBfs(
+            naturalGraph,
+            source,
+            -1,
+            4,
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).compute().resultNodes();
+        assertContains(new String[]{"a", "b", "c", "d", "e", "f", "g"}, nodes.clone());
+        assertEquals(naturalGraph.toOriginalNodeId("a"), nodes[0]);
+        assertEquals(naturalGraph.toOriginalNodeId("d"), nodes[3]);
+        assertEquals(naturalGraph.toOriginalNodeId("g"), nodes[6]);
+    }
+
+    @Test
+    void testParallelBfsMaxDepthOut() {
+        long source = naturalGraph.toMappedNodeId("a");
+        long[] nodes = Traverse.parallelBfs(
+            naturalGraph,
+            source,
+            2,
+            4,
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        ).compute().resultNodes();
+        assertContains(new String[]{"a", "b", "c", "d"}, nodes);
+    }
+
+    @Test
+    void testDirectionOptimizingBfsUsesBottomUpSteps() {
+        var expectedDepths = Map.of("a", 0, "b", 1, "c", 1, "d", 2, "e", 3, "f", 3, "g", 4);
+
+        var topDown = new DirectionOptimizingBFS(
+            naturalGraph,
+            4,
+            1,
+            Pools.DEFAULT,
+            TerminationFlag.RUNNING_TRUE,
+            AllocationTracker.empty()
+        );
+        assertEquals(5, topDown.compute(naturalGraph.toMappedNodeId("a"), -1));
+        assertEquals(0, topDown.bottomUpSteps());
+        expectedDepths.forEach((variable, depth) ->
+            assertEquals(depth, topDown.depths().get(naturalGraph.toMappedNodeId(variable)), variable)
+        );
+
+        var directionOptimizing = new DirectionOptimizingBFS(
+            undirectedGraph,
+            4,
+            1,
+            Pools.DEFAULT,
+            TerminationFlag.RUNNING_TRUE,
+            AllocationTracker.empty()
+        );
+        assertEquals(5, directionOptimizing.compute(undirectedGraph.toMappedNodeId("a"), -1));
+        assertTrue(directionOptimizing.bottomUpSteps() > 0);
+        expectedDepths.forEach((variable, depth) ->
+            assertEquals(depth, directionOptimizing.depths().get(undirectedGraph.toMappedNodeId(variable)), variable)
+        );
+
+        // the instance can be reused for another start node
+        assertEquals(5, directionOptimizing.compute(undirectedGraph.toMappedNodeId("g"), -1));
+        assertEquals(0, directionOptimizing.depths().get(undirectedGraph.toMappedNodeId("g")));
+        assertEquals(4, directionOptimizing.depths().get(undirectedGraph.toMappedNodeId("a")));
+    }
+
     /**
      * test if all both arrays contain the same nodes. not necessarily in
      * same order
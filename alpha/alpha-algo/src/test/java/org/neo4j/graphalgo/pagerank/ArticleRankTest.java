@@ -20,7 +20,8 @@
 package org.neo4j.graphalgo.pagerank;
 
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.AlgoTestBase;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
@@ -94,8 +95,9 @@ final class ArticleRankTest extends AlgoTestBase {
         runQuery(DB_CYPHER);
     }
 
-    @Test
-    void test() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void test(boolean pullBased) {
         final Label label = Label.label("Label1");
         final Map<Long, Double> expected = new HashMap<>();
 
@@ -119,10 +121,11 @@ final class ArticleRankTest extends AlgoTestBase {
                 .build()
                 .graph();
 
+        var config = ImmutablePageRankStreamConfig.builder().maxIterations(40).pullBased(pullBased).build();
         CentralityResult rankResult = LabsPageRankAlgorithmType.ARTICLE_RANK
             .create(
                 graph,
-                DEFAULT_CONFIG,
+                config,
                 LongStream.empty(),
                 new BatchingProgressLogger(NullLog.getInstance(), 0, "PageRank", DEFAULT_CONFIG.concurrency())
             ).compute()
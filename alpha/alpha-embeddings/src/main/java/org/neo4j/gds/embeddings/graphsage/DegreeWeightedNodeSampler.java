@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+
+import java.util.Random;
+
+/**
+ * Samples nodes with a probability proportional to {@code degree^0.75}.
+ * The cumulative distribution is computed once and shared by all threads,
+ * a single sample is drawn by a binary search in {@code O(log n)}.
+ */
+public class DegreeWeightedNodeSampler {
+
+    static final double DEGREE_SMOOTHING_FACTOR = 0.75;
+
+    private final HugeDoubleArray cumulativeWeights;
+    private final long nodeCount;
+    private final double totalWeight;
+
+    public DegreeWeightedNodeSampler(Graph graph, AllocationTracker tracker) {
+        this.nodeCount = graph.nodeCount();
+        this.cumulativeWeights = HugeDoubleArray.newArray(nodeCount, tracker);
+
+        double cumulativeWeight = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cumulativeWeight += Math.pow(graph.degree(nodeId), DEGREE_SMOOTHING_FACTOR);
+            cumulativeWeights.set(nodeId, cumulativeWeight);
+        }
+        this.totalWeight = cumulativeWeight;
+    }
+
+    /**
+     * Returns the first node whose cumulative weight exceeds a random threshold.
+     * Nodes without relationships are never sampled, unless no node has any.
+     */
+    public long sample(Random random) {
+        double threshold = random.nextDouble() * totalWeight;
+
+        long low = 0;
+        long high = nodeCount - 1;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (cumulativeWeights.get(mid) > threshold) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    public void release() {
+        cumulativeWeights.release();
+    }
+}
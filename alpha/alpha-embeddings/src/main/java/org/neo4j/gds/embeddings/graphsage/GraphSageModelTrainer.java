@@ -29,6 +29,7 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Scalar;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.logging.Log;
 
@@ -60,7 +61,7 @@ public class GraphSageModelTrainer {
     private final int epochs;
     private final int maxIterations;
     private final int maxSearchDepth;
-    private double degreeProbabilityNormalizer;
+    private DegreeWeightedNodeSampler negativeSampler;
 
     public GraphSageModelTrainer(GraphSageTrainConfig config, Log log) {
         this.layers = config.layerConfigs().stream()
@@ -79,10 +80,7 @@ public class GraphSageModelTrainer {
 
     public ModelTrainResult train(Graph graph, HugeObjectArray<double[]> features) {
         Map<String, Double> epochLosses = new TreeMap<>();
-        degreeProbabilityNormalizer = LongStream
-            .range(0, graph.nodeCount())
-            .mapToDouble(nodeId -> Math.pow(graph.degree(nodeId), 0.75))
-            .sum();
+        negativeSampler = new DegreeWeightedNodeSampler(graph, AllocationTracker.empty());
 
         double initialLoss = evaluateLoss(graph, features, batchProvider, -1);
         double previousLoss = initialLoss;
@@ -98,6 +96,7 @@ public class GraphSageModelTrainer {
             }
             previousLoss = newLoss;
         }
+        negativeSampler.release();
 
         return ModelTrainResult.of(initialLoss, epochLosses, this.layers);
     }
@@ -193,7 +192,7 @@ public class GraphSageModelTrainer {
         long[] totalBatch = LongStream
             .concat(Arrays.stream(batch), LongStream.concat(
                 neighborBatch(graph, batch),
-                negativeBatch(graph, batch.length)
+                negativeBatch(batch.length)
             )).toArray();
         Variable<Matrix> embeddingVariable = embeddings(graph, totalBatch, features, this.layers);
 
@@ -220,21 +219,9 @@ public class GraphSageModelTrainer {
         });
     }
 
-    private LongStream negativeBatch(Graph graph, int batchSize) {
+    private LongStream negativeBatch(int batchSize) {
         Random rand = new Random(layers[0].randomState());
-        return IntStream.range(0, batchSize)
-            .mapToLong(ignore -> {
-                double randomValue = rand.nextDouble();
-                double cumulativeProbability = 0;
-
-                for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
-                    cumulativeProbability += Math.pow(graph.degree(nodeId), 0.75) / degreeProbabilityNormalizer;
-                    if (randomValue < cumulativeProbability) {
-                        return nodeId;
-                    }
-                }
-                throw new RuntimeException("This should never happen");
-            });
+        return IntStream.range(0, batchSize).mapToLong(ignore -> negativeSampler.sample(rand));
     }
 
     private List<Weights<? extends Tensor<?>>> getWeights() {
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores random walks back to back in a single paged {@code int} array.
+ * The walk with index {@code i} occupies the range {@code [offsets[i], offsets[i + 1])}.
+ * <p>
+ * Walks are appended by a single writer and can be read concurrently once all walks have been added.
+ */
+public final class CompactRandomWalks {
+
+    private final HugeIntArray nodes;
+    private final HugeLongArray offsets;
+    private final int maxWalkLength;
+
+    private long walkCount;
+    private long totalLength;
+
+    public static CompactRandomWalks of(
+        long nodeCount,
+        long maxWalkCount,
+        int maxWalkLength,
+        AllocationTracker tracker
+    ) {
+        if (nodeCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Random walks can only be stored for graphs with at most %d nodes, but got %d nodes.",
+                Integer.MAX_VALUE,
+                nodeCount
+            ));
+        }
+        return new CompactRandomWalks(
+            HugeIntArray.newArray(Math.multiplyExact(maxWalkCount, maxWalkLength), tracker),
+            HugeLongArray.newArray(maxWalkCount + 1, tracker),
+            maxWalkLength
+        );
+    }
+
+    public static CompactRandomWalks of(long[]... walks) {
+        long nodeCount = Arrays.stream(walks).flatMapToLong(Arrays::stream).max().orElse(-1) + 1;
+        int maxWalkLength = Arrays.stream(walks).mapToInt(walk -> walk.length).max().orElse(0);
+        var compactWalks = of(nodeCount, walks.length, maxWalkLength, AllocationTracker.empty());
+        for (long[] walk : walks) {
+            compactWalks.add(walk);
+        }
+        return compactWalks;
+    }
+
+    private CompactRandomWalks(HugeIntArray nodes, HugeLongArray offsets, int maxWalkLength) {
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.maxWalkLength = maxWalkLength;
+    }
+
+    public void add(long[] walk) {
+        for (long node : walk) {
+            nodes.set(totalLength++, (int) node);
+        }
+        offsets.set(++walkCount, totalLength);
+    }
+
+    /**
+     * Number of walks that have been added.
+     */
+    public long size() {
+        return walkCount;
+    }
+
+    public int maxWalkLength() {
+        return maxWalkLength;
+    }
+
+    /**
+     * Sum of the lengths of all walks.
+     */
+    public long totalLength() {
+        return totalLength;
+    }
+
+    /**
+     * Returns the node at the given position of the concatenation of all walks.
+     */
+    public long nodeAt(long position) {
+        return nodes.get(position);
+    }
+
+    /**
+     * Copies the walk with the given index into the buffer and returns its length.
+     * The buffer must hold at least {@link #maxWalkLength()} elements.
+     */
+    public int copyWalk(long walkIndex, long[] buffer) {
+        long start = offsets.get(walkIndex);
+        int length = (int) (offsets.get(walkIndex + 1) - start);
+        for (int i = 0; i < length; i++) {
+            buffer[i] = nodes.get(start + i);
+        }
+        return length;
+    }
+
+    public void release() {
+        nodes.release();
+        offsets.release();
+    }
+}
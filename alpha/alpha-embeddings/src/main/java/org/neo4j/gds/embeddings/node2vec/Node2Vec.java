@@ -19,14 +19,13 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
-import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
 
-public class Node2Vec extends Algorithm<Node2Vec, HugeObjectArray<Vector>> {
+public class Node2Vec extends Algorithm<Node2Vec, HugeFloatMatrix> {
 
     private final Graph graph;
     private final Node2VecBaseConfig config;
@@ -40,7 +39,7 @@ public class Node2Vec extends Algorithm<Node2Vec, HugeObjectArray<Vector>> {
     }
 
     @Override
-    public HugeObjectArray<Vector> compute() {
+    public HugeFloatMatrix compute() {
         RandomWalk randomWalk = new RandomWalk(
             graph,
             config.walkLength(),
@@ -50,18 +49,13 @@ public class Node2Vec extends Algorithm<Node2Vec, HugeObjectArray<Vector>> {
             config.walkBufferSize()
         );
 
-        HugeObjectArray<long[]> walks = HugeObjectArray.newArray(
-            long[].class,
+        CompactRandomWalks walks = CompactRandomWalks.of(
+            graph.nodeCount(),
             graph.nodeCount() * config.walksPerNode(),
+            config.walkLength() + 1,
             tracker
         );
-        MutableLong counter = new MutableLong(0);
-        randomWalk
-            .compute()
-            .forEach(walk -> {
-                walks.set(counter.longValue(), walk);
-                counter.increment();
-            });
+        randomWalk.compute().forEach(walks::add);
 
         var probabilityComputer = new ProbabilityComputer(
             walks,
@@ -81,6 +75,7 @@ public class Node2Vec extends Algorithm<Node2Vec, HugeObjectArray<Vector>> {
         );
 
         node2VecModel.train();
+        walks.release();
 
         return node2VecModel.getEmbeddings();
     }
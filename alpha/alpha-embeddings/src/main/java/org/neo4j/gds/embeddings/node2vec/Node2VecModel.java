@@ -23,7 +23,7 @@ import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
 
 import java.util.ArrayList;
 import java.util.Random;
@@ -34,10 +34,10 @@ public class Node2VecModel {
 
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<Vector> centerEmbeddings;
-    private final HugeObjectArray<Vector> contextEmbeddings;
+    private final HugeFloatMatrix centerEmbeddings;
+    private final HugeFloatMatrix contextEmbeddings;
     private final Node2VecBaseConfig config;
-    private final HugeObjectArray<long[]> walks;
+    private final CompactRandomWalks walks;
     private final ProbabilityComputer probabilityComputer;
     private final ProgressLogger progressLogger;
     private final long batchSize;
@@ -45,7 +45,7 @@ public class Node2VecModel {
     Node2VecModel(
         long nodeCount,
         Node2VecBaseConfig config,
-        HugeObjectArray<long[]> walks,
+        CompactRandomWalks walks,
         ProbabilityComputer probabilityComputer,
         ProgressLogger progressLogger
     ) {
@@ -81,29 +81,31 @@ public class Node2VecModel {
         progressLogger.logMessage(":: Training :: Finished");
     }
 
-    public HugeObjectArray<Vector> getEmbeddings() {
+    public HugeFloatMatrix getEmbeddings() {
         return centerEmbeddings;
     }
 
-    private HugeObjectArray<Vector> initializeEmbeddings(long nodeCount, int embeddingDimensions) {
-        HugeObjectArray<Vector> embeddings = HugeObjectArray.newArray(
-            Vector.class,
+    private HugeFloatMatrix initializeEmbeddings(long nodeCount, int embeddingDimensions) {
+        HugeFloatMatrix embeddings = HugeFloatMatrix.newMatrix(
             nodeCount,
+            embeddingDimensions,
             AllocationTracker.empty()
         );
+        var random = new Random();
         for (var i = 0L; i < nodeCount; i++) {
-            var data = new Random()
-                .doubles(embeddingDimensions, -1, 1)
-                .collect(() -> new FloatConsumer(embeddingDimensions), FloatConsumer::add, FloatConsumer::addAll).values;
-            embeddings.set(i, new Vector(data));
+            float[] page = embeddings.rowPage(i);
+            int offset = embeddings.rowOffset(i);
+            for (int j = 0; j < embeddingDimensions; j++) {
+                page[offset + j] = (float) (random.nextDouble() * 2 - 1);
+            }
         }
         return embeddings;
     }
 
     private class TrainingTask implements Runnable {
         private final PositiveSampleProducer positiveSamples;
-        private final Vector centerGradientBuffer;
-        private final Vector contextGradientBuffer;
+        private final float[] centerGradientBuffer;
+        private final float[] contextGradientBuffer;
         private final float initialLearningRate;
         private final float learningRateModifier;
         private final long startIndex;
@@ -120,8 +122,8 @@ public class Node2VecModel {
                 config.windowSize(),
                 progressLogger
             );
-            this.centerGradientBuffer = new Vector(config.embeddingSize());
-            this.contextGradientBuffer = new Vector(config.embeddingSize());
+            this.centerGradientBuffer = new float[config.embeddingSize()];
+            this.contextGradientBuffer = new float[config.embeddingSize()];
 
             this.initialLearningRate = (float) config.initialLearningRate();
             this.learningRateModifier = (float) ((initialLearningRate - config.minLearningRate()) / (endIndex - startIndex));
@@ -144,41 +146,32 @@ public class Node2VecModel {
         }
 
         private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
-
-            float affinity = positive
-                ? centerEmbedding.innerProduct(contextEmbedding)
-                : -centerEmbedding.innerProduct(contextEmbedding);
-
+            float[] centerEmbedding = centerEmbeddings.rowPage(center);
+            int centerOffset = centerEmbeddings.rowOffset(center);
+            float[] contextEmbedding = contextEmbeddings.rowPage(context);
+            int contextOffset = contextEmbeddings.rowOffset(context);
+            int embeddingSize = centerGradientBuffer.length;
+
+            float innerProduct = 0;
+            for (int i = 0; i < embeddingSize; i++) {
+                innerProduct += centerEmbedding[centerOffset + i] * contextEmbedding[contextOffset + i];
+            }
+            float affinity = positive ? innerProduct : -innerProduct;
 
             float scalar = (float) (positive
                             ? 1 / (Math.exp(affinity) + 1)
                             : -1 / (Math.exp(affinity) + 1));
+            float gradientScale = scalar * learningRate;
 
-            centerGradientBuffer.scalarMultiply(contextEmbedding, scalar * learningRate);
-            contextGradientBuffer.scalarMultiply(centerEmbedding, scalar * learningRate);
-
-            centerEmbedding.addMutable(centerGradientBuffer);
-            contextEmbedding.addMutable(contextGradientBuffer);
-        }
-    }
-
-    static class FloatConsumer {
-        float[] values;
-        int index;
-
-        FloatConsumer(int length) {
-            this.values = new float[length];
-        }
-
-        void add(double value) {
-            values[index++] = (float) value;
-        }
+            for (int i = 0; i < embeddingSize; i++) {
+                centerGradientBuffer[i] = contextEmbedding[contextOffset + i] * gradientScale;
+                contextGradientBuffer[i] = centerEmbedding[centerOffset + i] * gradientScale;
+            }
 
-        void addAll(FloatConsumer other) {
-            System.arraycopy(other.values, 0, values, index, other.index);
-            index += other.index;
+            for (int i = 0; i < embeddingSize; i++) {
+                centerEmbedding[centerOffset + i] += centerGradientBuffer[i];
+                contextEmbedding[contextOffset + i] += contextGradientBuffer[i];
+            }
         }
     }
 }
@@ -30,7 +30,7 @@ import org.neo4j.graphalgo.core.utils.ArrayUtil;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.graphalgo.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.graphalgo.result.AbstractResultBuilder;
 import org.neo4j.logging.Log;
@@ -46,7 +46,7 @@ import static java.lang.Math.multiplyExact;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 import static org.neo4j.procedure.Mode.WRITE;
 
-public class Node2VecWriteProc extends WriteProc<Node2Vec, HugeObjectArray<Vector>, Node2VecWriteProc.WriteResult, Node2VecWriteConfig> {
+public class Node2VecWriteProc extends WriteProc<Node2Vec, HugeFloatMatrix, Node2VecWriteProc.WriteResult, Node2VecWriteConfig> {
 
     @Procedure(value = "gds.alpha.node2vec.write", mode = WRITE)
     @Description(Node2VecStreamProc.NODE2VEC_DESCRIPTION)
@@ -54,7 +54,7 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, HugeObjectArray<Vecto
         @Name(value = "graphName") Object graphNameOrConfig,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
-        ComputationResult<Node2Vec, HugeObjectArray<Vector>, Node2VecWriteConfig> computationResult = compute(
+        ComputationResult<Node2Vec, HugeFloatMatrix, Node2VecWriteConfig> computationResult = compute(
             graphNameOrConfig,
             configuration
         );
@@ -112,12 +112,12 @@ public class Node2VecWriteProc extends WriteProc<Node2Vec, HugeObjectArray<Vecto
     }
 
     @Override
-    protected NodeProperties nodeProperties(ComputationResult<Node2Vec, HugeObjectArray<Vector>, Node2VecWriteConfig> computationResult) {
-        return (DoubleArrayNodeProperties) (nodeId) -> ArrayUtil.floatToDoubleArray(computationResult.result().get(nodeId).data());
+    protected NodeProperties nodeProperties(ComputationResult<Node2Vec, HugeFloatMatrix, Node2VecWriteConfig> computationResult) {
+        return (DoubleArrayNodeProperties) (nodeId) -> ArrayUtil.floatToDoubleArray(computationResult.result().copyRow(nodeId));
     }
 
     @Override
-    protected AbstractResultBuilder<WriteResult> resultBuilder(ComputationResult<Node2Vec, HugeObjectArray<Vector>, Node2VecWriteConfig> computeResult) {
+    protected AbstractResultBuilder<WriteResult> resultBuilder(ComputationResult<Node2Vec, HugeFloatMatrix, Node2VecWriteConfig> computeResult) {
         return new WriteResult.Builder();
     }
 
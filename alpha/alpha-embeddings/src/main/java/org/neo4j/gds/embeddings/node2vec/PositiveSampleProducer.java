@@ -21,21 +21,20 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
-import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
 
 public class PositiveSampleProducer {
 
-    private final HugeObjectArray<long[]> walks;
+    private final CompactRandomWalks walks;
     private final HugeDoubleArray centerNodeProbabilities;
     private final long batchEnd;
     private final int prefixWindowSize;
     private final int postfixWindowSize;
-    private long[] currentWalk;
+    private final long[] currentWalk;
+    private int currentWalkLength;
     private long currentCenterWord;
     private long walkIndex;
     private final ProgressLogger progressLogger;
@@ -43,7 +42,7 @@ public class PositiveSampleProducer {
     private int contextWordIndex;
 
     public PositiveSampleProducer(
-        HugeObjectArray<long[]> walks,
+        CompactRandomWalks walks,
         HugeDoubleArray centerNodeProbabilities,
         long batchStart,
         long batchEnd,
@@ -54,6 +53,7 @@ public class PositiveSampleProducer {
         this.batchEnd = batchEnd;
         this.progressLogger = progressLogger;
         this.centerNodeProbabilities = centerNodeProbabilities;
+        this.currentWalk = new long[walks.maxWalkLength()];
 
         prefixWindowSize = (int) ceilDiv(windowSize - 1, 2);
         postfixWindowSize = (windowSize - 1) / 2;
@@ -85,19 +85,19 @@ public class PositiveSampleProducer {
         if (walkIndex >= walks.size()) {
             return;
         }
-        long[] walk = filter(walks.get(walkIndex));
+        int walkLength = filteredWalk(walkIndex);
 
-        while (walkIndex <= batchEnd && walk.length < 2) {
+        while (walkIndex <= batchEnd && walkLength < 2) {
             walkIndex++;
             if (walkIndex < walks.size()) {
-                walk = filter(walks.get(walkIndex));
+                walkLength = filteredWalk(walkIndex);
             }
             progressLogger.logProgress();
         }
 
         if (hasNext()) {
             progressLogger.logProgress();
-            this.currentWalk = walk;
+            this.currentWalkLength = walkLength;
             centerWordIndex = -1;
             nextCenterWord();
         }
@@ -106,7 +106,7 @@ public class PositiveSampleProducer {
     private void nextCenterWord() {
         centerWordIndex++;
 
-        if (centerWordIndex < currentWalk.length) {
+        if (centerWordIndex < currentWalkLength) {
             currentCenterWord = currentWalk[centerWordIndex];
             contextWordIndex = Math.max(0, centerWordIndex - prefixWindowSize) - 1;
             nextContextWord();
@@ -121,13 +121,23 @@ public class PositiveSampleProducer {
             contextWordIndex++;
         }
 
-        if (contextWordIndex >= Math.min(centerWordIndex + postfixWindowSize + 1, currentWalk.length)) {
+        if (contextWordIndex >= Math.min(centerWordIndex + postfixWindowSize + 1, currentWalkLength)) {
             nextCenterWord();
         }
     }
 
-    private long[] filter(long[] walk) {
-        return Arrays.stream(walk).filter(this::shouldPickNode).toArray();
+    /**
+     * Reads the walk into {@code currentWalk}, keeping only the picked nodes, and returns the number of kept nodes.
+     */
+    private int filteredWalk(long walkIndex) {
+        int length = walks.copyWalk(walkIndex, currentWalk);
+        int filteredLength = 0;
+        for (int i = 0; i < length; i++) {
+            if (shouldPickNode(currentWalk[i])) {
+                currentWalk[filteredLength++] = currentWalk[i];
+            }
+        }
+        return filteredLength;
     }
 
     private boolean shouldPickNode(long nodeId) {
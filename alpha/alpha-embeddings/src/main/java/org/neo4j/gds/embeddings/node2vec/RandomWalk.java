@@ -74,8 +74,9 @@ public class RandomWalk extends Algorithm<RandomWalk, Stream<long[]>> {
             var stop = Math.min(start + batchSize, graph.nodeCount());
             tasks.add(
                 () -> {
+                    var threadLocalStrategy = strategy.concurrentCopy();
                     for (var j = start; j < stop; j++) {
-                        doWalk(j).forEach(walk -> put(walks, walk));
+                        doWalk(j, threadLocalStrategy).forEach(walk -> put(walks, walk));
                     }
                 }
             );
@@ -96,7 +97,7 @@ public class RandomWalk extends Algorithm<RandomWalk, Stream<long[]>> {
     @Override
     public void release() { }
 
-    private Stream<long[]> doWalk(long startNodeId) {
+    private Stream<long[]> doWalk(long startNodeId, NextNodeStrategy strategy) {
         return IntStream.range(0, walksPerNode).mapToObj(ignored -> {
             long[] nodeIds = new long[steps + 1];
             long currentNodeId = startNodeId;
@@ -127,129 +128,169 @@ public class RandomWalk extends Algorithm<RandomWalk, Stream<long[]>> {
         } catch (InterruptedException e) {}
     }
 
+    /**
+     * Picks the next node of a second order random walk.
+     * <p>
+     * The walk moves to a uniformly chosen neighbour which is accepted with a probability
+     * proportional to its bias: {@code 1 / returnParam} for the previous node, {@code 1} for
+     * nodes adjacent to the previous node and {@code 1 / inOutParam} for all other nodes.
+     * Most candidates are accepted or rejected without checking adjacency to the previous node.
+     * If too many candidates are rejected, the next node is drawn from the exact distribution
+     * in a single pass over the neighbours.
+     * <p>
+     * Instances reuse their graph cursors and consumers and must not be shared between threads,
+     * use {@link #concurrentCopy()} to create a strategy per thread.
+     */
     public static class NextNodeStrategy {
+
+        static final int MAX_REJECTIONS = 16;
+
         private final Graph graph;
+        private final Graph lookupGraph;
         private final double returnParam;
         private final double inOutParam;
 
+        private final double returnProbability;
+        private final double inOutProbability;
+        private final double maxProbability;
+        private final double minNonReturnProbability;
+        private final double maxNonReturnProbability;
+
+        private final NeighbourAtIndex neighbourAtIndex;
+        private final AdjacencyCheck adjacencyCheck;
+        private final WeightedNeighbourSampler weightedNeighbourSampler;
 
         public NextNodeStrategy(Graph graph, double returnParam, double inOutParam) {
             this.graph = graph;
+            this.lookupGraph = graph.concurrentCopy();
             this.returnParam = returnParam;
             this.inOutParam = inOutParam;
+
+            this.returnProbability = 1D / returnParam;
+            this.inOutProbability = 1D / inOutParam;
+            this.minNonReturnProbability = Math.min(1D, inOutProbability);
+            this.maxNonReturnProbability = Math.max(1D, inOutProbability);
+            this.maxProbability = Math.max(returnProbability, maxNonReturnProbability);
+
+            this.neighbourAtIndex = new NeighbourAtIndex();
+            this.adjacencyCheck = new AdjacencyCheck();
+            this.weightedNeighbourSampler = new WeightedNeighbourSampler();
         }
 
-        public long getNextNode(long currentNode, long previousNode) {
-            Graph threadLocalGraph = graph.concurrentCopy();
+        public NextNodeStrategy concurrentCopy() {
+            return new NextNodeStrategy(graph.concurrentCopy(), returnParam, inOutParam);
+        }
 
-            int degree = threadLocalGraph.degree(currentNode);
+        public long getNextNode(long currentNode, long previousNode) {
+            int degree = graph.degree(currentNode);
             if (degree == 0) {
                 return -1;
             }
 
-            double[] distribution = buildProbabilityDistribution(
-                threadLocalGraph,
-                currentNode,
-                previousNode,
-                returnParam,
-                inOutParam,
-                degree
-            );
-            int neighbourIndex = pickIndexFromDistribution(distribution, ThreadLocalRandom.current().nextDouble());
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < MAX_REJECTIONS; i++) {
+                long candidate = neighbourAtIndex.find(currentNode, random.nextInt(degree));
+                double threshold = random.nextDouble() * maxProbability;
+                if (accept(candidate, previousNode, threshold)) {
+                    return candidate;
+                }
+            }
 
-            return threadLocalGraph.getTarget(currentNode, neighbourIndex);
+            return weightedNeighbourSampler.sample(currentNode, previousNode, random);
         }
 
-        private double[] buildProbabilityDistribution(
-            Graph threadLocalGraph,
-            long currentNodeId,
-            long previousNodeId,
-            double returnParam,
-            double inOutParam,
-            int degree
-        ) {
-            ProbabilityDistributionComputer consumer = new ProbabilityDistributionComputer(
-                threadLocalGraph.concurrentCopy(),
-                degree,
-                currentNodeId,
-                previousNodeId,
-                returnParam,
-                inOutParam
-            );
-            threadLocalGraph.forEachRelationship(currentNodeId, consumer);
-            return consumer.probabilities();
+        private boolean accept(long candidate, long previousNode, double threshold) {
+            if (candidate == previousNode) {
+                return threshold < returnProbability;
+            }
+            if (threshold < minNonReturnProbability) {
+                return true;
+            }
+            if (threshold >= maxNonReturnProbability) {
+                return false;
+            }
+            return threshold < nonReturnProbability(candidate, previousNode);
         }
 
-        private static double[] normalizeDistribution(double[] array, double sum) {
-            for (int i = 0; i < array.length; i++) {
-                array[i] /= sum;
-            }
-            return array;
+        private double transitionProbability(long candidate, long previousNode) {
+            return candidate == previousNode
+                ? returnProbability
+                : nonReturnProbability(candidate, previousNode);
+        }
+
+        private double nonReturnProbability(long candidate, long previousNode) {
+            // distance to the previous node is either 1 or 2
+            return adjacencyCheck.exists(previousNode, candidate) ? 1D : inOutProbability;
         }
 
-        private static int pickIndexFromDistribution(double[] normalizedDistribution, double randomThreshold) {
-            double cumulativeProbability = 0.0;
-            for (int i = 0; i < normalizedDistribution.length; i++) {
-                cumulativeProbability += normalizedDistribution[i];
-                if (randomThreshold <= cumulativeProbability) {
-                    return i;
+        private final class NeighbourAtIndex implements RelationshipConsumer {
+            private int remaining;
+            private long target;
+
+            long find(long nodeId, int index) {
+                remaining = index;
+                target = -1;
+                graph.forEachRelationship(nodeId, this);
+                return target;
+            }
+
+            @Override
+            public boolean accept(long source, long target) {
+                if (remaining-- == 0) {
+                    this.target = target;
+                    return false;
                 }
+                return true;
             }
-            return normalizedDistribution.length - 1;
         }
 
-        private class ProbabilityDistributionComputer implements RelationshipConsumer {
-            private final Graph threadLocalGraph;
-            final double[] probabilities;
-            private final long currentNodeId;
-            private final long previousNodeId;
-            private final double returnParam;
-            private final double inOutParam;
-            double probSum;
-            int index;
-
-            public ProbabilityDistributionComputer(
-                Graph threadLocalGraph,
-                int degree,
-                long currentNodeId,
-                long previousNodeId,
-                double returnParam,
-                double inOutParam
-            ) {
-                this.threadLocalGraph = threadLocalGraph;
-                this.currentNodeId = currentNodeId;
-                this.previousNodeId = previousNodeId;
-                this.returnParam = returnParam;
-                this.inOutParam = inOutParam;
-                probabilities = new double[degree];
-                probSum = 0;
-                index = 0;
+        private final class AdjacencyCheck implements RelationshipConsumer {
+            private long expectedTarget;
+            private boolean found;
+
+            boolean exists(long source, long target) {
+                expectedTarget = target;
+                found = false;
+                lookupGraph.forEachRelationship(source, this);
+                return found;
             }
 
             @Override
-            public boolean accept(long start, long end) {
-                long neighbourId = start == currentNodeId ? end : start;
-
-                double probability;
-
-                if (neighbourId == previousNodeId) {
-                    // node is previous node
-                    probability = 1D / returnParam;
-                } else if (threadLocalGraph.exists(previousNodeId, neighbourId)) {
-                    // node is also adjacent to previous node --> distance to previous node is 1
-                    probability = 1D;
-                } else {
-                    // node is not adjacent to previous node --> distance to previous node is 2
-                    probability = 1D / inOutParam;
+            public boolean accept(long source, long target) {
+                if (target == expectedTarget) {
+                    found = true;
+                    return false;
                 }
-                probabilities[index] = probability;
-                probSum += probability;
-                index++;
                 return true;
             }
+        }
+
+        /**
+         * Weighted reservoir sampling with a reservoir of size one.
+         */
+        private final class WeightedNeighbourSampler implements RelationshipConsumer {
+            private long previousNode;
+            private ThreadLocalRandom random;
+            private double probabilitySum;
+            private long selected;
+
+            long sample(long currentNode, long previousNode, ThreadLocalRandom random) {
+                this.previousNode = previousNode;
+                this.random = random;
+                this.probabilitySum = 0;
+                this.selected = -1;
+                graph.forEachRelationship(currentNode, this);
+                return selected;
+            }
 
-            private double[] probabilities() {
-                return normalizeDistribution(probabilities, probSum);
+            @Override
+            public boolean accept(long source, long target) {
+                double probability = transitionProbability(target, previousNode);
+                probabilitySum += probability;
+                if (random.nextDouble() * probabilitySum < probability) {
+                    selected = target;
+                }
+                return true;
             }
         }
     }
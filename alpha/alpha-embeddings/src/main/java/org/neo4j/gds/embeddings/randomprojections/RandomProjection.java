@@ -22,15 +22,17 @@ package org.neo4j.gds.embeddings.randomprojections;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
-import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
-import org.neo4j.graphalgo.utils.CloseableThreadLocal;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -39,14 +41,16 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 public class RandomProjection extends Algorithm<RandomProjection, RandomProjection> {
 
+    private static final long PROPAGATION_CHUNK_SIZE = 1024;
+
     private final Graph graph;
     private final int concurrency;
     private final boolean normalizeL2;
     private final float normalizationStrength;
-    private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
-    private final EmbeddingCombiner embeddingCombiner;
+    private final HugeFloatMatrix embeddings;
+    private final HugeFloatMatrix embeddingA;
+    private final HugeFloatMatrix embeddingB;
+    private final boolean weighted;
 
     private final int embeddingSize;
     private final int sparsity;
@@ -56,9 +60,9 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
     static MemoryEstimation memoryEstimation(RandomProjectionBaseConfig config) {
         return MemoryEstimations
             .builder(RandomProjection.class)
-            .add("embeddings", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingSize())))
-            .add("embeddingA", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingSize())))
-            .add("embeddingB", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingSize())))
+            .add("embeddings", HugeFloatMatrix.memoryEstimation(config.embeddingSize()))
+            .add("embeddingA", HugeFloatMatrix.memoryEstimation(config.embeddingSize()))
+            .add("embeddingB", HugeFloatMatrix.memoryEstimation(config.embeddingSize()))
             .build();
     }
 
@@ -71,21 +75,18 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         this.graph = graph;
         this.progressLogger = progressLogger;
 
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-
         this.embeddingSize = config.embeddingSize();
+        this.embeddings = HugeFloatMatrix.newMatrix(graph.nodeCount(), embeddingSize, tracker);
+        this.embeddingA = HugeFloatMatrix.newMatrix(graph.nodeCount(), embeddingSize, tracker);
+        this.embeddingB = HugeFloatMatrix.newMatrix(graph.nodeCount(), embeddingSize, tracker);
+
         this.sparsity = config.sparsity();
         this.iterations = config.iterations();
         this.iterationWeights = config.iterationWeights();
         this.normalizationStrength = config.normalizationStrength();
         this.normalizeL2 = config.normalizeL2();
         this.concurrency = config.concurrency();
-        this.embeddingCombiner = graph.hasRelationshipProperty()
-            ? this::addArrayValuesWeighted
-            : (lhs, rhs, ignoreWeight) -> addArrayValues(lhs, rhs);
-        this.embeddings.setAll((i) -> new float[embeddingSize]);
+        this.weighted = graph.hasRelationshipProperty();
     }
 
     @Override
@@ -97,12 +98,12 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         return me();
     }
 
-    public HugeObjectArray<float[]> embeddings() {
+    public HugeFloatMatrix embeddings() {
         return this.embeddings;
     }
 
     @TestOnly
-    HugeObjectArray<float[]> currentEmbedding(int iteration) {
+    HugeFloatMatrix currentEmbedding(int iteration) {
         return iteration % 2 == 0
             ? this.embeddingA
             : this.embeddingB;
@@ -133,61 +134,57 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
                 : (float) Math.pow(degree, normalizationStrength);
 
             float entryValue = scaling * sqrtSparsity / sqrtEmbeddingSize;
-            float[] randomVector = computeRandomVector(random.get(), probability, entryValue);
-            embeddingB.set(nodeId, randomVector);
-            embeddingA.set(nodeId, new float[this.embeddingSize]);
+            computeRandomVector(random.get(), probability, entryValue, embeddingB.rowPage(nodeId), embeddingB.rowOffset(nodeId));
             progressLogger.logProgress();
         });
         progressLogger.logMessage("Initialising Random Vectors :: Finished");
     }
 
+    /**
+     * Every iteration computes the product of the sparse adjacency matrix and the dense embedding matrix
+     * of the previous iteration. Nodes are processed in chunks of consecutive ids by a fixed set of tasks,
+     * which are reused across all iterations, so an iteration streams once over the adjacency lists and
+     * both embedding matrices.
+     */
     void propagateEmbeddings() {
+        List<PropagationTask> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(new PropagationTask(graph.concurrentCopy()));
+        }
+
         for (int i = 0; i < iterations; i++) {
             progressLogger.reset(graph.relationshipCount());
             progressLogger.logMessage(formatWithLocale("Iteration %s :: Start", i + 1));
 
-            var localCurrent = i % 2 == 0 ? embeddingA : embeddingB;
-            var localPrevious = i % 2 == 0 ? embeddingB : embeddingA;
-            double iterationWeight = iterationWeights.get(i);
-
-            try (var concurrentGraphCopy = CloseableThreadLocal.withInitial(graph::concurrentCopy)) {
-                ParallelUtil.parallelForEachNode(graph, concurrency, nodeId -> {
-                    float[] embedding = embeddings.get(nodeId);
-                    float[] currentEmbedding = localCurrent.get(nodeId);
-                    Arrays.fill(currentEmbedding, 0.0f);
-
-                    // Collect and combine the neighbour embeddings
-                    concurrentGraphCopy.get().forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
-                        embeddingCombiner.combine(currentEmbedding, localPrevious.get(target), weight);
-                        return true;
-                    });
-
-                    // Normalize neighbour embeddings
-                    var degree = graph.degree(nodeId);
-                    int adjustedDegree = degree == 0 ? 1 : degree;
-                    double degreeScale = 1.0f / adjustedDegree;
-                    multiplyArrayValues(currentEmbedding, degreeScale);
-                    if (normalizeL2) {
-                        l2Normalize(currentEmbedding);
-                    }
-
-                    // Update the result embedding
-                    updateEmbeddings(iterationWeight, embedding, currentEmbedding);
-
-                    progressLogger.logProgress(degree);
-                });
+            var current = i % 2 == 0 ? embeddingA : embeddingB;
+            var previous = i % 2 == 0 ? embeddingB : embeddingA;
+            float iterationWeight = iterationWeights.get(i).floatValue();
+            for (PropagationTask task : tasks) {
+                task.init(current, previous, iterationWeight);
             }
 
+            ParallelUtil.runWithDynamicChunks(
+                graph.nodeCount(),
+                PROPAGATION_CHUNK_SIZE,
+                tasks,
+                terminationFlag,
+                Pools.DEFAULT
+            );
+
             progressLogger.logMessage(formatWithLocale("Iteration %s :: Finished", i + 1));
         }
     }
 
-    private float[] computeRandomVector(Random random, double probability, float entryValue) {
-        float[] randomVector = new float[embeddingSize];
+    private void computeRandomVector(
+        Random random,
+        double probability,
+        float entryValue,
+        float[] randomVector,
+        int offset
+    ) {
         for (int i = 0; i < embeddingSize; i++) {
-            randomVector[i] = computeRandomEntry(random, probability, entryValue);
+            randomVector[offset + i] = computeRandomEntry(random, probability, entryValue);
         }
-        return randomVector;
     }
 
     private float computeRandomEntry(Random random, double probability, float entryValue) {
@@ -202,40 +199,45 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         }
     }
 
-    private void updateEmbeddings(double weight, float[] embedding, float[] newEmbedding) {
-        for (int i = 0; i < embedding.length; i++) {
-            embedding[i] += weight * newEmbedding[i];
+    private void updateEmbeddings(
+        float weight,
+        float[] embedding,
+        int embeddingOffset,
+        float[] newEmbedding,
+        int newEmbeddingOffset
+    ) {
+        for (int i = 0; i < embeddingSize; i++) {
+            embedding[embeddingOffset + i] += weight * newEmbedding[newEmbeddingOffset + i];
         }
     }
 
-    private void addArrayValues(float[] lhs, float[] rhs) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] += rhs[i];
+    private void addArrayValues(float[] lhs, int lhsOffset, float[] rhs, int rhsOffset) {
+        for (int i = 0; i < embeddingSize; i++) {
+            lhs[lhsOffset + i] += rhs[rhsOffset + i];
         }
     }
 
-    private void addArrayValuesWeighted(float[] lhs, float[] rhs, double weight) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
+    private void addArrayValuesWeighted(float[] lhs, int lhsOffset, float[] rhs, int rhsOffset, float weight) {
+        for (int i = 0; i < embeddingSize; i++) {
+            lhs[lhsOffset + i] += weight * rhs[rhsOffset + i];
         }
     }
 
-    private void multiplyArrayValues(float[] lhs, double scalar) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] *= scalar;
+    private void multiplyArrayValues(float[] lhs, int offset, float scalar) {
+        for (int i = 0; i < embeddingSize; i++) {
+            lhs[offset + i] *= scalar;
         }
     }
 
-    private void l2Normalize(float[] array) {
+    private void l2Normalize(float[] array, int offset) {
         double sum = 0.0f;
-        for (double value : array) {
+        for (int i = 0; i < embeddingSize; i++) {
+            double value = array[offset + i];
             sum += value * value;
         }
         double sqrtSum = sum == 0 ? 1 : Math.sqrt(sum);
-        double scaling = 1 / sqrtSum;
-        for (int i = 0; i < array.length; i++) {
-            array[i] *= scaling;
-        }
+        float scaling = (float) (1 / sqrtSum);
+        multiplyArrayValues(array, offset, scaling);
     }
 
     private static class HighQualityRandom extends Random {
@@ -274,7 +276,69 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         }
     }
 
-    private interface EmbeddingCombiner {
-        void combine(float[] into, float[] add, double weight);
+    private final class PropagationTask implements BiLongConsumer, RelationshipWithPropertyConsumer {
+
+        private final Graph graph;
+        private HugeFloatMatrix current;
+        private HugeFloatMatrix previous;
+        private float iterationWeight;
+
+        private float[] currentPage;
+        private int currentOffset;
+
+        PropagationTask(Graph graph) {
+            this.graph = graph;
+        }
+
+        void init(HugeFloatMatrix current, HugeFloatMatrix previous, float iterationWeight) {
+            this.current = current;
+            this.previous = previous;
+            this.iterationWeight = iterationWeight;
+        }
+
+        @Override
+        public void apply(long start, long end) {
+            long relationshipCount = 0L;
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                currentPage = current.rowPage(nodeId);
+                currentOffset = current.rowOffset(nodeId);
+                Arrays.fill(currentPage, currentOffset, currentOffset + embeddingSize, 0.0f);
+
+                // Collect and combine the neighbour embeddings
+                graph.forEachRelationship(nodeId, 1.0, this);
+
+                // Normalize neighbour embeddings
+                int degree = graph.degree(nodeId);
+                int adjustedDegree = degree == 0 ? 1 : degree;
+                multiplyArrayValues(currentPage, currentOffset, 1.0f / adjustedDegree);
+                if (normalizeL2) {
+                    l2Normalize(currentPage, currentOffset);
+                }
+
+                // Update the result embedding
+                updateEmbeddings(
+                    iterationWeight,
+                    embeddings.rowPage(nodeId),
+                    embeddings.rowOffset(nodeId),
+                    currentPage,
+                    currentOffset
+                );
+
+                relationshipCount += degree;
+            }
+            progressLogger.logProgress(relationshipCount);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double weight) {
+            float[] previousPage = previous.rowPage(targetNodeId);
+            int previousOffset = previous.rowOffset(targetNodeId);
+            if (weighted) {
+                addArrayValuesWeighted(currentPage, currentOffset, previousPage, previousOffset, (float) weight);
+            } else {
+                addArrayValues(currentPage, currentOffset, previousPage, previousOffset);
+            }
+            return true;
+        }
     }
 }
@@ -30,6 +30,6 @@ final class RandomProjectionCompanion {
     private RandomProjectionCompanion() {}
 
     static <CONFIG extends RandomProjectionBaseConfig> NodeProperties getNodeProperties(AlgoBaseProc.ComputationResult<RandomProjection, RandomProjection, CONFIG> computationResult) {
-        return (FloatArrayNodeProperties) nodeId -> computationResult.result().embeddings().get(nodeId);
+        return (FloatArrayNodeProperties) nodeId -> computationResult.result().embeddings().copyRow(nodeId);
     }
 }
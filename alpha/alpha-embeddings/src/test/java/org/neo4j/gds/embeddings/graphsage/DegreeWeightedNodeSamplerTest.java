@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@GdlExtension
+class DegreeWeightedNodeSamplerTest {
+
+    @GdlGraph
+    private static final String GRAPH =
+        "(a)-[]->(b), (a)-[]->(c), (b)-[]->(c), (d)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldSampleProportionalToSmoothedDegree() {
+        var sampler = new DegreeWeightedNodeSampler(graph, AllocationTracker.empty());
+        var random = new Random(42L);
+
+        int sampleCount = 100_000;
+        long[] counts = new long[Math.toIntExact(graph.nodeCount())];
+        for (int i = 0; i < sampleCount; i++) {
+            counts[Math.toIntExact(sampler.sample(random))]++;
+        }
+
+        double weightA = Math.pow(2, DegreeWeightedNodeSampler.DEGREE_SMOOTHING_FACTOR);
+        double weightB = 1.0;
+        double expectedA = weightA / (weightA + weightB);
+
+        assertEquals(expectedA, counts[idOf("a")] / (double) sampleCount, 0.01);
+        assertEquals(1 - expectedA, counts[idOf("b")] / (double) sampleCount, 0.01);
+        // nodes without outgoing relationships are never sampled
+        assertEquals(0, counts[idOf("c")]);
+        assertEquals(0, counts[idOf("d")]);
+    }
+
+    private int idOf(String variable) {
+        return Math.toIntExact(graph.toMappedNodeId(variable));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactRandomWalksTest {
+
+    @Test
+    void shouldStoreWalksOfDifferentLength() {
+        var walks = CompactRandomWalks.of(
+            new long[]{0, 1, 2},
+            new long[]{3},
+            new long[]{4, 2, 4, 2}
+        );
+
+        assertEquals(3, walks.size());
+        assertEquals(4, walks.maxWalkLength());
+        assertEquals(8, walks.totalLength());
+
+        var buffer = new long[walks.maxWalkLength()];
+        assertArrayEquals(new long[]{0, 1, 2}, Arrays.copyOf(buffer, walks.copyWalk(0, buffer)));
+        assertArrayEquals(new long[]{3}, Arrays.copyOf(buffer, walks.copyWalk(1, buffer)));
+        assertArrayEquals(new long[]{4, 2, 4, 2}, Arrays.copyOf(buffer, walks.copyWalk(2, buffer)));
+
+        assertEquals(3, walks.nodeAt(3));
+        assertEquals(2, walks.nodeAt(7));
+    }
+
+    @Test
+    void shouldFailForTooManyNodes() {
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> CompactRandomWalks.of(Integer.MAX_VALUE + 1L, 1, 1, AllocationTracker.empty())
+        );
+        assertTrue(exception.getMessage().contains("at most 2147483647 nodes"));
+    }
+}
@@ -21,7 +21,6 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.Map;
 import java.util.function.Function;
@@ -34,7 +33,7 @@ class NegativeSampleProducerTest {
 
     @Test
     void shouldProduceSamplesAccordingToNodeDistribution() {
-        var walks = HugeObjectArray.of(
+        var walks = CompactRandomWalks.of(
             new long[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
             new long[]{1}
         );
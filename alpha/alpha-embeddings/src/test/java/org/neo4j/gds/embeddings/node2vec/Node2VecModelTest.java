@@ -19,12 +19,10 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
-import org.apache.commons.lang3.mutable.MutableLong;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.core.utils.Intersections;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.Random;
 import java.util.stream.LongStream;
@@ -41,10 +39,10 @@ class Node2VecModelTest {
         int numberOfWalks = 10;
         int walkLength = 80;
 
-        MutableLong counter = new MutableLong(0);
-        var walks = HugeObjectArray.newArray(
-            long[].class,
+        var walks = CompactRandomWalks.of(
+            numberOfClusters * clusterSize,
             numberOfClusters * clusterSize * numberOfWalks,
+            walkLength,
             AllocationTracker.empty()
         );
         LongStream.range(0, numberOfClusters)
@@ -60,7 +58,7 @@ class Node2VecModelTest {
                                     .toArray()
                             )
                     )
-            ).forEach(walk -> walks.set(counter.getAndIncrement(), walk));
+            ).forEach(walks::add);
 
 
         Node2VecStreamConfig config = ImmutableNode2VecStreamConfig.builder()
@@ -89,11 +87,10 @@ class Node2VecModelTest {
                     .flatMap(nodeId ->
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
-                                var e1 = word2Vec.getEmbeddings().get(nodeId).data();
+                                var e1 = word2Vec.getEmbeddings().copyRow(nodeId);
                                 var e2 = word2Vec
                                     .getEmbeddings()
-                                    .get(random.nextInt(clusterSize) + (clusterId * clusterSize))
-                                    .data();
+                                    .copyRow(random.nextInt(clusterSize) + (clusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
@@ -116,11 +113,10 @@ class Node2VecModelTest {
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
                                 long otherClusterId = (clusterId + random.nextInt(numberOfClusters - 1) + 1) % numberOfClusters;
-                                var e1 = word2Vec.getEmbeddings().get(nodeId).data();
+                                var e1 = word2Vec.getEmbeddings().copyRow(nodeId);
                                 var e2 = word2Vec
                                     .getEmbeddings()
-                                    .get(random.nextInt(clusterSize) + (otherClusterId * clusterSize))
-                                    .data();
+                                    .copyRow(random.nextInt(clusterSize) + (otherClusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
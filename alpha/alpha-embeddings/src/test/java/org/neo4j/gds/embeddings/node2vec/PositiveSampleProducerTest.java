@@ -26,7 +26,6 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -54,7 +53,7 @@ class PositiveSampleProducerTest {
     void doesNotCauseStackOverflow() {
         // enough walks to potentially trigger StackOverflow
         int nbrOfWalks = 5000;
-        HugeObjectArray<long[]> walks = HugeObjectArray.of(LongStream
+        CompactRandomWalks walks = CompactRandomWalks.of(LongStream
             .range(0, nbrOfWalks)
             .mapToObj((l1) -> new long[]{l1})
             .collect(Collectors.toList())
@@ -86,7 +85,7 @@ class PositiveSampleProducerTest {
     void doesNotCauseStackOverflowDueToBadLuck() {
         // enough walks to potentially trigger StackOverflow
         int nbrOfWalks = 5000;
-        HugeObjectArray<long[]> walks = HugeObjectArray.of(LongStream
+        CompactRandomWalks walks = CompactRandomWalks.of(LongStream
             .range(0, nbrOfWalks)
             .mapToObj((l1) -> new long[]{l1, (l1 + 1) % nbrOfWalks})
             .collect(Collectors.toList())
@@ -118,7 +117,7 @@ class PositiveSampleProducerTest {
     @Test
     void doesNotAttemptToFetchOutsideBatch() {
         int nbrOfWalks = 100;
-        HugeObjectArray<long[]> walks = HugeObjectArray.of(LongStream
+        CompactRandomWalks walks = CompactRandomWalks.of(LongStream
             .range(0, nbrOfWalks)
             .mapToObj((l1) -> new long[]{l1, (l1 + 1) % nbrOfWalks, (l1 + 2) % nbrOfWalks})
             .collect(Collectors.toList())
@@ -148,7 +147,7 @@ class PositiveSampleProducerTest {
     void shouldProducePairsWith(
         String name,
         int windowSize,
-        HugeObjectArray<long[]> walks,
+        CompactRandomWalks walks,
         List<Pair<Long, Long>> expectedPairs
     ) {
         Collection<Pair<Long, Long>> actualPairs = new ArrayList<>();
@@ -171,7 +170,7 @@ class PositiveSampleProducerTest {
 
     @Test
     void shouldProducePairsWithBounds() {
-        HugeObjectArray<long[]> walks = HugeObjectArray.of(
+        CompactRandomWalks walks = CompactRandomWalks.of(
             new long[]{0, 1, 2},
             new long[]{3, 4, 5},
             new long[]{3, 4, 5},
@@ -210,7 +209,7 @@ class PositiveSampleProducerTest {
 
     @Test
     void shouldRemoveDownsampledWordFromWalk() {
-        HugeObjectArray<long[]> walks = HugeObjectArray.of(
+        CompactRandomWalks walks = CompactRandomWalks.of(
             new long[]{0, 1},       // 1 is downsampled, and the walk is then too short and will be ignored
             new long[]{0, 1, 2},    // 1 is downsampled, the remaining walk is (0,2)
             new long[]{3, 4, 5, 6}, // 5 is downsampled, the remaining walk is (3,4,6)
@@ -264,7 +263,7 @@ class PositiveSampleProducerTest {
             arguments(
                 "Uneven window size",
                 3,
-                HugeObjectArray.of(
+                CompactRandomWalks.of(
                     new long[]{0, 1, 2}
                 ),
                 List.of(
@@ -278,7 +277,7 @@ class PositiveSampleProducerTest {
             arguments(
                 "Even window size",
                 4,
-                HugeObjectArray.of(
+                CompactRandomWalks.of(
                     new long[]{0, 1, 2, 3}
                 ),
                 List.of(
@@ -296,7 +295,7 @@ class PositiveSampleProducerTest {
             arguments(
                 "Window size greater than walk length",
                 3,
-                HugeObjectArray.of(
+                CompactRandomWalks.of(
                     new long[]{0, 1}
                 ),
                 List.of(
@@ -308,7 +307,7 @@ class PositiveSampleProducerTest {
             arguments(
                 "Multiple walks",
                 3,
-                HugeObjectArray.of(
+                CompactRandomWalks.of(
                     new long[]{0, 1, 2},
                     new long[]{3, 4, 5}
                 ),
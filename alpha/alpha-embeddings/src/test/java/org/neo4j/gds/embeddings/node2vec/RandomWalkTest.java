@@ -72,6 +72,32 @@ class RandomWalkTest extends AlgoTestBase {
         assertEquals(expectedStepsInWalkForNode0, walkForNodeZero.length);
     }
 
+    @Test
+    void nextNodeShouldFollowTheBiasedTransitionProbabilities() {
+        runQuery("CREATE (a:Node)-[:REL]->(b:Node)-[:REL]->(a)" +
+                 ", (b)-[:REL]->(c:Node)-[:REL]->(b)" +
+                 ", (b)-[:REL]->(d:Node)-[:REL]->(b)" +
+                 ", (a)-[:REL]->(c)-[:REL]->(a)");
+
+        Graph graph = TestGraphLoader.from(db).graph(NATIVE);
+        var strategy = new RandomWalk.NextNodeStrategy(graph, 0.5, 2).concurrentCopy();
+        long a = graph.toMappedNodeId(0);
+        long b = graph.toMappedNodeId(1);
+
+        int samples = 100_000;
+        var nodeCounter = new HashMap<Long, Long>();
+        for (int i = 0; i < samples; i++) {
+            long next = strategy.getNextNode(b, a);
+            nodeCounter.merge(graph.toOriginalNodeId(next), 1L, Long::sum);
+        }
+
+        // return to (a): 1 / 0.5, (c) is adjacent to (a): 1, (d) is not adjacent to (a): 1 / 2
+        double normalizer = 2 + 1 + 0.5;
+        assertEquals(2 / normalizer, nodeCounter.get(0L) / (double) samples, 0.01);
+        assertEquals(1 / normalizer, nodeCounter.get(2L) / (double) samples, 0.01);
+        assertEquals(0.5 / normalizer, nodeCounter.get(3L) / (double) samples, 0.01);
+    }
+
     @Test
     void returnFactorShouldMakeWalksIncludeStartNodeMoreOften() {
         runQuery("CREATE (a:Node)" +
@@ -76,7 +76,7 @@ public abstract class RandomProjectionProcTest<CONFIG extends RandomProjectionBa
         RandomProjection result1, RandomProjection result2
     ) {
         // TODO: This just tests that the dimensions are the same for node 0, it's not a very good equality test
-        assertEquals(result1.embeddings().get(0).length, result1.embeddings().get(0).length);
+        assertEquals(result1.embeddings().columns(), result1.embeddings().columns());
     }
 
     private static Stream<Arguments> weights() {
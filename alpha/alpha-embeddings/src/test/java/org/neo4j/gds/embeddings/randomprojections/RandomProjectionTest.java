@@ -33,7 +33,7 @@ import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
 
 import java.util.List;
 
@@ -83,14 +83,17 @@ class RandomProjectionTest extends AlgoTestBase {
         );
 
         randomProjection.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2, AllocationTracker.empty());
-        randomProjection.currentEmbedding(-1).copyTo(randomVectors, 2);
+        HugeFloatMatrix initialVectors = randomProjection.currentEmbedding(-1);
+        float[][] randomVectors = new float[(int) initialVectors.rows()][];
+        for (int nodeId = 0; nodeId < randomVectors.length; nodeId++) {
+            randomVectors[nodeId] = initialVectors.copyRow(nodeId);
+        }
         randomProjection.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = randomProjection.embeddings();
+        HugeFloatMatrix embeddings = randomProjection.embeddings();
 
         boolean isEqual = true;
         for (int i = 0; i < 128; i++) {
-            isEqual &= embeddings.get(0)[i] == randomVectors.get(1)[i];
+            isEqual &= embeddings.get(0, i) == randomVectors[1][i];
         }
         assertTrue(isEqual);
     }
@@ -113,14 +116,17 @@ class RandomProjectionTest extends AlgoTestBase {
         );
 
         randomProjection.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3, AllocationTracker.empty());
-        randomProjection.currentEmbedding(-1).copyTo(randomVectors, 3);
+        HugeFloatMatrix initialVectors = randomProjection.currentEmbedding(-1);
+        float[][] randomVectors = new float[(int) initialVectors.rows()][];
+        for (int nodeId = 0; nodeId < randomVectors.length; nodeId++) {
+            randomVectors[nodeId] = initialVectors.copyRow(nodeId);
+        }
         randomProjection.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = randomProjection.embeddings();
+        HugeFloatMatrix embeddings = randomProjection.embeddings();
 
         boolean isEqual = true;
         for (int i = 0; i < 128; i++) {
-            isEqual &= embeddings.get(0)[i] == (randomVectors.get(1)[i] + randomVectors.get(2)[i]) / 2.0f;
+            isEqual &= embeddings.get(0, i) == (randomVectors[1][i] + randomVectors[2][i]) / 2.0f;
         }
         assertTrue(isEqual);
     }
@@ -151,15 +157,18 @@ class RandomProjectionTest extends AlgoTestBase {
         );
 
         randomProjection.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3, AllocationTracker.empty());
-        randomProjection.currentEmbedding(-1).copyTo(randomVectors, 3);
+        HugeFloatMatrix initialVectors = randomProjection.currentEmbedding(-1);
+        float[][] randomVectors = new float[(int) initialVectors.rows()][];
+        for (int nodeId = 0; nodeId < randomVectors.length; nodeId++) {
+            randomVectors[nodeId] = initialVectors.copyRow(nodeId);
+        }
         randomProjection.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = randomProjection.embeddings();
+        HugeFloatMatrix embeddings = randomProjection.embeddings();
 
         for (int i = 0; i < 2; i++) {
             assertEquals(
-                embeddings.get(0)[i],
-                (2.0 * randomVectors.get(1)[i] + 1 * randomVectors.get(2)[i]) / 2.0f,
+                embeddings.get(0, i),
+                (2.0 * randomVectors[1][i] + 1 * randomVectors[2][i]) / 2.0f,
                 0.001
             );
         }
@@ -189,9 +198,9 @@ class RandomProjectionTest extends AlgoTestBase {
         double p = 1D / 6D;
         int maxNumPositive = (int) ((p + 5D * Math.sqrt((p * (1 - p)) / 512D)) * 512D); // 1:30.000.000 chance of failing :P
         int minNumPositive = (int) ((p - 5D * Math.sqrt((p * (1 - p)) / 512D)) * 512D);
-        HugeObjectArray<float[]> randomVectors = randomProjection.currentEmbedding(-1);
+        HugeFloatMatrix randomVectors = randomProjection.currentEmbedding(-1);
         for (int i = 0; i < graph.nodeCount(); i++) {
-            float[] embedding = randomVectors.get(i);
+            float[] embedding = randomVectors.copyRow(i);
             int numZeros = 0;
             int numPositive = 0;
             for (int j = 0; j < 512; j++) {
@@ -229,15 +238,67 @@ class RandomProjectionTest extends AlgoTestBase {
         );
 
         RandomProjection computeResult = randomProjection.compute();
-        HugeObjectArray<float[]> embeddings = computeResult.embeddings();
-        for (int i = 0; i < embeddings.size(); i++) {
-            float[] embedding = embeddings.get(i);
+        HugeFloatMatrix embeddings = computeResult.embeddings();
+        for (int i = 0; i < embeddings.rows(); i++) {
+            float[] embedding = embeddings.copyRow(i);
             for (double embeddingValue : embedding) {
                 assertEquals(0.0f, embeddingValue);
             }
         }
     }
 
+    @Test
+    void shouldAverageNeighborsAcrossChunks() {
+        var graph = RandomGraphGenerator
+            .builder()
+            .nodeCount(5_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutableRandomProjectionBaseConfig
+            .builder()
+            .embeddingSize(16)
+            .addIterationWeight(1.0D)
+            .concurrency(4)
+            .build();
+
+        RandomProjection randomProjection = new RandomProjection(
+            graph,
+            config,
+            progressLogger,
+            AllocationTracker.empty()
+        );
+
+        randomProjection.initRandomVectors();
+        HugeFloatMatrix initialVectors = randomProjection.currentEmbedding(-1);
+        float[][] expected = new float[(int) graph.nodeCount()][16];
+        for (int nodeId = 0; nodeId < expected.length; nodeId++) {
+            float[] sum = expected[nodeId];
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                for (int i = 0; i < 16; i++) {
+                    sum[i] += initialVectors.get(target, i);
+                }
+                return true;
+            });
+            int degree = Math.max(1, graph.degree(nodeId));
+            for (int i = 0; i < 16; i++) {
+                sum[i] *= 1.0f / degree;
+            }
+        }
+
+        randomProjection.propagateEmbeddings();
+        HugeFloatMatrix embeddings = randomProjection.embeddings();
+
+        for (int nodeId = 0; nodeId < expected.length; nodeId++) {
+            for (int i = 0; i < 16; i++) {
+                assertEquals(expected[nodeId][i], embeddings.get(nodeId, i), 1e-6);
+            }
+        }
+    }
+
     @Test
     void testMemoryEstimationWithoutIterationWeights() {
         var config = ImmutableRandomProjectionBaseConfig
@@ -250,7 +311,7 @@ class RandomProjectionTest extends AlgoTestBase {
 
         var estimate = RandomProjection.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
         assertEquals(estimate.min, estimate.max);
-        assertEquals(158_544, estimate.min);
+        assertEquals(153_904, estimate.min);
     }
 
     @Test
@@ -265,7 +326,7 @@ class RandomProjectionTest extends AlgoTestBase {
 
         var estimate = RandomProjection.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
         assertEquals(estimate.min, estimate.max);
-        assertEquals(158544, estimate.min);
+        assertEquals(153904, estimate.min);
     }
 
     @Test
@@ -24,6 +24,7 @@ import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.AlphaAlgorithmFactory;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.impl.traverse.Traverse;
 import org.neo4j.graphalgo.impl.traverse.TraverseConfig;
 import org.neo4j.graphalgo.impl.walking.WalkPath;
@@ -82,6 +83,21 @@ public class TraverseProc extends AlgoBaseProc<Traverse, Traverse, TraverseConfi
     @Override
     protected AlgorithmFactory<Traverse, TraverseConfig> algorithmFactory() {
         return (AlphaAlgorithmFactory<Traverse, TraverseConfig>) (graph, configuration, tracker, log) -> {
+            if (configuration.parallel()) {
+                if (!isBfs) {
+                    throw new IllegalArgumentException("The `parallel` traversal is only supported for BFS.");
+                }
+                validateStartNode(configuration.startNode(), graph);
+                return Traverse.parallelBfs(
+                    graph,
+                    graph.toMappedNodeId(configuration.startNode()),
+                    configuration.maxDepth(),
+                    configuration.concurrency(),
+                    Pools.DEFAULT,
+                    tracker
+                );
+            }
+
             Traverse.ExitPredicate exitFunction;
             Traverse.Aggregator aggregatorFunction;
             // target node given; terminate if target is reached
@@ -42,6 +42,20 @@ public abstract class AbstractNodeProjection extends ElementProjection {
         return super.properties();
     }
 
+    @Value.Check
+    void checkForCompressedProperties() {
+        properties().stream()
+            .filter(PropertyMapping::compress)
+            .findFirst()
+            .ifPresent(mapping -> {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node property `%s` cannot be compressed, `%s` is only supported for relationship properties.",
+                    mapping.propertyKey(),
+                    PropertyMapping.COMPRESS_KEY
+                ));
+            });
+    }
+
     @Override
     public boolean projectAll() {
         return label().equals(PROJECT_ALL);
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo;
 import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.DataClass;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.ConfigKeyValidation;
 
@@ -50,6 +51,23 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         return Aggregation.DEFAULT;
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    public AdjacencyEncoding adjacencyEncoding() {
+        return AdjacencyEncoding.VAR_LONG;
+    }
+
+    /**
+     * Additionally store the inverse of every relationship, i.e. the incoming relationships
+     * of a {@link Orientation#NATURAL} projection and the outgoing ones of a {@link Orientation#REVERSE} projection.
+     * Undirected projections already contain both directions and ignore this option.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    public boolean indexInverse() {
+        return false;
+    }
+
     @Value.Default
     @Value.Parameter(false)
     @Override
@@ -65,6 +83,8 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     public static final String TYPE_KEY = "type";
     public static final String ORIENTATION_KEY = "orientation";
     public static final String AGGREGATION_KEY = "aggregation";
+    public static final String ADJACENCY_ENCODING_KEY = "adjacencyEncoding";
+    public static final String INDEX_INVERSE_KEY = "indexInverse";
 
     public static RelationshipProjection fromMap(Map<String, Object> map, RelationshipType relationshipType) {
         RelationshipProjection.Builder builder = RelationshipProjection.builder();
@@ -76,6 +96,19 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         if (map.containsKey(ORIENTATION_KEY)) {
             builder.orientation(Orientation.of(nonEmptyString(map, ORIENTATION_KEY)));
         }
+        if (map.containsKey(ADJACENCY_ENCODING_KEY)) {
+            builder.adjacencyEncoding(AdjacencyEncoding.of(nonEmptyString(map, ADJACENCY_ENCODING_KEY)));
+        }
+        if (map.containsKey(INDEX_INVERSE_KEY)) {
+            Object indexInverse = map.get(INDEX_INVERSE_KEY);
+            if (!(indexInverse instanceof Boolean)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected the value of '%s' to be of type Boolean, but was '%s'.",
+                    INDEX_INVERSE_KEY, indexInverse == null ? "null" : indexInverse.getClass().getSimpleName()
+                ));
+            }
+            builder.indexInverse((Boolean) indexInverse);
+        }
         if (map.containsKey(AGGREGATION_KEY)) {
             Aggregation aggregation = Aggregation.lookup(nonEmptyString(map, AGGREGATION_KEY));
             builder.aggregation(aggregation);
@@ -131,6 +164,12 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         value.put(TYPE_KEY, type());
         value.put(ORIENTATION_KEY, orientation().name());
         value.put(AGGREGATION_KEY, aggregation().name());
+        if (adjacencyEncoding() != AdjacencyEncoding.VAR_LONG) {
+            value.put(ADJACENCY_ENCODING_KEY, adjacencyEncoding().name());
+        }
+        if (indexInverse()) {
+            value.put(INDEX_INVERSE_KEY, true);
+        }
     }
 
     @Override
@@ -167,7 +206,14 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     }
 
     private static void validateConfigKeys(Map<String, Object> map) {
-        ConfigKeyValidation.requireOnlyKeysFrom(List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, PROPERTIES_KEY), map.keySet());
+        ConfigKeyValidation.requireOnlyKeysFrom(List.of(
+            TYPE_KEY,
+            ORIENTATION_KEY,
+            AGGREGATION_KEY,
+            ADJACENCY_ENCODING_KEY,
+            INDEX_INVERSE_KEY,
+            PROPERTIES_KEY
+        ), map.keySet());
     }
 
     @org.immutables.builder.Builder.AccessibleFields
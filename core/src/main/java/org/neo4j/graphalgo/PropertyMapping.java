@@ -39,6 +39,7 @@ public abstract class PropertyMapping {
 
     public static final String PROPERTY_KEY = "property";
     public static final String DEFAULT_VALUE_KEY = "defaultValue";
+    public static final String COMPRESS_KEY = "compress";
 
     /**
      * property key in the result map Graph.nodeProperties(`propertyKey`)
@@ -63,6 +64,16 @@ public abstract class PropertyMapping {
         return Aggregation.DEFAULT;
     }
 
+    /**
+     * Store the relationship property values compressed.
+     * Reduces the memory footprint for values with few significant bits, e.g. integral weights,
+     * at the cost of decoding the values when iterating relationships.
+     */
+    @Value.Default
+    public boolean compress() {
+        return false;
+    }
+
     @Value.Check
     public void validateProperties() {
         if (neoPropertyKey().equals(PROJECT_ALL) && aggregation() != Aggregation.COUNT) {
@@ -104,12 +115,22 @@ public abstract class PropertyMapping {
                 ));
             }
 
-            return PropertyMapping.of(
-                propertyKey,
-                neoPropertyKey,
-                relPropertyMap.get(DEFAULT_VALUE_KEY),
-                aggregation
-            );
+            Object compressValue = relPropertyMap.getOrDefault(COMPRESS_KEY, false);
+            if (!(compressValue instanceof Boolean)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected the value of '%s' to be of type Boolean, but was '%s'.",
+                    COMPRESS_KEY, compressValue.getClass().getSimpleName()
+                ));
+            }
+
+            return ImmutablePropertyMapping
+                .builder()
+                .propertyKey(propertyKey)
+                .neoPropertyKey(neoPropertyKey)
+                .defaultValue(DefaultValue.of(relPropertyMap.get(DEFAULT_VALUE_KEY)))
+                .aggregation(aggregation)
+                .compress((Boolean) compressValue)
+                .build();
         } else {
             throw new IllegalStateException(formatWithLocale(
                 "Expected stringOrMap to be of type String or Map, but got %s",
@@ -134,6 +155,9 @@ public abstract class PropertyMapping {
         if (includeAggregation) {
             value.put(RelationshipProjection.AGGREGATION_KEY, aggregation().name());
         }
+        if (compress()) {
+            value.put(COMPRESS_KEY, true);
+        }
         return new AbstractMap.SimpleImmutableEntry<>(propertyKey(), value);
     }
 
@@ -214,6 +238,12 @@ public abstract class PropertyMapping {
         Object defaultValue,
         Aggregation aggregation
     ) {
-        return ImmutablePropertyMapping.of(propertyKey, neoPropertyKey, DefaultValue.of(defaultValue), aggregation);
+        return ImmutablePropertyMapping.of(
+            propertyKey,
+            neoPropertyKey,
+            DefaultValue.of(defaultValue),
+            aggregation,
+            false
+        );
     }
 }
@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.loading.CSRGraphStore;
 import org.neo4j.graphalgo.core.loading.IdsAndProperties;
+import org.neo4j.graphalgo.core.loading.RelationshipsBuilder;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 
@@ -63,6 +64,8 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
 
             RelationshipProjection projection = relationshipsBuilder.projection();
 
+            var inverseBuilder = Optional.ofNullable(relationshipsBuilder.inverse());
+
             relationships.put(
                 relationshipType,
                 ImmutableTopology.of(
@@ -72,6 +75,8 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
                     projection.orientation(),
                     projection.isMultiGraph()
                 )
+                    .withInverseList(inverseBuilder.map(RelationshipsBuilder::adjacencyList))
+                    .withInverseOffsets(inverseBuilder.map(RelationshipsBuilder::globalAdjacencyOffsets))
             );
 
             PropertyMappings propertyMappings = projection.properties();
@@ -88,6 +93,8 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphCreateConfig> ext
                             projection.isMultiGraph(),
                             propertyIndexAndMapping.getTwo().defaultValue().doubleValue() // This is fine because relationships currently only support doubles
                         )
+                            .withInverseList(inverseBuilder.map(builder -> builder.properties(propertyIndexAndMapping.getOne())))
+                            .withInverseOffsets(inverseBuilder.map(builder -> builder.globalPropertyOffsets(propertyIndexAndMapping.getOne())))
                     ));
                 relationshipProperties.put(relationshipType, propertyMap);
             }
@@ -82,6 +82,16 @@ public abstract class FilterGraph implements Graph {
         return graph.degreeWithoutParallelRelationships(nodeId);
     }
 
+    @Override
+    public boolean isInverseIndexed() {
+        return graph.isInverseIndexed();
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        return graph.inverseDegree(nodeId);
+    }
+
     @Override
     public NodeMapping nodeMapping() {
         return graph.nodeMapping();
@@ -167,6 +177,20 @@ public abstract class FilterGraph implements Graph {
         graph.forEachRelationship(nodeId, fallbackValue, consumer);
     }
 
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        graph.forEachInverseRelationship(nodeId, consumer);
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        graph.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+    }
+
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
         return graph.streamRelationships(nodeId, fallbackValue);
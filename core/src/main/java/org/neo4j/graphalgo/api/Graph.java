@@ -78,6 +78,59 @@ public interface Graph extends NodeMapping, NodePropertyContainer, Degrees, Rela
 
     boolean hasRelationshipProperty();
 
+    /**
+     * Whether the inverse relationships of every node can be iterated,
+     * see {@link #forEachInverseRelationship(long, RelationshipConsumer)}.
+     * Undirected graphs are their own inverse and always support this.
+     */
+    default boolean isInverseIndexed() {
+        return isUndirected();
+    }
+
+    /**
+     * The number of relationships that end in the given node,
+     * i.e. the in-degree of a {@link org.neo4j.graphalgo.Orientation#NATURAL} graph.
+     *
+     * @throws UnsupportedOperationException if the graph is not {@link #isInverseIndexed() inverse indexed}
+     */
+    default int inverseDegree(long nodeId) {
+        requireInverseIndex();
+        return degree(nodeId);
+    }
+
+    /**
+     * Calls the given consumer function for every relationship that ends in the given node.
+     * The given node is passed as the first argument, the node the relationship starts at as the second one.
+     *
+     * @throws UnsupportedOperationException if the graph is not {@link #isInverseIndexed() inverse indexed}
+     */
+    default void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        requireInverseIndex();
+        forEachRelationship(nodeId, consumer);
+    }
+
+    /**
+     * Calls the given consumer function for every relationship that ends in the given node,
+     * passing the property value of the relationship or the fallback value if no properties were loaded.
+     *
+     * @throws UnsupportedOperationException if the graph is not {@link #isInverseIndexed() inverse indexed}
+     */
+    default void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        requireInverseIndex();
+        forEachRelationship(nodeId, fallbackValue, consumer);
+    }
+
+    private void requireInverseIndex() {
+        if (!isUndirected()) {
+            throw new UnsupportedOperationException(
+                "Inverse relationships are only available for undirected graphs or relationships projected with `indexInverse`.");
+        }
+    }
+
     void canRelease(boolean canRelease);
 
     default RelationshipIntersect intersection() {
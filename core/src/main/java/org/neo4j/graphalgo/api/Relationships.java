@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.api;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.annotation.ValueClass;
@@ -74,6 +75,16 @@ public interface Relationships {
         Orientation orientation();
 
         boolean isMultiGraph();
+
+        /**
+         * The adjacency list of the inverse relationships, indexed by the target node.
+         * Only present if the relationships were projected with {@code indexInverse}.
+         */
+        @Value.Parameter(false)
+        Optional<AdjacencyList> inverseList();
+
+        @Value.Parameter(false)
+        Optional<AdjacencyOffsets> inverseOffsets();
     }
 
     @ValueClass
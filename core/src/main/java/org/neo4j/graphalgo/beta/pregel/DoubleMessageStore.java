@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeArrays;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * A primitive store for double messages that are exchanged between supersteps.
+ * <p>
+ * During a superstep, every compute step appends its messages to its own
+ * send buffer, which holds messages in paged primitive arrays.
+ * At the superstep barrier, {@link #deliverMessages()} buckets all buffered
+ * messages by target into a compressed sparse row (CSR) layout: a single
+ * {@link HugeDoubleArray} contains all messages and an offset array marks
+ * the first message of each node.
+ * <p>
+ * In synchronous mode, the send buffers store the target of every message.
+ * In asynchronous mode, every message is additionally linked into a chain per
+ * target node, which the target drains when it is computed. This makes messages
+ * sent earlier in the same superstep readable immediately. Messages that are
+ * still chained at the barrier are sent to a node after it has been computed,
+ * only those are bucketed into the CSR layout and received in the next superstep.
+ * <p>
+ * Buffer pages and the message array are reused across supersteps,
+ * no objects are allocated for individual messages.
+ */
+abstract class DoubleMessageStore implements Messenger {
+
+    static final int SEND_BUFFER_PAGE_SHIFT = 12;
+    static final int SEND_BUFFER_PAGE_SIZE = 1 << SEND_BUFFER_PAGE_SHIFT;
+    private static final int SEND_BUFFER_PAGE_MASK = SEND_BUFFER_PAGE_SIZE - 1;
+
+    final long nodeCount;
+    final int concurrency;
+    private final ExecutorService executor;
+    private final AllocationTracker tracker;
+
+    // The messages of node i are stored in messages[offsets[i], offsets[i + 1]).
+    final HugeLongArray offsets;
+    // Counts messages per target and is used as insert position while bucketing.
+    final HugeAtomicLongArray cursors;
+
+    HugeDoubleArray messages;
+
+    static DoubleMessageStore of(
+        long nodeCount,
+        int concurrency,
+        boolean isAsynchronous,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        return isAsynchronous
+            ? new Async(nodeCount, concurrency, executor, tracker)
+            : new Sync(nodeCount, concurrency, executor, tracker);
+    }
+
+    static MemoryEstimation memoryEstimation(boolean isAsynchronous) {
+        var bufferClass = isAsynchronous ? ChainBuffer.class : SendBuffer.class;
+        var builder = MemoryEstimations.builder(isAsynchronous ? Async.class : Sync.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("cursors", HugeAtomicLongArray::memoryEstimation);
+        if (isAsynchronous) {
+            builder.perNode("heads", HugeAtomicLongArray::memoryEstimation);
+        }
+        return builder
+            .perGraphDimension("messages", (dimensions, concurrency) -> MemoryRange.of(
+                HugeDoubleArray.memoryEstimation(dimensions.maxRelCount()),
+                HugeDoubleArray.memoryEstimation(HugeArrays.oversize(dimensions.maxRelCount(), Double.BYTES))
+            ))
+            .perGraphDimension("send buffers", (dimensions, concurrency) ->
+                MemoryRange.of(sendBufferMemoryEstimation(bufferClass, dimensions.maxRelCount(), concurrency))
+            )
+            .build();
+    }
+
+    /**
+     * Send buffers hold a long and a double page per {@link #SEND_BUFFER_PAGE_SIZE} messages.
+     * Only the last page of each buffer may be partially filled, so the page count is bounded
+     * independent of how the messages are distributed over the buffers.
+     */
+    static long sendBufferMemoryEstimation(Class<?> bufferClass, long messageCount, int concurrency) {
+        long pageCount = (messageCount >>> SEND_BUFFER_PAGE_SHIFT) + concurrency;
+        int pagesPerBuffer = Math.toIntExact(concurrency == 0 ? 0 : (pageCount + concurrency - 1) / concurrency);
+        return concurrency * (MemoryUsage.sizeOfInstance(bufferClass) + 2 * MemoryUsage.sizeOfObjectArray(pagesPerBuffer))
+               + pageCount * MemoryUsage.sizeOfLongArray(SEND_BUFFER_PAGE_SIZE)
+               + pageCount * MemoryUsage.sizeOfDoubleArray(SEND_BUFFER_PAGE_SIZE);
+    }
+
+    DoubleMessageStore(long nodeCount, int concurrency, ExecutorService executor, AllocationTracker tracker) {
+        this.nodeCount = nodeCount;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.tracker = tracker;
+        this.offsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        this.cursors = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        this.messages = HugeDoubleArray.newArray(0, tracker);
+    }
+
+    long messageCount(long nodeId) {
+        return offsets.get(nodeId + 1) - offsets.get(nodeId);
+    }
+
+    @Override
+    public void release() {
+        offsets.release();
+        cursors.release();
+        messages.release();
+    }
+
+    <T> void forEachParallel(List<T> elements, Consumer<T> action) {
+        var tasks = elements
+            .stream()
+            .map(element -> (Runnable) () -> action.accept(element))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+    }
+
+    void forEachNodeParallel(LongConsumer action) {
+        forEachParallel(PartitionUtils.rangePartition(concurrency, nodeCount), partition -> {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                action.accept(nodeId);
+            }
+        });
+    }
+
+    /**
+     * Turns the message counts per node into offsets using a two-pass parallel prefix sum.
+     * Afterwards, the cursors point to the first free slot for each node and the message
+     * array is large enough to hold all messages.
+     */
+    void computeOffsets() {
+        List<Partition> partitions = PartitionUtils.rangePartition(concurrency, nodeCount);
+        long[] partitionOffsets = new long[partitions.size() + 1];
+
+        var countTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partition = partitions.get(i);
+            var partitionIndex = i;
+            countTasks.add(() -> {
+                long sum = 0L;
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    sum += cursors.get(nodeId);
+                }
+                partitionOffsets[partitionIndex + 1] = sum;
+            });
+        }
+        ParallelUtil.runWithConcurrency(concurrency, countTasks, executor);
+
+        for (int i = 1; i < partitionOffsets.length; i++) {
+            partitionOffsets[i] += partitionOffsets[i - 1];
+        }
+
+        var offsetTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partition = partitions.get(i);
+            var partitionOffset = partitionOffsets[i];
+            offsetTasks.add(() -> {
+                long offset = partitionOffset;
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    long count = cursors.get(nodeId);
+                    offsets.set(nodeId, offset);
+                    cursors.set(nodeId, offset);
+                    offset += count;
+                }
+            });
+        }
+        ParallelUtil.runWithConcurrency(concurrency, offsetTasks, executor);
+
+        long messageCount = partitionOffsets[partitions.size()];
+        offsets.set(nodeCount, messageCount);
+        ensureCapacity(messageCount);
+    }
+
+    private void ensureCapacity(long messageCount) {
+        if (messages.size() < messageCount) {
+            long newCapacity = HugeArrays.oversize(messageCount, Double.BYTES);
+            tracker.remove(messages.release());
+            messages = HugeDoubleArray.newArray(newCapacity, tracker);
+        }
+    }
+
+    static final class Sync extends DoubleMessageStore {
+
+        private final List<SendBuffer> sendBuffers;
+
+        Sync(long nodeCount, int concurrency, ExecutorService executor, AllocationTracker tracker) {
+            super(nodeCount, concurrency, executor, tracker);
+            this.sendBuffers = new ArrayList<>();
+        }
+
+        @Override
+        public SendBuffer newSender() {
+            var sendBuffer = new SendBuffer();
+            sendBuffers.add(sendBuffer);
+            return sendBuffer;
+        }
+
+        /**
+         * Moves all messages from the send buffers into the message store.
+         * Messages that have been delivered in a previous call are dropped.
+         */
+        @Override
+        public void deliverMessages() {
+            cursors.setAll(0L);
+            forEachParallel(sendBuffers, sendBuffer -> sendBuffer.countMessages(cursors));
+
+            computeOffsets();
+
+            forEachParallel(sendBuffers, sendBuffer -> sendBuffer.scatterMessages(cursors, messages));
+            sendBuffers.forEach(SendBuffer::reset);
+        }
+
+        @Override
+        public void initMessageIterator(Pregel.MessageIterator iterator, long nodeId) {
+            iterator.init(messages, offsets.get(nodeId), offsets.get(nodeId + 1));
+        }
+
+        @Override
+        public void release() {
+            super.release();
+            sendBuffers.forEach(SendBuffer::release);
+        }
+    }
+
+    /**
+     * The chain of a node starts at its entry in {@code heads} and links every message
+     * to the message that was previously sent to the same node. A message is addressed
+     * by the index of its send buffer and its position within that buffer.
+     * Senders push messages with a compare-and-set on the head, a node detaches its
+     * whole chain when it is computed, so every message is received once.
+     */
+    static final class Async extends DoubleMessageStore {
+
+        private static final long EMPTY = -1L;
+        private static final int BUFFER_INDEX_SHIFT = 40;
+        private static final long POSITION_MASK = (1L << BUFFER_INDEX_SHIFT) - 1;
+
+        private final HugeAtomicLongArray heads;
+        private final List<ChainBuffer> chainBuffers;
+
+        Async(long nodeCount, int concurrency, ExecutorService executor, AllocationTracker tracker) {
+            super(nodeCount, concurrency, executor, tracker);
+            this.heads = HugeAtomicLongArray.newArray(nodeCount, tracker);
+            this.heads.setAll(EMPTY);
+            this.chainBuffers = new ArrayList<>();
+        }
+
+        @Override
+        public Sender newSender() {
+            var chainBuffer = new ChainBuffer(heads, (long) chainBuffers.size() << BUFFER_INDEX_SHIFT);
+            chainBuffers.add(chainBuffer);
+            return chainBuffer;
+        }
+
+        /**
+         * Moves all messages that are still chained into the message store.
+         * Messages of the message store have been received during the finished superstep.
+         */
+        @Override
+        public void deliverMessages() {
+            forEachNodeParallel(nodeId -> {
+                long count = 0L;
+                for (long address = heads.get(nodeId); address != EMPTY; address = next(address)) {
+                    count++;
+                }
+                cursors.set(nodeId, count);
+            });
+
+            computeOffsets();
+
+            forEachNodeParallel(nodeId -> {
+                long offset = cursors.get(nodeId);
+                for (long address = heads.get(nodeId); address != EMPTY; address = next(address)) {
+                    messages.set(offset++, value(address));
+                }
+                heads.set(nodeId, EMPTY);
+            });
+            chainBuffers.forEach(ChainBuffer::reset);
+        }
+
+        /**
+         * Receives the messages that have been delivered at the previous barrier
+         * and all messages that have been sent to the node in the current superstep.
+         */
+        @Override
+        public void initMessageIterator(Pregel.MessageIterator iterator, long nodeId) {
+            iterator.initBuffered();
+
+            long end = offsets.get(nodeId + 1);
+            for (long offset = offsets.get(nodeId); offset < end; offset++) {
+                iterator.add(messages.get(offset));
+            }
+
+            long address = heads.get(nodeId);
+            while (address != EMPTY && !heads.compareAndSet(nodeId, address, EMPTY)) {
+                address = heads.get(nodeId);
+            }
+            for (; address != EMPTY; address = next(address)) {
+                iterator.add(value(address));
+            }
+        }
+
+        @Override
+        public void release() {
+            super.release();
+            heads.release();
+            chainBuffers.forEach(ChainBuffer::release);
+        }
+
+        private double value(long address) {
+            long position = address & POSITION_MASK;
+            return chainBuffers.get((int) (address >>> BUFFER_INDEX_SHIFT)).valuePages
+                [(int) (position >>> SEND_BUFFER_PAGE_SHIFT)]
+                [(int) (position & SEND_BUFFER_PAGE_MASK)];
+        }
+
+        private long next(long address) {
+            long position = address & POSITION_MASK;
+            return chainBuffers.get((int) (address >>> BUFFER_INDEX_SHIFT)).nextPages
+                [(int) (position >>> SEND_BUFFER_PAGE_SHIFT)]
+                [(int) (position & SEND_BUFFER_PAGE_MASK)];
+        }
+    }
+
+    /**
+     * Thread-local buffer for outgoing messages.
+     * Targets and values are appended to pages of fixed size,
+     * which are retained when the buffer is reset.
+     */
+    static final class SendBuffer implements Messenger.Sender {
+
+        private long[][] targetPages;
+        private double[][] valuePages;
+        private long size;
+
+        private SendBuffer() {
+            this.targetPages = new long[0][];
+            this.valuePages = new double[0][];
+            this.size = 0L;
+        }
+
+        @Override
+        public void sendTo(long target, double value) {
+            int pageIndex = (int) (size >>> SEND_BUFFER_PAGE_SHIFT);
+            int indexInPage = (int) (size & SEND_BUFFER_PAGE_MASK);
+            if (pageIndex == targetPages.length) {
+                grow();
+            }
+            targetPages[pageIndex][indexInPage] = target;
+            valuePages[pageIndex][indexInPage] = value;
+            size++;
+        }
+
+        long size() {
+            return size;
+        }
+
+        private void countMessages(HugeAtomicLongArray counts) {
+            long remaining = size;
+            for (int pageIndex = 0; remaining > 0; pageIndex++) {
+                long[] targets = targetPages[pageIndex];
+                int length = (int) Math.min(remaining, SEND_BUFFER_PAGE_SIZE);
+                for (int i = 0; i < length; i++) {
+                    counts.getAndAdd(targets[i], 1L);
+                }
+                remaining -= length;
+            }
+        }
+
+        private void scatterMessages(HugeAtomicLongArray cursors, HugeDoubleArray messages) {
+            long remaining = size;
+            for (int pageIndex = 0; remaining > 0; pageIndex++) {
+                long[] targets = targetPages[pageIndex];
+                double[] values = valuePages[pageIndex];
+                int length = (int) Math.min(remaining, SEND_BUFFER_PAGE_SIZE);
+                for (int i = 0; i < length; i++) {
+                    messages.set(cursors.getAndAdd(targets[i], 1L), values[i]);
+                }
+                remaining -= length;
+            }
+        }
+
+        private void reset() {
+            size = 0L;
+        }
+
+        private void release() {
+            targetPages = null;
+            valuePages = null;
+            size = 0L;
+        }
+
+        private void grow() {
+            int pageCount = targetPages.length;
+            targetPages = Arrays.copyOf(targetPages, pageCount + 1);
+            valuePages = Arrays.copyOf(valuePages, pageCount + 1);
+            targetPages[pageCount] = new long[SEND_BUFFER_PAGE_SIZE];
+            valuePages[pageCount] = new double[SEND_BUFFER_PAGE_SIZE];
+        }
+    }
+
+    /**
+     * Thread-local buffer for outgoing messages of asynchronous computations.
+     * Values and links to the previous message of the same target are appended
+     * to pages of fixed size, which are retained when the buffer is reset.
+     * <p>
+     * Pages are read by other compute steps while the buffer grows. The page arrays
+     * are replaced as a whole and published via volatile writes, so a reader that
+     * follows a chain always sees a page array that contains the linked message.
+     */
+    static final class ChainBuffer implements Messenger.Sender {
+
+        private final HugeAtomicLongArray heads;
+        private final long addressPrefix;
+
+        private volatile long[][] nextPages;
+        private volatile double[][] valuePages;
+        private long size;
+
+        private ChainBuffer(HugeAtomicLongArray heads, long addressPrefix) {
+            this.heads = heads;
+            this.addressPrefix = addressPrefix;
+            this.nextPages = new long[0][];
+            this.valuePages = new double[0][];
+            this.size = 0L;
+        }
+
+        @Override
+        public void sendTo(long target, double value) {
+            int pageIndex = (int) (size >>> SEND_BUFFER_PAGE_SHIFT);
+            int indexInPage = (int) (size & SEND_BUFFER_PAGE_MASK);
+            if (pageIndex == nextPages.length) {
+                grow();
+            }
+            long[] nextPage = nextPages[pageIndex];
+            valuePages[pageIndex][indexInPage] = value;
+
+            long address = addressPrefix | size;
+            long head;
+            do {
+                head = heads.get(target);
+                nextPage[indexInPage] = head;
+            } while (!heads.compareAndSet(target, head, address));
+            size++;
+        }
+
+        long size() {
+            return size;
+        }
+
+        private void reset() {
+            size = 0L;
+        }
+
+        private void release() {
+            nextPages = null;
+            valuePages = null;
+            size = 0L;
+        }
+
+        private void grow() {
+            int pageCount = nextPages.length;
+            var newNextPages = Arrays.copyOf(nextPages, pageCount + 1);
+            var newValuePages = Arrays.copyOf(valuePages, pageCount + 1);
+            newNextPages[pageCount] = new long[SEND_BUFFER_PAGE_SIZE];
+            newValuePages[pageCount] = new double[SEND_BUFFER_PAGE_SIZE];
+            nextPages = newNextPages;
+            valuePages = newValuePages;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+/**
+ * Transports messages between nodes of a Pregel computation.
+ */
+interface Messenger {
+
+    /**
+     * Creates a sender that is used by a single compute step.
+     * Senders must not be created while a superstep is running.
+     */
+    Sender newSender();
+
+    /**
+     * Called at the superstep barrier. Afterwards, all messages sent
+     * in the finished superstep are readable via {@link #initMessageIterator}.
+     */
+    void deliverMessages();
+
+    /**
+     * Initializes the iterator with the messages received by the given node.
+     */
+    void initMessageIterator(Pregel.MessageIterator iterator, long nodeId);
+
+    void release();
+
+    @FunctionalInterface
+    interface Sender {
+        void sendTo(long targetNodeId, double message);
+    }
+}
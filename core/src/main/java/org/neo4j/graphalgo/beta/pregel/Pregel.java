@@ -20,11 +20,10 @@
 package org.neo4j.graphalgo.beta.pregel;
 
 import com.carrotsearch.hppc.BitSet;
+import org.apache.lucene.util.ArrayUtil;
 import org.immutables.builder.Builder;
 import org.immutables.value.Value;
-import org.jctools.queues.MpscLinkedQueue;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.DefaultValue;
 import org.neo4j.graphalgo.api.Degrees;
@@ -43,12 +42,12 @@ import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.PrimitiveIterator;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -59,9 +58,6 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
 
-    // Marks the end of messages from the previous iteration in synchronous mode.
-    private static final Double TERMINATION_SYMBOL = Double.NaN;
-
     private final CONFIG config;
 
     private final PregelComputation<CONFIG> computation;
@@ -70,7 +66,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
     private final CompositeNodeValue nodeValues;
 
-    private final HugeObjectArray<MpscLinkedQueue<Double>> messageQueues;
+    private final Messenger messenger;
 
     private final int concurrency;
     private final ExecutorService executor;
@@ -99,6 +95,18 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public static MemoryEstimation memoryEstimation(NodeSchema nodeSchema) {
+        return memoryEstimation(nodeSchema, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(NodeSchema nodeSchema, boolean isReducing) {
+        return memoryEstimation(nodeSchema, isReducing, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        NodeSchema nodeSchema,
+        boolean isReducing,
+        boolean isAsynchronous
+    ) {
         return MemoryEstimations.builder(Pregel.class)
             .perNode("receiver bits", MemoryUsage::sizeOfBitset)
             .perNode("vote bits", MemoryUsage::sizeOfBitset)
@@ -107,16 +115,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 .build()
             )
             .add(
-                "message queues",
-                MemoryEstimations.setup("", (dimensions, concurrency) ->
-                    MemoryEstimations.builder()
-                        .fixed(HugeObjectArray.class.getSimpleName(), MemoryUsage.sizeOfInstance(HugeObjectArray.class))
-                        .perNode("node queue", MemoryEstimations.builder(MpscLinkedQueue.class)
-                            .fixed("messages", dimensions.averageDegree() * Double.BYTES)
-                            .build()
-                        )
-                        .build()
-                )
+                "messenger",
+                messengerMemoryEstimation(isReducing, isAsynchronous)
             )
             .add(
                 "composite node value",
@@ -156,6 +156,13 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static MemoryEstimation messengerMemoryEstimation(boolean isReducing, boolean isAsynchronous) {
+        if (isReducing) {
+            return ReducingMessenger.memoryEstimation(isAsynchronous);
+        }
+        return DoubleMessageStore.memoryEstimation(isAsynchronous);
+    }
+
     private Pregel(
             final Graph graph,
             final CONFIG config,
@@ -170,7 +177,20 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.concurrency = config.concurrency();
         this.executor = executor;
 
-        this.messageQueues = initLinkedQueues(graph, tracker);
+        this.messenger = computation.reducer()
+            .map(reducer -> (Messenger) ReducingMessenger.of(
+                graph.nodeCount(),
+                reducer,
+                config.isAsynchronous(),
+                tracker
+            ))
+            .orElseGet(() -> DoubleMessageStore.of(
+                graph.nodeCount(),
+                concurrency,
+                config.isAsynchronous(),
+                executor,
+                tracker
+            ));
     }
 
     public PregelResult run() {
@@ -192,7 +212,10 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 computeStep.init(iteration, receiverBits, voteBits);
             }
 
-            runComputeSteps(computeSteps, iteration, receiverBits);
+            ParallelUtil.runWithConcurrency(concurrency, computeSteps, executor);
+            // Synchronization barrier:
+            // Make messages sent in this iteration available for the next one.
+            messenger.deliverMessages();
 
             if (iteration > 0) {
                 receiverBits.clear();
@@ -213,11 +236,16 @@ public final class Pregel<CONFIG extends PregelConfig> {
     }
 
     public void release() {
-        messageQueues.release();
+        messenger.release();
     }
 
     private List<ComputeStep<CONFIG>> createComputeSteps() {
-        List<Partition> partitions = PartitionUtils.rangePartition(concurrency, graph.nodeCount());
+        long batchSize = ParallelUtil.adjustedBatchSize(
+            graph.relationshipCount(),
+            concurrency,
+            ParallelUtil.DEFAULT_BATCH_SIZE
+        );
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, batchSize);
 
         List<ComputeStep<CONFIG>> computeSteps = new ArrayList<>(concurrency);
 
@@ -229,7 +257,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 0,
                 partition,
                 nodeValues,
-                messageQueues,
+                messenger,
                 graph
             ));
         }
@@ -244,54 +272,10 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 }));
     }
 
-    private void runComputeSteps(
-        Collection<ComputeStep<CONFIG>> computeSteps,
-        final int iteration,
-        BitSet messageBits
-    ) {
-
-        if (!config.isAsynchronous()) {
-            // Synchronization barrier:
-            // Add termination flag to message queues that
-            // received messages in the previous iteration.
-            if (iteration > 0) {
-                ParallelUtil.parallelStreamConsume(
-                        LongStream.range(0, graph.nodeCount()),
-                        concurrency,
-                        nodeIds -> nodeIds.forEach(nodeId -> {
-                            if (messageBits.get(nodeId)) {
-                                messageQueues.get(nodeId).add(TERMINATION_SYMBOL);
-                            }
-                        }));
-            }
-        }
-
-        ParallelUtil.runWithConcurrency(concurrency, computeSteps, executor);
-    }
-
-    @SuppressWarnings({"unchecked"})
-    private HugeObjectArray<MpscLinkedQueue<Double>> initLinkedQueues(Graph graph, AllocationTracker tracker) {
-        // sad java 😞
-        Class<MpscLinkedQueue<Double>> queueClass = (Class<MpscLinkedQueue<Double>>) new MpscLinkedQueue<Double>().getClass();
-
-        HugeObjectArray<MpscLinkedQueue<Double>> messageQueues = HugeObjectArray.newArray(
-                queueClass,
-                graph.nodeCount(),
-                tracker);
-
-        ParallelUtil.parallelStreamConsume(
-                LongStream.range(0, graph.nodeCount()),
-                concurrency,
-                nodeIds -> nodeIds.forEach(nodeId -> messageQueues.set(nodeId, new MpscLinkedQueue<Double>())));
-
-        return messageQueues;
-    }
-
     public static final class ComputeStep<CONFIG extends PregelConfig> implements Runnable {
 
         private final long nodeCount;
         private final long relationshipCount;
-        private final boolean isAsync;
         private final PregelComputation<CONFIG> computation;
         private final PregelContext.InitContext<CONFIG> initContext;
         private final PregelContext.ComputeContext<CONFIG> computeContext;
@@ -299,8 +283,10 @@ public final class Pregel<CONFIG extends PregelConfig> {
         private final Partition nodeBatch;
         private final Degrees degrees;
         private final CompositeNodeValue nodeValues;
-        private final HugeObjectArray<? extends Queue<Double>> messageQueues;
+        private final Messenger messenger;
+        private final Messenger.Sender sender;
         private final RelationshipIterator relationshipIterator;
+        private final boolean isAsync;
 
         private int iteration;
         private BitSet receiverBits;
@@ -313,20 +299,21 @@ public final class Pregel<CONFIG extends PregelConfig> {
             int iteration,
             Partition nodeBatch,
             CompositeNodeValue nodeValues,
-            HugeObjectArray<? extends Queue<Double>> messageQueues,
+            Messenger messenger,
             RelationshipIterator relationshipIterator
         ) {
             this.iteration = iteration;
             this.nodeCount = graph.nodeCount();
             this.relationshipCount = graph.relationshipCount();
-            this.isAsync = config.isAsynchronous();
             this.computation = computation;
             this.senderBits = new BitSet(nodeCount);
             this.nodeBatch = nodeBatch;
             this.degrees = graph;
             this.nodeValues = nodeValues;
-            this.messageQueues = messageQueues;
+            this.messenger = messenger;
+            this.sender = messenger.newSender();
             this.relationshipIterator = relationshipIterator.concurrentCopy();
+            this.isAsync = config.isAsynchronous();
             this.computeContext = PregelContext.computeContext(this, config);
             this.initContext = PregelContext.initContext(this, config, graph);
         }
@@ -343,9 +330,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
         @Override
         public void run() {
-            var messageIterator = isAsync
-                ? new MessageIterator.Async()
-                : new MessageIterator.Sync();
+            var messageIterator = new MessageIterator();
             var messages = new Messages(messageIterator);
 
             long batchStart = nodeBatch.startNode();
@@ -362,7 +347,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                     voteBits.clear(nodeId);
                     computeContext.setNodeId(nodeId);
 
-                    messageIterator.init(receiveMessages(nodeId));
+                    receiveMessages(nodeId, messageIterator);
                     computation.compute(computeContext, messages);
                 }
             }
@@ -400,20 +385,25 @@ public final class Pregel<CONFIG extends PregelConfig> {
         }
 
         void sendTo(long targetNodeId, double message) {
-            messageQueues.get(targetNodeId).add(message);
+            sender.sendTo(targetNodeId, message);
             senderBits.set(targetNodeId);
         }
 
         void sendToNeighborsWeighted(long sourceNodeId, double message) {
             relationshipIterator.forEachRelationship(sourceNodeId, 1.0, (source, target, weight) -> {
-                messageQueues.get(target).add(computation.applyRelationshipWeight(message, weight));
+                sender.sendTo(target, computation.applyRelationshipWeight(message, weight));
                 senderBits.set(target);
                 return true;
             });
         }
 
-        private @Nullable Queue<Double> receiveMessages(long nodeId) {
-            return receiverBits.get(nodeId) ? messageQueues.get(nodeId) : null;
+        private void receiveMessages(long nodeId, MessageIterator messageIterator) {
+            // In async mode, messages sent earlier in this superstep are received as well
+            if (isAsync || receiverBits.get(nodeId)) {
+                messenger.initMessageIterator(messageIterator, nodeId);
+            } else {
+                messageIterator.initEmpty();
+            }
         }
 
         double doubleNodeValue(String key, long nodeId) {
@@ -591,46 +581,74 @@ public final class Pregel<CONFIG extends PregelConfig> {
             this.iterator = iterator;
         }
 
+        /**
+         * Returns an iterator over the messages received by the current node.
+         * Use {@link PrimitiveIterator.OfDouble#nextDouble()} to read messages
+         * without boxing them.
+         */
         @NotNull
         @Override
-        public Iterator<Double> iterator() {
+        public PrimitiveIterator.OfDouble iterator() {
             return iterator;
         }
     }
 
-    abstract static class MessageIterator implements Iterator<Double> {
+    static final class MessageIterator implements PrimitiveIterator.OfDouble {
 
-        Queue<Double> queue;
+        private HugeDoubleArray messages;
+        // holds reduced and buffered messages, messages == null indicates that it is used
+        private double[] buffer = new double[1];
+        private long position;
+        private long end;
 
-        @Nullable Double next;
+        void init(HugeDoubleArray messages, long start, long end) {
+            this.messages = messages;
+            this.position = start;
+            this.end = end;
+        }
 
-        @Override
-        public @Nullable Double next() {
-            return next;
+        void init(double reducedMessage) {
+            this.messages = null;
+            this.buffer[0] = reducedMessage;
+            this.position = 0L;
+            this.end = 1L;
         }
 
-        void init(@Nullable Queue<Double> queue) {
-            this.queue = queue;
+        /**
+         * Prepares the iterator to return the messages
+         * that are subsequently added via {@link #add(double)}.
+         */
+        void initBuffered() {
+            this.messages = null;
+            this.position = 0L;
+            this.end = 0L;
         }
 
-        static class Sync extends MessageIterator {
-            @Override
-            public boolean hasNext() {
-                if (queue == null) {
-                    return false;
-                }
-                return !Double.isNaN(next = queue.poll());
+        void add(double message) {
+            int length = (int) end;
+            if (buffer.length == length) {
+                buffer = Arrays.copyOf(buffer, ArrayUtil.oversize(length + 1, Double.BYTES));
             }
+            buffer[length] = message;
+            end++;
         }
 
-        static class Async extends MessageIterator {
-            @Override
-            public boolean hasNext() {
-                if (queue == null) {
-                    return false;
-                }
-                return (next = queue.poll()) != null;
+        void initEmpty() {
+            this.position = 0L;
+            this.end = 0L;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (messages == null) {
+                return buffer[(int) position++];
             }
+            return messages.get(position++);
         }
     }
 
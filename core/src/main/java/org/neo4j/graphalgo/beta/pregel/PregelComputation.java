@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
+import java.util.Optional;
+
 /**
  * Main interface to express user-defined logic using the
  * Pregel framework. An algorithm is expressed using a
@@ -85,4 +87,25 @@ public interface PregelComputation<C extends PregelConfig> {
     default double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
         return nodeValue;
     }
+
+    /**
+     * A reducer is used to combine messages that are sent to a single node.
+     * Instead of storing every message, messages are folded into a single
+     * value per node when they are sent. The compute method then receives
+     * at most one message, which is the result of the reduction.
+     * <br>
+     * If no reducer is defined, all messages are stored individually.
+     * <br>
+     * Example:
+     * <pre>
+     * public Optional&lt;Reducer&gt; reducer() {
+     *      return Optional.of(new Reducer.Sum());
+     * }
+     * </pre>
+     *
+     * @see org.neo4j.graphalgo.beta.pregel.Reducer
+     */
+    default Optional<Reducer> reducer() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
+
+/**
+ * A messenger that folds all messages sent to a node into a single
+ * value using a {@link Reducer}. Message memory is linear in the
+ * number of nodes, independent of the number of messages.
+ * <p>
+ * In synchronous mode, messages are reduced into a send array which is
+ * swapped with the receive array at the superstep barrier. In asynchronous
+ * mode, a single array is used and a node consumes its reduced message when
+ * it is computed, which includes messages sent in the current superstep.
+ * A consumed slot is marked as empty, so every message is received once.
+ */
+abstract class ReducingMessenger implements Messenger {
+
+    final Reducer reducer;
+
+    static ReducingMessenger of(
+        long nodeCount,
+        Reducer reducer,
+        boolean isAsynchronous,
+        AllocationTracker tracker
+    ) {
+        return isAsynchronous
+            ? new Async(nodeCount, reducer, tracker)
+            : new Sync(nodeCount, reducer, tracker);
+    }
+
+    static MemoryEstimation memoryEstimation(boolean isAsynchronous) {
+        if (isAsynchronous) {
+            return MemoryEstimations.builder(Async.class)
+                .perNode("messages", HugeAtomicDoubleArray::memoryEstimation)
+                .build();
+        }
+        return MemoryEstimations.builder(Sync.class)
+            .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    ReducingMessenger(Reducer reducer) {
+        this.reducer = reducer;
+    }
+
+    @Override
+    public Sender newSender() {
+        return this::sendTo;
+    }
+
+    abstract void sendTo(long targetNodeId, double message);
+
+    static HugeAtomicDoubleArray newMessageArray(long nodeCount, Reducer reducer, AllocationTracker tracker) {
+        var messages = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
+        messages.setAll(reducer.identity());
+        return messages;
+    }
+
+    static void reduce(HugeAtomicDoubleArray messages, Reducer reducer, long targetNodeId, double message) {
+        double current = messages.get(targetNodeId);
+        while (!messages.compareAndSet(targetNodeId, current, reducer.reduce(current, message))) {
+            current = messages.get(targetNodeId);
+        }
+    }
+
+    static final class Sync extends ReducingMessenger {
+
+        private HugeAtomicDoubleArray sendArray;
+        private HugeAtomicDoubleArray receiveArray;
+
+        Sync(long nodeCount, Reducer reducer, AllocationTracker tracker) {
+            super(reducer);
+            this.sendArray = newMessageArray(nodeCount, reducer, tracker);
+            this.receiveArray = newMessageArray(nodeCount, reducer, tracker);
+        }
+
+        @Override
+        void sendTo(long targetNodeId, double message) {
+            reduce(sendArray, reducer, targetNodeId, message);
+        }
+
+        @Override
+        public void deliverMessages() {
+            var tmp = receiveArray;
+            receiveArray = sendArray;
+            sendArray = tmp;
+            sendArray.setAll(reducer.identity());
+        }
+
+        @Override
+        public void initMessageIterator(Pregel.MessageIterator iterator, long nodeId) {
+            iterator.init(receiveArray.get(nodeId));
+        }
+
+        @Override
+        public void release() {
+            sendArray.release();
+            receiveArray.release();
+        }
+    }
+
+    /**
+     * Slots that hold no message contain {@link #EMPTY}, a NaN with a payload that no
+     * arithmetic operation produces. Reading a slot swaps {@link #EMPTY} back in, so a
+     * node that drained its slot earlier in the superstep receives no message instead
+     * of the identity if nothing was sent to it afterwards.
+     */
+    static final class Async extends ReducingMessenger {
+
+        private static final long EMPTY_BITS = 0x7FF0_0000_0000_0001L;
+        private static final double EMPTY = Double.longBitsToDouble(EMPTY_BITS);
+
+        private final HugeAtomicDoubleArray messages;
+
+        Async(long nodeCount, Reducer reducer, AllocationTracker tracker) {
+            super(reducer);
+            this.messages = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
+            this.messages.setAll(EMPTY);
+        }
+
+        @Override
+        void sendTo(long targetNodeId, double message) {
+            double current = messages.get(targetNodeId);
+            while (!messages.compareAndSet(targetNodeId, current, reduceInto(current, message))) {
+                current = messages.get(targetNodeId);
+            }
+        }
+
+        @Override
+        public void deliverMessages() {
+            // messages are readable as soon as they are sent
+        }
+
+        @Override
+        public void initMessageIterator(Pregel.MessageIterator iterator, long nodeId) {
+            double message = messages.getAndReplace(nodeId, EMPTY);
+            if (isEmpty(message)) {
+                iterator.initEmpty();
+            } else {
+                iterator.init(message);
+            }
+        }
+
+        @Override
+        public void release() {
+            messages.release();
+        }
+
+        private double reduceInto(double current, double message) {
+            return isEmpty(current)
+                ? reducer.reduce(reducer.identity(), message)
+                : reducer.reduce(current, message);
+        }
+
+        private static boolean isEmpty(double value) {
+            return Double.doubleToRawLongBits(value) == EMPTY_BITS;
+        }
+    }
+}
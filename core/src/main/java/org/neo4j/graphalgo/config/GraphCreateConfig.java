@@ -81,6 +81,16 @@ public interface GraphCreateConfig extends BaseConfig {
         return false;
     }
 
+    /**
+     * Whether the id mapping, the adjacency lists and offsets and the relationship properties
+     * of the projected graph are stored outside of the Java heap.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean offHeap() {
+        return false;
+    }
+
     @Configuration.Ignore
     GraphStoreFactory.Supplier graphStoreFactory();
 
@@ -53,6 +53,10 @@ public interface GraphCreateFromCypherConfig extends GraphCreateConfig {
     String ALL_NODES_QUERY = "MATCH (n) RETURN id(n) AS id";
     String ALL_RELATIONSHIPS_QUERY = "MATCH (a)-->(b) RETURN id(a) AS source, id(b) AS target";
     String ALL_RELATIONSHIPS_UNDIRECTED_QUERY = "MATCH (a)--(b) RETURN id(a) AS source, id(b) AS target";
+    String QUERY_BATCH_SIZE_KEY = "queryBatchSize";
+    String SKIP_PARAMETER = "skip";
+    String LIMIT_PARAMETER = "limit";
+    int DEFAULT_QUERY_BATCH_SIZE = 100_000;
 
     @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
     String nodeQuery();
@@ -65,6 +69,19 @@ public interface GraphCreateFromCypherConfig extends GraphCreateConfig {
         return Collections.emptyMap();
     }
 
+    /**
+     * The number of rows that are loaded per batch if the relationship query uses
+     * the {@code $skip} and {@code $limit} parameters. Batches are loaded concurrently
+     * in separate transactions, using up to {@link #readConcurrency()} threads.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.Key(QUERY_BATCH_SIZE_KEY)
+    @Configuration.IntegerRange(min = 1)
+    default int queryBatchSize() {
+        return DEFAULT_QUERY_BATCH_SIZE;
+    }
+
     @Override
     @Value.Default
     @Value.Parameter(false)
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Describes how the delta encoded target ids of an adjacency list are stored.
+ */
+public enum AdjacencyEncoding {
+
+    /**
+     * Every delta is stored as a variable-length long, using 7 bits per byte.
+     */
+    VAR_LONG,
+
+    /**
+     * Deltas are bit-packed in blocks of 64 values, using as many bits per value as the largest delta in the block.
+     * Decoding a block runs without data-dependent branches, which speeds up traversals at the cost of
+     * slightly larger adjacency lists for blocks with a single large delta.
+     */
+    BLOCK_PACKED;
+
+    public static AdjacencyEncoding of(String value) {
+        try {
+            return AdjacencyEncoding.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            String availableEncodings = Arrays
+                .stream(AdjacencyEncoding.values())
+                .map(AdjacencyEncoding::name)
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(formatWithLocale(
+                "Adjacency encoding `%s` is not supported. Must be one of: %s.",
+                value,
+                availableEncodings
+            ));
+        }
+    }
+}
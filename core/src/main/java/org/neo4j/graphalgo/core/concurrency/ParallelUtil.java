@@ -873,6 +873,49 @@ public final class ParallelUtil {
         }
     }
 
+    /**
+     * Processes all node ids in {@code [0, nodeCount)} in chunks of {@code chunkSize} nodes.
+     * <p>
+     * In contrast to {@link #runWithConcurrency(int, Collection, ExecutorService)}, the node
+     * id space is not split into one fixed batch per task upfront. Instead, one task per worker
+     * is started and every task repeatedly claims the next unprocessed chunk until no chunks are left.
+     * A task that finishes cheap chunks picks up more of them, so that on graphs with a skewed degree
+     * distribution no thread is left waiting for another one that got all the high-degree nodes.
+     * <p>
+     * Every worker is called with the start (inclusive) and end (exclusive) node id of a claimed chunk.
+     * A worker is only used by a single thread, so it can hold thread-local state such as a
+     * {@link org.neo4j.graphalgo.api.RelationshipIterator#concurrentCopy() relationship iterator copy}.
+     *
+     * @param nodeCount       the number of nodes to process
+     * @param chunkSize       the number of nodes that are claimed at once
+     * @param workers         the workers to process the chunks, their number determines the concurrency
+     * @param terminationFlag a flag to check between chunks whether the computation should be aborted
+     * @param executor        the executor to submit the tasks to
+     */
+    public static void runWithDynamicChunks(
+        final long nodeCount,
+        final long chunkSize,
+        final Collection<? extends BiLongConsumer> workers,
+        final TerminationFlag terminationFlag,
+        final ExecutorService executor
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        AtomicLong nextChunkStart = new AtomicLong();
+        Collection<Runnable> tasks = new ArrayList<>(workers.size());
+        for (BiLongConsumer worker : workers) {
+            tasks.add(() -> {
+                long start;
+                while ((start = nextChunkStart.getAndAdd(chunkSize)) < nodeCount) {
+                    terminationFlag.assertRunning();
+                    worker.apply(start, Math.min(start + chunkSize, nodeCount));
+                }
+            });
+        }
+        runWithConcurrency(tasks.size(), tasks, terminationFlag, executor);
+    }
+
     public static void awaitTermination(final Collection<Future<?>> futures) {
         boolean done = false;
         Throwable error = null;
@@ -19,10 +19,13 @@
  */
 package org.neo4j.graphalgo.core.huge;
 
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.loading.MutableIntValue;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
+import static org.neo4j.graphalgo.core.huge.BlockPackedDecoding.decodeDeltaBlock;
 import static org.neo4j.graphalgo.core.huge.VarLongDecoding.decodeDeltaVLongs;
 
 final class AdjacencyDecompressingReader {
@@ -30,14 +33,21 @@ final class AdjacencyDecompressingReader {
     static final int CHUNK_SIZE = 64;
 
     private final long[] block;
+    private final boolean blockPacked;
+    private final long[] words;
     private int pos;
     private byte[] array;
+    // off-heap pages are looked up for every block, a closed list replaces them with empty pages
+    private ByteBuffer[] offHeapPages;
+    private int offHeapPageIndex;
     private int offset;
 
     private boolean blockAlreadyDecoded;
 
-    AdjacencyDecompressingReader() {
+    AdjacencyDecompressingReader(AdjacencyEncoding encoding) {
         this.block = new long[CHUNK_SIZE];
+        this.blockPacked = encoding == AdjacencyEncoding.BLOCK_PACKED;
+        this.words = blockPacked ? new long[BlockPackedDecoding.WORDS_BUFFER_SIZE] : null;
         this.blockAlreadyDecoded = false;
     }
 
@@ -67,17 +77,39 @@ final class AdjacencyDecompressingReader {
         System.arraycopy(other.block, 0, block, 0, CHUNK_SIZE);
         pos = other.pos;
         array = other.array;
+        offHeapPages = other.offHeapPages;
+        offHeapPageIndex = other.offHeapPageIndex;
         offset = other.offset;
     }
 
     int reset(byte[] adjacencyPage, int offset) {
         this.array = adjacencyPage;
         int numAdjacencies = readInt(adjacencyPage, offset); // offset should not be 0
-        this.offset = decodeDeltaVLongs(0L, adjacencyPage, Integer.BYTES + offset, Math.min(numAdjacencies, CHUNK_SIZE), block);
-        pos = 0;
+        decodeFirstBlock(Integer.BYTES + offset, numAdjacencies);
+        return numAdjacencies;
+    }
+
+    int reset(ByteBuffer[] adjacencyPages, int pageIndex, int offset) {
+        this.array = null;
+        this.offHeapPages = adjacencyPages;
+        this.offHeapPageIndex = pageIndex;
+        int numAdjacencies = adjacencyPages[pageIndex].getInt(offset); // offset should not be 0
+        decodeFirstBlock(Integer.BYTES + offset, numAdjacencies);
         return numAdjacencies;
     }
 
+    private void decodeFirstBlock(int offset, int numAdjacencies) {
+        int firstBlockSize = Math.min(numAdjacencies, CHUNK_SIZE);
+        if (blockPacked) {
+            // the first target is stored as a single vlong, followed by the packed remainder of the first block
+            offset = decodeVLongs(0L, offset, Math.min(firstBlockSize, 1));
+            this.offset = decodePacked(block[0], offset, firstBlockSize - 1, 1);
+        } else {
+            this.offset = decodeVLongs(0L, offset, firstBlockSize);
+        }
+        pos = 0;
+    }
+
     long next(int remaining) {
         int pos = this.pos++;
         if (pos < CHUNK_SIZE) {
@@ -101,7 +133,7 @@ final class AdjacencyDecompressingReader {
 
     private long readNextBlock(int remaining) {
         if (!blockAlreadyDecoded) {
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, Math.min(remaining, CHUNK_SIZE));
             return block[0];
         }
         blockAlreadyDecoded = false;
@@ -117,7 +149,7 @@ final class AdjacencyDecompressingReader {
         while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] <= target) {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, needToDecode);
             available -= skippedInThisBlock;
             pos = 0;
         }
@@ -144,7 +176,7 @@ final class AdjacencyDecompressingReader {
         while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] < target) {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, needToDecode);
             available -= skippedInThisBlock;
             pos = 0;
         }
@@ -158,6 +190,24 @@ final class AdjacencyDecompressingReader {
         return block[targetPos];
     }
 
+    private int decodeBlock(long startValue, int offset, int count) {
+        return blockPacked
+            ? decodePacked(startValue, offset, count, 0)
+            : decodeVLongs(startValue, offset, count);
+    }
+
+    private int decodeVLongs(long startValue, int offset, int count) {
+        return array != null
+            ? decodeDeltaVLongs(startValue, array, offset, count, block)
+            : decodeDeltaVLongs(startValue, offHeapPages[offHeapPageIndex], offset, count, block);
+    }
+
+    private int decodePacked(long startValue, int offset, int count, int blockOffset) {
+        return array != null
+            ? decodeDeltaBlock(startValue, array, offset, count, block, blockOffset, words)
+            : decodeDeltaBlock(startValue, offHeapPages[offHeapPageIndex], offset, count, block, blockOffset, words);
+    }
+
     private int findPosStrictlyGreaterInBlock(long target, int pos, int limit, long[] block) {
         return findPosInBlock(1L + target, pos, limit, block);
     }
@@ -166,6 +216,11 @@ final class AdjacencyDecompressingReader {
         int targetPos = Arrays.binarySearch(block, pos, limit, target);
         if (targetPos < 0) {
             targetPos = Math.min(-1 - targetPos, -1 + limit);
+        } else {
+            // parallel relationships share a target, stop at the first of them
+            while (targetPos > pos && block[targetPos - 1] == target) {
+                targetPos--;
+            }
         }
         return targetPos;
     }
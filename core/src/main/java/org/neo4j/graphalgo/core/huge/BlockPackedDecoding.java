@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Decodes blocks that have been written by
+ * {@link org.neo4j.graphalgo.core.loading.AdjacencyCompression#compressBlockPacked}.
+ *
+ * The packed bytes are first copied into a word buffer, afterwards every
+ * value is extracted with the same shift and mask operations, independent
+ * of its position within a word. The loops don't contain data dependent
+ * branches, which allows the JIT to unroll and vectorize them.
+ */
+final class BlockPackedDecoding {
+
+    /**
+     * Size of the word buffer that is required to decode a full block of 64 values.
+     */
+    static final int WORDS_BUFFER_SIZE = AdjacencyDecompressingReader.CHUNK_SIZE + 1;
+
+    static int decodeDeltaBlock(
+        long startValue,
+        byte[] adjacencyPage,
+        int offset,
+        int count,
+        long[] out,
+        int outOffset,
+        long[] words
+    ) {
+        if (count <= 0) {
+            return offset;
+        }
+        int bits = adjacencyPage[offset++];
+        int byteCount = (count * bits + 7) >>> 3;
+        int wordCount = (byteCount + 7) >>> 3;
+
+        // the additional word allows reading values that span two words without a bounds check
+        Arrays.fill(words, 0, wordCount + 1, 0L);
+        for (int i = 0; i < byteCount; i++) {
+            words[i >>> 3] |= (adjacencyPage[offset + i] & 0xFFL) << ((i & 7) << 3);
+        }
+
+        unpackDeltas(startValue, bits, count, out, outOffset, words);
+        return offset + byteCount;
+    }
+
+    static int decodeDeltaBlock(
+        long startValue,
+        ByteBuffer adjacencyPage,
+        int offset,
+        int count,
+        long[] out,
+        int outOffset,
+        long[] words
+    ) {
+        if (count <= 0) {
+            return offset;
+        }
+        int bits = adjacencyPage.get(offset++);
+        int byteCount = (count * bits + 7) >>> 3;
+        int wordCount = (byteCount + 7) >>> 3;
+
+        // the additional word allows reading values that span two words without a bounds check
+        Arrays.fill(words, 0, wordCount + 1, 0L);
+        for (int i = 0; i < byteCount; i++) {
+            words[i >>> 3] |= (adjacencyPage.get(offset + i) & 0xFFL) << ((i & 7) << 3);
+        }
+
+        unpackDeltas(startValue, bits, count, out, outOffset, words);
+        return offset + byteCount;
+    }
+
+    private static void unpackDeltas(long startValue, int bits, int count, long[] out, int outOffset, long[] words) {
+        long mask = bits == 0 ? 0L : -1L >>> (Long.SIZE - bits);
+        for (int i = 0, bitPos = 0; i < count; i++, bitPos += bits) {
+            int word = bitPos >>> 6;
+            int shift = bitPos & 63;
+            // shifting by (64 - shift) is a no-op for shift = 0, hence the split into two shifts
+            out[outOffset + i] = ((words[word] >>> shift) | ((words[word + 1] << 1) << (63 - shift))) & mask;
+        }
+
+        for (int i = outOffset, end = outOffset + count; i < end; i++) {
+            startValue += out[i];
+            out[i] = startValue;
+        }
+    }
+
+    private BlockPackedDecoding() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
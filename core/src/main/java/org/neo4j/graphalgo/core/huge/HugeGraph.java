@@ -22,6 +22,9 @@ package org.neo4j.graphalgo.core.huge;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.api.CSRGraph;
+import org.neo4j.graphalgo.api.ImmutableProperties;
+import org.neo4j.graphalgo.api.ImmutableRelationships;
+import org.neo4j.graphalgo.api.ImmutableTopology;
 import org.neo4j.graphalgo.api.NodeMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.RelationshipConsumer;
@@ -102,8 +105,14 @@ public class HugeGraph implements CSRGraph {
     private @Nullable TransientAdjacencyList properties;
     private @Nullable TransientAdjacencyOffsets propertyOffsets;
 
+    private @Nullable TransientAdjacencyList inverseAdjacencyList;
+    private @Nullable TransientAdjacencyOffsets inverseAdjacencyOffsets;
+    private @Nullable TransientAdjacencyList inverseProperties;
+    private @Nullable TransientAdjacencyOffsets inversePropertyOffsets;
+
     private DecompressingCursor emptyCursor;
     private DecompressingCursor cursorCache;
+    private @Nullable DecompressingCursor inverseCursorCache;
 
     private boolean canRelease = true;
 
@@ -129,6 +138,10 @@ public class HugeGraph implements CSRGraph {
             maybeProperties.map(Relationships.Properties::defaultPropertyValue).orElse(Double.NaN),
             maybeProperties.map(Relationships.Properties::list).map(castOrThrow(TransientAdjacencyList.class)).orElse(null),
             maybeProperties.map(Relationships.Properties::offsets).map(castOrThrow(TransientAdjacencyOffsets.class)).orElse(null),
+            topology.inverseList().map(castOrThrow(TransientAdjacencyList.class)).orElse(null),
+            topology.inverseOffsets().map(castOrThrow(TransientAdjacencyOffsets.class)).orElse(null),
+            maybeProperties.flatMap(Relationships.Properties::inverseList).map(castOrThrow(TransientAdjacencyList.class)).orElse(null),
+            maybeProperties.flatMap(Relationships.Properties::inverseOffsets).map(castOrThrow(TransientAdjacencyOffsets.class)).orElse(null),
             topology.orientation(),
             topology.isMultiGraph(),
             tracker
@@ -149,6 +162,46 @@ public class HugeGraph implements CSRGraph {
         Orientation orientation,
         boolean isMultiGraph,
         AllocationTracker tracker
+    ) {
+        this(
+            idMapping,
+            schema,
+            nodeProperties,
+            relationshipCount,
+            adjacencyList,
+            adjacencyOffsets,
+            hasRelationshipProperty,
+            defaultPropertyValue,
+            properties,
+            propertyOffsets,
+            null,
+            null,
+            null,
+            null,
+            orientation,
+            isMultiGraph,
+            tracker
+        );
+    }
+
+    public HugeGraph(
+        IdMap idMapping,
+        GraphSchema schema,
+        Map<String, NodeProperties> nodeProperties,
+        long relationshipCount,
+        TransientAdjacencyList adjacencyList,
+        TransientAdjacencyOffsets adjacencyOffsets,
+        boolean hasRelationshipProperty,
+        double defaultPropertyValue,
+        @Nullable TransientAdjacencyList properties,
+        @Nullable TransientAdjacencyOffsets propertyOffsets,
+        @Nullable TransientAdjacencyList inverseAdjacencyList,
+        @Nullable TransientAdjacencyOffsets inverseAdjacencyOffsets,
+        @Nullable TransientAdjacencyList inverseProperties,
+        @Nullable TransientAdjacencyOffsets inversePropertyOffsets,
+        Orientation orientation,
+        boolean isMultiGraph,
+        AllocationTracker tracker
     ) {
         this.idMapping = idMapping;
         this.schema = schema;
@@ -161,10 +214,15 @@ public class HugeGraph implements CSRGraph {
         this.defaultPropertyValue = defaultPropertyValue;
         this.properties = properties;
         this.propertyOffsets = propertyOffsets;
+        this.inverseAdjacencyList = inverseAdjacencyList;
+        this.inverseAdjacencyOffsets = inverseAdjacencyOffsets;
+        this.inverseProperties = inverseProperties;
+        this.inversePropertyOffsets = inversePropertyOffsets;
         this.orientation = orientation;
         this.hasRelationshipProperty = hasRelationshipProperty;
         this.cursorCache = newAdjacencyCursor(this.adjacencyList);
         this.emptyCursor = newAdjacencyCursor(this.adjacencyList);
+        this.inverseCursorCache = newAdjacencyCursor(this.inverseAdjacencyList);
     }
 
     @Override
@@ -231,19 +289,26 @@ public class HugeGraph implements CSRGraph {
         return defaultPropertyValue;
     }
 
+    /**
+     * Targets are stored in ascending order, which allows to find the position of {@code toId}
+     * by skipping whole blocks and searching within a block, instead of decoding every target.
+     * The property cursor is then moved to that position without decoding the preceding values.
+     */
     private double findPropertyValue(long fromId, long toId) {
         long relOffset = adjacencyOffsets.get(fromId);
         if (relOffset == NO_SUCH_NODE) {
             return NO_PROPERTY_VALUE;
         }
-        long propertyOffset = propertyOffsets.get(fromId);
 
         DecompressingCursor relDecompressingCursor = adjacencyList.decompressingCursor(relOffset);
-        Cursor propertyCursor = properties.cursor(propertyOffset);
-
-        while (relDecompressingCursor.hasNextVLong() && propertyCursor.hasNextLong() && relDecompressingCursor.nextVLong() != toId) {
-            propertyCursor.nextLong();
+        if (relDecompressingCursor.advance(toId) != toId) {
+            return NO_PROPERTY_VALUE;
         }
+        int position = relDecompressingCursor.size() - relDecompressingCursor.remaining() - 1;
+
+        long propertyOffset = propertyOffsets.get(fromId);
+        Cursor propertyCursor = properties.cursor(propertyOffset);
+        propertyCursor.skip(position);
 
         if (!propertyCursor.hasNextLong()) {
             return NO_PROPERTY_VALUE;
@@ -295,6 +360,53 @@ public class HugeGraph implements CSRGraph {
         return adjacencyList.degree(offset);
     }
 
+    @Override
+    public boolean isInverseIndexed() {
+        return isUndirected() || inverseAdjacencyOffsets != null;
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        if (inverseAdjacencyOffsets == null) {
+            return CSRGraph.super.inverseDegree(nodeId);
+        }
+        long offset = inverseAdjacencyOffsets.get(nodeId);
+        if (offset == 0L) {
+            return 0;
+        }
+        return inverseAdjacencyList.degree(offset);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        if (inverseAdjacencyOffsets == null) {
+            CSRGraph.super.forEachInverseRelationship(nodeId, consumer);
+        } else {
+            consumeAdjacentNodes(nodeId, inverseAdjacencyCursorForIteration(nodeId), consumer);
+        }
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        if (inverseAdjacencyOffsets == null) {
+            CSRGraph.super.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+        } else if (!hasRelationshipProperty()) {
+            forEachInverseRelationship(nodeId, (s, t) -> consumer.accept(s, t, fallbackValue));
+        } else {
+            long propertyOffset = inversePropertyOffsets.get(nodeId);
+            consumeAdjacentNodesWithProperty(
+                nodeId,
+                inverseAdjacencyCursorForIteration(nodeId),
+                propertyOffset == 0L ? Cursor.EMPTY : inverseProperties.cursor(propertyOffset),
+                consumer
+            );
+        }
+    }
+
     @Override
     public int degreeWithoutParallelRelationships(long nodeId) {
         if (!isMultiGraph()) {
@@ -333,6 +445,10 @@ public class HugeGraph implements CSRGraph {
             defaultPropertyValue,
             properties,
             propertyOffsets,
+            inverseAdjacencyList,
+            inverseAdjacencyOffsets,
+            inverseProperties,
+            inversePropertyOffsets,
             orientation,
             isMultiGraph,
             tracker
@@ -391,6 +507,14 @@ public class HugeGraph implements CSRGraph {
 
     }
 
+    private DecompressingCursor inverseAdjacencyCursorForIteration(long nodeId) {
+        long offset = inverseAdjacencyOffsets.get(nodeId);
+        if (offset == 0L) {
+            return emptyCursor;
+        }
+        return TransientAdjacencyList.decompressingCursor(inverseCursorCache, offset);
+    }
+
     private Cursor propertyCursorForIteration(long sourceNodeId) {
         if (!hasRelationshipProperty()) {
             throw new UnsupportedOperationException(
@@ -427,8 +551,23 @@ public class HugeGraph implements CSRGraph {
                 propertyOffsets = null;
             }
         }
+        if (inverseAdjacencyList != null) {
+            inverseAdjacencyList.close();
+            inverseAdjacencyList = null;
+            inverseAdjacencyOffsets.close();
+            inverseAdjacencyOffsets = null;
+            if (inverseProperties != null) {
+                inverseProperties.close();
+                inverseProperties = null;
+            }
+            if (inversePropertyOffsets != null) {
+                inversePropertyOffsets.close();
+                inversePropertyOffsets = null;
+            }
+        }
         emptyCursor = null;
         cursorCache = null;
+        inverseCursorCache = null;
     }
 
     @Override
@@ -451,7 +590,7 @@ public class HugeGraph implements CSRGraph {
     }
 
     public Relationships relationships() {
-        return Relationships.of(
+        var relationships = Relationships.of(
             relationshipCount,
             orientation,
             isMultiGraph(),
@@ -461,6 +600,17 @@ public class HugeGraph implements CSRGraph {
             propertyOffsets,
             defaultPropertyValue
         );
+        if (inverseAdjacencyList == null) {
+            return relationships;
+        }
+        Relationships.Topology topology = ImmutableTopology.copyOf(relationships.topology())
+            .withInverseList(inverseAdjacencyList)
+            .withInverseOffsets(inverseAdjacencyOffsets);
+        Optional<Relationships.Properties> maybeProperties = relationships.properties().map(props -> ImmutableProperties
+            .copyOf(props)
+            .withInverseList(Optional.ofNullable(inverseProperties))
+            .withInverseOffsets(Optional.ofNullable(inversePropertyOffsets)));
+        return ImmutableRelationships.of(topology, maybeProperties);
     }
 
     @Override
@@ -82,6 +82,11 @@ public class NodeFilteredGraph extends CSRFilterGraph {
         return super.degreeWithoutParallelRelationships(filteredIdMap.toOriginalNodeId(nodeId));
     }
 
+    @Override
+    public int inverseDegree(long nodeId) {
+        return super.inverseDegree(filteredIdMap.toOriginalNodeId(nodeId));
+    }
+
     @Override
     public long nodeCount() {
         return filteredIdMap.nodeCount();
@@ -114,6 +119,20 @@ public class NodeFilteredGraph extends CSRFilterGraph {
         super.forEachRelationship(filteredIdMap.toOriginalNodeId(nodeId), fallbackValue, (s, t, p) -> filterAndConsume(s, t, p, consumer));
     }
 
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        super.forEachInverseRelationship(filteredIdMap.toOriginalNodeId(nodeId), (s, t) -> filterAndConsume(s, t, consumer));
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        super.forEachInverseRelationship(filteredIdMap.toOriginalNodeId(nodeId), fallbackValue, (s, t, p) -> filterAndConsume(s, t, p, consumer));
+    }
+
     @Override
     public long getTarget(long sourceNodeId, long index) {
         HugeGraph.GetTargetConsumer consumer = new HugeGraph.GetTargetConsumer(index);
@@ -190,6 +209,10 @@ public class NodeFilteredGraph extends CSRFilterGraph {
         return ImmutableTopology.builder()
             .from(topology)
             .offsets(offsets)
+            .inverseOffsets(topology.inverseOffsets().map(inverseOffsets -> new TransientFilteredAdjacencyOffsets(
+                filteredIdMap,
+                inverseOffsets
+            )))
             .build();
     }
 
@@ -19,17 +19,27 @@
  */
 package org.neo4j.graphalgo.core.huge;
 
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.api.AdjacencyCursor;
 import org.neo4j.graphalgo.api.AdjacencyList;
 import org.neo4j.graphalgo.api.PropertyCursor;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
+import org.neo4j.graphalgo.core.loading.CompactDoubleCodec;
+import org.neo4j.graphalgo.core.loading.DoubleCodec;
 import org.neo4j.graphalgo.core.loading.MutableIntValue;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.OffHeapMemory;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import static org.neo4j.graphalgo.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodedVLongSize;
 import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
@@ -42,8 +52,16 @@ public final class TransientAdjacencyList implements AdjacencyList {
     public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
     public static final long PAGE_MASK = PAGE_SIZE - 1;
 
+    private static final ByteBuffer RELEASED_PAGE = ByteBuffer.allocateDirect(0);
+
     private final long allocatedMemory;
+    private final @Nullable DoubleCodec propertyCodec;
+    private final AdjacencyEncoding encoding;
     private byte[][] pages;
+    // cursors read the off-heap pages through this array, closing the list replaces all pages with an empty page
+    private final @Nullable ByteBuffer[] offHeapPages;
+    private final @Nullable AllocationTracker offHeapTracker;
+    private boolean closed;
 
     public static MemoryEstimation compressedMemoryEstimation(long avgDegree, long nodeCount) {
         // Best case scenario:
@@ -110,6 +128,30 @@ public final class TransientAdjacencyList implements AdjacencyList {
             .build();
     }
 
+    public static MemoryEstimation compressedPropertiesMemoryEstimation(RelationshipType relationshipType, boolean undirected) {
+
+        return MemoryEstimations
+            .builder(TransientAdjacencyList.class)
+            .perGraphDimension("pages", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                long relCountForType = dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.maxRelCount());
+                long relCount = undirected ? relCountForType * 2 : relCountForType;
+
+                // Best case: every value is compressed into its header byte.
+                long minPropertiesSize = relCount + nodeCount * Integer.BYTES;
+                long maxPropertiesSize = relCount * CompactDoubleCodec.MAX_COMPRESSED_SIZE + nodeCount * Integer.BYTES;
+                int minPages = PageUtil.numPagesFor(minPropertiesSize, PAGE_SHIFT, PAGE_MASK);
+                int maxPages = PageUtil.numPagesFor(maxPropertiesSize, PAGE_SHIFT, PAGE_MASK);
+                long bytesPerPage = MemoryUsage.sizeOfByteArray(PAGE_SIZE);
+
+                return MemoryRange.of(
+                    minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages),
+                    maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages)
+                );
+            })
+            .build();
+    }
+
     /* test private */
     static long computeAdjacencyByteSize(long avgDegree, long nodeCount, long delta) {
         long firstAdjacencyIdAvgByteSize = (avgDegree > 0) ? ceilDiv(encodedVLongSize(nodeCount), 2) : 0L;
@@ -120,8 +162,63 @@ public final class TransientAdjacencyList implements AdjacencyList {
     }
 
     public TransientAdjacencyList(byte[][] pages) {
+        this(pages, null, AdjacencyEncoding.VAR_LONG);
+    }
+
+    /**
+     * @param propertyCodec the codec used to compress the property values
+     *                      or {@code null} if the values are stored uncompressed.
+     */
+    public TransientAdjacencyList(byte[][] pages, @Nullable DoubleCodec propertyCodec) {
+        this(pages, propertyCodec, AdjacencyEncoding.VAR_LONG);
+    }
+
+    /**
+     * @param encoding the encoding that has been used to compress the target ids.
+     */
+    public TransientAdjacencyList(byte[][] pages, AdjacencyEncoding encoding) {
+        this(pages, null, encoding);
+    }
+
+    private TransientAdjacencyList(byte[][] pages, @Nullable DoubleCodec propertyCodec, AdjacencyEncoding encoding) {
         this.pages = pages;
+        this.propertyCodec = propertyCodec;
+        this.encoding = encoding;
         this.allocatedMemory = memoryOfPages(pages);
+        this.offHeapPages = null;
+        this.offHeapTracker = null;
+    }
+
+    private TransientAdjacencyList(
+        ByteBuffer[] offHeapPages,
+        @Nullable DoubleCodec propertyCodec,
+        AdjacencyEncoding encoding,
+        AllocationTracker tracker
+    ) {
+        this.pages = null;
+        this.propertyCodec = propertyCodec;
+        this.encoding = encoding;
+        this.allocatedMemory = memoryOfPages(offHeapPages);
+        this.offHeapPages = offHeapPages;
+        this.offHeapTracker = tracker;
+    }
+
+    /**
+     * Creates a list over pages that are stored outside of the Java heap.
+     * The pages must be in little endian byte order and owned by the list,
+     * their memory is freed and removed from the tracker when the list is {@link #close() closed}.
+     *
+     * @param propertyCodec the codec used to compress the property values
+     *                      or {@code null} if the values are stored uncompressed or the list stores target ids.
+     * @param encoding      the encoding that has been used to compress the target ids.
+     */
+    public static TransientAdjacencyList offHeap(
+        ByteBuffer[] pages,
+        @Nullable DoubleCodec propertyCodec,
+        AdjacencyEncoding encoding,
+        AllocationTracker tracker
+    ) {
+        return new TransientAdjacencyList(pages, propertyCodec, encoding, tracker);
     }
 
     private static long memoryOfPages(byte[][] pages) {
@@ -134,28 +231,84 @@ public final class TransientAdjacencyList implements AdjacencyList {
         return memory;
     }
 
+    private static long memoryOfPages(ByteBuffer[] pages) {
+        long memory = 0L;
+        for (ByteBuffer page : pages) {
+            if (page != null) {
+                memory += page.capacity();
+            }
+        }
+        return memory;
+    }
+
+    /**
+     * The raw pages of this list, used to persist the list without re-encoding it.
+     * Lists that are stored {@link #isOffHeap() off-heap} have no heap pages, see {@link #offHeapPages()}.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public boolean isOffHeap() {
+        return offHeapPages != null;
+    }
+
+    /**
+     * The raw pages of an {@link #isOffHeap() off-heap} list, used to persist the list without re-encoding it.
+     */
+    public @Nullable ByteBuffer[] offHeapPages() {
+        return offHeapPages;
+    }
+
+    public AdjacencyEncoding encoding() {
+        return encoding;
+    }
+
+    public @Nullable DoubleCodec propertyCodec() {
+        return propertyCodec;
+    }
+
     @Override
     public int degree(long index) {
+        if (offHeapPages != null) {
+            return offHeapPages[pageIndex(index, PAGE_SHIFT)].getInt(indexInPage(index, PAGE_MASK));
+        }
         return AdjacencyDecompressingReader.readInt(
                 pages[pageIndex(index, PAGE_SHIFT)],
                 indexInPage(index, PAGE_MASK));
     }
 
+    /**
+     * Drops the pages of this list.
+     * The memory of off-heap pages is freed immediately, subsequent reads from this list
+     * or from any of its cursors fail with an {@link IndexOutOfBoundsException}.
+     */
     @Override
     public void close() {
         pages = null;
+        if (offHeapPages != null && !closed) {
+            ByteBuffer[] memory = offHeapPages.clone();
+            Arrays.fill(offHeapPages, RELEASED_PAGE);
+            for (ByteBuffer page : memory) {
+                if (page != null) {
+                    OffHeapMemory.free(page);
+                }
+            }
+            offHeapTracker.remove(allocatedMemory);
+        }
+        closed = true;
     }
 
     // Cursors
 
     @Override
     public Cursor cursor(long offset) {
-        return new Cursor(pages).init(offset);
+        return new Cursor(pages, offHeapPages, propertyCodec).init(offset);
     }
 
     @Override
     public DecompressingCursor rawDecompressingCursor() {
-        return new DecompressingCursor(pages);
+        return new DecompressingCursor(pages, offHeapPages, encoding);
     }
 
     @Override
@@ -172,17 +325,25 @@ public final class TransientAdjacencyList implements AdjacencyList {
 
     public static final class Cursor extends MutableIntValue implements PropertyCursor {
 
-        static final Cursor EMPTY = new Cursor(new byte[0][]);
+        static final Cursor EMPTY = new Cursor(new byte[0][], null, null);
 
+        private final @Nullable DoubleCodec codec;
+        private final MutableDouble decompressedValue;
         private byte[][] pages;
+        private @Nullable ByteBuffer[] offHeapPages;
 
+        // null iff the pages are stored off-heap
         private byte[] currentPage;
+        private int currentPageIndex;
         private int degree;
         private int offset;
-        private int limit;
+        private int remaining;
 
-        private Cursor(byte[][] pages) {
+        private Cursor(byte[][] pages, @Nullable ByteBuffer[] offHeapPages, @Nullable DoubleCodec codec) {
             this.pages = pages;
+            this.offHeapPages = offHeapPages;
+            this.codec = codec;
+            this.decompressedValue = new MutableDouble();
         }
 
         public int length() {
@@ -191,28 +352,78 @@ public final class TransientAdjacencyList implements AdjacencyList {
 
         @Override
         public boolean hasNextLong() {
-            return offset < limit;
+            return remaining > 0;
         }
 
         @Override
         public long nextLong() {
-            long value = AdjacencyDecompressingReader.readLong(currentPage, offset);
-            offset += Long.BYTES;
-            return value;
+            remaining--;
+            if (currentPage == null) {
+                return nextOffHeapLong();
+            }
+            if (codec == null) {
+                long value = AdjacencyDecompressingReader.readLong(currentPage, offset);
+                offset += Long.BYTES;
+                return value;
+            }
+            offset = codec.decompressDouble(currentPage, offset, decompressedValue);
+            return Double.doubleToRawLongBits(decompressedValue.doubleValue());
+        }
+
+        private long nextOffHeapLong() {
+            ByteBuffer page = offHeapPages[currentPageIndex];
+            if (codec == null) {
+                long value = page.getLong(offset);
+                offset += Long.BYTES;
+                return value;
+            }
+            offset = codec.decompressDouble(page, offset, decompressedValue);
+            return Double.doubleToRawLongBits(decompressedValue.doubleValue());
+        }
+
+        /**
+         * Skip over the next {@code count} values without decoding them.
+         * Compressed values are skipped by reading only their size.
+         */
+        void skip(int count) {
+            count = Math.min(count, remaining);
+            remaining -= count;
+            if (codec == null) {
+                offset += count * Long.BYTES;
+                return;
+            }
+            if (currentPage == null) {
+                ByteBuffer page = offHeapPages[currentPageIndex];
+                for (int i = 0; i < count; i++) {
+                    offset += codec.compressedSize(page, offset);
+                }
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                offset += codec.compressedSize(currentPage, offset);
+            }
         }
 
         Cursor init(long fromIndex) {
-            this.currentPage = pages[pageIndex(fromIndex, PAGE_SHIFT)];
+            int pageIndex = pageIndex(fromIndex, PAGE_SHIFT);
             this.offset = indexInPage(fromIndex, PAGE_MASK);
-            this.degree = AdjacencyDecompressingReader.readInt(currentPage, offset);
+            if (offHeapPages != null) {
+                this.currentPage = null;
+                this.currentPageIndex = pageIndex;
+                this.degree = offHeapPages[pageIndex].getInt(offset);
+            } else {
+                this.currentPage = pages[pageIndex];
+                this.degree = AdjacencyDecompressingReader.readInt(currentPage, offset);
+            }
             this.offset += Integer.BYTES;
-            this.limit = offset + degree * Long.BYTES;
+            this.remaining = degree;
             return this;
         }
 
         @Override
         public void close() {
             pages = null;
+            offHeapPages = null;
         }
     }
 
@@ -220,20 +431,22 @@ public final class TransientAdjacencyList implements AdjacencyList {
 
         static final long NOT_FOUND = -1;
         private byte[][] pages;
+        private @Nullable ByteBuffer[] offHeapPages;
         private final AdjacencyDecompressingReader decompress;
 
         private int maxTargets;
         private int currentPosition;
 
-        private DecompressingCursor(byte[][] pages) {
+        private DecompressingCursor(byte[][] pages, @Nullable ByteBuffer[] offHeapPages, AdjacencyEncoding encoding) {
             this.pages = pages;
-            this.decompress = new AdjacencyDecompressingReader();
+            this.offHeapPages = offHeapPages;
+            this.decompress = new AdjacencyDecompressingReader(encoding);
         }
 
         DecompressingCursor init(long fromIndex) {
-            maxTargets = decompress.reset(
-                pages[pageIndex(fromIndex, PAGE_SHIFT)],
-                indexInPage(fromIndex, PAGE_MASK));
+            maxTargets = offHeapPages != null
+                ? decompress.reset(offHeapPages, pageIndex(fromIndex, PAGE_SHIFT), indexInPage(fromIndex, PAGE_MASK))
+                : decompress.reset(pages[pageIndex(fromIndex, PAGE_SHIFT)], indexInPage(fromIndex, PAGE_MASK));
             currentPosition = 0;
             return this;
         }
@@ -310,6 +523,7 @@ public final class TransientAdjacencyList implements AdjacencyList {
         @Override
         public void close() {
             pages = null;
+            offHeapPages = null;
         }
     }
 }
@@ -23,8 +23,10 @@ import org.neo4j.graphalgo.api.AdjacencyOffsets;
 import org.neo4j.graphalgo.core.loading.AdjacencyOffsetsFactory;
 import org.neo4j.graphalgo.core.loading.ImportSizing;
 import org.neo4j.graphalgo.core.utils.BitUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
@@ -37,6 +39,33 @@ public abstract class TransientAdjacencyOffsets implements AdjacencyOffsets {
             : new PagedOffsets(pages, pageSize);
     }
 
+    /**
+     * Creates offsets that the importer writes directly into an array outside of the Java heap.
+     * The off-heap memory is tracked in the given tracker until the offsets are {@link #close() closed}.
+     */
+    public static AdjacencyOffsetsFactory offHeap(AllocationTracker tracker) {
+        return new AdjacencyOffsetsFactory() {
+            @Override
+            public AdjacencyOffsets newOffsets(long[][] pages) {
+                throw new UnsupportedOperationException("Off-heap offsets are written directly into an off-heap array.");
+            }
+
+            @Override
+            public HugeLongArray newOffHeapArray(long size) {
+                return HugeLongArray.newOffHeapArray(size, tracker);
+            }
+
+            @Override
+            public AdjacencyOffsets newOffsets(HugeLongArray offHeapArray) {
+                return new OffHeapOffsets(offHeapArray, tracker);
+            }
+        };
+    }
+
+    public static AdjacencyOffsetsFactory forPageSize(int pageSize, boolean offHeap, AllocationTracker tracker) {
+        return offHeap ? offHeap(tracker) : forPageSize(pageSize);
+    }
+
     static MemoryEstimation memoryEstimation(int pageSize, int numberOfPages) {
         if (numberOfPages == 1) {
             return SinglePageOffsets.memoryEstimation(pageSize);
@@ -120,4 +149,25 @@ public abstract class TransientAdjacencyOffsets implements AdjacencyOffsets {
             page = null;
         }
     }
+
+    private static final class OffHeapOffsets extends TransientAdjacencyOffsets {
+
+        private final HugeLongArray offsets;
+        private final AllocationTracker tracker;
+
+        private OffHeapOffsets(HugeLongArray offsets, AllocationTracker tracker) {
+            this.offsets = offsets;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public long get(long index) {
+            return offsets.get(index);
+        }
+
+        @Override
+        public void close() {
+            tracker.remove(offsets.release());
+        }
+    }
 }
@@ -149,6 +149,34 @@ public final class UnionGraph implements CSRGraph {
         }
     }
 
+    @Override
+    public boolean isInverseIndexed() {
+        return graphs.stream().allMatch(Graph::isInverseIndexed);
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        return Math.toIntExact(graphs.stream().mapToLong(g -> g.inverseDegree(nodeId)).sum());
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        for (Graph graph : graphs) {
+            graph.forEachInverseRelationship(nodeId, consumer);
+        }
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId,
+        double fallbackValue,
+        RelationshipWithPropertyConsumer consumer
+    ) {
+        for (Graph graph : graphs) {
+            graph.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+        }
+    }
+
     @Override
     public Stream<RelationshipCursor> streamRelationships(long nodeId, double fallbackValue) {
         return graphs
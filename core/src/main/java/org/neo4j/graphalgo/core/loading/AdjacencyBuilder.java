@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.utils.AscendingLongComparator;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -59,6 +60,7 @@ public final class AdjacencyBuilder {
         long[][] globalAdjacencyOffsets = new long[numPages][];
 
         long[][][] globalPropertiesOffsets = new long[propertyKeyIds.length][numPages][];
+        boolean offHeapOffsets = globalBuilder.allocateOffHeapOffsets((long) numPages * pageSize, propertyKeyIds.length);
 
         boolean atLeastOnePropertyToLoad = Arrays
             .stream(propertyKeyIds)
@@ -71,6 +73,7 @@ public final class AdjacencyBuilder {
             buffers,
             globalAdjacencyOffsets,
             globalPropertiesOffsets,
+            offHeapOffsets,
             pageSize,
             relationshipCounter,
             propertyKeyIds,
@@ -92,6 +95,7 @@ public final class AdjacencyBuilder {
     private final LongsRef[] buffers;
     private final long[][] globalAdjacencyOffsets;
     private final long[][][] globalPropertiesOffsets;
+    private final boolean offHeapOffsets;
     private final int pageSize;
     private final int pageShift;
     private final long pageMask;
@@ -111,6 +115,7 @@ public final class AdjacencyBuilder {
         LongsRef[] buffers,
         long[][] globalAdjacencyOffsets,
         long[][][] globalPropertiesOffsets,
+        boolean offHeapOffsets,
         int pageSize,
         LongAdder relationshipCounter,
         int[] propertyKeyIds,
@@ -125,6 +130,7 @@ public final class AdjacencyBuilder {
         this.buffers = buffers;
         this.globalAdjacencyOffsets = globalAdjacencyOffsets;
         this.globalPropertiesOffsets = globalPropertiesOffsets;
+        this.offHeapOffsets = offHeapOffsets;
         this.pageSize = pageSize;
         this.pageShift = Integer.numberOfTrailingZeros(pageSize);
         this.pageMask = pageSize - 1;
@@ -264,27 +270,41 @@ public final class AdjacencyBuilder {
     private void addAdjacencyImporter(AllocationTracker tracker, int pageIndex) {
         tracker.add(sizeOfObjectPage);
         tracker.add(sizeOfObjectPage);
-        tracker.add(sizeOfLongPage);
         compressedAdjacencyLists[pageIndex] = new CompressedLongArray[pageSize];
         buffers[pageIndex] = new LongsRef();
-        long[] localAdjacencyOffsets = globalAdjacencyOffsets[pageIndex] = new long[pageSize];
 
-        long[][] localPropertiesOffsets = new long[globalPropertiesOffsets.length][];
-        for (int i = 0; i < globalPropertiesOffsets.length; i++) {
-            localPropertiesOffsets[i] = globalPropertiesOffsets[i][pageIndex] = new long[pageSize];
+        HugeLongArray localAdjacencyOffsets;
+        HugeLongArray[] localPropertiesOffsets;
+        long offsetBase;
+        if (offHeapOffsets) {
+            // all pages write into the same off-heap arrays, which have been tracked on allocation
+            localAdjacencyOffsets = globalBuilder.offHeapAdjacencyOffsets();
+            localPropertiesOffsets = globalBuilder.offHeapPropertyOffsets();
+            offsetBase = (long) pageIndex * pageSize;
+        } else {
+            tracker.add(sizeOfLongPage);
+            localAdjacencyOffsets = HugeLongArray.of(globalAdjacencyOffsets[pageIndex] = new long[pageSize]);
+            localPropertiesOffsets = new HugeLongArray[globalPropertiesOffsets.length];
+            for (int i = 0; i < globalPropertiesOffsets.length; i++) {
+                localPropertiesOffsets[i] = HugeLongArray.of(globalPropertiesOffsets[i][pageIndex] = new long[pageSize]);
+            }
+            offsetBase = 0L;
         }
 
         localBuilders[pageIndex] = globalBuilder.threadLocalRelationshipsBuilder(
             localAdjacencyOffsets,
             localPropertiesOffsets,
+            offsetBase,
             aggregations
         );
         localBuilders[pageIndex].prepare();
     }
 
     private void finishPreparation() {
-        globalBuilder.setGlobalAdjacencyOffsets(globalAdjacencyOffsets);
-        globalBuilder.setGlobalPropertyOffsets(globalPropertiesOffsets);
+        if (!offHeapOffsets) {
+            globalBuilder.setGlobalAdjacencyOffsets(globalAdjacencyOffsets);
+            globalBuilder.setGlobalPropertyOffsets(globalPropertiesOffsets);
+        }
     }
 
     static int aggregate(
@@ -27,9 +27,15 @@ import org.neo4j.graphalgo.core.utils.AscendingLongComparator;
 import java.util.Arrays;
 
 import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodeVLongs;
+import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
 
 public final class AdjacencyCompression {
 
+    /**
+     * Number of targets that are decoded at once, must match the block size of the reader.
+     */
+    public static final int BLOCK_SIZE = 64;
+
     private static long[] growWithDestroy(long[] values, int newLength) {
         if (values.length < newLength) {
             // give leeway in case of nodes with a reference to themselves
@@ -88,6 +94,69 @@ public final class AdjacencyCompression {
         return encodeVLongs(data, length, out, 0);
     }
 
+    /**
+     * Compresses the delta-encoded {@code data} using {@link org.neo4j.graphalgo.core.AdjacencyEncoding#BLOCK_PACKED}.
+     *
+     * The first value is written as a variable-length long, the remaining values are split into blocks
+     * that align with the {@link #BLOCK_SIZE} blocks of the reader. The first block contains the
+     * values {@code [1, BLOCK_SIZE)}, all following blocks contain {@link #BLOCK_SIZE} values.
+     * Every block starts with a header byte that stores the number of bits required for the
+     * largest value in the block, followed by all values packed with that bit width in little-endian order.
+     *
+     * @param out must have a capacity of at least {@link #blockPackedUpperBound(int)} bytes.
+     * @return the number of bytes written to {@code out}
+     */
+    public static int compressBlockPacked(LongsRef data, byte[] out) {
+        long[] values = data.longs;
+        int length = data.length;
+        if (length == 0) {
+            return 0;
+        }
+        int into = encodeVLongs(values, 0, 1, out, 0);
+        int blockStart = 1;
+        int blockEnd = Math.min(BLOCK_SIZE, length);
+        while (blockStart < length) {
+            into = packBlock(values, blockStart, blockEnd, out, into);
+            blockStart = blockEnd;
+            blockEnd = Math.min(blockEnd + BLOCK_SIZE, length);
+        }
+        return into;
+    }
+
+    /**
+     * The maximum number of bytes required to compress {@code length} values using {@link #compressBlockPacked(LongsRef, byte[])}.
+     */
+    public static int blockPackedUpperBound(int length) {
+        // first value + (header + 64 values * 8 bytes) per block
+        return Long.BYTES + 1 + ceilDiv(length, BLOCK_SIZE) * (1 + BLOCK_SIZE * Long.BYTES);
+    }
+
+    private static int packBlock(long[] values, int from, int to, byte[] out, int into) {
+        long mergedBits = 0L;
+        for (int i = from; i < to; i++) {
+            mergedBits |= values[i];
+        }
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(mergedBits);
+        out[into++] = (byte) bits;
+
+        int byteCount = ceilDiv((to - from) * bits, Byte.SIZE);
+        Arrays.fill(out, into, into + byteCount, (byte) 0);
+        for (int i = from, bitPos = 0; i < to; i++, bitPos += bits) {
+            long value = values[i];
+            int pos = bitPos;
+            int remainingBits = bits;
+            while (remainingBits > 0) {
+                int shift = pos & 7;
+                out[into + (pos >>> 3)] |= (byte) (value << shift);
+                int written = Byte.SIZE - shift;
+                value >>>= written;
+                pos += written;
+                remainingBits -= written;
+            }
+        }
+        return into + byteCount;
+    }
+
     //@formatter:off
     static void writeDegree(byte[] out, int offset, int degree) {
         out[    offset] = (byte) (degree);
@@ -19,8 +19,19 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
-@FunctionalInterface
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
+
 public interface AdjacencyListBuilderFactory {
 
     AdjacencyListBuilder newAdjacencyListBuilder();
+
+    /**
+     * Creates a builder for target ids that are compressed using the given encoding.
+     */
+    AdjacencyListBuilder newAdjacencyListBuilder(AdjacencyEncoding encoding);
+
+    /**
+     * Creates a builder for relationship properties that are compressed using the given codec.
+     */
+    AdjacencyListBuilder newPropertyListBuilder(DoubleCodec propertyCodec);
 }
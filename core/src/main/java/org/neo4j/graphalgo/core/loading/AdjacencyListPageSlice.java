@@ -22,39 +22,23 @@ package org.neo4j.graphalgo.core.loading;
 public interface AdjacencyListPageSlice {
 
     /**
-     * Global address of the {@link #offset()} in this {@link #page()}.
+     * Global address of the start of this slice.
      */
     long address();
 
     /**
-     * Write a single int at the current {@link #offset()}.
+     * Write a single int at the current position of this slice.
      * The endianness of the int is left to the implementation.
      */
-    default void writeInt(int value) {
-        AdjacencyCompression.writeDegree(page(), offset(), value);
-        bytesWritten(Integer.BYTES);
-    }
+    void writeInt(int value);
 
     /**
-     * Write some bytes at the current {@link #offset()}.
+     * Write some bytes at the current position of this slice.
      */
-    default void insert(byte[] bytes, int arrayOffset, int length) {
-        System.arraycopy(bytes, arrayOffset, page(), offset(), length);
-        bytesWritten(length);
-    }
+    void insert(byte[] bytes, int arrayOffset, int length);
 
     /**
-     * The current page. Only writes starting at {@link #offset} are safe.
+     * Write the first {@code length} longs in little endian byte order at the current position of this slice.
      */
-    byte[] page();
-
-    /**
-     * Start offset for safe writes into the {@link #page}.
-     */
-    int offset();
-
-    /**
-     * Notify that this many bytes have been written to the {@link #page}.
-     */
-    void bytesWritten(int numberOfBytes);
+    void insertLongs(long[] values, int length);
 }
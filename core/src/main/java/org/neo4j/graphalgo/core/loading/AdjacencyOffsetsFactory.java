@@ -19,10 +19,27 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
 @FunctionalInterface
 public interface AdjacencyOffsetsFactory {
 
     AdjacencyOffsets newOffsets(long[][] pages);
+
+    /**
+     * Allocates an array outside of the Java heap that the importer writes the offsets of {@code size} nodes into,
+     * or returns {@code null} if the offsets are collected in heap pages and passed to {@link #newOffsets(long[][])}.
+     */
+    default @Nullable HugeLongArray newOffHeapArray(long size) {
+        return null;
+    }
+
+    /**
+     * Creates the offsets from an array that has been allocated by {@link #newOffHeapArray(long)}.
+     */
+    default AdjacencyOffsets newOffsets(HugeLongArray offHeapArray) {
+        throw new UnsupportedOperationException("Offsets are not stored off-heap.");
+    }
 }
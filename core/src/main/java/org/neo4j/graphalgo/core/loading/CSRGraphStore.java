@@ -21,6 +21,8 @@ package org.neo4j.graphalgo.core.loading;
 
 import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
 import org.neo4j.graphalgo.api.CSRGraph;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphStore;
@@ -85,6 +87,8 @@ public final class CSRGraphStore implements GraphStore {
 
     private final AllocationTracker tracker;
 
+    private boolean canRelease = true;
+
     private ZonedDateTime modificationTime;
 
     public static CSRGraphStore of(
@@ -199,6 +203,10 @@ public final class CSRGraphStore implements GraphStore {
         return this.nodes;
     }
 
+    IdMap idMap() {
+        return this.nodes;
+    }
+
     @Override
     public Set<NodeLabel> nodeLabels() {
         return nodes.availableNodeLabels();
@@ -288,6 +296,14 @@ public final class CSRGraphStore implements GraphStore {
         return relationships.keySet();
     }
 
+    Relationships.Topology relationshipTopology(RelationshipType relationshipType) {
+        return relationships.get(relationshipType);
+    }
+
+    Relationships.Properties relationshipPropertyValues(RelationshipType relationshipType, String propertyKey) {
+        return relationshipProperties.get(relationshipType).get(propertyKey).values();
+    }
+
     @Override
     public boolean hasRelationshipType(RelationshipType relationshipType) {
         return relationships.containsKey(relationshipType);
@@ -408,12 +424,30 @@ public final class CSRGraphStore implements GraphStore {
 
     @Override
     public void canRelease(boolean canRelease) {
+        this.canRelease = canRelease;
         createdGraphs.forEach(graph -> graph.canRelease(canRelease));
     }
 
     @Override
     public void release() {
         createdGraphs.forEach(Graph::release);
+        if (!canRelease) {
+            return;
+        }
+        // graphs share the topology with the store, closing lists and offsets twice is a no-op
+        relationships.values().forEach(topology -> {
+            topology.list().close();
+            topology.offsets().close();
+            topology.inverseList().ifPresent(AdjacencyList::close);
+            topology.inverseOffsets().ifPresent(AdjacencyOffsets::close);
+        });
+        relationshipProperties.values().forEach(propertyStore -> propertyStore.values().forEach(property -> {
+            property.values().list().close();
+            property.values().offsets().close();
+            property.values().inverseList().ifPresent(AdjacencyList::close);
+            property.values().inverseOffsets().ifPresent(AdjacencyOffsets::close);
+        }));
+        tracker.remove(nodes.release());
     }
 
     @Override
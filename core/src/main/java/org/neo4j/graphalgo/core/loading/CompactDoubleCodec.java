@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A lossless codec that stores every value with a single header byte followed by a variable number of payload bytes.
+ *
+ * The header stores the compression type in the upper four bits and the number of payload bytes in the lower four bits.
+ * There are two compression types, the one that leads to fewer bytes is chosen:
+ *
+ * <ul>
+ * <li>{@link #TYPE_INTEGRAL} for values without a fractional part: the value is stored as a zig-zag encoded
+ * {@code long} in little-endian order, omitting leading zero bytes.
+ * Small integral weights, such as {@code 1.0} or {@code 42.0}, require two bytes in total.</li>
+ * <li>{@link #TYPE_TRUNCATED} for all other values: the raw bits are stored in big-endian order,
+ * omitting trailing zero bytes of the significand.
+ * Values with short binary fractions, such as {@code 0.5} or {@code 1.25}, require three bytes in total.</li>
+ * </ul>
+ *
+ * Values that need the full 52 significand bits take nine bytes, one more than their uncompressed form.
+ */
+public final class CompactDoubleCodec extends DoubleCodec {
+
+    static final int TYPE_INTEGRAL = 1;
+    static final int TYPE_TRUNCATED = 2;
+
+    public static final int MAX_COMPRESSED_SIZE = 1 + Long.BYTES;
+
+    private static final DoubleCodec INSTANCE = new CompactDoubleCodec();
+
+    public static DoubleCodec instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        int truncatedBytes = Long.BYTES - (Long.numberOfTrailingZeros(doubleBits) >>> 3);
+
+        double value = Double.longBitsToDouble(doubleBits);
+        long integral = (long) value;
+        if (Double.doubleToRawLongBits((double) integral) == doubleBits) {
+            long zigZag = (integral << 1) ^ (integral >> 63);
+            int integralBytes = Long.BYTES - (Long.numberOfLeadingZeros(zigZag) >>> 3);
+            if (integralBytes <= truncatedBytes) {
+                out[outPos++] = header(TYPE_INTEGRAL, integralBytes);
+                for (int i = 0; i < integralBytes; i++) {
+                    out[outPos++] = (byte) (zigZag >>> (i << 3));
+                }
+                return outPos;
+            }
+        }
+
+        out[outPos++] = header(TYPE_TRUNCATED, truncatedBytes);
+        for (int i = 0; i < truncatedBytes; i++) {
+            out[outPos++] = (byte) (doubleBits >>> (56 - (i << 3)));
+        }
+        return outPos;
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        byte header = data[pos++];
+        int length = header & 0xF;
+        if (header >>> 4 == TYPE_INTEGRAL) {
+            long zigZag = 0L;
+            for (int i = 0; i < length; i++) {
+                zigZag |= (data[pos++] & 0xFFL) << (i << 3);
+            }
+            long integral = (zigZag >>> 1) ^ -(zigZag & 1L);
+            out.setValue((double) integral);
+        } else {
+            long bits = 0L;
+            for (int i = 0; i < length; i++) {
+                bits |= (data[pos++] & 0xFFL) << (56 - (i << 3));
+            }
+            out.setValue(Double.longBitsToDouble(bits));
+        }
+        return pos;
+    }
+
+    @Override
+    public int decompressDouble(ByteBuffer data, int pos, MutableDouble out) {
+        byte header = data.get(pos++);
+        int length = header & 0xF;
+        if (header >>> 4 == TYPE_INTEGRAL) {
+            long zigZag = 0L;
+            for (int i = 0; i < length; i++) {
+                zigZag |= (data.get(pos++) & 0xFFL) << (i << 3);
+            }
+            long integral = (zigZag >>> 1) ^ -(zigZag & 1L);
+            out.setValue((double) integral);
+        } else {
+            long bits = 0L;
+            for (int i = 0; i < length; i++) {
+                bits |= (data.get(pos++) & 0xFFL) << (56 - (i << 3));
+            }
+            out.setValue(Double.longBitsToDouble(bits));
+        }
+        return pos;
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        return 1 + (data[pos] & 0xF);
+    }
+
+    @Override
+    public int compressedSize(ByteBuffer data, int pos) {
+        return 1 + (data.get(pos) & 0xF);
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        switch (type) {
+            case TYPE_INTEGRAL:
+                return "INTEGRAL";
+            case TYPE_TRUNCATED:
+                return "TRUNCATED";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        int compressedSize = compressedSize(data, pos);
+        int type = data[pos] >>> 4;
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, pos + compressedSize))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(compressedSize)
+            .compressedType(type)
+            .compressionDescription(describeCompression(type))
+            .build();
+    }
+
+    private static byte header(int type, int length) {
+        return (byte) (type << 4 | length);
+    }
+
+    private CompactDoubleCodec() {
+    }
+}
@@ -70,13 +70,15 @@ class CypherNodeLoader extends CypherRecordLoader<CypherNodeLoader.LoadResult> {
         this.outerDimensions = outerDimensions;
         this.maxNodeId = 0L;
         this.labelTokenNodeLabelMapping = new IntObjectHashMap<>();
-        this.builder = HugeLongArrayBuilder.of(nodeCount, loadingContext.tracker());
+        this.builder = config.offHeap()
+            ? HugeLongArrayBuilder.offHeap(nodeCount, loadingContext.tracker())
+            : HugeLongArrayBuilder.of(nodeCount, loadingContext.tracker());
         this.importer = new HugeNodeImporter(builder, new HashMap<>(), labelTokenNodeLabelMapping);
     }
 
     @Override
-    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize) {
-        Result queryResult = runLoadingQuery(tx);
+    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize, Map<String, Object> queryParameters) {
+        Result queryResult = runLoadingQuery(tx, queryParameters);
 
         Collection<String> propertyColumns = getPropertyColumns(queryResult);
 
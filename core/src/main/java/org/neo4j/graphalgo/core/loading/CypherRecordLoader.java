@@ -24,21 +24,31 @@ import org.neo4j.graphalgo.PropertyMapping;
 import org.neo4j.graphalgo.PropertyMappings;
 import org.neo4j.graphalgo.api.GraphLoaderContext;
 import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.Transaction;
 import org.neo4j.graphdb.security.AuthorizationViolationException;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.runQueryWithoutClosingTheResult;
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.LIMIT_PARAMETER;
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.SKIP_PARAMETER;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.internal.kernel.api.security.AccessMode.Static.READ;
 
 abstract class CypherRecordLoader<R> {
 
@@ -80,20 +90,87 @@ abstract class CypherRecordLoader<R> {
 
     final R load(Transaction transaction) {
         try {
-            int bufferSize = (int) Math.min(recordCount, RecordsBatchBuffer.DEFAULT_BUFFER_SIZE);
-            BatchLoadResult result = loadSingleBatch(transaction, bufferSize);
-            updateCounts(result);
+            if (canLoadInBatches() && isBatchedQuery(loadQuery)) {
+                loadInBatches(transaction);
+            } else {
+                int bufferSize = (int) Math.min(recordCount, RecordsBatchBuffer.DEFAULT_BUFFER_SIZE);
+                BatchLoadResult result = loadSingleBatch(transaction, bufferSize, cypherConfig.parameters());
+                updateCounts(result);
+            }
             return result();
         } catch (AuthorizationViolationException ex) {
             throw new IllegalArgumentException(formatWithLocale("Query must be read only. Query: [%s]", loadQuery));
         }
     }
 
+    /**
+     * Loads the query in batches of {@link GraphCreateFromCypherConfig#queryBatchSize()} rows,
+     * which are selected via the {@code $skip} and {@code $limit} parameters.
+     * The first batch is loaded in the given transaction and allows the loader to initialize itself.
+     * All remaining batches are loaded concurrently, each in its own read-only transaction,
+     * until a batch returns fewer rows than requested.
+     */
+    private void loadInBatches(Transaction transaction) {
+        int batchSize = cypherConfig.queryBatchSize();
+        int bufferSize = (int) Math.min(Math.min(recordCount, batchSize), RecordsBatchBuffer.DEFAULT_BUFFER_SIZE);
+
+        BatchLoadResult firstBatch = loadSingleBatch(transaction, bufferSize, batchParameters(0L, batchSize));
+        updateCounts(firstBatch);
+        if (firstBatch.rows() < batchSize) {
+            return;
+        }
+
+        var transactions = loadingContext.transaction().withRestrictedAccess(READ);
+        var nextBatch = new AtomicLong(1L);
+        var exhausted = new AtomicBoolean(false);
+        var results = new ConcurrentLinkedQueue<BatchLoadResult>();
+
+        Runnable batchLoader = () -> {
+            while (!exhausted.get()) {
+                long skip = nextBatch.getAndIncrement() * batchSize;
+                BatchLoadResult result = transactions.apply((tx, ktx) ->
+                    loadSingleBatch(tx, bufferSize, batchParameters(skip, batchSize))
+                );
+                results.add(result);
+                if (result.rows() < batchSize) {
+                    exhausted.set(true);
+                }
+            }
+        };
+
+        List<Runnable> tasks = Stream
+            .generate(() -> batchLoader)
+            .limit(cypherConfig.readConcurrency())
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, loadingContext.executor());
+
+        results.forEach(this::updateCounts);
+    }
+
+    private Map<String, Object> batchParameters(long skip, int limit) {
+        Map<String, Object> parameters = new HashMap<>(cypherConfig.parameters());
+        parameters.put(SKIP_PARAMETER, skip);
+        parameters.put(LIMIT_PARAMETER, (long) limit);
+        return parameters;
+    }
+
+    static boolean isBatchedQuery(String query) {
+        return query.contains("$" + SKIP_PARAMETER) && query.contains("$" + LIMIT_PARAMETER);
+    }
+
+    /**
+     * Whether {@link #loadSingleBatch} can be called concurrently once the first batch has been loaded.
+     */
+    boolean canLoadInBatches() {
+        return false;
+    }
+
     abstract QueryType queryType();
 
     abstract BatchLoadResult loadSingleBatch(
         Transaction tx,
-        int bufferSize
+        int bufferSize,
+        Map<String, Object> queryParameters
     );
 
     abstract void updateCounts(BatchLoadResult result);
@@ -113,8 +190,8 @@ abstract class CypherRecordLoader<R> {
             .collect(Collectors.toList());
     }
 
-    Result runLoadingQuery(Transaction tx) {
-        Result result = runQueryWithoutClosingTheResult(tx, loadQuery, cypherConfig.parameters());
+    Result runLoadingQuery(Transaction tx, Map<String, Object> queryParameters) {
+        Result result = runQueryWithoutClosingTheResult(tx, loadQuery, queryParameters);
         validateMandatoryColumns(Lists.newArrayList(result.columns().iterator()));
         return result;
     }
@@ -136,8 +136,8 @@ class CypherRelationshipLoader extends CypherRecordLoader<CypherRelationshipLoad
     }
 
     @Override
-    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize) {
-        Result queryResult = runLoadingQuery(tx);
+    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize, Map<String, Object> queryParameters) {
+        Result queryResult = runLoadingQuery(tx, queryParameters);
 
         List<String> allColumns = queryResult.columns();
 
@@ -183,6 +183,13 @@ class CypherRelationshipLoader extends CypherRecordLoader<CypherRelationshipLoad
         return new BatchLoadResult(visitor.rows(), -1L);
     }
 
+    @Override
+    boolean canLoadInBatches() {
+        // Property mappings are initialized by the first batch, after
+        // that each batch only uses thread-local importers and buffers.
+        return true;
+    }
+
     @Override
     void updateCounts(BatchLoadResult result) { }
 
@@ -260,8 +267,8 @@ class CypherRelationshipLoader extends CypherRecordLoader<CypherRelationshipLoad
 
             RelationshipsBuilder builder = new RelationshipsBuilder(
                 projection,
-                TransientAdjacencyListBuilder.builderFactory(loadingContext.tracker()),
-                TransientAdjacencyOffsets.forPageSize(pageSize)
+                TransientAdjacencyListBuilder.builderFactory(cypherConfig.offHeap(), loadingContext.tracker()),
+                TransientAdjacencyOffsets.forPageSize(pageSize, cypherConfig.offHeap(), loadingContext.tracker())
             );
 
             allBuilders.put(relationshipType, builder);
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.mutable.MutableDouble;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.graphalgo.annotation.ValueClass;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -294,6 +295,17 @@ public abstract class DoubleCodec {
      */
     public abstract int decompressDouble(byte[] data, int pos, MutableDouble out);
 
+    /**
+     * Decompress a single double from the given buffer and write the result into out.
+     * The buffer is read at absolute positions, its position and limit are ignored.
+     *
+     * @param data the compressed data.
+     * @param pos start reading from {@code data} at this position.
+     * @param out output value, the result should be written using {@link MutableDouble#doubleValue()}.
+     * @return the new value of {@code pos} after reading the compressed value.
+     */
+    public abstract int decompressDouble(ByteBuffer data, int pos, MutableDouble out);
+
     /**
      * Decompress a single double from the given byte array and return it.
      * There is no way to know how many bytes have been read.
@@ -317,6 +329,15 @@ public abstract class DoubleCodec {
      */
     public abstract int compressedSize(byte[] data, int pos);
 
+    /**
+     * Return the number of bytes used to compress the current value.
+     *
+     * @param data the compressed data.
+     * @param pos start reading from {@code data} at this position.
+     * @return the number of bytes that the compressed value at {@code pos} is.
+     */
+    public abstract int compressedSize(ByteBuffer data, int pos);
+
     /**
      * Return some string description on how the data is compressed.
      * For debugging or testing.
@@ -0,0 +1,721 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.ImmutableProperties;
+import org.neo4j.graphalgo.api.ImmutableTopology;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.nodeproperties.DoubleArrayNodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.FloatArrayNodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.LongArrayNodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
+import org.neo4j.kernel.database.NamedDatabaseId;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A binary file format for {@link CSRGraphStore}s.
+ *
+ * The file header records the user who saved the graph and the database it was projected from,
+ * both have to match when the file is read.
+ * The file contains the id map, including the node label bit sets, all node properties,
+ * and for every relationship type the adjacency list and offsets of the topology and of all relationship properties,
+ * each followed by their inverse counterparts if the relationships were projected with {@code indexInverse}.
+ * Adjacency lists are stored as their raw, already compressed pages and are not re-encoded.
+ * The graph schema is implied by the stored labels, types and property keys and value types.
+ *
+ * Files are read by memory mapping them in windows of at most {@link MappedInput#MAX_WINDOW_SIZE} bytes
+ * and bulk-copying the pages into heap arrays, which avoids any per-relationship decoding on load.
+ */
+public final class GraphStoreFile {
+
+    private static final int MAGIC = 0x47445347;
+    private static final int VERSION = 3;
+
+    private static final byte NO_CODEC = 0;
+    private static final byte COMPACT_CODEC = 1;
+
+    private static final int NULL_ARRAY = -1;
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    public static long write(GraphStore graphStore, String username, Path file) throws IOException {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Graph stores of type %s cannot be written to a file.",
+                graphStore.getClass().getSimpleName()
+            ));
+        }
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), OUTPUT_BUFFER_SIZE))) {
+            new Writer((CSRGraphStore) graphStore, username, out).write();
+        }
+        return Files.size(file);
+    }
+
+    public static CSRGraphStore read(
+        Path file,
+        String username,
+        NamedDatabaseId databaseId,
+        int concurrency,
+        AllocationTracker tracker
+    ) throws IOException {
+        try (var in = new MappedInput(file)) {
+            return new Reader(in, username, databaseId, concurrency, tracker).read();
+        }
+    }
+
+    private GraphStoreFile() {}
+
+    private static final class Writer {
+
+        private final CSRGraphStore graphStore;
+        private final String username;
+        private final DataOutputStream out;
+        private final long nodeCount;
+
+        Writer(CSRGraphStore graphStore, String username, DataOutputStream out) {
+            this.graphStore = graphStore;
+            this.username = username;
+            this.out = out;
+            this.nodeCount = graphStore.nodeCount();
+        }
+
+        void write() throws IOException {
+            IdMap idMap = graphStore.idMap();
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeString(username);
+            writeString(graphStore.databaseId().name());
+            out.writeLong(nodeCount);
+            out.writeLong(idMap.highestNeoId());
+
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                out.writeLong(idMap.toOriginalNodeId(nodeId));
+            }
+
+            Map<NodeLabel, BitSet> labelInformation = idMap.labelInformation();
+            out.writeInt(labelInformation.size());
+            for (var entry : labelInformation.entrySet()) {
+                writeString(entry.getKey().name);
+                BitSet bitSet = entry.getValue();
+                out.writeInt(bitSet.wlen);
+                for (int i = 0; i < bitSet.wlen; i++) {
+                    out.writeLong(bitSet.bits[i]);
+                }
+            }
+
+            var nodeLabels = graphStore.nodeLabels();
+            out.writeInt(nodeLabels.size());
+            for (NodeLabel nodeLabel : nodeLabels) {
+                writeString(nodeLabel.name);
+                var propertyKeys = graphStore.nodePropertyKeys(nodeLabel);
+                out.writeInt(propertyKeys.size());
+                for (String propertyKey : propertyKeys) {
+                    writeString(propertyKey);
+                    writeNodeProperties(graphStore.nodePropertyValues(nodeLabel, propertyKey));
+                }
+            }
+
+            var relationshipTypes = graphStore.relationshipTypes();
+            out.writeInt(relationshipTypes.size());
+            for (RelationshipType relationshipType : relationshipTypes) {
+                writeString(relationshipType.name);
+                Relationships.Topology topology = graphStore.relationshipTopology(relationshipType);
+                out.writeLong(topology.elementCount());
+                writeString(topology.orientation().name());
+                out.writeBoolean(topology.isMultiGraph());
+                writeAdjacency(topology.list(), topology.offsets());
+                writeInverseAdjacency(topology);
+
+                var propertyKeys = graphStore.relationshipPropertyKeys(relationshipType);
+                out.writeInt(propertyKeys.size());
+                for (String propertyKey : propertyKeys) {
+                    writeString(propertyKey);
+                    Relationships.Properties properties = graphStore.relationshipPropertyValues(
+                        relationshipType,
+                        propertyKey
+                    );
+                    out.writeDouble(properties.defaultPropertyValue());
+                    writeAdjacency(properties.list(), properties.offsets());
+                    writeInverseAdjacency(properties);
+                }
+            }
+        }
+
+        private void writeNodeProperties(NodeProperties properties) throws IOException {
+            ValueType valueType = properties.valueType();
+            writeString(valueType.name());
+            switch (valueType) {
+                case LONG:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        out.writeLong(properties.longValue(nodeId));
+                    }
+                    break;
+                case DOUBLE:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        out.writeDouble(properties.doubleValue(nodeId));
+                    }
+                    break;
+                case LONG_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        long[] values = properties.longArrayValue(nodeId);
+                        out.writeInt(values == null ? NULL_ARRAY : values.length);
+                        if (values != null) {
+                            for (long value : values) {
+                                out.writeLong(value);
+                            }
+                        }
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        double[] values = properties.doubleArrayValue(nodeId);
+                        out.writeInt(values == null ? NULL_ARRAY : values.length);
+                        if (values != null) {
+                            for (double value : values) {
+                                out.writeDouble(value);
+                            }
+                        }
+                    }
+                    break;
+                case FLOAT_ARRAY:
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        float[] values = properties.floatArrayValue(nodeId);
+                        out.writeInt(values == null ? NULL_ARRAY : values.length);
+                        if (values != null) {
+                            for (float value : values) {
+                                out.writeFloat(value);
+                            }
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Node properties of type %s cannot be written to a file.",
+                        valueType
+                    ));
+            }
+        }
+
+        private void writeAdjacency(AdjacencyList list, AdjacencyOffsets offsets) throws IOException {
+            if (!(list instanceof TransientAdjacencyList)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Adjacency lists of type %s cannot be written to a file.",
+                    list.getClass().getSimpleName()
+                ));
+            }
+            var adjacencyList = (TransientAdjacencyList) list;
+            writeString(adjacencyList.encoding().name());
+            out.writeByte(codecId(adjacencyList.propertyCodec()));
+
+            if (adjacencyList.isOffHeap()) {
+                writeOffHeapPages(adjacencyList.offHeapPages());
+            } else {
+                byte[][] pages = adjacencyList.pages();
+                out.writeInt(pages.length);
+                for (byte[] page : pages) {
+                    out.writeInt(page == null ? NULL_ARRAY : page.length);
+                    if (page != null) {
+                        out.write(page);
+                    }
+                }
+            }
+
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                out.writeLong(offsets.get(nodeId));
+            }
+        }
+
+        private void writeOffHeapPages(ByteBuffer[] pages) throws IOException {
+            byte[] buffer = new byte[OUTPUT_BUFFER_SIZE];
+            out.writeInt(pages.length);
+            for (ByteBuffer page : pages) {
+                out.writeInt(page == null ? NULL_ARRAY : page.capacity());
+                if (page != null) {
+                    ByteBuffer source = page.duplicate().clear();
+                    while (source.hasRemaining()) {
+                        int length = Math.min(buffer.length, source.remaining());
+                        source.get(buffer, 0, length);
+                        out.write(buffer, 0, length);
+                    }
+                }
+            }
+        }
+
+        private void writeInverseAdjacency(Relationships.Topology topology) throws IOException {
+            boolean hasInverse = topology.inverseList().isPresent() && topology.inverseOffsets().isPresent();
+            out.writeBoolean(hasInverse);
+            if (hasInverse) {
+                writeAdjacency(topology.inverseList().get(), topology.inverseOffsets().get());
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static byte codecId(@Nullable DoubleCodec codec) {
+            if (codec == null) {
+                return NO_CODEC;
+            }
+            if (codec == CompactDoubleCodec.instance()) {
+                return COMPACT_CODEC;
+            }
+            throw new IllegalArgumentException(formatWithLocale(
+                "Properties compressed with %s cannot be written to a file.",
+                codec.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private static final class Reader {
+
+        private final MappedInput in;
+        private final String username;
+        private final NamedDatabaseId databaseId;
+        private final int concurrency;
+        private final AllocationTracker tracker;
+
+        private long nodeCount;
+
+        Reader(MappedInput in, String username, NamedDatabaseId databaseId, int concurrency, AllocationTracker tracker) {
+            this.in = in;
+            this.username = username;
+            this.databaseId = databaseId;
+            this.concurrency = concurrency;
+            this.tracker = tracker;
+        }
+
+        CSRGraphStore read() throws IOException {
+            int magic = in.readInt();
+            int version = in.readInt();
+            if (magic != MAGIC || version != VERSION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "File %s is not a graph store file of version %d.",
+                    in.file,
+                    VERSION
+                ));
+            }
+
+            String savedBy = in.readString();
+            if (!savedBy.equals(username)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "File %s was saved by user `%s` and cannot be loaded by user `%s`.",
+                    in.file,
+                    savedBy,
+                    username
+                ));
+            }
+            String sourceDatabase = in.readString();
+            if (!sourceDatabase.equals(databaseId.name())) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "File %s was saved from database `%s` and cannot be loaded into database `%s`.",
+                    in.file,
+                    sourceDatabase,
+                    databaseId.name()
+                ));
+            }
+
+            nodeCount = in.readLong();
+            long highestNeoId = in.readLong();
+
+            HugeLongArray graphIds = HugeLongArray.newArray(nodeCount, tracker);
+            readLongs(graphIds);
+            HugeSparseLongArray nodeToGraphIds = IdMapBuilder.buildSparseNodeMapping(
+                nodeCount,
+                highestNeoId,
+                concurrency,
+                IdMapBuilder.add(graphIds),
+                tracker
+            );
+
+            int labelCount = in.readInt();
+            Map<NodeLabel, BitSet> labelInformation = new HashMap<>(labelCount);
+            for (int i = 0; i < labelCount; i++) {
+                NodeLabel nodeLabel = NodeLabel.of(in.readString());
+                int wordCount = in.readInt();
+                long[] words = new long[wordCount];
+                in.readLongs(words, 0, wordCount);
+                labelInformation.put(nodeLabel, new BitSet(words, wordCount));
+            }
+            IdMap idMap = new IdMap(graphIds, nodeToGraphIds, labelInformation, nodeCount);
+
+            int nodeLabelCount = in.readInt();
+            Map<NodeLabel, Map<String, NodeProperties>> nodeProperties = new HashMap<>(nodeLabelCount);
+            for (int i = 0; i < nodeLabelCount; i++) {
+                NodeLabel nodeLabel = NodeLabel.of(in.readString());
+                int propertyCount = in.readInt();
+                Map<String, NodeProperties> properties = new HashMap<>(propertyCount);
+                for (int j = 0; j < propertyCount; j++) {
+                    String propertyKey = in.readString();
+                    properties.put(propertyKey, readNodeProperties());
+                }
+                nodeProperties.put(nodeLabel, properties);
+            }
+
+            int relationshipTypeCount = in.readInt();
+            Map<RelationshipType, Relationships.Topology> topologies = new HashMap<>(relationshipTypeCount);
+            Map<RelationshipType, Map<String, Relationships.Properties>> relationshipProperties = new HashMap<>();
+            for (int i = 0; i < relationshipTypeCount; i++) {
+                RelationshipType relationshipType = RelationshipType.of(in.readString());
+                long elementCount = in.readLong();
+                Orientation orientation = Orientation.valueOf(in.readString());
+                boolean isMultiGraph = in.readBoolean();
+                AdjacencyList list = readAdjacencyList();
+                AdjacencyOffsets offsets = readOffsets();
+                boolean hasInverse = in.readBoolean();
+                AdjacencyList inverseList = hasInverse ? readAdjacencyList() : null;
+                AdjacencyOffsets inverseOffsets = hasInverse ? readOffsets() : null;
+                topologies.put(
+                    relationshipType,
+                    ImmutableTopology
+                        .copyOf(Relationships.of(elementCount, orientation, isMultiGraph, list, offsets, null, null, 0.0).topology())
+                        .withInverseList(Optional.ofNullable(inverseList))
+                        .withInverseOffsets(Optional.ofNullable(inverseOffsets))
+                );
+
+                int propertyCount = in.readInt();
+                if (propertyCount > 0) {
+                    Map<String, Relationships.Properties> properties = new HashMap<>(propertyCount);
+                    for (int j = 0; j < propertyCount; j++) {
+                        String propertyKey = in.readString();
+                        double defaultPropertyValue = in.readDouble();
+                        AdjacencyList propertyList = readAdjacencyList();
+                        AdjacencyOffsets propertyOffsets = readOffsets();
+                        boolean hasInversePropertyList = in.readBoolean();
+                        AdjacencyList inversePropertyList = hasInversePropertyList ? readAdjacencyList() : null;
+                        AdjacencyOffsets inversePropertyOffsets = hasInversePropertyList ? readOffsets() : null;
+                        properties.put(propertyKey, ImmutableProperties.copyOf(Relationships.of(
+                            elementCount,
+                            orientation,
+                            isMultiGraph,
+                            list,
+                            offsets,
+                            propertyList,
+                            propertyOffsets,
+                            defaultPropertyValue
+                        ).properties().get())
+                            .withInverseList(Optional.ofNullable(inversePropertyList))
+                            .withInverseOffsets(Optional.ofNullable(inversePropertyOffsets)));
+                    }
+                    relationshipProperties.put(relationshipType, properties);
+                }
+            }
+
+            return CSRGraphStore.of(
+                databaseId,
+                idMap,
+                nodeProperties,
+                topologies,
+                relationshipProperties,
+                concurrency,
+                tracker
+            );
+        }
+
+        private NodeProperties readNodeProperties() throws IOException {
+            ValueType valueType = ValueType.valueOf(in.readString());
+            switch (valueType) {
+                case LONG:
+                    HugeLongArray longValues = HugeLongArray.newArray(nodeCount, tracker);
+                    readLongs(longValues);
+                    return longValues.asNodeProperties();
+                case DOUBLE:
+                    HugeDoubleArray doubleValues = HugeDoubleArray.newArray(nodeCount, tracker);
+                    readDoubles(doubleValues);
+                    return doubleValues.asNodeProperties();
+                case LONG_ARRAY:
+                    HugeObjectArray<long[]> longArrays = HugeObjectArray.newArray(long[].class, nodeCount, tracker);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        int length = in.readInt();
+                        if (length != NULL_ARRAY) {
+                            long[] values = new long[length];
+                            in.readLongs(values, 0, length);
+                            longArrays.set(nodeId, values);
+                        }
+                    }
+                    return new LongArrayNodeProperties() {
+                        @Override
+                        public long[] longArrayValue(long nodeId) {
+                            return longArrays.get(nodeId);
+                        }
+
+                        @Override
+                        public long size() {
+                            return longArrays.size();
+                        }
+                    };
+                case DOUBLE_ARRAY:
+                    HugeObjectArray<double[]> doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount, tracker);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        int length = in.readInt();
+                        if (length != NULL_ARRAY) {
+                            double[] values = new double[length];
+                            in.readDoubles(values, 0, length);
+                            doubleArrays.set(nodeId, values);
+                        }
+                    }
+                    return new DoubleArrayNodeProperties() {
+                        @Override
+                        public double[] doubleArrayValue(long nodeId) {
+                            return doubleArrays.get(nodeId);
+                        }
+
+                        @Override
+                        public long size() {
+                            return doubleArrays.size();
+                        }
+                    };
+                case FLOAT_ARRAY:
+                    HugeObjectArray<float[]> floatArrays = HugeObjectArray.newArray(float[].class, nodeCount, tracker);
+                    for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                        int length = in.readInt();
+                        if (length != NULL_ARRAY) {
+                            float[] values = new float[length];
+                            in.readFloats(values, 0, length);
+                            floatArrays.set(nodeId, values);
+                        }
+                    }
+                    return new FloatArrayNodeProperties() {
+                        @Override
+                        public float[] floatArrayValue(long nodeId) {
+                            return floatArrays.get(nodeId);
+                        }
+
+                        @Override
+                        public long size() {
+                            return floatArrays.size();
+                        }
+                    };
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Unexpected node property type %s in file %s.",
+                        valueType,
+                        in.file
+                    ));
+            }
+        }
+
+        private AdjacencyList readAdjacencyList() throws IOException {
+            AdjacencyEncoding encoding = AdjacencyEncoding.valueOf(in.readString());
+            byte codecId = in.readByte();
+
+            int pageCount = in.readInt();
+            byte[][] pages = new byte[pageCount][];
+            for (int i = 0; i < pageCount; i++) {
+                int length = in.readInt();
+                if (length != NULL_ARRAY) {
+                    pages[i] = new byte[length];
+                    in.readBytes(pages[i]);
+                    tracker.add(MemoryUsage.sizeOfByteArray(length));
+                }
+            }
+
+            return codecId == COMPACT_CODEC
+                ? new TransientAdjacencyList(pages, CompactDoubleCodec.instance())
+                : new TransientAdjacencyList(pages, encoding);
+        }
+
+        private AdjacencyOffsets readOffsets() throws IOException {
+            ImportSizing sizing = ImportSizing.of(concurrency, nodeCount);
+            int pageSize = sizing.pageSize();
+            long[][] pages = new long[sizing.numberOfPages()][];
+            long remaining = nodeCount;
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = new long[pageSize];
+                tracker.add(MemoryUsage.sizeOfLongArray(pageSize));
+                int length = (int) Math.min(remaining, pageSize);
+                in.readLongs(pages[i], 0, length);
+                remaining -= length;
+            }
+            return TransientAdjacencyOffsets.forPageSize(pageSize).newOffsets(pages);
+        }
+
+        private void readLongs(HugeLongArray array) throws IOException {
+            try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+                while (cursor.next()) {
+                    in.readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+
+        private void readDoubles(HugeDoubleArray array) throws IOException {
+            try (HugeCursor<double[]> cursor = array.initCursor(array.newCursor())) {
+                while (cursor.next()) {
+                    in.readDoubles(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sequential reads from a memory mapped file.
+     * A single mapping is limited to 2GB, so the file is mapped in consecutive windows.
+     */
+    private static final class MappedInput implements AutoCloseable {
+
+        static final long MAX_WINDOW_SIZE = 1L << 30;
+
+        private final Path file;
+        private final FileChannel channel;
+        private final long fileSize;
+
+        private MappedByteBuffer buffer;
+        private long bufferStart;
+
+        MappedInput(Path file) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.fileSize = channel.size();
+            this.bufferStart = 0L;
+            this.buffer = map(0L);
+        }
+
+        byte readByte() throws IOException {
+            ensure(Byte.BYTES);
+            return buffer.get();
+        }
+
+        boolean readBoolean() throws IOException {
+            return readByte() != 0;
+        }
+
+        int readInt() throws IOException {
+            ensure(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        long readLong() throws IOException {
+            ensure(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        double readDouble() throws IOException {
+            ensure(Double.BYTES);
+            return buffer.getDouble();
+        }
+
+        String readString() throws IOException {
+            byte[] bytes = new byte[readInt()];
+            readBytes(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        void readBytes(byte[] target) throws IOException {
+            int offset = 0;
+            while (offset < target.length) {
+                ensure(Byte.BYTES);
+                int length = Math.min(target.length - offset, buffer.remaining());
+                buffer.get(target, offset, length);
+                offset += length;
+            }
+        }
+
+        void readLongs(long[] target, int offset, int length) throws IOException {
+            int end = offset + length;
+            while (offset < end) {
+                ensure(Long.BYTES);
+                int count = Math.min(end - offset, buffer.remaining() / Long.BYTES);
+                buffer.asLongBuffer().get(target, offset, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                offset += count;
+            }
+        }
+
+        void readDoubles(double[] target, int offset, int length) throws IOException {
+            int end = offset + length;
+            while (offset < end) {
+                ensure(Double.BYTES);
+                int count = Math.min(end - offset, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().get(target, offset, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                offset += count;
+            }
+        }
+
+        void readFloats(float[] target, int offset, int length) throws IOException {
+            int end = offset + length;
+            while (offset < end) {
+                ensure(Float.BYTES);
+                int count = Math.min(end - offset, buffer.remaining() / Float.BYTES);
+                buffer.asFloatBuffer().get(target, offset, count);
+                buffer.position(buffer.position() + count * Float.BYTES);
+                offset += count;
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                long position = bufferStart + buffer.position();
+                if (fileSize - position < bytes) {
+                    throw new EOFException(formatWithLocale("Unexpected end of file %s.", file));
+                }
+                bufferStart = position;
+                buffer = map(position);
+            }
+        }
+
+        private MappedByteBuffer map(long position) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_WINDOW_SIZE, fileSize - position));
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -117,6 +117,16 @@ public class IdMap implements NodeMapping, NodeIterator, BatchNodeIterable {
         return nodeCount;
     }
 
+    /**
+     * Releases the mapping to the original node ids, which might be stored off-heap.
+     * The id map must not be used afterwards.
+     *
+     * @return the number of released bytes
+     */
+    public long release() {
+        return graphIds.release();
+    }
+
     @Override
     public void forEachNode(LongPredicate consumer) {
         final long count = nodeCount();
@@ -168,6 +178,14 @@ public class IdMap implements NodeMapping, NodeIterator, BatchNodeIterable {
         return bitSet != null && bitSet.get(nodeId);
     }
 
+    Map<NodeLabel, BitSet> labelInformation() {
+        return labelInformation;
+    }
+
+    long highestNeoId() {
+        return nodeToGraphIds.getCapacity() - 1;
+    }
+
     IdMap withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
         validateNodeLabelFilter(nodeLabels, labelInformation);
 
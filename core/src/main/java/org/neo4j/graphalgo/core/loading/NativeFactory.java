@@ -24,6 +24,7 @@ import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.NodeProjections;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.PropertyMappings;
+import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.RelationshipProjections;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.api.CSRGraphStoreFactory;
@@ -92,29 +93,44 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromSto
 
             boolean undirected = relationshipProjection.orientation() == Orientation.UNDIRECTED;
 
-            // adjacency list
+            addRelationshipsEstimation(builder, relationshipType, relationshipProjection, undirected, "");
+            if (relationshipProjection.indexInverse() && !undirected) {
+                addRelationshipsEstimation(builder, relationshipType, relationshipProjection, false, "inverse ");
+            }
+        });
+
+        return builder.build();
+    }
+
+    private static void addRelationshipsEstimation(
+        MemoryEstimations.Builder builder,
+        RelationshipType relationshipType,
+        RelationshipProjection relationshipProjection,
+        boolean undirected,
+        String prefix
+    ) {
+        // adjacency list
+        builder.add(
+            formatWithLocale("%sadjacency list for '%s'", prefix, relationshipType),
+            TransientAdjacencyList.compressedMemoryEstimation(relationshipType, undirected)
+        );
+        builder.add(
+            formatWithLocale("%sadjacency offsets for '%s'", prefix, relationshipType),
+            TransientAdjacencyOffsets.memoryEstimation()
+        );
+        // all properties per projection
+        relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
             builder.add(
-                formatWithLocale("adjacency list for '%s'", relationshipType),
-                TransientAdjacencyList.compressedMemoryEstimation(relationshipType, undirected)
+                formatWithLocale("%sproperty '%s.%s", prefix, relationshipType, resolvedPropertyMapping.propertyKey()),
+                resolvedPropertyMapping.compress()
+                    ? TransientAdjacencyList.compressedPropertiesMemoryEstimation(relationshipType, undirected)
+                    : TransientAdjacencyList.uncompressedMemoryEstimation(relationshipType, undirected)
             );
             builder.add(
-                formatWithLocale("adjacency offsets for '%s'", relationshipType),
+                formatWithLocale("%sproperty offset '%s.%s", prefix, relationshipType, resolvedPropertyMapping.propertyKey()),
                 TransientAdjacencyOffsets.memoryEstimation()
             );
-            // all properties per projection
-            relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
-                builder.add(
-                    formatWithLocale("property '%s.%s", relationshipType, resolvedPropertyMapping.propertyKey()),
-                    TransientAdjacencyList.uncompressedMemoryEstimation(relationshipType, undirected)
-                );
-                builder.add(
-                    formatWithLocale("property offset '%s.%s", relationshipType, resolvedPropertyMapping.propertyKey()),
-                    TransientAdjacencyOffsets.memoryEstimation()
-                );
-            });
         });
-
-        return builder.build();
     }
 
     @Override
@@ -193,8 +209,8 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromSto
                 Map.Entry::getKey,
                 projectionEntry -> new RelationshipsBuilder(
                     projectionEntry.getValue(),
-                    TransientAdjacencyListBuilder.builderFactory(tracker),
-                    TransientAdjacencyOffsets.forPageSize(pageSize)
+                    TransientAdjacencyListBuilder.builderFactory(graphCreateConfig.offHeap(), tracker),
+                    TransientAdjacencyOffsets.forPageSize(pageSize, graphCreateConfig.offHeap(), tracker)
                 )
             ));
 
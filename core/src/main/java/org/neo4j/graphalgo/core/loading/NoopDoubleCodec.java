@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.core.loading;
 
 import org.apache.commons.lang3.mutable.MutableDouble;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 @SuppressWarnings({"PointlessBitwiseExpression", "PointlessArithmeticExpression"})
@@ -59,11 +60,26 @@ public final class NoopDoubleCodec extends DoubleCodec {
         return 8 + pos;
     }
 
+    @Override
+    public int decompressDouble(ByteBuffer data, int pos, MutableDouble out) {
+        long bits = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits = (bits << 8) | (data.get(pos + i) & 0xFF);
+        }
+        out.setValue(Double.longBitsToDouble(bits));
+        return 8 + pos;
+    }
+
     @Override
     public int compressedSize(byte[] data, int pos) {
         return 8;
     }
 
+    @Override
+    public int compressedSize(ByteBuffer data, int pos) {
+        return 8;
+    }
+
     @Override
     public String describeCompression(int type) {
         return "NOOP";
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.compat.Neo4jProxy;
 import org.neo4j.graphalgo.core.Aggregation;
@@ -30,6 +31,7 @@ import org.neo4j.internal.kernel.api.Read;
 import org.neo4j.io.pagecache.tracing.cursor.PageCursorTracer;
 import org.neo4j.memory.MemoryTracker;
 
+import java.util.ArrayList;
 import java.util.Collection;
 
 import static org.neo4j.graphalgo.core.loading.RelationshipsBatchBuffer.BATCH_ENTRY_SIZE;
@@ -41,10 +43,24 @@ public class RelationshipImporter {
 
     private final AllocationTracker tracker;
     private final AdjacencyBuilder adjacencyBuilder;
+    private final @Nullable AdjacencyBuilder inverseAdjacencyBuilder;
 
     public RelationshipImporter(AllocationTracker tracker, AdjacencyBuilder adjacencyBuilder) {
+        this(tracker, adjacencyBuilder, null);
+    }
+
+    /**
+     * @param inverseAdjacencyBuilder if present, every relationship is additionally imported
+     *                                with source and target swapped into this builder
+     */
+    public RelationshipImporter(
+        AllocationTracker tracker,
+        AdjacencyBuilder adjacencyBuilder,
+        @Nullable AdjacencyBuilder inverseAdjacencyBuilder
+    ) {
         this.tracker = tracker;
         this.adjacencyBuilder = adjacencyBuilder;
+        this.inverseAdjacencyBuilder = inverseAdjacencyBuilder;
     }
 
     public interface Imports {
@@ -52,6 +68,13 @@ public class RelationshipImporter {
     }
 
     public Imports imports(Orientation orientation, boolean loadProperties) {
+        Imports imports = forwardImports(orientation, loadProperties);
+        return inverseAdjacencyBuilder == null || orientation == Orientation.UNDIRECTED
+            ? imports
+            : withInverse(imports, loadProperties);
+    }
+
+    private Imports forwardImports(Orientation orientation, boolean loadProperties) {
         if (orientation == Orientation.UNDIRECTED) {
             return loadProperties
                 ? this::importUndirectedWithProperties
@@ -144,6 +167,34 @@ public class RelationshipImporter {
         return RawValues.combineIntInt(importedIn, importedIn);
     }
 
+    /**
+     * The forward import leaves the batch sorted by its first position, which is the source for
+     * {@link Orientation#NATURAL} and the target for {@link Orientation#REVERSE}.
+     * Sorting by the second position swaps both positions, so the same import routine
+     * then adds the inverse relationships. The returned counts are those of the forward import.
+     */
+    private Imports withInverse(Imports imports, boolean loadProperties) {
+        AdjacencyBuilder inverse = inverseAdjacencyBuilder;
+        return (buffer, propertyReader) -> {
+            long imported = imports.importRelationships(buffer, propertyReader);
+
+            long[] batch = buffer.sortByTarget();
+            long[][] properties = loadProperties
+                ? propertyReader.readProperty(
+                    batch,
+                    buffer.length(),
+                    inverse.getPropertyKeyIds(),
+                    inverse.getDefaultValues(),
+                    inverse.getAggregations(),
+                    inverse.atLeastOnePropertyToLoad()
+                )
+                : null;
+            importRelationships(buffer, batch, properties, inverse, tracker);
+
+            return imported;
+        };
+    }
+
     public interface PropertyReader {
         /**
          * Load the relationship properties for the given batch of relationships.
@@ -168,7 +219,12 @@ public class RelationshipImporter {
     }
 
     public Collection<Runnable> flushTasks() {
-        return adjacencyBuilder.flushTasks();
+        if (inverseAdjacencyBuilder == null) {
+            return adjacencyBuilder.flushTasks();
+        }
+        var tasks = new ArrayList<>(adjacencyBuilder.flushTasks());
+        tasks.addAll(inverseAdjacencyBuilder.flushTasks());
+        return tasks;
     }
 
     PropertyReader storeBackedPropertiesReader(
@@ -20,10 +20,13 @@
 package org.neo4j.graphalgo.core.loading;
 
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.api.AdjacencyList;
 import org.neo4j.graphalgo.api.AdjacencyOffsets;
 import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
 import java.util.Arrays;
 import java.util.function.Predicate;
@@ -33,36 +36,70 @@ import static java.util.Objects.requireNonNull;
 public class RelationshipsBuilder {
 
     private static final AdjacencyListBuilder[] EMPTY_PROPERTY_BUILDERS = new AdjacencyListBuilder[0];
+    private static final DoubleCodec[] EMPTY_PROPERTY_CODECS = new DoubleCodec[0];
 
     private final RelationshipProjection projection;
     private final AdjacencyListBuilder adjacencyListBuilder;
     private final AdjacencyOffsetsFactory offsetsFactory;
     private final AdjacencyListBuilder[] propertyBuilders;
+    // null entries indicate uncompressed properties
+    private final DoubleCodec[] propertyCodecs;
     private long[][] globalAdjacencyOffsetsPages;
     private AdjacencyOffsets globalAdjacencyOffsets;
     private long[][][] globalPropertyOffsetsPages;
     private AdjacencyOffsets[] globalPropertyOffsets;
+    // set instead of the offset pages if the offsets factory stores the offsets off-heap
+    private @Nullable HugeLongArray offHeapAdjacencyOffsets;
+    private @Nullable HugeLongArray[] offHeapPropertyOffsets;
+    private final @Nullable RelationshipsBuilder inverse;
 
     public RelationshipsBuilder(
         RelationshipProjection projection,
         AdjacencyListBuilderFactory listBuilderFactory,
         AdjacencyOffsetsFactory offsetsFactory
+    ) {
+        this(
+            projection,
+            listBuilderFactory,
+            offsetsFactory,
+            projection.indexInverse() && projection.orientation() != Orientation.UNDIRECTED
+        );
+    }
+
+    private RelationshipsBuilder(
+        RelationshipProjection projection,
+        AdjacencyListBuilderFactory listBuilderFactory,
+        AdjacencyOffsetsFactory offsetsFactory,
+        boolean indexInverse
     ) {
         this.projection = projection;
-        this.adjacencyListBuilder = listBuilderFactory.newAdjacencyListBuilder();
+        this.adjacencyListBuilder = listBuilderFactory.newAdjacencyListBuilder(projection.adjacencyEncoding());
         this.offsetsFactory = offsetsFactory;
 
         if (projection.properties().isEmpty()) {
             this.propertyBuilders = EMPTY_PROPERTY_BUILDERS;
+            this.propertyCodecs = EMPTY_PROPERTY_CODECS;
         } else {
+            this.propertyCodecs = projection.properties()
+                .stream()
+                .map(mapping -> mapping.compress() ? CompactDoubleCodec.instance() : null)
+                .toArray(DoubleCodec[]::new);
             this.propertyBuilders = new AdjacencyListBuilder[projection.properties().numberOfMappings()];
-            Arrays.setAll(propertyBuilders, i -> listBuilderFactory.newAdjacencyListBuilder());
+            Arrays.setAll(propertyBuilders, i -> propertyCodecs[i] == null
+                ? listBuilderFactory.newAdjacencyListBuilder()
+                : listBuilderFactory.newPropertyListBuilder(propertyCodecs[i])
+            );
         }
+
+        this.inverse = indexInverse
+            ? new RelationshipsBuilder(projection, listBuilderFactory, offsetsFactory, false)
+            : null;
     }
 
     final ThreadLocalRelationshipsBuilder threadLocalRelationshipsBuilder(
-        long[] adjacencyOffsets,
-        long[][] propertyOffsets,
+        HugeLongArray adjacencyOffsets,
+        HugeLongArray[] propertyOffsets,
+        long offsetBase,
         Aggregation[] aggregations
     ) {
         return new ThreadLocalRelationshipsBuilder(
@@ -70,12 +107,41 @@ public class RelationshipsBuilder {
             Arrays.stream(propertyBuilders)
                 .map(AdjacencyListBuilder::newAllocator)
                 .toArray(AdjacencyListAllocator[]::new),
+            propertyCodecs,
+            projection.adjacencyEncoding(),
             adjacencyOffsets,
             propertyOffsets,
+            offsetBase,
             aggregations
         );
     }
 
+    /**
+     * Allocates the off-heap arrays for the offsets of {@code size} nodes,
+     * if the offsets factory stores the offsets off-heap.
+     *
+     * @return {@code true} iff the importer has to write the offsets directly into
+     *     {@link #offHeapAdjacencyOffsets()} and {@link #offHeapPropertyOffsets()}.
+     */
+    final boolean allocateOffHeapOffsets(long size, int propertyCount) {
+        HugeLongArray adjacencyOffsets = offsetsFactory.newOffHeapArray(size);
+        if (adjacencyOffsets == null) {
+            return false;
+        }
+        offHeapAdjacencyOffsets = adjacencyOffsets;
+        offHeapPropertyOffsets = new HugeLongArray[propertyCount];
+        Arrays.setAll(offHeapPropertyOffsets, i -> offsetsFactory.newOffHeapArray(size));
+        return true;
+    }
+
+    final HugeLongArray offHeapAdjacencyOffsets() {
+        return requireNonNull(offHeapAdjacencyOffsets);
+    }
+
+    final HugeLongArray[] offHeapPropertyOffsets() {
+        return requireNonNull(offHeapPropertyOffsets);
+    }
+
     final void setGlobalAdjacencyOffsets(long[][] pages) {
         this.globalAdjacencyOffsetsPages = pages;
     }
@@ -99,7 +165,9 @@ public class RelationshipsBuilder {
 
     public AdjacencyOffsets globalAdjacencyOffsets() {
         if (globalAdjacencyOffsets == null) {
-            globalAdjacencyOffsets = offsetsFactory.newOffsets(requireNonNull(globalAdjacencyOffsetsPages));
+            globalAdjacencyOffsets = offHeapAdjacencyOffsets != null
+                ? offsetsFactory.newOffsets(offHeapAdjacencyOffsets)
+                : offsetsFactory.newOffsets(requireNonNull(globalAdjacencyOffsetsPages));
         }
         return globalAdjacencyOffsets;
     }
@@ -117,12 +185,24 @@ public class RelationshipsBuilder {
         return this.projection;
     }
 
+    /**
+     * The builder for the inverse relationships, which is present iff the projection asks to
+     * {@link RelationshipProjection#indexInverse() index inverse relationships} and is not undirected.
+     */
+    public @Nullable RelationshipsBuilder inverse() {
+        return this.inverse;
+    }
+
     // TODO: This returns only the first of possibly multiple properties
     public AdjacencyOffsets globalPropertyOffsets() {
         return globalPropertyOffsets(0);
     }
 
     public AdjacencyOffsets globalPropertyOffsets(int propertyIndex) {
+        if (globalPropertyOffsets == null && offHeapPropertyOffsets != null) {
+            globalPropertyOffsets = new AdjacencyOffsets[offHeapPropertyOffsets.length];
+            Arrays.setAll(globalPropertyOffsets, i -> offsetsFactory.newOffsets(offHeapPropertyOffsets[i]));
+        }
         if (globalPropertyOffsets == null) {
             globalPropertyOffsets = new AdjacencyOffsets[requireNonNull(globalPropertyOffsetsPages).length];
             Arrays.setAll(globalPropertyOffsets, i -> {
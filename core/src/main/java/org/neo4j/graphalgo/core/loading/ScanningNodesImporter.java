@@ -93,7 +93,9 @@ final class ScanningNodesImporter extends ScanningRecordsImporter<NodeReference,
         ImportSizing sizing,
         StoreScanner<NodeReference> scanner
     ) {
-        idMapBuilder = HugeLongArrayBuilder.of(nodeCount, tracker);
+        idMapBuilder = graphCreateConfig.offHeap()
+            ? HugeLongArrayBuilder.offHeap(nodeCount, tracker)
+            : HugeLongArrayBuilder.of(nodeCount, tracker);
 
         IntObjectMap<List<NodeLabel>> labelTokenNodeLabelMapping = dimensions.tokenNodeLabelMapping();
 
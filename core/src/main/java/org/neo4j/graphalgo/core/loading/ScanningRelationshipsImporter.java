@@ -148,7 +148,27 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             GdsFeatureToggles.USE_PRE_AGGREGATION.get()
         );
 
-        RelationshipImporter importer = new RelationshipImporter(loadingContext.tracker(), adjacencyBuilder);
+        RelationshipsBuilder inverseRelationshipsBuilder = relationshipsBuilder.inverse();
+        AdjacencyBuilder inverseAdjacencyBuilder = inverseRelationshipsBuilder == null
+            ? null
+            : AdjacencyBuilder.compressing(
+                inverseRelationshipsBuilder,
+                numberOfPages,
+                pageSize,
+                tracker,
+                // inverse relationships are not counted separately
+                new LongAdder(),
+                propertyKeyIds,
+                defaultValues,
+                aggregations,
+                GdsFeatureToggles.USE_PRE_AGGREGATION.get()
+            );
+
+        RelationshipImporter importer = new RelationshipImporter(
+            loadingContext.tracker(),
+            adjacencyBuilder,
+            inverseAdjacencyBuilder
+        );
         int typeId = dimensions.relationshipTypeTokenMapping().get(relationshipType);
         return new SingleTypeRelationshipImporter.Builder(
             relationshipType,
@@ -19,38 +19,55 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.LongsRef;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 class ThreadLocalRelationshipsBuilder {
 
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
     private final ReentrantLock lock;
     private final AdjacencyListAllocator adjacencyAllocator;
     private final AdjacencyListAllocator[] propertiesAllocators;
-    private final long[] adjacencyOffsets;
-    private final long[][] propertyOffsets;
+    private final DoubleCodec[] propertyCodecs;
+    private final boolean blockPacked;
+    // the offsets of the nodes of this builder start at offsetBase
+    private final HugeLongArray adjacencyOffsets;
+    private final HugeLongArray[] propertyOffsets;
+    private final long offsetBase;
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
+    private byte[] compressedProperties;
+    private byte[] compressedTargets;
 
     ThreadLocalRelationshipsBuilder(
         AdjacencyListAllocator adjacencyAllocator,
         AdjacencyListAllocator[] propertiesAllocators,
-        long[] adjacencyOffsets,
-        long[][] propertyOffsets,
+        DoubleCodec[] propertyCodecs,
+        AdjacencyEncoding adjacencyEncoding,
+        HugeLongArray adjacencyOffsets,
+        HugeLongArray[] propertyOffsets,
+        long offsetBase,
         Aggregation[] aggregations
     ) {
         this.adjacencyAllocator = adjacencyAllocator;
         this.propertiesAllocators = propertiesAllocators;
+        this.propertyCodecs = propertyCodecs;
+        this.blockPacked = adjacencyEncoding == AdjacencyEncoding.BLOCK_PACKED;
         this.adjacencyOffsets = adjacencyOffsets;
         this.propertyOffsets = propertyOffsets;
+        this.offsetBase = offsetBase;
         this.aggregations = aggregations;
         this.lock = new ReentrantLock();
         this.noAggregation = Stream.of(aggregations).allMatch(aggregation -> aggregation == Aggregation.NONE);
+        this.compressedProperties = EMPTY_BYTES;
+        this.compressedTargets = EMPTY_BYTES;
     }
 
     final void prepare() {
@@ -100,12 +117,10 @@ class ThreadLocalRelationshipsBuilder {
         LongsRef buffer,
         int localId
     ) {
-        byte[] storage = array.storage();
         AdjacencyCompression.copyFrom(buffer, array);
         int degree = AdjacencyCompression.applyDeltaEncoding(buffer, aggregations[0]);
-        int requiredBytes = AdjacencyCompression.compress(buffer, storage);
-        long address = copyIds(storage, requiredBytes, degree);
-        adjacencyOffsets[localId] = address;
+        long address = compressIds(array, buffer, degree);
+        adjacencyOffsets.set(offsetBase + localId, address);
         array.release();
         return degree;
     }
@@ -115,18 +130,30 @@ class ThreadLocalRelationshipsBuilder {
         LongsRef buffer,
         int localId
     ) {
-        byte[] storage = array.storage();
         long[][] weights = array.weights();
         AdjacencyCompression.copyFrom(buffer, array);
         int degree = AdjacencyCompression.applyDeltaEncoding(buffer, weights, aggregations, noAggregation);
-        int requiredBytes = AdjacencyCompression.compress(buffer, storage);
-        adjacencyOffsets[localId] = copyIds(storage, requiredBytes, degree);
+        adjacencyOffsets.set(offsetBase + localId, compressIds(array, buffer, degree));
         copyProperties(weights, degree, localId, propertyOffsets);
 
         array.release();
         return degree;
     }
 
+    private long compressIds(CompressedLongArray array, LongsRef buffer, int degree) {
+        if (blockPacked) {
+            int maxRequiredBytes = AdjacencyCompression.blockPackedUpperBound(degree);
+            if (compressedTargets.length < maxRequiredBytes) {
+                compressedTargets = new byte[ArrayUtil.oversize(maxRequiredBytes, Byte.BYTES)];
+            }
+            int requiredBytes = AdjacencyCompression.compressBlockPacked(buffer, compressedTargets);
+            return copyIds(compressedTargets, requiredBytes, degree);
+        }
+        byte[] storage = array.storage();
+        int requiredBytes = AdjacencyCompression.compress(buffer, storage);
+        return copyIds(storage, requiredBytes, degree);
+    }
+
     private long copyIds(byte[] targets, int requiredBytes, int degree) {
         // sizeOf(degree) + compression bytes
         var slice = adjacencyAllocator.allocate(Integer.BYTES + requiredBytes);
@@ -135,12 +162,15 @@ class ThreadLocalRelationshipsBuilder {
         return slice.address();
     }
 
-    private void copyProperties(long[][] properties, int degree, int localId, long[][] offsets) {
+    private void copyProperties(long[][] properties, int degree, int localId, HugeLongArray[] offsets) {
         for (int i = 0; i < properties.length; i++) {
             long[] property = properties[i];
             var propertiesAllocator = propertiesAllocators[i];
-            long address = copyProperties(property, degree, propertiesAllocator);
-            offsets[i][localId] = address;
+            var propertyCodec = propertyCodecs[i];
+            long address = propertyCodec == null
+                ? copyProperties(property, degree, propertiesAllocator)
+                : copyCompressedProperties(property, degree, propertiesAllocator, propertyCodec);
+            offsets[i].set(offsetBase + localId, address);
         }
     }
 
@@ -148,13 +178,24 @@ class ThreadLocalRelationshipsBuilder {
         int requiredBytes = degree * Long.BYTES;
         var slice = propertiesAllocator.allocate(Integer.BYTES /* degree */ + requiredBytes);
         slice.writeInt(degree);
-        int offset = slice.offset();
-        ByteBuffer
-            .wrap(slice.page(), offset, requiredBytes)
-            .order(ByteOrder.LITTLE_ENDIAN)
-            .asLongBuffer()
-            .put(properties, 0, degree);
-        slice.bytesWritten(requiredBytes);
+        slice.insertLongs(properties, degree);
+        return slice.address();
+    }
+
+    private long copyCompressedProperties(
+        long[] properties,
+        int degree,
+        AdjacencyListAllocator propertiesAllocator,
+        DoubleCodec propertyCodec
+    ) {
+        int maxRequiredBytes = degree * CompactDoubleCodec.MAX_COMPRESSED_SIZE;
+        if (compressedProperties.length < maxRequiredBytes) {
+            compressedProperties = new byte[ArrayUtil.oversize(maxRequiredBytes, Byte.BYTES)];
+        }
+        int requiredBytes = propertyCodec.compressDoubles(properties, degree, compressedProperties);
+        var slice = propertiesAllocator.allocate(Integer.BYTES /* degree */ + requiredBytes);
+        slice.writeInt(degree);
+        slice.insert(compressedProperties, 0, requiredBytes);
         return slice.address();
     }
 }
@@ -19,13 +19,17 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.OffHeapMemory;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_MASK;
@@ -35,45 +39,87 @@ import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfByteArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArrayElements;
 
-public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder {
+/**
+ * Builds a {@link TransientAdjacencyList} from pages of type {@code PAGE},
+ * which are either {@code byte[]} on the heap or {@link ByteBuffer}s outside of the heap.
+ */
+public final class TransientAdjacencyListBuilder<PAGE> implements AdjacencyListBuilder {
 
-    private static final long PAGE_SIZE_IN_BYTES = sizeOfByteArray(PAGE_SIZE);
-    private static final AtomicReferenceFieldUpdater<TransientAdjacencyListBuilder, byte[][]> PAGES_UPDATER =
-        AtomicReferenceFieldUpdater.newUpdater(TransientAdjacencyListBuilder.class, byte[][].class, "pages");
     private static final int NO_SKIP = -1;
 
+    private final PageStorage<PAGE> storage;
     private final AllocationTracker tracker;
+    private final @Nullable DoubleCodec propertyCodec;
+    private final AdjacencyEncoding encoding;
     private final ReentrantLock growLock;
     private final AtomicInteger allocatedPages;
 
-    @SuppressWarnings("FieldMayBeFinal")
-    private volatile byte[][] pages;
+    private volatile PAGE[] pages;
+
+    public static AdjacencyListBuilderFactory builderFactory(AllocationTracker tracker) {
+        return builderFactory(false, tracker);
+    }
+
+    /**
+     * @param offHeap whether the pages of the built lists are allocated outside of the Java heap.
+     */
+    public static AdjacencyListBuilderFactory builderFactory(boolean offHeap, AllocationTracker tracker) {
+        return offHeap
+            ? builderFactory(OffHeapStorage.INSTANCE, tracker)
+            : builderFactory(HeapStorage.INSTANCE, tracker);
+    }
+
+    private static <PAGE> AdjacencyListBuilderFactory builderFactory(
+        PageStorage<PAGE> storage,
+        AllocationTracker tracker
+    ) {
+        return new AdjacencyListBuilderFactory() {
+            @Override
+            public AdjacencyListBuilder newAdjacencyListBuilder() {
+                return new TransientAdjacencyListBuilder<>(storage, tracker, null, AdjacencyEncoding.VAR_LONG);
+            }
+
+            @Override
+            public AdjacencyListBuilder newAdjacencyListBuilder(AdjacencyEncoding encoding) {
+                return new TransientAdjacencyListBuilder<>(storage, tracker, null, encoding);
+            }
 
-    public static AdjacencyListBuilderFactory builderFactory(AllocationTracker tracker){
-        return () -> new TransientAdjacencyListBuilder(tracker);
+            @Override
+            public AdjacencyListBuilder newPropertyListBuilder(DoubleCodec propertyCodec) {
+                return new TransientAdjacencyListBuilder<>(storage, tracker, propertyCodec, AdjacencyEncoding.VAR_LONG);
+            }
+        };
     }
 
-    private TransientAdjacencyListBuilder(AllocationTracker tracker) {
+    private TransientAdjacencyListBuilder(
+        PageStorage<PAGE> storage,
+        AllocationTracker tracker,
+        @Nullable DoubleCodec propertyCodec,
+        AdjacencyEncoding encoding
+    ) {
+        this.storage = storage;
         this.tracker = tracker;
+        this.propertyCodec = propertyCodec;
+        this.encoding = encoding;
         growLock = new ReentrantLock(true);
         allocatedPages = new AtomicInteger();
-        pages = new byte[0][];
+        pages = storage.newPages(0);
         tracker.add(sizeOfObjectArray(0));
     }
 
-    public Allocator newAllocator() {
-        return new Allocator(this);
+    public Allocator<PAGE> newAllocator() {
+        return new Allocator<>(this);
     }
 
     public TransientAdjacencyList build() {
-        return new TransientAdjacencyList(pages);
+        return storage.build(pages, propertyCodec, encoding, tracker);
     }
 
     @Override
     public void flush() {
     }
 
-    private long insertDefaultSizedPage(Allocator into) {
+    private long insertDefaultSizedPage(Allocator<PAGE> into) {
         int pageIndex = allocatedPages.getAndIncrement();
         grow(pageIndex + 1, NO_SKIP);
         long intoIndex = PageUtil.capacityFor(pageIndex, PAGE_SHIFT);
@@ -81,7 +127,7 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
         return intoIndex;
     }
 
-    private long insertOversizedPage(byte[] page, Allocator into) {
+    private long insertOversizedPage(PAGE page, int size, Allocator<PAGE> into) {
         int pageIndex = allocatedPages.getAndIncrement();
         grow(pageIndex + 1, pageIndex);
 
@@ -92,11 +138,13 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
         // overwritten by another thread during `grow()`.
         growLock.lock();
         try {
-            tracker.add(sizeOfByteArray(page.length));
-            if (PAGES_UPDATER.get(this)[pageIndex] != null) {
-                tracker.remove(PAGE_SIZE_IN_BYTES);
+            tracker.add(storage.memoryOfPage(size));
+            PAGE previousPage = pages[pageIndex];
+            if (previousPage != null) {
+                storage.free(previousPage);
+                tracker.remove(storage.memoryOfPage(PAGE_SIZE));
             }
-            PAGES_UPDATER.get(this)[pageIndex] = page;
+            pages[pageIndex] = page;
         } finally {
             growLock.unlock();
         }
@@ -121,7 +169,7 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
     }
 
     private boolean capacityLeft(long newNumPages) {
-        return newNumPages <= PAGES_UPDATER.get(this).length;
+        return newNumPages <= pages.length;
     }
 
     /**
@@ -131,39 +179,41 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
      * Callers need to acquire the {@code growLock} before entering the method.
      */
     private void setPages(int newNumPages, int skipPage) {
-        byte[][] currentPages = PAGES_UPDATER.get(this);
+        PAGE[] currentPages = pages;
         tracker.add(sizeOfObjectArrayElements(newNumPages - currentPages.length));
 
-        byte[][] newPages = Arrays.copyOf(currentPages, newNumPages);
+        PAGE[] newPages = Arrays.copyOf(currentPages, newNumPages);
 
         for (int i = currentPages.length; i < newNumPages; i++) {
             // Create new page for default sized pages
             if (i != skipPage) {
-                tracker.add(PAGE_SIZE_IN_BYTES);
-                newPages[i] = new byte[PAGE_SIZE];
+                tracker.add(storage.memoryOfPage(PAGE_SIZE));
+                newPages[i] = storage.allocate(PAGE_SIZE);
             }
         }
-        PAGES_UPDATER.set(this, newPages);
+        pages = newPages;
     }
 
-    static final class Allocator implements AdjacencyListAllocator, AdjacencyListPageSlice {
+    static final class Allocator<PAGE> implements AdjacencyListAllocator, AdjacencyListPageSlice {
 
-        private final TransientAdjacencyListBuilder builder;
+        private final TransientAdjacencyListBuilder<PAGE> builder;
+        private final PageStorage<PAGE> storage;
 
         private long top;
 
-        private byte[][] pages;
+        private PAGE[] pages;
         private int prevOffset;
         private int toPageIndex;
         private int currentPageIndex;
 
-        private byte[] page;
+        private PAGE page;
         private int offset;
         private long address;
 
 
-        private Allocator(TransientAdjacencyListBuilder builder) {
+        private Allocator(TransientAdjacencyListBuilder<PAGE> builder) {
             this.builder = builder;
+            this.storage = builder.storage;
             prevOffset = -1;
         }
 
@@ -173,18 +223,21 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
         }
 
         @Override
-        public byte[] page() {
-            return page;
+        public void writeInt(int value) {
+            storage.writeInt(page, offset, value);
+            offset += Integer.BYTES;
         }
 
         @Override
-        public int offset() {
-            return offset;
+        public void insert(byte[] bytes, int arrayOffset, int length) {
+            storage.write(page, offset, bytes, arrayOffset, length);
+            offset += length;
         }
 
         @Override
-        public void bytesWritten(int numberOfBytes) {
-            offset += numberOfBytes;
+        public void insertLongs(long[] values, int length) {
+            storage.writeLongs(page, offset, values, length);
+            offset += length * Long.BYTES;
         }
 
         public void prepare() {
@@ -239,8 +292,8 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
          * and keep the offsets as if this page would be of the correct size, we might just get by.
          */
         private long oversizingAllocate(int size) {
-            byte[] largePage = new byte[size];
-            return builder.insertOversizedPage(largePage, this);
+            PAGE largePage = storage.allocate(size);
+            return builder.insertOversizedPage(largePage, size, this);
         }
 
         private long prefetchAllocate(int size) {
@@ -269,7 +322,7 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
             return false;
         }
 
-        private void setNewPages(byte[][] pages, long fromIndex) {
+        private void setNewPages(PAGE[] pages, long fromIndex) {
             assert PageUtil.indexInPage(fromIndex, PAGE_MASK) == 0;
             this.pages = pages;
             currentPageIndex = PageUtil.pageIndex(fromIndex, PAGE_SHIFT);
@@ -278,7 +331,7 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
             offset = 0;
         }
 
-        private void insertPage(byte[] page) {
+        private void insertPage(PAGE page) {
             if (prevOffset == -1) {
                 prevOffset = offset;
             }
@@ -286,4 +339,143 @@ public final class TransientAdjacencyListBuilder implements AdjacencyListBuilder
             offset = 0;
         }
     }
+
+    /**
+     * Allocates the pages of the adjacency list and writes into them.
+     */
+    private interface PageStorage<PAGE> {
+
+        PAGE[] newPages(int length);
+
+        PAGE allocate(int size);
+
+        void free(PAGE page);
+
+        /**
+         * The number of bytes that are tracked for a page of the given size.
+         */
+        long memoryOfPage(int size);
+
+        void writeInt(PAGE page, int offset, int value);
+
+        void write(PAGE page, int offset, byte[] bytes, int bytesOffset, int length);
+
+        void writeLongs(PAGE page, int offset, long[] values, int length);
+
+        TransientAdjacencyList build(
+            PAGE[] pages,
+            @Nullable DoubleCodec propertyCodec,
+            AdjacencyEncoding encoding,
+            AllocationTracker tracker
+        );
+    }
+
+    private enum HeapStorage implements PageStorage<byte[]> {
+        INSTANCE;
+
+        @Override
+        public byte[][] newPages(int length) {
+            return new byte[length][];
+        }
+
+        @Override
+        public byte[] allocate(int size) {
+            return new byte[size];
+        }
+
+        @Override
+        public void free(byte[] page) {
+        }
+
+        @Override
+        public long memoryOfPage(int size) {
+            return sizeOfByteArray(size);
+        }
+
+        @Override
+        public void writeInt(byte[] page, int offset, int value) {
+            AdjacencyCompression.writeDegree(page, offset, value);
+        }
+
+        @Override
+        public void write(byte[] page, int offset, byte[] bytes, int bytesOffset, int length) {
+            System.arraycopy(bytes, bytesOffset, page, offset, length);
+        }
+
+        @Override
+        public void writeLongs(byte[] page, int offset, long[] values, int length) {
+            ByteBuffer
+                .wrap(page, offset, length * Long.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asLongBuffer()
+                .put(values, 0, length);
+        }
+
+        @Override
+        public TransientAdjacencyList build(
+            byte[][] pages,
+            @Nullable DoubleCodec propertyCodec,
+            AdjacencyEncoding encoding,
+            AllocationTracker tracker
+        ) {
+            return propertyCodec == null
+                ? new TransientAdjacencyList(pages, encoding)
+                : new TransientAdjacencyList(pages, propertyCodec);
+        }
+    }
+
+    private enum OffHeapStorage implements PageStorage<ByteBuffer> {
+        INSTANCE;
+
+        @Override
+        public ByteBuffer[] newPages(int length) {
+            return new ByteBuffer[length];
+        }
+
+        @Override
+        public ByteBuffer allocate(int size) {
+            // the decoders read degrees and uncompressed properties in little endian byte order
+            return OffHeapMemory.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public void free(ByteBuffer page) {
+            OffHeapMemory.free(page);
+        }
+
+        @Override
+        public long memoryOfPage(int size) {
+            return size;
+        }
+
+        @Override
+        public void writeInt(ByteBuffer page, int offset, int value) {
+            page.putInt(offset, value);
+        }
+
+        @Override
+        public void write(ByteBuffer page, int offset, byte[] bytes, int bytesOffset, int length) {
+            page.duplicate().position(offset).put(bytes, bytesOffset, length);
+        }
+
+        @Override
+        public void writeLongs(ByteBuffer page, int offset, long[] values, int length) {
+            page
+                .duplicate()
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .position(offset)
+                .asLongBuffer()
+                .put(values, 0, length);
+        }
+
+        @Override
+        public TransientAdjacencyList build(
+            ByteBuffer[] pages,
+            @Nullable DoubleCodec propertyCodec,
+            AdjacencyEncoding encoding,
+            AllocationTracker tracker
+        ) {
+            return TransientAdjacencyList.offHeap(pages, propertyCodec, encoding, tracker);
+        }
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export;
+
+import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.config.BaseConfig;
+import org.neo4j.graphalgo.config.ConcurrencyConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+
+import java.nio.file.Path;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphStoreFileConfig extends BaseConfig, ConcurrencyConfig {
+
+    String FILE_NAME_KEY = "fileName";
+    String OVERWRITE_KEY = "overwrite";
+
+    /**
+     * Graph store files are kept in a directory per user below this directory, relative to the Neo4j home directory.
+     */
+    String GRAPHS_DIRECTORY = "graphs";
+
+    @Configuration.Key(FILE_NAME_KEY)
+    String fileName();
+
+    @Value.Default
+    @Configuration.Key(OVERWRITE_KEY)
+    default boolean overwrite() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateFileName() {
+        if (fileName().isBlank()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `%s` must not be empty or blank.",
+                FILE_NAME_KEY
+            ));
+        }
+        if (fileName().equals(".") || fileName().equals("..")) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `%s` must be a plain file name, but got the directory reference `%s`.",
+                FILE_NAME_KEY,
+                fileName()
+            ));
+        }
+        Path fileName = Path.of(fileName()).getFileName();
+        if (fileName == null || !fileName.toString().equals(fileName())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `%s` must be a plain file name, but got `%s`.",
+                FILE_NAME_KEY,
+                fileName()
+            ));
+        }
+    }
+
+    @Configuration.Ignore
+    default Path file(Path neo4jHome) {
+        return neo4jHome.resolve(GRAPHS_DIRECTORY).resolve(username()).resolve(fileName());
+    }
+
+    static GraphStoreFileConfig of(String username, CypherMapWrapper config) {
+        return new GraphStoreFileConfigImpl(username, config);
+    }
+}
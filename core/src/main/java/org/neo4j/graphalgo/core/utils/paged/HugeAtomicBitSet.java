@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.core.utils.paged;
 
 import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 
 public final class HugeAtomicBitSet {
     private static final int NUM_BITS = 64;
@@ -33,6 +34,11 @@ public final class HugeAtomicBitSet {
         return new HugeAtomicBitSet(HugeAtomicLongArray.newArray(wordsSize, tracker), size);
     }
 
+    public static long memoryEstimation(long size) {
+        var wordsSize = BitUtil.ceilDiv(size, NUM_BITS);
+        return MemoryUsage.sizeOfInstance(HugeAtomicBitSet.class) + HugeAtomicLongArray.memoryEstimation(wordsSize);
+    }
+
     private HugeAtomicBitSet(HugeAtomicLongArray bits, long numBits) {
         this.bits = bits;
         this.numBits = numBits;
@@ -154,10 +160,47 @@ public final class HugeAtomicBitSet {
         }
     }
 
+    /**
+     * Returns the index of the first set bit that occurs at or after the given index,
+     * or -1 if there is no such bit.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    public long nextSetBit(long index) {
+        if (index >= numBits) {
+            return -1;
+        }
+
+        long wordIndex = index / NUM_BITS;
+        long wordCount = bits.size();
+        // shifting by the index only keeps the bits at or after (index % 64)
+        long word = bits.get(wordIndex) & (-1L << index);
+
+        while (true) {
+            if (word != 0) {
+                return wordIndex * NUM_BITS + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == wordCount) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+    }
+
     /**
      * Returns the number of bits in the bitset.
      */
     public long size() {
         return numBits;
     }
+
+    /**
+     * Destroys the bit set by releasing its underlying array.
+     * Calling this method a second time has no effect.
+     *
+     * @return the amount of memory freed, in bytes.
+     */
+    public long release() {
+        return bits.release();
+    }
 }
@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfDoubleArray;
@@ -65,6 +66,16 @@ public abstract class HugeAtomicDoubleArray {
      */
     public abstract boolean compareAndSet(long index, double expect, double update);
 
+    /**
+     * Atomically sets the element at position {@code index} to the given value
+     * and returns the old value.
+     *
+     * @param index the index
+     * @param value the new value
+     * @return the previous value
+     */
+    public abstract double getAndReplace(long index, double value);
+
     /**
      * Atomically updates the element at index {@code index} with the results
      * of applying the given function, returning the updated value. The
@@ -91,6 +102,12 @@ public abstract class HugeAtomicDoubleArray {
      */
     public abstract long sizeOf();
 
+    /**
+     * Set all entries in the array to the given value.
+     * This method is not atomic!
+     */
+    public abstract void setAll(double value);
+
     /**
      * Destroys the data, allowing the underlying storage arrays to be collected as garbage.
      * The array is unusable after calling this method and will throw {@link NullPointerException}s on virtually every method invocation.
@@ -204,6 +221,11 @@ public abstract class HugeAtomicDoubleArray {
             return ARRAY_HANDLE.compareAndSet(page, (int) index, expect, update);
         }
 
+        @Override
+        public double getAndReplace(long index, double value) {
+            return (double) ARRAY_HANDLE.getAndSet(page, (int) index, value);
+        }
+
         @Override
         public void update(long index, DoubleUnaryOperator updateFunction) {
             double prev, next;
@@ -223,6 +245,11 @@ public abstract class HugeAtomicDoubleArray {
             return sizeOfLongArray(size);
         }
 
+        @Override
+        public void setAll(double value) {
+            Arrays.fill(page, value);
+        }
+
         @Override
         public long release() {
             if (page != null) {
@@ -292,6 +319,13 @@ public abstract class HugeAtomicDoubleArray {
             return ARRAY_HANDLE.compareAndSet(pages[pageIndex], indexInPage, expect, update);
         }
 
+        @Override
+        public double getAndReplace(long index, double value) {
+            int pageIndex = pageIndex(index);
+            int indexInPage = indexInPage(index);
+            return (double) ARRAY_HANDLE.getAndSet(pages[pageIndex], indexInPage, value);
+        }
+
         @Override
         public void update(long index, DoubleUnaryOperator updateFunction) {
             int pageIndex = pageIndex(index);
@@ -314,6 +348,13 @@ public abstract class HugeAtomicDoubleArray {
             return memoryUsed;
         }
 
+        @Override
+        public void setAll(double value) {
+            for (double[] page : pages) {
+                Arrays.fill(page, value);
+            }
+        }
+
         @Override
         public long release() {
             if (pages != null) {
@@ -186,4 +186,83 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * A cursor over off-heap memory. Every page is copied into a reusable buffer when it is loaded.
+     * The buffer is written back when the cursor moves to the next page or is closed,
+     * so that changes to {@link #array} are visible in the underlying memory.
+     */
+    static final class OffHeapCursor<Array> extends HugeCursor<Array> {
+
+        /**
+         * Copies {@code length} values, starting at the global index {@code start}, between the off-heap memory and {@code array[offset]}.
+         */
+        @FunctionalInterface
+        interface Transfer<Array> {
+            void copy(long start, Array array, int offset, int length);
+        }
+
+        private final long capacity;
+        private final Transfer<Array> load;
+        private final Transfer<Array> store;
+
+        private long nextIndex;
+        private long end;
+        private boolean loaded;
+
+        OffHeapCursor(long capacity, Array buffer, Transfer<Array> load, Transfer<Array> store) {
+            super();
+            this.capacity = capacity;
+            this.array = buffer;
+            this.load = load;
+            this.store = store;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        void setRange(long start, long end) {
+            writeBack();
+            this.nextIndex = start;
+            this.end = end;
+            base = start & ~(PAGE_SIZE - 1L);
+            offset = 0;
+            limit = 0;
+        }
+
+        @Override
+        public final boolean next() {
+            writeBack();
+            if (nextIndex >= end) {
+                return false;
+            }
+            base = nextIndex & ~(PAGE_SIZE - 1L);
+            offset = (int) (nextIndex - base);
+            limit = (int) (Math.min(base + PAGE_SIZE, end) - base);
+            load.copy(nextIndex, array, offset, limit - offset);
+            nextIndex = base + limit;
+            loaded = true;
+            return true;
+        }
+
+        private void writeBack() {
+            if (loaded) {
+                store.copy(base + offset, array, offset, limit - offset);
+                loaded = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            writeBack();
+            array = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            nextIndex = 0L;
+        }
+    }
 }
@@ -23,10 +23,13 @@ import org.neo4j.graphalgo.api.nodeproperties.DoubleNodeProperties;
 import org.neo4j.graphalgo.core.utils.ArrayUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfDoubleArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
@@ -207,6 +210,17 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return PagedHugeDoubleArray.of(size, tracker);
     }
 
+    /**
+     * Creates a new array of the given size that is stored outside of the Java heap.
+     * The memory is tracked in the given {@link AllocationTracker} and can be reclaimed once the array is {@link #release() released}.
+     * <p>
+     * Cursors copy the values into a heap buffer and write them back when they advance or are closed.
+     * Accessing the array or one of its cursors after the array has been released fails with an {@link ArrayIndexOutOfBoundsException}.
+     */
+    public static HugeDoubleArray newOffHeapArray(long size, AllocationTracker tracker) {
+        return OffHeapHugeDoubleArray.of(size, tracker);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -315,6 +329,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                         remaining -= toCopy;
                     }
                 }
+            } else if (dest instanceof OffHeapHugeDoubleArray) {
+                ((OffHeapHugeDoubleArray) dest).copyFrom(this, length);
             }
         }
 
@@ -467,6 +483,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0D);
                 }
+            } else if (dest instanceof OffHeapHugeDoubleArray) {
+                ((OffHeapHugeDoubleArray) dest).copyFrom(this, length);
             }
         }
 
@@ -499,4 +517,165 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    private static final class OffHeapHugeDoubleArray extends HugeDoubleArray {
+
+        private static HugeDoubleArray of(long size, AllocationTracker tracker) {
+            return new OffHeapHugeDoubleArray(size, OffHeapMemory.allocatePages(size, Double.BYTES, tracker), size * Double.BYTES);
+        }
+
+        private static final DoubleBuffer[] RELEASED = new DoubleBuffer[0];
+
+        private final long memoryUsed;
+        // the buffers that own the memory of the pages, freed on release
+        private ByteBuffer[] memory;
+        // both are reset on release, which turns every subsequent access into an out of bounds access
+        private long size;
+        private DoubleBuffer[] pages;
+
+        private OffHeapHugeDoubleArray(long size, ByteBuffer[] memory, long memoryUsed) {
+            this.size = size;
+            this.memory = memory;
+            this.pages = OffHeapMemory.asDoublePages(memory);
+            this.memoryUsed = memoryUsed;
+        }
+
+        private DoubleBuffer pageOf(long index) {
+            OffHeapMemory.checkIndex(index, size);
+            return pages[pageIndex(index)];
+        }
+
+        @Override
+        public double get(long index) {
+            return pageOf(index).get(indexInPage(index));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            pageOf(index).put(indexInPage(index), value);
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            DoubleBuffer page = pageOf(index);
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (int i = 0; i < pages.length; i++) {
+                DoubleBuffer page = pages[i];
+                long base = (long) i << PAGE_SHIFT;
+                for (int j = 0; j < page.capacity(); j++) {
+                    page.put(j, gen.applyAsDouble(base + j));
+                }
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            fill(0L, size, value);
+        }
+
+        private void fill(long fromIndex, long toIndex, double value) {
+            for (long i = fromIndex; i < toIndex; i++) {
+                pages[pageIndex(i)].put(indexInPage(i), value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest.size() == 0) {
+                return;
+            }
+            try (HugeCursor<double[]> cursor = dest.initCursor(dest.newCursor())) {
+                while (cursor.next()) {
+                    long start = cursor.base + cursor.offset;
+                    int toCopy = (int) Math.max(0L, Math.min(cursor.limit - cursor.offset, length - start));
+                    load(start, cursor.array, cursor.offset, toCopy);
+                    Arrays.fill(cursor.array, cursor.offset + toCopy, cursor.limit, 0D);
+                }
+            }
+        }
+
+        private void copyFrom(HugeDoubleArray source, long length) {
+            fill(length, size, 0D);
+            if (length == 0) {
+                return;
+            }
+            try (HugeCursor<double[]> cursor = source.initCursor(source.newCursor(), 0, length)) {
+                while (cursor.next()) {
+                    store(cursor.base + cursor.offset, cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+
+        private void load(long start, double[] array, int offset, int length) {
+            while (length > 0) {
+                DoubleBuffer page = pages[pageIndex(start)];
+                int indexInPage = indexInPage(start);
+                int toCopy = Math.min(length, page.capacity() - indexInPage);
+                page.duplicate().position(indexInPage).get(array, offset, toCopy);
+                start += toCopy;
+                offset += toCopy;
+                length -= toCopy;
+            }
+        }
+
+        private void store(long start, double[] array, int offset, int length) {
+            while (length > 0) {
+                DoubleBuffer page = pages[pageIndex(start)];
+                int indexInPage = indexInPage(start);
+                int toCopy = Math.min(length, page.capacity() - indexInPage);
+                page.duplicate().position(indexInPage).put(array, offset, toCopy);
+                start += toCopy;
+                offset += toCopy;
+                length -= toCopy;
+            }
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+
+        @Override
+        public long release() {
+            if (pages != RELEASED) {
+                pages = RELEASED;
+                size = 0L;
+                OffHeapMemory.free(memory);
+                memory = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            return new HugeCursor.OffHeapCursor<>(
+                size,
+                new double[(int) Math.min(PAGE_SIZE, size)],
+                this::load,
+                this::store
+            );
+        }
+    }
 }
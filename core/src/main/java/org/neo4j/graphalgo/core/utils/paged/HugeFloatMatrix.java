@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.PAGE_SIZE;
+
+/**
+ * A dense, row-major matrix of {@code float} values with a long-indexable number of rows and a fixed number of columns.
+ * <p>
+ * The values are stored in pages of {@code float[]}, where every page holds a power-of-two number of complete rows.
+ * A row therefore never crosses a page boundary and can be accessed as a contiguous slice of
+ * {@link #rowPage(long)}, starting at {@link #rowOffset(long)}.
+ *
+ * <p><em>Basic Usage</em></p>
+ * <pre>
+ * {@code}
+ * AllocationTracker tracker = ...;
+ * HugeFloatMatrix matrix = HugeFloatMatrix.newMatrix(nodeCount, 128, tracker);
+ * matrix.set(13L, 7, 0.42f);
+ * float[] page = matrix.rowPage(13L);
+ * int offset = matrix.rowOffset(13L);
+ * // page[offset + 7] == 0.42f
+ * {@code}
+ * </pre>
+ */
+public final class HugeFloatMatrix {
+
+    private static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(float[].class);
+
+    private final long rows;
+    private final int columns;
+    private final int rowShift;
+    private final long rowMask;
+    private float[][] pages;
+
+    public static HugeFloatMatrix newMatrix(long rows, int columns, AllocationTracker tracker) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("A matrix must have at least one column.");
+        }
+        int rowShift = rowShift(columns);
+        int rowsPerPage = 1 << rowShift;
+        int numPages = Math.toIntExact((rows + rowsPerPage - 1) >>> rowShift);
+
+        float[][] pages = new float[numPages][];
+        long remainingRows = rows;
+        for (int i = 0; i < numPages; i++) {
+            int pageRows = (int) Math.min(rowsPerPage, remainingRows);
+            pages[i] = new float[pageRows * columns];
+            remainingRows -= pageRows;
+        }
+        tracker.add(memoryEstimation(rows, columns));
+
+        return new HugeFloatMatrix(rows, columns, rowShift, pages);
+    }
+
+    public static long memoryEstimation(long rows, int columns) {
+        return sizeOfInstance(HugeFloatMatrix.class) + pagesMemoryEstimation(rows, columns);
+    }
+
+    /**
+     * Estimates a matrix with one row per node.
+     */
+    public static MemoryEstimation memoryEstimation(int columns) {
+        return MemoryEstimations
+            .builder(HugeFloatMatrix.class)
+            .perNode("pages", nodeCount -> pagesMemoryEstimation(nodeCount, columns))
+            .build();
+    }
+
+    private static long pagesMemoryEstimation(long rows, int columns) {
+        int rowShift = rowShift(columns);
+        int rowsPerPage = 1 << rowShift;
+        int numPages = Math.toIntExact((rows + rowsPerPage - 1) >>> rowShift);
+        long fullPages = rows >>> rowShift;
+        long lastPageRows = rows - (fullPages << rowShift);
+
+        long memoryUsed = sizeOfObjectArray(numPages);
+        memoryUsed += fullPages * sizeOfFloatArray((long) rowsPerPage * columns);
+        if (lastPageRows > 0) {
+            memoryUsed += sizeOfFloatArray(lastPageRows * columns);
+        }
+        return memoryUsed;
+    }
+
+    private static int rowShift(int columns) {
+        return Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.max(1, PAGE_SIZE / columns)));
+    }
+
+    private HugeFloatMatrix(long rows, int columns, int rowShift, float[][] pages) {
+        this.rows = rows;
+        this.columns = columns;
+        this.rowShift = rowShift;
+        this.rowMask = (1L << rowShift) - 1;
+        this.pages = pages;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the page that contains the given row. The row starts at {@link #rowOffset(long)}
+     * and spans {@link #columns()} elements. Writes to the page are visible in the matrix.
+     */
+    public float[] rowPage(long row) {
+        assert row < rows;
+        return pages[(int) (row >>> rowShift)];
+    }
+
+    public int rowOffset(long row) {
+        return (int) (row & rowMask) * columns;
+    }
+
+    public float get(long row, int column) {
+        assert column < columns;
+        return rowPage(row)[rowOffset(row) + column];
+    }
+
+    public void set(long row, int column, float value) {
+        assert column < columns;
+        rowPage(row)[rowOffset(row) + column] = value;
+    }
+
+    /**
+     * Adds the delta to the value at the given position.
+     * This is not thread-safe, concurrent updates of the same position might get lost.
+     */
+    public void addTo(long row, int column, float delta) {
+        assert column < columns;
+        rowPage(row)[rowOffset(row) + column] += delta;
+    }
+
+    /**
+     * Atomically adds the delta to the value at the given position.
+     */
+    public void atomicAdd(long row, int column, float delta) {
+        assert column < columns;
+        float[] page = rowPage(row);
+        int index = rowOffset(row) + column;
+        float current = (float) ARRAY_HANDLE.getVolatile(page, index);
+        while (!ARRAY_HANDLE.compareAndSet(page, index, current, current + delta)) {
+            current = (float) ARRAY_HANDLE.getVolatile(page, index);
+        }
+    }
+
+    /**
+     * Copies the given row into a new {@code float[]}.
+     */
+    public float[] copyRow(long row) {
+        int offset = rowOffset(row);
+        return Arrays.copyOfRange(rowPage(row), offset, offset + columns);
+    }
+
+    public void setRow(long row, float[] values) {
+        assert values.length == columns;
+        System.arraycopy(values, 0, rowPage(row), rowOffset(row), columns);
+    }
+
+    public void fillRow(long row, float value) {
+        int offset = rowOffset(row);
+        Arrays.fill(rowPage(row), offset, offset + columns, value);
+    }
+
+    /**
+     * Releases the pages and returns the number of bytes that were freed.
+     */
+    public long release() {
+        if (pages != null) {
+            long freed = memoryEstimation(rows, columns);
+            pages = null;
+            return freed;
+        }
+        return 0L;
+    }
+}
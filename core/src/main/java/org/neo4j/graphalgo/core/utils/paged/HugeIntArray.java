@@ -23,6 +23,8 @@ import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
 import org.neo4j.graphalgo.core.utils.ArrayUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToIntFunction;
@@ -225,6 +227,17 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return new HugeIntArray.SingleHugeIntArray(values.length, values);
     }
 
+    /**
+     * Creates a new array of the given size that is stored outside of the Java heap.
+     * The memory is tracked in the given {@link AllocationTracker} and can be reclaimed once the array is {@link #release() released}.
+     * <p>
+     * Cursors copy the values into a heap buffer and write them back when they advance or are closed.
+     * Accessing the array or one of its cursors after the array has been released fails with an {@link ArrayIndexOutOfBoundsException}.
+     */
+    public static HugeIntArray newOffHeapArray(long size, AllocationTracker tracker) {
+        return OffHeapHugeIntArray.of(size, tracker);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -341,6 +354,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                         remaining -= toCopy;
                     }
                 }
+            } else if (dest instanceof OffHeapHugeIntArray) {
+                ((OffHeapHugeIntArray) dest).copyFrom(this, length);
             }
         }
 
@@ -504,6 +519,8 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0);
                 }
+            } else if (dest instanceof OffHeapHugeIntArray) {
+                ((OffHeapHugeIntArray) dest).copyFrom(this, length);
             }
         }
 
@@ -531,4 +548,176 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    private static final class OffHeapHugeIntArray extends HugeIntArray {
+
+        private static HugeIntArray of(long size, AllocationTracker tracker) {
+            return new OffHeapHugeIntArray(size, OffHeapMemory.allocatePages(size, Integer.BYTES, tracker), size * Integer.BYTES);
+        }
+
+        private static final IntBuffer[] RELEASED = new IntBuffer[0];
+
+        private final long memoryUsed;
+        // the buffers that own the memory of the pages, freed on release
+        private ByteBuffer[] memory;
+        // both are reset on release, which turns every subsequent access into an out of bounds access
+        private long size;
+        private IntBuffer[] pages;
+
+        private OffHeapHugeIntArray(long size, ByteBuffer[] memory, long memoryUsed) {
+            this.size = size;
+            this.memory = memory;
+            this.pages = OffHeapMemory.asIntPages(memory);
+            this.memoryUsed = memoryUsed;
+        }
+
+        private IntBuffer pageOf(long index) {
+            OffHeapMemory.checkIndex(index, size);
+            return pages[pageIndex(index)];
+        }
+
+        @Override
+        public int get(long index) {
+            return pageOf(index).get(indexInPage(index));
+        }
+
+        @Override
+        public void set(long index, int value) {
+            pageOf(index).put(indexInPage(index), value);
+        }
+
+        @Override
+        public void or(long index, int value) {
+            IntBuffer page = pageOf(index);
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) | value);
+        }
+
+        @Override
+        public int and(long index, int value) {
+            IntBuffer page = pageOf(index);
+            int indexInPage = indexInPage(index);
+            int newValue = page.get(indexInPage) & value;
+            page.put(indexInPage, newValue);
+            return newValue;
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            IntBuffer page = pageOf(index);
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (int i = 0; i < pages.length; i++) {
+                IntBuffer page = pages[i];
+                long base = (long) i << PAGE_SHIFT;
+                for (int j = 0; j < page.capacity(); j++) {
+                    page.put(j, gen.applyAsInt(base + j));
+                }
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            fill(0L, size, value);
+        }
+
+        private void fill(long fromIndex, long toIndex, int value) {
+            for (long i = fromIndex; i < toIndex; i++) {
+                pages[pageIndex(i)].put(indexInPage(i), value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest.size() == 0) {
+                return;
+            }
+            try (HugeCursor<int[]> cursor = dest.initCursor(dest.newCursor())) {
+                while (cursor.next()) {
+                    long start = cursor.base + cursor.offset;
+                    int toCopy = (int) Math.max(0L, Math.min(cursor.limit - cursor.offset, length - start));
+                    load(start, cursor.array, cursor.offset, toCopy);
+                    Arrays.fill(cursor.array, cursor.offset + toCopy, cursor.limit, 0);
+                }
+            }
+        }
+
+        private void copyFrom(HugeIntArray source, long length) {
+            fill(length, size, 0);
+            if (length == 0) {
+                return;
+            }
+            try (HugeCursor<int[]> cursor = source.initCursor(source.newCursor(), 0, length)) {
+                while (cursor.next()) {
+                    store(cursor.base + cursor.offset, cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+
+        private void load(long start, int[] array, int offset, int length) {
+            while (length > 0) {
+                IntBuffer page = pages[pageIndex(start)];
+                int indexInPage = indexInPage(start);
+                int toCopy = Math.min(length, page.capacity() - indexInPage);
+                page.duplicate().position(indexInPage).get(array, offset, toCopy);
+                start += toCopy;
+                offset += toCopy;
+                length -= toCopy;
+            }
+        }
+
+        private void store(long start, int[] array, int offset, int length) {
+            while (length > 0) {
+                IntBuffer page = pages[pageIndex(start)];
+                int indexInPage = indexInPage(start);
+                int toCopy = Math.min(length, page.capacity() - indexInPage);
+                page.duplicate().position(indexInPage).put(array, offset, toCopy);
+                start += toCopy;
+                offset += toCopy;
+                length -= toCopy;
+            }
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long release() {
+            if (pages != RELEASED) {
+                pages = RELEASED;
+                size = 0L;
+                OffHeapMemory.free(memory);
+                memory = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            return new HugeCursor.OffHeapCursor<>(
+                size,
+                new int[(int) Math.min(PAGE_SIZE, size)],
+                this::load,
+                this::store
+            );
+        }
+    }
 }
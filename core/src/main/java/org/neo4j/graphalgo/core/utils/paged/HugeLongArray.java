@@ -23,6 +23,8 @@ import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
 import org.neo4j.graphalgo.core.utils.ArrayUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
@@ -231,6 +233,17 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return PagedHugeLongArray.of(size, tracker);
     }
 
+    /**
+     * Creates a new array of the given size that is stored outside of the Java heap.
+     * The memory is tracked in the given {@link AllocationTracker} and can be reclaimed once the array is {@link #release() released}.
+     * <p>
+     * Cursors copy the values into a heap buffer and write them back when they advance or are closed.
+     * Accessing the array or one of its cursors after the array has been released fails with an {@link ArrayIndexOutOfBoundsException}.
+     */
+    public static HugeLongArray newOffHeapArray(long size, AllocationTracker tracker) {
+        return OffHeapHugeLongArray.of(size, tracker);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -351,6 +364,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                         remaining -= toCopy;
                     }
                 }
+            } else if (dest instanceof OffHeapHugeLongArray) {
+                ((OffHeapHugeLongArray) dest).copyFrom(this, length);
             }
         }
 
@@ -519,6 +534,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0L);
                 }
+            } else if (dest instanceof OffHeapHugeLongArray) {
+                ((OffHeapHugeLongArray) dest).copyFrom(this, length);
             }
         }
 
@@ -561,4 +578,196 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    private static final class OffHeapHugeLongArray extends HugeLongArray {
+
+        private static HugeLongArray of(long size, AllocationTracker tracker) {
+            return new OffHeapHugeLongArray(size, OffHeapMemory.allocatePages(size, Long.BYTES, tracker), size * Long.BYTES);
+        }
+
+        private static final LongBuffer[] RELEASED = new LongBuffer[0];
+
+        private final long memoryUsed;
+        // the buffers that own the memory of the pages, freed on release
+        private ByteBuffer[] memory;
+        // both are reset on release, which turns every subsequent access into an out of bounds access
+        private long size;
+        private LongBuffer[] pages;
+
+        private OffHeapHugeLongArray(long size, ByteBuffer[] memory, long memoryUsed) {
+            this.size = size;
+            this.memory = memory;
+            this.pages = OffHeapMemory.asLongPages(memory);
+            this.memoryUsed = memoryUsed;
+        }
+
+        private LongBuffer pageOf(long index) {
+            OffHeapMemory.checkIndex(index, size);
+            return pages[pageIndex(index)];
+        }
+
+        @Override
+        public long get(long index) {
+            return pageOf(index).get(indexInPage(index));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            pageOf(index).put(indexInPage(index), value);
+        }
+
+        @Override
+        public void or(long index, final long value) {
+            LongBuffer page = pageOf(index);
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) | value);
+        }
+
+        @Override
+        public long and(long index, final long value) {
+            LongBuffer page = pageOf(index);
+            int indexInPage = indexInPage(index);
+            long newValue = page.get(indexInPage) & value;
+            page.put(indexInPage, newValue);
+            return newValue;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            LongBuffer page = pageOf(index);
+            int indexInPage = indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (int i = 0; i < pages.length; i++) {
+                LongBuffer page = pages[i];
+                long base = (long) i << PAGE_SHIFT;
+                for (int j = 0; j < page.capacity(); j++) {
+                    page.put(j, gen.applyAsLong(base + j));
+                }
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            fill(0L, size, value);
+        }
+
+        private void fill(long fromIndex, long toIndex, long value) {
+            for (long i = fromIndex; i < toIndex; i++) {
+                pages[pageIndex(i)].put(indexInPage(i), value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            if (dest.size() == 0) {
+                return;
+            }
+            try (HugeCursor<long[]> cursor = dest.initCursor(dest.newCursor())) {
+                while (cursor.next()) {
+                    long start = cursor.base + cursor.offset;
+                    int toCopy = (int) Math.max(0L, Math.min(cursor.limit - cursor.offset, length - start));
+                    load(start, cursor.array, cursor.offset, toCopy);
+                    Arrays.fill(cursor.array, cursor.offset + toCopy, cursor.limit, 0L);
+                }
+            }
+        }
+
+        private void copyFrom(HugeLongArray source, long length) {
+            fill(length, size, 0L);
+            if (length == 0) {
+                return;
+            }
+            try (HugeCursor<long[]> cursor = source.initCursor(source.newCursor(), 0, length)) {
+                while (cursor.next()) {
+                    store(cursor.base + cursor.offset, cursor.array, cursor.offset, cursor.limit - cursor.offset);
+                }
+            }
+        }
+
+        private void load(long start, long[] array, int offset, int length) {
+            while (length > 0) {
+                LongBuffer page = pages[pageIndex(start)];
+                int indexInPage = indexInPage(start);
+                int toCopy = Math.min(length, page.capacity() - indexInPage);
+                page.duplicate().position(indexInPage).get(array, offset, toCopy);
+                start += toCopy;
+                offset += toCopy;
+                length -= toCopy;
+            }
+        }
+
+        private void store(long start, long[] array, int offset, int length) {
+            while (length > 0) {
+                LongBuffer page = pages[pageIndex(start)];
+                int indexInPage = indexInPage(start);
+                int toCopy = Math.min(length, page.capacity() - indexInPage);
+                page.duplicate().position(indexInPage).put(array, offset, toCopy);
+                start += toCopy;
+                offset += toCopy;
+                length -= toCopy;
+            }
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            long low = 0;
+            long high = size - 1;
+
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                long midVal = pages[pageIndex(mid)].get(indexInPage(mid));
+
+                if (midVal < searchValue) {
+                    low = mid + 1;
+                } else if (midVal > searchValue) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        public long release() {
+            if (pages != RELEASED) {
+                pages = RELEASED;
+                size = 0L;
+                OffHeapMemory.free(memory);
+                memory = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            return new HugeCursor.OffHeapCursor<>(
+                size,
+                new long[(int) Math.min(PAGE_SIZE, size)],
+                this::load,
+                this::store
+            );
+        }
+    }
 }
@@ -28,6 +28,11 @@ public final class HugeLongArrayBuilder extends HugeArrayBuilder<long[], HugeLon
         return new HugeLongArrayBuilder(array, length);
     }
 
+    public static HugeLongArrayBuilder offHeap(long length, AllocationTracker tracker) {
+        HugeLongArray array = HugeLongArray.newOffHeapArray(length, tracker);
+        return new HugeLongArrayBuilder(array, length);
+    }
+
     private HugeLongArrayBuilder(HugeLongArray array, final long length) {
         super(array, length);
     }
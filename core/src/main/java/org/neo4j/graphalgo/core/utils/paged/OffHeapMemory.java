@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.PAGE_SIZE;
+import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.exclusiveIndexOfPage;
+import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.numberOfPages;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Allocates and frees memory outside of the Java heap.
+ *
+ * Memory is handed out as direct buffers in native byte order.
+ * The owner of a buffer must {@link #free(ByteBuffer[]) free} it explicitly,
+ * the memory is returned immediately and not only once the buffer is garbage collected.
+ * Any access to a freed buffer reads or writes unmapped memory,
+ * owners need to drop all references to it before freeing.
+ */
+public final class OffHeapMemory {
+
+    /**
+     * Allocates a zeroed buffer of the given size.
+     */
+    public static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the memory of the given buffers to the operating system.
+     * The buffers must have been returned by {@link #allocate(int)}, views and slices of them can not be freed.
+     */
+    public static void free(ByteBuffer... buffers) {
+        for (ByteBuffer buffer : buffers) {
+            UnsafeUtil.invokeCleaner(buffer);
+        }
+    }
+
+    /**
+     * Allocates the pages for {@code size} elements of {@code bytesPerElement} bytes each.
+     * Every page holds {@link HugeArrays#PAGE_SIZE} elements, except for the last one.
+     */
+    static ByteBuffer[] allocatePages(long size, int bytesPerElement, AllocationTracker tracker) {
+        ByteBuffer[] pages = new ByteBuffer[numberOfPages(size)];
+        for (int i = 0; i < pages.length; i++) {
+            int pageSize = i == pages.length - 1 ? exclusiveIndexOfPage(size) : PAGE_SIZE;
+            pages[i] = allocate(pageSize * bytesPerElement);
+        }
+        tracker.add(size * bytesPerElement);
+        return pages;
+    }
+
+    static IntBuffer[] asIntPages(ByteBuffer[] pages) {
+        IntBuffer[] views = new IntBuffer[pages.length];
+        for (int i = 0; i < pages.length; i++) {
+            views[i] = pages[i].asIntBuffer();
+        }
+        return views;
+    }
+
+    static LongBuffer[] asLongPages(ByteBuffer[] pages) {
+        LongBuffer[] views = new LongBuffer[pages.length];
+        for (int i = 0; i < pages.length; i++) {
+            views[i] = pages[i].asLongBuffer();
+        }
+        return views;
+    }
+
+    static DoubleBuffer[] asDoublePages(ByteBuffer[] pages) {
+        DoubleBuffer[] views = new DoubleBuffer[pages.length];
+        for (int i = 0; i < pages.length; i++) {
+            views[i] = pages[i].asDoubleBuffer();
+        }
+        return views;
+    }
+
+    static void checkIndex(long index, long size) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(formatWithLocale(
+                "Index %d out of bounds for length %d",
+                index,
+                size
+            ));
+        }
+    }
+
+    private OffHeapMemory() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
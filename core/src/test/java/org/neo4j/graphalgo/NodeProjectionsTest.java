@@ -133,6 +133,20 @@ class NodeProjectionsTest {
         assertThat(ex.getMessage(), matchesPattern("Cannot construct a node projection out of a java.lang.Integer"));
     }
 
+    @Test
+    void shouldFailOnCompressedProperties() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> NodeProjections.fromObject(map(
+                "A", map(PROPERTIES_KEY, map("age", map("property", "age", "compress", true)))
+            ))
+        );
+        assertThat(
+            ex.getMessage(),
+            equalTo("Node property `age` cannot be compressed, `compress` is only supported for relationship properties.")
+        );
+    }
+
     static Stream<Arguments> syntacticSugarsSimple() {
         return Stream.of(
             Arguments.of(
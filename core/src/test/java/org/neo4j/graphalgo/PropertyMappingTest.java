@@ -24,10 +24,14 @@ import org.neo4j.graphalgo.api.DefaultValue;
 import org.neo4j.graphalgo.compat.MapUtil;
 import org.neo4j.graphalgo.core.Aggregation;
 
+import java.util.Map;
+
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PropertyMappingTest {
 
@@ -68,6 +72,26 @@ class PropertyMappingTest {
         assertEquals(propertyMapping.defaultValue(), DefaultValue.of(42.0));
     }
 
+    @Test
+    void testFromObjectWithCompression() {
+        PropertyMapping propertyMapping = PropertyMapping.fromObject(
+            "weight",
+            MapUtil.map("compress", true)
+        );
+        assertTrue(propertyMapping.compress());
+        assertEquals(true, ((Map<?, ?>) propertyMapping.toObject(true).getValue()).get("compress"));
+        assertFalse(PropertyMapping.fromObject("weight", "weight").compress());
+    }
+
+    @Test
+    void failsOnWrongCompressType() {
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class, () -> PropertyMapping.fromObject("weight", MapUtil.map(
+                        "compress", "yes"
+                )));
+        assertThat(ex.getMessage(), containsString("Expected the value of 'compress' to be of type Boolean, but was 'String'."));
+    }
+
     @Test
     void failsOnWrongKeyType() {
         IllegalArgumentException ex = assertThrows(
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DoubleMessageStoreTest {
+
+    @Test
+    void shouldDeliverMessagesFromAllSendBuffers() {
+        var store = new DoubleMessageStore.Sync(4, 2, Pools.DEFAULT, AllocationTracker.empty());
+        var buffer1 = store.newSender();
+        var buffer2 = store.newSender();
+
+        buffer1.sendTo(0, 1.0);
+        buffer1.sendTo(2, 2.0);
+        buffer2.sendTo(0, 3.0);
+        buffer2.sendTo(3, 4.0);
+        buffer2.sendTo(0, 5.0);
+
+        store.deliverMessages();
+
+        assertArrayEquals(new double[]{1.0, 3.0, 5.0}, receive(store, 0));
+        assertArrayEquals(new double[0], receive(store, 1));
+        assertArrayEquals(new double[]{2.0}, receive(store, 2));
+        assertArrayEquals(new double[]{4.0}, receive(store, 3));
+        assertEquals(0L, buffer1.size());
+        assertEquals(0L, buffer2.size());
+    }
+
+    @Test
+    void shouldDropMessagesOfPreviousSuperstep() {
+        var store = new DoubleMessageStore.Sync(2, 1, Pools.DEFAULT, AllocationTracker.empty());
+        var buffer = store.newSender();
+
+        buffer.sendTo(0, 1.0);
+        store.deliverMessages();
+        assertArrayEquals(new double[]{1.0}, receive(store, 0));
+
+        buffer.sendTo(1, 2.0);
+        store.deliverMessages();
+        assertArrayEquals(new double[0], receive(store, 0));
+        assertArrayEquals(new double[]{2.0}, receive(store, 1));
+    }
+
+    @Test
+    void shouldGrowBeyondSendBufferPages() {
+        int messageCount = 3 * DoubleMessageStore.SEND_BUFFER_PAGE_SIZE + 42;
+        var store = new DoubleMessageStore.Sync(3, 1, Pools.DEFAULT, AllocationTracker.empty());
+        var buffer = store.newSender();
+
+        for (int i = 0; i < messageCount; i++) {
+            buffer.sendTo(i % 3, i);
+        }
+
+        store.deliverMessages();
+
+        long sum = 0L;
+        for (int nodeId = 0; nodeId < 3; nodeId++) {
+            assertEquals(messageCount / 3, store.messageCount(nodeId));
+            for (double message : receive(store, nodeId)) {
+                assertEquals(nodeId, (long) message % 3);
+                sum += (long) message;
+            }
+        }
+        assertEquals((long) messageCount * (messageCount - 1) / 2, sum);
+    }
+
+    @Test
+    void shouldReceiveAsyncMessagesOfCurrentSuperstep() {
+        var store = new DoubleMessageStore.Async(3, 2, Pools.DEFAULT, AllocationTracker.empty());
+        var buffer1 = store.newSender();
+        var buffer2 = store.newSender();
+
+        buffer1.sendTo(0, 1.0);
+        buffer2.sendTo(0, 2.0);
+        buffer2.sendTo(1, 3.0);
+
+        assertArrayEquals(new double[]{1.0, 2.0}, receive(store, 0));
+        assertArrayEquals(new double[0], receive(store, 0));
+
+        buffer1.sendTo(0, 4.0);
+        store.deliverMessages();
+
+        assertEquals(1L, store.messageCount(0));
+        assertEquals(1L, store.messageCount(1));
+        assertEquals(0L, store.messageCount(2));
+
+        buffer2.sendTo(1, 5.0);
+        assertArrayEquals(new double[]{4.0}, receive(store, 0));
+        assertArrayEquals(new double[]{3.0, 5.0}, receive(store, 1));
+        assertArrayEquals(new double[0], receive(store, 2));
+
+        store.deliverMessages();
+        assertEquals(0L, store.messageCount(0));
+        assertEquals(0L, store.messageCount(1));
+    }
+
+    @Test
+    void shouldReceiveAsyncMessagesFromAllPages() {
+        int messageCount = 3 * DoubleMessageStore.SEND_BUFFER_PAGE_SIZE + 42;
+        var store = new DoubleMessageStore.Async(2, 2, Pools.DEFAULT, AllocationTracker.empty());
+        var buffer1 = store.newSender();
+        var buffer2 = store.newSender();
+
+        for (int i = 0; i < messageCount; i++) {
+            (i % 2 == 0 ? buffer1 : buffer2).sendTo(i % 2, i);
+        }
+        store.deliverMessages();
+        for (int i = 0; i < messageCount; i++) {
+            buffer1.sendTo(0, i);
+        }
+
+        assertEquals(messageCount / 2, store.messageCount(0));
+        var messages = receive(store, 0);
+        assertEquals(messageCount / 2 + messageCount, messages.length);
+        assertEquals(
+            (long) (messageCount / 2) * (messageCount / 2 - 1) + (long) messageCount * (messageCount - 1) / 2,
+            (long) Arrays.stream(messages).sum()
+        );
+    }
+
+    private static double[] receive(DoubleMessageStore store, long nodeId) {
+        var iterator = new Pregel.MessageIterator();
+        store.initMessageIterator(iterator, nodeId);
+        var messages = new ArrayList<Double>();
+        while (iterator.hasNext()) {
+            messages.add(iterator.nextDouble());
+        }
+        return messages.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+    }
+}
@@ -36,6 +36,7 @@ import org.neo4j.graphalgo.extension.GdlGraph;
 import org.neo4j.graphalgo.extension.Inject;
 import org.neo4j.graphalgo.extension.TestGraph;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -99,6 +100,77 @@ class PregelTest {
         assertEquals(Double.NaN, nodeValues.doubleProperties(KEY).get(2L));
     }
 
+    static Stream<Arguments> reducers() {
+        return Stream.of(
+            Arguments.of(new Reducer.Sum(), 3.0),
+            Arguments.of(new Reducer.Min(), 1.0),
+            Arguments.of(new Reducer.Max(), 2.0),
+            Arguments.of(new Reducer.Count(), 2.0),
+            Arguments.of(Reducer.of(1.0, (current, message) -> current * message), 2.0)
+        ).flatMap(arguments -> Stream.of(true, false).map(isAsynchronous -> Arguments.of(
+            arguments.get()[0],
+            arguments.get()[1],
+            isAsynchronous
+        )));
+    }
+
+    @ParameterizedTest
+    @MethodSource("reducers")
+    void sendReducedMessages(Reducer reducer, double expected, boolean isAsynchronous) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .concurrency(1)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestReduciblePregelComputation(reducer),
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertEquals(expected, nodeValues.doubleProperties(KEY).get(0L));
+    }
+
+    static Stream<Arguments> messageCounts() {
+        return Stream.of(
+            Arguments.of(Optional.empty(), false, new double[]{0, 1, 1, 0}),
+            Arguments.of(Optional.of(new Reducer.Sum()), false, new double[]{0, 1, 1, 0}),
+            // messages sent before the receiver is computed arrive in the same superstep
+            Arguments.of(Optional.empty(), true, new double[]{1, 1, 0, 0}),
+            Arguments.of(Optional.of(new Reducer.Sum()), true, new double[]{1, 1, 0, 0})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("messageCounts")
+    void receiveMessagesOnce(Optional<Reducer> reducer, boolean isAsynchronous, double[] expectedCounts) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(TestMessageCountComputation.MAX_SUPERSTEPS)
+            .concurrency(1)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestMessageCountComputation(reducer),
+            Pools.DEFAULT,
+            AllocationTracker.empty()
+        );
+
+        var result = pregelJob.run();
+        var messageCounts = result.nodeValues().doubleArrayProperties(TestMessageCountComputation.KEY);
+
+        assertEquals(3, result.ranIterations());
+        assertArrayEquals(new double[]{0, 0, 0, 0}, messageCounts.get(graph.toMappedNodeId("alice")));
+        assertArrayEquals(expectedCounts, messageCounts.get(graph.toMappedNodeId("bob")));
+        assertArrayEquals(expectedCounts, messageCounts.get(graph.toMappedNodeId("eve")));
+    }
+
     @Test
     void compositeNodeValueTest() {
         var config = ImmutableCompositeTestComputationConfig.builder()
@@ -136,15 +208,19 @@ class PregelTest {
 
     static Stream<Arguments> estimations() {
         return Stream.of(
-            Arguments.of(1, new NodeSchemaBuilder().putElement("key", ValueType.LONG).build(), 4_884_064L),
-            Arguments.of(10, new NodeSchemaBuilder().putElement("key", ValueType.LONG).build(), 4_896_448L),
+            Arguments.of(1, new NodeSchemaBuilder().putElement("key", ValueType.LONG).build(), false, 2_683_696L, 2_783_696L),
+            Arguments.of(10, new NodeSchemaBuilder().putElement("key", ValueType.LONG).build(), false, 3_286_880L, 3_386_880L),
+            Arguments.of(1, new NodeSchemaBuilder().putElement("key", ValueType.LONG).build(), true, 244_152L, 244_152L),
+            Arguments.of(10, new NodeSchemaBuilder().putElement("key", ValueType.LONG).build(), true, 256_536L, 256_536L),
             Arguments.of(1, new NodeSchemaBuilder()
                     .putElement("key1", ValueType.LONG)
                     .putElement("key2", ValueType.DOUBLE)
                     .putElement("key3", ValueType.LONG_ARRAY)
                     .putElement("key4", ValueType.DOUBLE_ARRAY)
                     .build(),
-                6_884_136L
+                false,
+                4_683_768L,
+                4_783_768L
             ),
             Arguments.of(10, new NodeSchemaBuilder()
                     .putElement("key1", ValueType.LONG)
@@ -152,22 +228,24 @@ class PregelTest {
                     .putElement("key3", ValueType.LONG_ARRAY)
                     .putElement("key4", ValueType.DOUBLE_ARRAY)
                     .build(),
-                6_896_520L
+                false,
+                5_286_952L,
+                5_386_952L
             )
         );
     }
 
     @ParameterizedTest
     @MethodSource("estimations")
-    void memoryEstimation(int concurrency, Pregel.NodeSchema nodeSchema, long expectedBytes) {
+    void memoryEstimation(int concurrency, Pregel.NodeSchema nodeSchema, boolean isReducing, long expectedMinBytes, long expectedMaxBytes) {
         var dimensions = ImmutableGraphDimensions.builder()
             .nodeCount(10_000)
             .maxRelCount(100_000)
             .build();
 
         assertEquals(
-            MemoryRange.of(expectedBytes),
-            Pregel.memoryEstimation(nodeSchema).estimate(dimensions, concurrency).memoryUsage()
+            MemoryRange.of(expectedMinBytes, expectedMaxBytes),
+            Pregel.memoryEstimation(nodeSchema, isReducing).estimate(dimensions, concurrency).memoryUsage()
         );
     }
 
@@ -275,6 +353,83 @@ class PregelTest {
         }
     }
 
+    public static class TestReduciblePregelComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "value";
+
+        private final Reducer reducer;
+
+        TestReduciblePregelComputation(Reducer reducer) {
+            this.reducer = reducer;
+        }
+
+        @Override
+        public Pregel.NodeSchema nodeSchema() {
+            return new NodeSchemaBuilder().putElement(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public void compute(PregelContext.ComputeContext<PregelConfig> context, Pregel.Messages messages) {
+            if (context.nodeId() == 0) {
+                var iterator = messages.iterator();
+                if (iterator.hasNext()) {
+                    context.setNodeValue(KEY, iterator.nextDouble());
+                }
+            } else {
+                context.sendTo(0L, context.nodeId());
+            }
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(reducer);
+        }
+    }
+
+    /**
+     * Records the number of received messages per superstep.
+     * Nodes send to their neighbours in the first two supersteps.
+     */
+    public static class TestMessageCountComputation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "messageCounts";
+        static final int MAX_SUPERSTEPS = 4;
+
+        private final Optional<Reducer> reducer;
+
+        TestMessageCountComputation(Optional<Reducer> reducer) {
+            this.reducer = reducer;
+        }
+
+        @Override
+        public Pregel.NodeSchema nodeSchema() {
+            return new NodeSchemaBuilder().putElement(KEY, ValueType.DOUBLE_ARRAY).build();
+        }
+
+        @Override
+        public void compute(PregelContext.ComputeContext<PregelConfig> context, Pregel.Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, new double[MAX_SUPERSTEPS]);
+            }
+            var messageCounts = context.doubleArrayNodeValue(KEY);
+            var iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                iterator.nextDouble();
+                messageCounts[context.superstep()]++;
+            }
+            if (context.superstep() < 2) {
+                context.sendToNeighbors(1.0);
+            } else {
+                context.voteToHalt();
+            }
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return reducer;
+        }
+    }
+
     @ValueClass
     @Configuration
     @SuppressWarnings("immutables:subtype")
@@ -27,6 +27,7 @@ import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable
 import org.neo4j.function.ThrowingConsumer;
 import org.neo4j.graphalgo.api.BatchNodeIterable;
 import org.neo4j.graphalgo.core.loading.HugeParallelGraphImporter;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 
 import java.util.AbstractCollection;
@@ -43,6 +44,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.locks.LockSupport;
@@ -285,6 +287,41 @@ final class ParallelUtilTest {
         });
     }
 
+    @Test
+    void shouldProcessEveryNodeExactlyOnceWithDynamicChunks() {
+        int nodeCount = 10_042;
+        AtomicIntegerArray visits = new AtomicIntegerArray(nodeCount);
+        List<BiLongConsumer> workers = Stream.<BiLongConsumer>generate(() -> (start, end) -> {
+            assertTrue(end - start <= 100);
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                visits.incrementAndGet((int) nodeId);
+            }
+        }).limit(4).collect(Collectors.toList());
+
+        withPool(4, pool -> ParallelUtil.runWithDynamicChunks(
+            nodeCount,
+            100,
+            workers,
+            TerminationFlag.RUNNING_TRUE,
+            pool
+        ));
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertEquals(1, visits.get(nodeId));
+        }
+    }
+
+    @Test
+    void shouldFailOnInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelUtil.runWithDynamicChunks(
+            42,
+            0,
+            List.<BiLongConsumer>of((start, end) -> {}),
+            TerminationFlag.RUNNING_TRUE,
+            null
+        ));
+    }
+
     @Test
     void shouldBailOnFullThreadpoolAfterTrying() {
         ThreadPoolExecutor pool = mock(ThreadPoolExecutor.class);
@@ -31,6 +31,8 @@ import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.RelationshipType;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -71,6 +73,39 @@ final class HugeGraphWeightTest extends BaseTest {
         loadGraph(db);
     }
 
+    @Test
+    void shouldLookupWeightsOfHighDegreeNode() {
+        int degree = 20 * AdjacencyDecompressingReader.CHUNK_SIZE + 7;
+        runInTransaction(db, tx -> {
+            var hub = tx.createNode();
+            for (int i = 0; i < degree; i++) {
+                var target = tx.createNode();
+                hub.createRelationshipTo(target, TYPE).setProperty("weight", i);
+                if (i % 3 == 0) {
+                    hub.createRelationshipTo(target, TYPE).setProperty("weight", -i);
+                }
+            }
+        });
+
+        Graph graph = loadGraph(db);
+        long hubId = graph.toMappedNodeId(0);
+
+        Map<Long, Double> firstWeights = new HashMap<>();
+        graph.forEachRelationship(hubId, Double.NaN, (src, tgt, weight) -> {
+            firstWeights.putIfAbsent(tgt, weight);
+            return true;
+        });
+        assertEquals(degree, firstWeights.size());
+
+        firstWeights.forEach((target, weight) -> assertEquals(
+            weight,
+            graph.relationshipProperty(hubId, target, Double.NaN),
+            "Wrong propertyValue for (" + hubId + ")->(" + target + ")"
+        ));
+        assertEquals(42.0, graph.relationshipProperty(hubId, hubId, 42.0));
+        assertEquals(42.0, graph.relationshipProperty(graph.toMappedNodeId(1), hubId, 42.0));
+    }
+
     private void mkDb(int nodes, int relsPerNode) {
         long[] nodeIds = new long[nodes];
 
@@ -19,14 +19,19 @@
  */
 package org.neo4j.graphalgo.core.huge;
 
+import org.apache.lucene.util.LongsRef;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.api.AdjacencyCursor;
 import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.loading.AdjacencyCompression;
 import org.neo4j.graphalgo.core.loading.IdMap;
 import org.neo4j.graphalgo.core.loading.builder.GraphBuilder;
 import org.neo4j.graphalgo.core.loading.builder.NodesBuilder;
@@ -35,12 +40,17 @@ import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
+import org.neo4j.graphalgo.core.utils.paged.OffHeapMemory;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.CHUNK_SIZE;
 import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_MASK;
 import static org.neo4j.graphalgo.core.huge.TransientAdjacencyList.PAGE_SHIFT;
@@ -90,6 +100,79 @@ class TransientAdjacencyListTest {
         assertEquals(64, adjacencyCursor.nextVLong());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 10 * CHUNK_SIZE + 7})
+    void shouldDecodeBlockPackedTargets(int degree) {
+        Random random = new Random(42);
+        long[] targets = new long[degree];
+        targets[0] = random.nextInt(1 << 20);
+        for (int i = 1; i < degree; i++) {
+            // vary the bit width between blocks, including blocks of parallel relationships
+            int maxDelta = 1 << ((i / CHUNK_SIZE) * 7 % 40);
+            targets[i] = targets[i - 1] + random.nextInt(maxDelta);
+        }
+
+        AdjacencyCursor adjacencyCursor = blockPackedCursorFromTargets(targets);
+        assertEquals(degree, adjacencyCursor.size());
+        for (long target : targets) {
+            assertEquals(target, adjacencyCursor.peekVLong());
+            assertEquals(target, adjacencyCursor.nextVLong());
+        }
+        assertFalse(adjacencyCursor.hasNextVLong());
+    }
+
+    @Test
+    void shouldSkipAndAdvanceAcrossBlockPackedBlocks() {
+        long[] targets = new long[3 * CHUNK_SIZE];
+        Arrays.setAll(targets, i -> 2L * i);
+
+        TransientAdjacencyList.DecompressingCursor adjacencyCursor = blockPackedCursorFromTargets(targets);
+        assertEquals(2L * CHUNK_SIZE + 2, adjacencyCursor.skipUntil(2L * CHUNK_SIZE));
+        assertEquals(4L * CHUNK_SIZE + 2, adjacencyCursor.advance(4L * CHUNK_SIZE + 1));
+        assertEquals(4L * CHUNK_SIZE + 4, adjacencyCursor.nextVLong());
+        assertEquals(3 * CHUNK_SIZE - (2 * CHUNK_SIZE + 3), adjacencyCursor.remaining());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, CHUNK_SIZE, 10 * CHUNK_SIZE + 7})
+    void shouldDecodeOffHeapPages(int degree) {
+        long[] targets = new long[degree];
+        Arrays.setAll(targets, i -> 3L * i + i % 7);
+
+        TransientAdjacencyList adjacencyList = offHeapBlockPackedList(targets, AllocationTracker.empty());
+        AdjacencyCursor adjacencyCursor = adjacencyList.decompressingCursor(0);
+        assertEquals(degree, adjacencyList.degree(0));
+        assertEquals(degree, adjacencyCursor.size());
+        for (long target : targets) {
+            assertEquals(target, adjacencyCursor.peekVLong());
+            assertEquals(target, adjacencyCursor.nextVLong());
+        }
+        assertFalse(adjacencyCursor.hasNextVLong());
+        adjacencyList.close();
+    }
+
+    @Test
+    void shouldFreeOffHeapPagesOnClose() {
+        long[] targets = new long[3 * CHUNK_SIZE];
+        Arrays.setAll(targets, i -> i);
+        AllocationTracker tracker = AllocationTracker.create();
+
+        TransientAdjacencyList adjacencyList = offHeapBlockPackedList(targets, tracker);
+        AdjacencyCursor adjacencyCursor = adjacencyList.decompressingCursor(0);
+        assertEquals(0L, adjacencyCursor.nextVLong());
+
+        adjacencyList.close();
+        adjacencyList.close();
+
+        assertEquals(0L, tracker.trackedBytes());
+        assertThrows(IndexOutOfBoundsException.class, () -> adjacencyList.degree(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            while (adjacencyCursor.hasNextVLong()) {
+                adjacencyCursor.nextVLong();
+            }
+        });
+    }
+
     @Test
     void shouldComputeCompressedMemoryEstimationForSinglePage() {
         GraphDimensions dimensions = ImmutableGraphDimensions.builder()
@@ -213,6 +296,30 @@ class TransientAdjacencyListTest {
         assertEquals(400, computeAdjacencyByteSize(avgDegree, nodeCount, delta));
     }
 
+    private TransientAdjacencyList.DecompressingCursor blockPackedCursorFromTargets(long[] targets) {
+        LongsRef deltas = new LongsRef(targets.clone(), 0, targets.length);
+        AdjacencyCompression.applyDeltaEncoding(deltas, Aggregation.NONE);
+        byte[] compressed = new byte[AdjacencyCompression.blockPackedUpperBound(targets.length)];
+        int compressedSize = AdjacencyCompression.compressBlockPacked(deltas, compressed);
+
+        byte[] page = new byte[Integer.BYTES + compressedSize];
+        ByteBuffer.wrap(page).order(ByteOrder.LITTLE_ENDIAN).putInt(targets.length).put(compressed, 0, compressedSize);
+        return new TransientAdjacencyList(new byte[][]{page}, AdjacencyEncoding.BLOCK_PACKED).decompressingCursor(0);
+    }
+
+    private TransientAdjacencyList offHeapBlockPackedList(long[] targets, AllocationTracker tracker) {
+        LongsRef deltas = new LongsRef(targets.clone(), 0, targets.length);
+        AdjacencyCompression.applyDeltaEncoding(deltas, Aggregation.NONE);
+        byte[] compressed = new byte[AdjacencyCompression.blockPackedUpperBound(targets.length)];
+        int compressedSize = AdjacencyCompression.compressBlockPacked(deltas, compressed);
+
+        ByteBuffer page = OffHeapMemory.allocate(Integer.BYTES + compressedSize).order(ByteOrder.LITTLE_ENDIAN);
+        page.putInt(0, targets.length).position(Integer.BYTES);
+        page.put(compressed, 0, compressedSize);
+        tracker.add(page.capacity());
+        return TransientAdjacencyList.offHeap(new ByteBuffer[]{page}, null, AdjacencyEncoding.BLOCK_PACKED, tracker);
+    }
+
     private TransientAdjacencyList.DecompressingCursor adjacencyCursorFromTargets(long[] targets) {
         long sourceNodeId = targets[0];
         NodesBuilder nodesBuilder = GraphBuilder.createNodesBuilder(
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class CompactDoubleCodecTest extends DoubleCodecTestBase {
+    CompactDoubleCodecTest() {
+        super(CompactDoubleCodec.instance());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.0, 1",
+        "1.0, 2",
+        "-1.0, 2",
+        "42.0, 2",
+        "1337.0, 3",
+        "0.5, 3",
+        "1.25, 3",
+        "0.15, 9",
+    })
+    void testCompressedSize(double value, int expectedSize) {
+        var compressed = CompactDoubleCodec.instance().compressDouble(value);
+        assertEquals(expectedSize, compressed.length);
+        assertEquals(expectedSize, CompactDoubleCodec.instance().compressedSize(compressed, 0));
+    }
+}
@@ -128,6 +128,23 @@ class CypherFactoryTest extends BaseTest {
         loadAndTestGraph(nodeStatement, relStatement);
     }
 
+    @Test
+    void testLoadRelationshipsCypherInBatches() {
+        String nodeStatement = "MATCH (n) RETURN id(n) AS id";
+        String relStatement =
+            "MATCH (n)-[r:REL]->(m) RETURN id(n) AS source, id(m) AS target, r.prop AS weight " +
+            "ORDER BY id(r) SKIP $skip LIMIT $limit";
+
+        loadAndTestGraph(
+            new CypherLoaderBuilder()
+                .api(db)
+                .nodeQuery(nodeStatement)
+                .relationshipQuery(relStatement)
+                .concurrency(4)
+                .queryBatchSize(COUNT / 7)
+        );
+    }
+
     @Test
     void testMultipleNodeProperties() {
         clearDb();
@@ -355,11 +372,13 @@ class CypherFactoryTest extends BaseTest {
         String nodeStatement,
         String relStatement
     ) {
-        CypherLoaderBuilder builder = new CypherLoaderBuilder()
+        loadAndTestGraph(new CypherLoaderBuilder()
             .api(db)
             .nodeQuery(nodeStatement)
-            .relationshipQuery(relStatement);
+            .relationshipQuery(relStatement));
+    }
 
+    private void loadAndTestGraph(CypherLoaderBuilder builder) {
         Graph graph = applyInTransaction(db, tx -> builder.build().graph());
 
         assertEquals(COUNT, graph.nodeCount());
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.graphalgo.BaseTest;
+import org.neo4j.graphalgo.ImmutablePropertyMapping;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.NodeProjection;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.PropertyMapping;
+import org.neo4j.graphalgo.PropertyMappings;
+import org.neo4j.graphalgo.RelationshipProjection;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+class GraphStoreFileTest extends BaseTest {
+
+    private static final NodeLabel LABEL_B = NodeLabel.of("B");
+    private static final String USERNAME = "alice";
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() {
+        runQuery("CREATE" +
+                 "  (a:A {p: 1})" +
+                 ", (b:B {p: 2, emb: [3.0, 4.0]})" +
+                 ", (c:A:B {p: 3, emb: [5.0, 6.0]})" +
+                 ", (a)-[:T1 {w: 1.5}]->(b)" +
+                 ", (a)-[:T1 {w: 42}]->(c)" +
+                 ", (b)-[:T1 {w: 0.25}]->(c)" +
+                 ", (c)-[:T2 {w: 2.0}]->(a)" +
+                 ", (c)-[:T2 {w: 3.0}]->(a)");
+    }
+
+    @Test
+    void shouldReadWrittenGraphStore() throws IOException {
+        GraphStore graphStore = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeProjection(NodeProjection.of("A", PropertyMappings.of(PropertyMapping.of("p", 0L))))
+            .addNodeProjection(NodeProjection.of("B", PropertyMappings.of(
+                PropertyMapping.of("p", 0L),
+                PropertyMapping.of("emb")
+            )))
+            .putRelationshipProjectionsWithIdentifier(
+                "T1",
+                RelationshipProjection.builder()
+                    .type("T1")
+                    .orientation(Orientation.UNDIRECTED)
+                    .addProperty(ImmutablePropertyMapping.builder().propertyKey("w").compress(true).build())
+                    .build()
+            )
+            .putRelationshipProjectionsWithIdentifier(
+                "T2",
+                RelationshipProjection.builder()
+                    .type("T2")
+                    .adjacencyEncoding(AdjacencyEncoding.BLOCK_PACKED)
+                    .addProperty(PropertyMapping.of("w", 1.0))
+                    .build()
+            )
+            .build()
+            .graphStore();
+
+        Path file = tempDir.resolve("graph.gds");
+        GraphStoreFile.write(graphStore, USERNAME, file);
+        GraphStore loadedGraphStore = GraphStoreFile.read(file, USERNAME, graphStore.databaseId(), 4, AllocationTracker.empty());
+
+        assertEquals(graphStore.schema(), loadedGraphStore.schema());
+        assertEquals(graphStore.relationshipCount(), loadedGraphStore.relationshipCount());
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertEquals(graphStore.nodes().toOriginalNodeId(nodeId), loadedGraphStore.nodes().toOriginalNodeId(nodeId));
+            assertEquals(graphStore.nodes().nodeLabels(nodeId), loadedGraphStore.nodes().nodeLabels(nodeId));
+            if (graphStore.nodes().hasLabel(nodeId, LABEL_B)) {
+                assertArrayEquals(
+                    graphStore.nodePropertyValues(LABEL_B, "emb").doubleArrayValue(nodeId),
+                    loadedGraphStore.nodePropertyValues(LABEL_B, "emb").doubleArrayValue(nodeId)
+                );
+            }
+        }
+
+        for (RelationshipType relationshipType : graphStore.relationshipTypes()) {
+            assertGraphEquals(
+                graphStore.getGraph(relationshipType, Optional.of("w")),
+                loadedGraphStore.getGraph(relationshipType, Optional.of("w"))
+            );
+        }
+    }
+
+    @Test
+    void shouldReadWrittenGraphStoreWithoutLabels() throws IOException {
+        GraphStore graphStore = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeProperty(PropertyMapping.of("p", 0L))
+            .build()
+            .graphStore();
+
+        Path file = tempDir.resolve("graph.gds");
+        GraphStoreFile.write(graphStore, USERNAME, file);
+        GraphStore loadedGraphStore = GraphStoreFile.read(file, USERNAME, graphStore.databaseId(), 4, AllocationTracker.empty());
+
+        assertEquals(graphStore.schema(), loadedGraphStore.schema());
+        assertGraphEquals(graphStore.getUnion(), loadedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldFailToReadGraphStoreOfAnotherUser() throws IOException {
+        GraphStore graphStore = new StoreLoaderBuilder().api(db).build().graphStore();
+
+        Path file = tempDir.resolve("graph.gds");
+        GraphStoreFile.write(graphStore, USERNAME, file);
+
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> GraphStoreFile.read(file, "bob", graphStore.databaseId(), 4, AllocationTracker.empty())
+        );
+        assertThat(exception.getMessage(), containsString("was saved by user `alice` and cannot be loaded by user `bob`"));
+    }
+
+    @Test
+    void shouldFailToReadGraphStoreIntoAnotherDatabase() throws IOException {
+        GraphStore graphStore = new StoreLoaderBuilder().api(db).build().graphStore();
+
+        Path file = tempDir.resolve("graph.gds");
+        GraphStoreFile.write(graphStore, USERNAME, file);
+
+        var otherDatabaseId = DatabaseIdFactory.from("other", UUID.fromString("0-0-0-0-1"));
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> GraphStoreFile.read(file, USERNAME, otherDatabaseId, 4, AllocationTracker.empty())
+        );
+        assertThat(exception.getMessage(), containsString(formatWithLocale(
+            "was saved from database `%s` and cannot be loaded into database `other`",
+            graphStore.databaseId().name()
+        )));
+    }
+}
@@ -44,6 +44,7 @@ import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
 import org.neo4j.graphalgo.core.loading.NullPropertyMap.DoubleNullPropertyMap;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -58,6 +59,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.NodeLabel.ALL_NODES;
 import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
@@ -245,6 +247,34 @@ class GraphStoreTest extends BaseTest {
         assertThat(deletionResult.deletedProperties(), mapEquals(map("p", 3L, "q", 3L)));
     }
 
+    @Test
+    void loadOffHeapAndReleaseOnDrop() {
+        var tracker = AllocationTracker.create();
+        GraphStore heapGraphStore = new StoreLoaderBuilder()
+            .api(db)
+            .nodeProjections(nodeProjections())
+            .relationshipProjections(relationshipProjections())
+            .build()
+            .graphStore();
+        GraphStore offHeapGraphStore = new StoreLoaderBuilder()
+            .api(db)
+            .nodeProjections(nodeProjections())
+            .relationshipProjections(relationshipProjections())
+            .offHeap(true)
+            .tracker(tracker)
+            .build()
+            .graphStore();
+
+        assertGraphEquals(heapGraphStore.getUnion(), offHeapGraphStore.getUnion());
+
+        long trackedBeforeRelease = tracker.trackedBytes();
+        offHeapGraphStore.canRelease(true);
+        offHeapGraphStore.release();
+
+        assertTrue(tracker.trackedBytes() < trackedBeforeRelease);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> offHeapGraphStore.nodes().toOriginalNodeId(0));
+    }
+
     @NotNull
     private static List<NodeProjection> nodeProjections() {
         NodeProjection aMapping = NodeProjection.builder()
@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.core.loading;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.BaseTest;
+import org.neo4j.graphalgo.ImmutablePropertyMapping;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.PropertyMapping;
 import org.neo4j.graphalgo.PropertyMappings;
@@ -30,10 +31,12 @@ import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.core.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -197,6 +200,112 @@ final class HugeGraphLoadingTest extends BaseTest {
         assertGraphEquals(fromGdl("(a {id: 0})-->(b {id: 1.0}), (a)<--(b), (a)<--(b), (a)-->(b)"), union);
     }
 
+    @Test
+    void testCompressedRelationshipPropertyLoading() {
+        runQuery("CREATE" +
+                 "  (a)-[:TYPE {w: 1.0}]->(b)" +
+                 ", (a)-[:TYPE {w: 0.15}]->(c)" +
+                 ", (b)-[:TYPE {w: 42}]->(c)" +
+                 ", (c)-[:TYPE {w: -1337.25}]->(a)");
+
+        Graph graph = new StoreLoaderBuilder()
+            .api(db)
+            .addRelationshipProperty(ImmutablePropertyMapping.builder().propertyKey("w").compress(true).build())
+            .build()
+            .graph();
+
+        assertGraphEquals(
+            fromGdl("(a)-[{w: 1.0}]->(b), (a)-[{w: 0.15}]->(c), (b)-[{w: 42.0}]->(c), (c)-[{w: -1337.25}]->(a)"),
+            graph
+        );
+    }
+
+    @Test
+    void testBlockPackedAdjacencyLoading() {
+        // spans multiple blocks and contains parallel relationships
+        runQuery("UNWIND range(0, 299) AS i " +
+                 "CREATE (n:Node {id: i}) " +
+                 "WITH collect(n) AS nodes " +
+                 "UNWIND nodes AS source " +
+                 "UNWIND nodes[0..(source.id % 150)] AS target " +
+                 "CREATE (source)-[:TYPE]->(target), (source)-[:TYPE]->(nodes[(source.id * target.id) % 300])");
+
+        GraphStore graphStore = new StoreLoaderBuilder()
+            .api(db)
+            .putRelationshipProjectionsWithIdentifier("VAR_LONG", RelationshipProjection.of("TYPE", Orientation.NATURAL))
+            .putRelationshipProjectionsWithIdentifier(
+                "BLOCK_PACKED",
+                RelationshipProjection.builder()
+                    .type("TYPE")
+                    .adjacencyEncoding(AdjacencyEncoding.BLOCK_PACKED)
+                    .build()
+            )
+            .addNodeProperty(PropertyMapping.of("id", 0.0))
+            .build()
+            .graphStore();
+
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("VAR_LONG")),
+            graphStore.getGraph(RelationshipType.of("BLOCK_PACKED"))
+        );
+    }
+
+    @Test
+    void testInverseIndexedLoading() {
+        runQuery("UNWIND range(0, 199) AS i " +
+                 "CREATE (n:Node {id: i}) " +
+                 "WITH collect(n) AS nodes " +
+                 "UNWIND nodes AS source " +
+                 "UNWIND nodes[0..(source.id % 100)] AS target " +
+                 "CREATE (source)-[:TYPE {w: source.id + target.id}]->(nodes[(source.id * target.id) % 200])");
+
+        GraphStore graphStore = new StoreLoaderBuilder()
+            .api(db)
+            .putRelationshipProjectionsWithIdentifier(
+                "INDEXED",
+                RelationshipProjection.builder()
+                    .type("TYPE")
+                    .indexInverse(true)
+                    .properties(PropertyMappings.builder()
+                        .addMapping(PropertyMapping.of("w", 0.0))
+                        .build())
+                    .build()
+            )
+            .putRelationshipProjectionsWithIdentifier(
+                "REVERSE",
+                RelationshipProjection.builder()
+                    .type("TYPE")
+                    .orientation(Orientation.REVERSE)
+                    .properties(PropertyMappings.builder()
+                        .addMapping(PropertyMapping.of("w", 0.0))
+                        .build())
+                    .build()
+            )
+            .addNodeProperty(PropertyMapping.of("id", 0.0))
+            .build()
+            .graphStore();
+
+        Graph indexed = graphStore.getGraph(RelationshipType.of("INDEXED"), Optional.of("w"));
+        Graph reverse = graphStore.getGraph(RelationshipType.of("REVERSE"), Optional.of("w"));
+
+        assertTrue(indexed.isInverseIndexed());
+        assertFalse(reverse.isInverseIndexed());
+        assertEquals(reverse.relationshipCount(), indexed.relationshipCount());
+
+        for (long nodeId = 0; nodeId < indexed.nodeCount(); nodeId++) {
+            assertEquals(reverse.degree(nodeId), indexed.inverseDegree(nodeId));
+
+            var expected = new ArrayList<String>();
+            reverse.forEachRelationship(nodeId, Double.NaN, (s, t, w) -> expected.add(t + ":" + w));
+            var actual = new ArrayList<String>();
+            indexed.forEachInverseRelationship(nodeId, Double.NaN, (s, t, w) -> actual.add(t + ":" + w));
+            // the order of parallel relationships depends on the import order
+            expected.sort(null);
+            actual.sort(null);
+            assertEquals(expected, actual);
+        }
+    }
+
     @Test
     void canIdentifyMultigraph() {
         runQuery("CREATE (a)-[:TYPE {t: 1}]->(b), (a)-[:TYPE {t: 2}]->(b), (a)-[:TYPE2]->(b)");
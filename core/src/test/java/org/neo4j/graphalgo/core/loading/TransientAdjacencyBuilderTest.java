@@ -32,4 +32,13 @@ class TransientAdjacencyBuilderTest extends AdjacencyBuilderBaseTest {
             TransientAdjacencyOffsets.forPageSize(8)
         );
     }
+
+    @Test
+    void testOffHeap() {
+        AllocationTracker tracker = AllocationTracker.empty();
+        testAdjacencyList(
+            TransientAdjacencyListBuilder.builderFactory(true, tracker),
+            TransientAdjacencyOffsets.forPageSize(8, true, tracker)
+        );
+    }
 }
@@ -133,6 +133,20 @@ class PartitionUtilsTest {
         assertEquals(1, partitions.get(1).nodeCount());
     }
 
+    @Test
+    void testDegreePartitioningSeparatesHighDegreeNodes() {
+        Graph graph = fromGdl(
+            "(a)-->(b)" +
+            "(a)-->(c)" +
+            "(a)-->(d)" +
+            "(a)-->(e)" +
+            "(b)-->(c)"
+        );
+
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, 2);
+        assertEquals(List.of(Partition.of(0, 1), Partition.of(1, 4)), partitions);
+    }
+
     @Test
     void testDegreePartitioningWithNodeFilter() {
         Graph graph = fromGdl(
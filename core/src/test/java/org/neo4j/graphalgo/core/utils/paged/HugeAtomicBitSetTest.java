@@ -58,6 +58,14 @@ class HugeAtomicBitSetTest {
     }
 
 
+    @Test
+    void shouldReleaseTrackedMemory() {
+        var tracker = AllocationTracker.create();
+        var bitSet = HugeAtomicBitSet.create(42, tracker);
+        assertEquals(tracker.trackedBytes(), bitSet.release());
+        assertEquals(0L, bitSet.release());
+    }
+
     @Test
     void testFlipping() {
         var bitSet = HugeAtomicBitSet.create(42, AllocationTracker.empty());
@@ -94,4 +102,20 @@ class HugeAtomicBitSetTest {
             assertFalse(bitSet.get(i));
         }
     }
+
+    @Test
+    void testNextSetBit() {
+        var bitSet = HugeAtomicBitSet.create(200, AllocationTracker.empty());
+        assertEquals(-1L, bitSet.nextSetBit(0));
+
+        bitSet.set(3);
+        bitSet.set(64);
+        bitSet.set(199);
+
+        assertEquals(3L, bitSet.nextSetBit(0));
+        assertEquals(3L, bitSet.nextSetBit(3));
+        assertEquals(64L, bitSet.nextSetBit(4));
+        assertEquals(199L, bitSet.nextSetBit(65));
+        assertEquals(-1L, bitSet.nextSetBit(200));
+    }
 }
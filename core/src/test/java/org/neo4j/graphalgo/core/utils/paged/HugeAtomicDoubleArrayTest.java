@@ -162,6 +162,31 @@ final class HugeAtomicDoubleArrayTest {
         });
     }
 
+    /**
+     * getAndReplace returns previous value and sets the new value
+     */
+    @Test
+    void testGetAndReplace() {
+        testArray(SIZE, aa -> {
+            for (int i = 0; i < SIZE; i++) {
+                aa.set(i, 1);
+                assertEquals(1D, aa.getAndReplace(i, 2));
+                assertEquals(2D, aa.getAndReplace(i, -4));
+                assertEquals(-4D, aa.get(i));
+            }
+        });
+    }
+
+    @Test
+    void testSetAll() {
+        testArray(SIZE, aa -> {
+            aa.setAll(42.0);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(42.0, aa.get(i));
+            }
+        });
+    }
+
     static class Counter extends CheckedRunnable {
         final HugeAtomicDoubleArray aa;
         int decs;
@@ -40,6 +40,22 @@ final class HugeDoubleArrayTest extends HugeArrayTestBase<double[], Double, Huge
         });
     }
 
+    @Test
+    void shouldCopyOffHeapArray() {
+        int size = 2 * HugeArrays.PAGE_SIZE + 42;
+        var array = HugeDoubleArray.newOffHeapArray(size, AllocationTracker.empty());
+        array.setAll(i -> i * 0.5);
+        array.addTo(42, 1.0);
+
+        var copy = HugeDoubleArray.newPagedArray(size, AllocationTracker.empty());
+        array.copyTo(copy, size);
+
+        assertEquals(22.0, copy.get(42));
+        assertEquals((size - 1) * 0.5, copy.get(size - 1));
+        assertEquals(array.stream().sum(), copy.stream().sum());
+        array.release();
+    }
+
     @Override
     HugeDoubleArray singleArray(final int size) {
         return HugeDoubleArray.newSingleArray(size, AllocationTracker.empty());
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HugeFloatMatrixTest {
+
+    @Test
+    void shouldStoreRowsAcrossPages() {
+        int columns = 100;
+        // 163 rows fit into a page, rounded down to 128
+        long rows = 1_000;
+        var matrix = HugeFloatMatrix.newMatrix(rows, columns, AllocationTracker.empty());
+
+        for (long row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                matrix.set(row, column, row * columns + column);
+            }
+        }
+
+        for (long row = 0; row < rows; row++) {
+            float[] page = matrix.rowPage(row);
+            int offset = matrix.rowOffset(row);
+            for (int column = 0; column < columns; column++) {
+                assertEquals(row * columns + column, matrix.get(row, column));
+                assertEquals(row * columns + column, page[offset + column]);
+            }
+        }
+        assertEquals(matrix.rowPage(0), matrix.rowPage(127));
+        assertEquals(matrix.rowPage(128), matrix.rowPage(255));
+        assertEquals(0, matrix.rowOffset(128));
+    }
+
+    @Test
+    void shouldCopyAndFillRows() {
+        var matrix = HugeFloatMatrix.newMatrix(3, 4, AllocationTracker.empty());
+
+        matrix.setRow(1, new float[]{1, 2, 3, 4});
+        matrix.addTo(1, 2, 0.5f);
+        assertArrayEquals(new float[]{1, 2, 3.5f, 4}, matrix.copyRow(1));
+
+        matrix.fillRow(2, 42);
+        assertArrayEquals(new float[]{42, 42, 42, 42}, matrix.copyRow(2));
+        assertArrayEquals(new float[4], matrix.copyRow(0));
+    }
+
+    @Test
+    void shouldSupportRowsLargerThanAPage() {
+        int columns = HugeArrays.PAGE_SIZE + 1;
+        var matrix = HugeFloatMatrix.newMatrix(2, columns, AllocationTracker.empty());
+
+        matrix.set(1, columns - 1, 1.0f);
+
+        assertEquals(0, matrix.rowOffset(1));
+        assertEquals(1.0f, matrix.get(1, columns - 1));
+        assertEquals(0.0f, matrix.get(0, columns - 1));
+    }
+
+    @Test
+    void shouldAddAtomically() {
+        var matrix = HugeFloatMatrix.newMatrix(1, 1, AllocationTracker.empty());
+
+        var tasks = new ArrayList<Runnable>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    matrix.atomicAdd(0, 0, 1.0f);
+                }
+            });
+        }
+        ParallelUtil.runWithConcurrency(4, tasks, Pools.DEFAULT);
+
+        assertEquals(40_000.0f, matrix.get(0, 0));
+    }
+
+    @Test
+    void shouldTrackMemory() {
+        var tracker = AllocationTracker.create();
+        var matrix = HugeFloatMatrix.newMatrix(1_000, 100, tracker);
+
+        assertEquals(HugeFloatMatrix.memoryEstimation(1_000, 100), tracker.trackedBytes());
+        assertEquals(tracker.trackedBytes(), matrix.release());
+    }
+}
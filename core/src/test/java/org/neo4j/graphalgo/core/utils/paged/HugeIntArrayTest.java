@@ -71,6 +71,21 @@ final class HugeIntArrayTest extends HugeArrayTestBase<int[], Integer, HugeIntAr
         assertEquals(400_122_070_368L, HugeIntArray.memoryEstimation(100_000_000_000L));
     }
 
+    @Test
+    void shouldCopyOffHeapArray() {
+        int size = 2 * HugeArrays.PAGE_SIZE + 42;
+        var array = HugeIntArray.newOffHeapArray(size, AllocationTracker.empty());
+        array.setAll(i -> (int) i);
+        array.and(42, 8);
+
+        var copy = HugeIntArray.newPagedArray(size, AllocationTracker.empty());
+        array.copyTo(copy, size);
+
+        assertEquals(8, copy.get(42));
+        assertEquals(size - 1, copy.get(size - 1));
+        array.release();
+    }
+
     @Override
     HugeIntArray singleArray(final int size) {
         return HugeIntArray.newSingleArray(size, AllocationTracker.empty());
@@ -23,9 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
 import static io.qala.datagen.RandomShortApi.integer;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class HugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongArray> {
 
@@ -107,6 +113,93 @@ final class HugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongAr
         assertEquals(-1, array.binarySearch(-10));
     }
 
+    @Test
+    void shouldSetAndGetOffHeap() {
+        int size = 3 * HugeArrays.PAGE_SIZE + 42;
+        var array = HugeLongArray.newOffHeapArray(size, AllocationTracker.empty());
+        array.setAll(i -> i + 1);
+        array.addTo(42, 1);
+        array.or(1337, 1L << 42);
+
+        assertEquals(44, array.get(42));
+        assertEquals(1338 | (1L << 42), array.get(1337));
+        assertEquals(size, array.get(size - 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(size));
+        array.release();
+    }
+
+    @Test
+    void shouldWriteCursorChangesBackToOffHeapMemory() {
+        int size = 2 * HugeArrays.PAGE_SIZE + 42;
+        var array = HugeLongArray.newOffHeapArray(size, AllocationTracker.empty());
+        long[] source = new long[size];
+        Arrays.setAll(source, i -> 2L * i);
+
+        array.copyFromArrayIntoSlice(source, 0, size);
+
+        assertArrayEquals(source, array.toArray());
+        array.release();
+    }
+
+    @Test
+    void shouldCopyBetweenHeapAndOffHeapArrays() {
+        int size = 2 * HugeArrays.PAGE_SIZE + 42;
+        var heapArray = HugeLongArray.newPagedArray(size, AllocationTracker.empty());
+        heapArray.setAll(i -> i + 42);
+        var offHeapArray = HugeLongArray.newOffHeapArray(size + 10, AllocationTracker.empty());
+        offHeapArray.fill(1337);
+
+        heapArray.copyTo(offHeapArray, size);
+        assertEquals(42, offHeapArray.get(0));
+        assertEquals(size + 41, offHeapArray.get(size - 1));
+        assertEquals(0, offHeapArray.get(size));
+
+        var copy = HugeLongArray.newPagedArray(size, AllocationTracker.empty());
+        offHeapArray.copyTo(copy, size);
+        assertArrayEquals(heapArray.toArray(), copy.toArray());
+        offHeapArray.release();
+    }
+
+    @Test
+    void shouldFreeOffHeapMemoryOnRelease() {
+        var tracker = AllocationTracker.create();
+        var array = HugeLongArray.newOffHeapArray(100, tracker);
+
+        assertEquals(800, tracker.trackedBytes());
+        assertEquals(800, array.sizeOf());
+        assertEquals(800, array.release());
+        assertEquals(0, array.release());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(0));
+    }
+
+    @Test
+    void shouldReturnOffHeapMemoryOnRelease() {
+        var directMemory = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)
+            .stream()
+            .filter(pool -> pool.getName().equals("direct"))
+            .findFirst()
+            .orElseThrow();
+        long size = 4 * HugeArrays.PAGE_SIZE;
+        long usedBefore = directMemory.getMemoryUsed();
+
+        var array = HugeLongArray.newOffHeapArray(size, AllocationTracker.empty());
+        assertEquals(usedBefore + size * Long.BYTES, directMemory.getMemoryUsed());
+
+        array.release();
+        assertEquals(usedBefore, directMemory.getMemoryUsed());
+    }
+
+    @Test
+    void shouldInvalidateOffHeapCursorsOnRelease() {
+        var array = HugeLongArray.newOffHeapArray(2 * HugeArrays.PAGE_SIZE, AllocationTracker.empty());
+        var cursor = array.initCursor(array.newCursor());
+        assertTrue(cursor.next());
+
+        array.release();
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, cursor::next);
+    }
+
     @Override
     HugeLongArray singleArray(final int size) {
         return HugeLongArray.newSingleArray(size, AllocationTracker.empty());
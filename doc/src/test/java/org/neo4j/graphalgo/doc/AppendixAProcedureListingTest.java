@@ -73,7 +73,7 @@ class AppendixAProcedureListingTest extends BaseProcTest {
         registeredProcedures.add("gds.list");
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 180;
+        int expectedCount = 190;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
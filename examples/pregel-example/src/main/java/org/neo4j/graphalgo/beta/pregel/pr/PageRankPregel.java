@@ -28,6 +28,7 @@ import org.neo4j.graphalgo.beta.pregel.Pregel;
 import org.neo4j.graphalgo.beta.pregel.PregelComputation;
 import org.neo4j.graphalgo.beta.pregel.PregelConfig;
 import org.neo4j.graphalgo.beta.pregel.PregelContext;
+import org.neo4j.graphalgo.beta.pregel.Reducer;
 import org.neo4j.graphalgo.beta.pregel.annotation.GDSMode;
 import org.neo4j.graphalgo.beta.pregel.annotation.PregelProcedure;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
@@ -79,6 +80,11 @@ public class PageRankPregel implements PregelComputation<PageRankPregel.PageRank
         context.sendToNeighbors(newRank / context.degree());
     }
 
+    @Override
+    public Optional<Reducer> reducer() {
+        return Optional.of(new Reducer.Sum());
+    }
+
     @ValueClass
     @Configuration("PageRankPregelConfigImpl")
     @SuppressWarnings("immutables:subtype")
@@ -28,6 +28,7 @@ import org.neo4j.graphalgo.beta.pregel.Pregel;
 import org.neo4j.graphalgo.beta.pregel.PregelComputation;
 import org.neo4j.graphalgo.beta.pregel.PregelConfig;
 import org.neo4j.graphalgo.beta.pregel.PregelContext;
+import org.neo4j.graphalgo.beta.pregel.Reducer;
 import org.neo4j.graphalgo.beta.pregel.annotation.GDSMode;
 import org.neo4j.graphalgo.beta.pregel.annotation.PregelProcedure;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
@@ -84,6 +85,11 @@ public class SingleSourceShortestPathPregel implements PregelComputation<SingleS
 
     }
 
+    @Override
+    public Optional<Reducer> reducer() {
+        return Optional.of(new Reducer.Min());
+    }
+
     @ValueClass
     @Configuration("SingleSourceShortestPathPregelConfigImpl")
     @SuppressWarnings("immutables:subtype")
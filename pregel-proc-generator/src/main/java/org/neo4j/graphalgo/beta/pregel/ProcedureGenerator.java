@@ -205,8 +205,10 @@ abstract class ProcedureGenerator extends PregelGenerator {
                 .addModifiers(Modifier.PUBLIC)
                 .returns(MemoryEstimation.class)
                 .addParameter(pregelSpec.configTypeName(), "configuration")
-                .addStatement("var nodeSchema = new $T().nodeSchema()", computationClassName(pregelSpec, ""))
-                .addStatement("return $T.memoryEstimation(nodeSchema)", Pregel.class)
+                .addStatement("var computation = new $T()", computationClassName(pregelSpec, ""))
+                .addStatement("var nodeSchema = computation.nodeSchema()")
+                .addStatement("var isReducing = computation.reducer().isPresent()")
+                .addStatement("return $T.memoryEstimation(nodeSchema, isReducing, configuration.isAsynchronous())", Pregel.class)
                 .build()
             )
             .build();
@@ -71,8 +71,10 @@ public final class ComputationStatsProc extends PregelStatsProc<ComputationAlgor
 
             @Override
             public MemoryEstimation memoryEstimation(PregelConfig configuration) {
-                var nodeSchema = new Computation().nodeSchema();
-                return Pregel.memoryEstimation(nodeSchema);
+                var computation = new Computation();
+                var nodeSchema = computation.nodeSchema();
+                var isReducing = computation.reducer().isPresent();
+                return Pregel.memoryEstimation(nodeSchema, isReducing, configuration.isAsynchronous());
             }
         };
     }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.leiden;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.MutateNodePropertyTest;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.compat.MapUtil;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+
+public class LeidenMutateProcTest extends LeidenProcTest<LeidenMutateConfig> implements MutateNodePropertyTest<Leiden, LeidenMutateConfig, Leiden> {
+
+    @Override
+    public String mutateProperty() {
+        return "communityId";
+    }
+
+    @Override
+    public ValueType mutatePropertyType() {
+        return ValueType.LONG;
+    }
+
+    @Override
+    public Optional<String> mutateGraphName() {
+        return Optional.of(LEIDEN_GRAPH);
+    }
+
+    @Override
+    public String expectedMutatedGraph() {
+        return
+            "  (a:Node { communityId: 0, seed: 1 })" +
+            ", (b:Node { communityId: 0, seed: 1 })" +
+            ", (c:Node { communityId: 0, seed: 1 })" +
+            ", (d:Node { communityId: 0, seed: 1 })" +
+            ", (e:Node { communityId: 4, seed: 2 })" +
+            ", (f:Node { communityId: 4, seed: 2 })" +
+            ", (g:Node { communityId: 4, seed: 2 })" +
+            ", (h:Node { communityId: 4, seed: 2 })" +
+            // 'LEIDEN_GRAPH' is UNDIRECTED, e.g. each rel twice
+            ", (a)-->(b)-->(a)" +
+            ", (a)-->(c)-->(a)" +
+            ", (a)-->(d)-->(a)" +
+            ", (b)-->(c)-->(b)" +
+            ", (b)-->(d)-->(b)" +
+            ", (c)-->(d)-->(c)" +
+            ", (e)-->(f)-->(e)" +
+            ", (e)-->(g)-->(e)" +
+            ", (e)-->(h)-->(e)" +
+            ", (f)-->(g)-->(f)" +
+            ", (f)-->(h)-->(f)" +
+            ", (g)-->(h)-->(g)" +
+            ", (d)-->(e)-->(d)";
+    }
+
+    @Override
+    public Class<? extends AlgoBaseProc<Leiden, Leiden, LeidenMutateConfig>> getProcedureClazz() {
+        return LeidenMutateProc.class;
+    }
+
+    @Override
+    public LeidenMutateConfig createConfig(CypherMapWrapper mapWrapper) {
+        return LeidenMutateConfig.of(getUsername(), Optional.empty(), Optional.empty(), mapWrapper);
+    }
+
+    @Test
+    void testMutateAndWriteWithSeeding() {
+        var testGraphName = mutateGraphName().get();
+
+        var mutateQuery = GdsCypher
+            .call()
+            .explicitCreation(testGraphName)
+            .algo("gds", "beta", "leiden")
+            .mutateMode()
+            .addParameter("mutateProperty", mutateProperty())
+            .yields();
+
+        runQuery(mutateQuery);
+
+        var writeQuery = GdsCypher
+            .call()
+            .explicitCreation(testGraphName)
+            .algo("gds", "beta", "leiden")
+            .writeMode()
+            .addParameter("seedProperty", mutateProperty())
+            .addParameter("writeProperty", mutateProperty())
+            .yields();
+
+        runQuery(writeQuery);
+
+        var updatedGraph = new StoreLoaderBuilder().api(db)
+            .addNodeLabel("Node")
+            .globalOrientation(Orientation.UNDIRECTED)
+            .addNodeProperty(mutateProperty(), mutateProperty(), DefaultValue.of(42.0), Aggregation.NONE)
+            .addNodeProperty("seed", "seed", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        assertGraphEquals(fromGdl(expectedMutatedGraph()), updatedGraph);
+    }
+
+    @Test
+    void testMutateYields() {
+        String query = GdsCypher
+            .call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("gds", "beta", "leiden")
+            .mutateMode()
+            .addParameter("mutateProperty", mutateProperty())
+            .yields(
+                "nodePropertiesWritten",
+                "createMillis",
+                "computeMillis",
+                "mutateMillis",
+                "postProcessingMillis",
+                "ranLevels",
+                "communityCount",
+                "modularities",
+                "communityDistribution",
+                "configuration"
+            );
+
+        runQueryWithRowConsumer(
+            query,
+            row -> {
+                assertEquals(8L, row.getNumber("nodePropertiesWritten"));
+
+                assertThat(-1L, lessThan(row.getNumber("createMillis").longValue()));
+                assertThat(-1L, lessThan(row.getNumber("computeMillis").longValue()));
+                assertThat(-1L, lessThan(row.getNumber("mutateMillis").longValue()));
+
+                assertEquals(2L, row.getNumber("communityCount"));
+                assertEquals(
+                    row.getNumber("ranLevels").longValue(),
+                    ((List<Double>) row.get("modularities")).size()
+                );
+
+                assertEquals(MapUtil.map(
+                    "p99", 4L,
+                    "min", 4L,
+                    "max", 4L,
+                    "mean", 4.0D,
+                    "p90", 4L,
+                    "p50", 4L,
+                    "p999", 4L,
+                    "p95", 4L,
+                    "p75", 4L
+                ), row.get("communityDistribution"));
+            }
+        );
+    }
+
+}
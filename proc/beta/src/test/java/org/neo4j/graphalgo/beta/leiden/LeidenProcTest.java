@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.leiden;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.provider.Arguments;
+import org.neo4j.graphalgo.AlgoBaseProcTest;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.ConsecutiveIdsConfigTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.HeapControlTest;
+import org.neo4j.graphalgo.IterationsConfigTest;
+import org.neo4j.graphalgo.MemoryEstimateTest;
+import org.neo4j.graphalgo.NodeProjections;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.PropertyMappings;
+import org.neo4j.graphalgo.RelationshipProjection;
+import org.neo4j.graphalgo.RelationshipProjections;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.RelationshipWeightConfigTest;
+import org.neo4j.graphalgo.SeedConfigTest;
+import org.neo4j.graphalgo.ToleranceConfigTest;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.catalog.GraphWriteNodePropertiesProc;
+import org.neo4j.graphalgo.config.ImmutableGraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.functions.AsNodeFunc;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+abstract class LeidenProcTest<CONFIG extends LeidenBaseConfig> extends BaseProcTest implements
+    AlgoBaseProcTest<Leiden, CONFIG, Leiden>,
+    SeedConfigTest<Leiden, CONFIG, Leiden>,
+    ConsecutiveIdsConfigTest<Leiden, CONFIG, Leiden>,
+    IterationsConfigTest<Leiden, CONFIG, Leiden>,
+    RelationshipWeightConfigTest<Leiden, CONFIG, Leiden>,
+    ToleranceConfigTest<Leiden, CONFIG, Leiden>,
+    MemoryEstimateTest<Leiden, CONFIG, Leiden>,
+    HeapControlTest<Leiden, CONFIG, Leiden> {
+
+    static final List<List<Long>> RESULT = Arrays.asList(
+        Arrays.asList(0L, 1L, 2L, 3L),
+        Arrays.asList(4L, 5L, 6L, 7L)
+    );
+
+    static final String LEIDEN_GRAPH = "myGraph";
+
+    @Override
+    public String createQuery() {
+        return "CREATE" +
+               "  (a:Node {seed: 1})" +        // 0
+               ", (b:Node {seed: 1})" +        // 1
+               ", (c:Node {seed: 1})" +        // 2
+               ", (d:Node {seed: 1})" +        // 3
+               ", (e:Node {seed: 2})" +        // 4
+               ", (f:Node {seed: 2})" +        // 5
+               ", (g:Node {seed: 2})" +        // 6
+               ", (h:Node {seed: 2})" +        // 7
+
+               ", (a)-[:TYPE {weight: 1.0}]->(b)" +
+               ", (a)-[:TYPE {weight: 1.0}]->(c)" +
+               ", (a)-[:TYPE {weight: 1.0}]->(d)" +
+               ", (b)-[:TYPE {weight: 1.0}]->(c)" +
+               ", (b)-[:TYPE {weight: 1.0}]->(d)" +
+               ", (c)-[:TYPE {weight: 1.0}]->(d)" +
+
+               ", (e)-[:TYPE {weight: 1.0}]->(f)" +
+               ", (e)-[:TYPE {weight: 1.0}]->(g)" +
+               ", (e)-[:TYPE {weight: 1.0}]->(h)" +
+               ", (f)-[:TYPE {weight: 1.0}]->(g)" +
+               ", (f)-[:TYPE {weight: 1.0}]->(h)" +
+               ", (g)-[:TYPE {weight: 1.0}]->(h)" +
+
+               ", (d)-[:TYPE {weight: 1.0}]->(e)";
+    }
+
+    @Override
+    public GraphDatabaseAPI graphDb() {
+        return db;
+    }
+
+    @BeforeEach
+    void setupGraph() throws Exception {
+        registerProcedures(
+            LeidenStreamProc.class,
+            LeidenWriteProc.class,
+            LeidenStatsProc.class,
+            LeidenMutateProc.class,
+            GraphCreateProc.class,
+            GraphWriteNodePropertiesProc.class
+        );
+        registerFunctions(AsNodeFunc.class);
+
+        runQuery(createQuery());
+        graphCreateQueries().forEach(this::runQuery);
+    }
+
+    List<String> graphCreateQueries() {
+        return singletonList(
+            GdsCypher.call()
+                .withNodeLabel("Node")
+                .withNodeProperty("seed")
+                .withRelationshipType(
+                    "TYPE",
+                    RelationshipProjection.of(
+                        "TYPE",
+                        Orientation.UNDIRECTED,
+                        Aggregation.DEFAULT
+                    )
+                )
+                .graphCreate(LEIDEN_GRAPH)
+                .yields()
+        );
+    }
+
+    @AfterEach
+    void clearCommunities() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    static Stream<Arguments> graphVariations() {
+        return Stream.of(
+            arguments(
+                GdsCypher.call().explicitCreation(LEIDEN_GRAPH),
+                "explicit graph"
+            ),
+            arguments(
+                GdsCypher.call().implicitCreation(ImmutableGraphCreateFromStoreConfig
+                    .builder()
+                    .graphName("")
+                    .nodeProjections(NodeProjections.fromString("Node"))
+                    .nodeProperties(PropertyMappings.fromObject("seed"))
+                    .relationshipProjections(RelationshipProjections.builder()
+                        .putProjection(
+                            RelationshipType.of("TYPE"),
+                            RelationshipProjection.builder()
+                                .type("TYPE")
+                                .orientation(Orientation.UNDIRECTED)
+                                .build()
+                        )
+                        .build()
+                    )
+                    .build()
+                ),
+                "implicit graph"
+            )
+        );
+    }
+
+    @Override
+    public void assertResultEquals(Leiden result1, Leiden result2) {
+        assertEquals(result1.levels(), result2.levels());
+        assertEquals(result1.modularities()[result1.levels() - 1], result2.modularities()[result2.levels() - 1]);
+        assertArrayEquals(result1.finalDendrogram().toArray(), result2.finalDendrogram().toArray());
+    }
+}
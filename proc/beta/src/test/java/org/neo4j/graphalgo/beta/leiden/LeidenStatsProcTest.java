@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.leiden;
+
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.compat.MapUtil;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeidenStatsProcTest extends LeidenProcTest<LeidenStatsConfig> {
+
+    @Override
+    public Class<? extends AlgoBaseProc<Leiden, Leiden, LeidenStatsConfig>> getProcedureClazz() {
+        return LeidenStatsProc.class;
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("org.neo4j.graphalgo.beta.leiden.LeidenProcTest#graphVariations")
+    void testStats(GdsCypher.QueryBuilder queryBuilder, String testCaseName) {
+        @Language("Cypher") String query = queryBuilder
+            .algo("gds", "beta", "leiden")
+            .statsMode()
+            .yields(
+                "communityCount",
+                "modularity",
+                "modularities",
+                "ranLevels",
+                "createMillis",
+                "computeMillis",
+                "postProcessingMillis",
+                "communityDistribution"
+            );
+
+        runQueryWithRowConsumer(query, row -> {
+            long levels = row.getNumber("ranLevels").longValue();
+            List<Double> modularities = (List<Double>) row.get("modularities");
+
+            assertEquals(2L, row.getNumber("communityCount").longValue(), "wrong community count");
+            assertTrue(levels > 0, "invalid level count");
+            assertEquals(levels, modularities.size(), "invalid modularities");
+            // 2 * (6 / 13 - (13 / 26)^2)
+            assertEquals(0.42, row.getNumber("modularity").doubleValue(), 0.01);
+            assertEquals(row.getNumber("modularity").doubleValue(), modularities.get(modularities.size() - 1));
+
+            assertTrue(row.getNumber("createMillis").longValue() >= 0, "invalid loadTime");
+            assertTrue(row.getNumber("computeMillis").longValue() >= 0, "invalid computeTime");
+            assertTrue(row.getNumber("postProcessingMillis").longValue() >= 0, "invalid postProcessingTime");
+
+            assertEquals(MapUtil.map(
+                "p99", 4L,
+                "min", 4L,
+                "max", 4L,
+                "mean", 4.0D,
+                "p90", 4L,
+                "p50", 4L,
+                "p999", 4L,
+                "p95", 4L,
+                "p75", 4L
+            ), row.get("communityDistribution"));
+        });
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("org.neo4j.graphalgo.beta.leiden.LeidenProcTest#graphVariations")
+    void statsShouldNotHaveWriteProperties(GdsCypher.QueryBuilder queryBuilder, String testCaseName) {
+        String query = queryBuilder
+            .algo("gds", "beta", "leiden")
+            .statsMode()
+            .yields();
+
+        List<String> forbiddenResultColumns = Arrays.asList(
+            "writeMillis",
+            "nodePropertiesWritten",
+            "relationshipPropertiesWritten"
+        );
+        List<String> forbiddenConfigKeys = Collections.singletonList("writeProperty");
+        runQueryWithResultConsumer(query, result -> {
+            List<String> badResultColumns = result.columns()
+                .stream()
+                .filter(forbiddenResultColumns::contains)
+                .collect(Collectors.toList());
+            assertEquals(Collections.emptyList(), badResultColumns);
+            assertTrue(result.hasNext(), "Result must not be empty.");
+            Map<String, Object> config = (Map<String, Object>) result.next().get("configuration");
+            List<String> badConfigKeys = config.keySet()
+                .stream()
+                .filter(forbiddenConfigKeys::contains)
+                .collect(Collectors.toList());
+            assertEquals(Collections.emptyList(), badConfigKeys);
+        });
+    }
+
+    @Override
+    public LeidenStatsConfig createConfig(CypherMapWrapper mapWrapper) {
+        return LeidenStatsConfig.of("", Optional.empty(), Optional.empty(), mapWrapper);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.catalog;
+
+import org.neo4j.graphalgo.BaseProc;
+import org.neo4j.graphalgo.compat.Neo4jProxy;
+import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.CSRGraphStore;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.loading.GraphStoreFile;
+import org.neo4j.graphalgo.core.utils.export.GraphStoreFileConfig;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphStoreFileProc extends BaseProc {
+
+    @Procedure(name = "gds.alpha.graph.save", mode = READ)
+    @Description("Saves a named graph into a binary file in the user's graph directory below the Neo4j home directory.")
+    public Stream<GraphStoreFileResult> save(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var fileConfig = GraphStoreFileConfig.of(username(), cypherConfig);
+        validateConfig(cypherConfig, fileConfig);
+
+        var result = runWithExceptionLogging(
+            "Graph saving failed", () -> {
+                var graphStore = GraphStoreCatalog.get(username(), databaseId(), graphName).graphStore();
+                var file = fileConfig.file(neo4jHome());
+                if (Files.exists(file) && !fileConfig.overwrite()) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Graph file `%s` already exists. Set `%s` to `true` to replace it.",
+                        fileConfig.fileName(),
+                        GraphStoreFileConfig.OVERWRITE_KEY
+                    ));
+                }
+
+                var start = System.nanoTime();
+                long bytes;
+                try {
+                    Files.createDirectories(file.getParent());
+                    bytes = GraphStoreFile.write(graphStore, username(), file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                var end = System.nanoTime();
+
+                return new GraphStoreFileResult(
+                    graphName,
+                    fileConfig.fileName(),
+                    graphStore.nodeCount(),
+                    graphStore.relationshipCount(),
+                    bytes,
+                    TimeUnit.NANOSECONDS.toMillis(end - start)
+                );
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    @Procedure(name = "gds.alpha.graph.load", mode = READ)
+    @Description("Loads a named graph from a binary file that has been created by `gds.alpha.graph.save`.")
+    public Stream<GraphStoreFileResult> load(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var fileConfig = GraphStoreFileConfig.of(username(), cypherConfig);
+        validateConfig(cypherConfig, fileConfig);
+        validateGraphName(username(), graphName);
+
+        var result = runWithExceptionLogging(
+            "Graph loading failed", () -> {
+                var file = fileConfig.file(neo4jHome());
+                if (!Files.isRegularFile(file)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Graph file `%s` does not exist.",
+                        fileConfig.fileName()
+                    ));
+                }
+
+                var start = System.nanoTime();
+                CSRGraphStore graphStore;
+                long bytes;
+                try {
+                    graphStore = GraphStoreFile.read(
+                        file,
+                        username(),
+                        databaseId(),
+                        fileConfig.concurrency(),
+                        AllocationTracker.empty()
+                    );
+                    bytes = Files.size(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                var end = System.nanoTime();
+
+                GraphStoreCatalog.set(GraphCreateFromStoreConfig.emptyWithName(username(), graphName), graphStore);
+
+                return new GraphStoreFileResult(
+                    graphName,
+                    fileConfig.fileName(),
+                    graphStore.nodeCount(),
+                    graphStore.relationshipCount(),
+                    bytes,
+                    TimeUnit.NANOSECONDS.toMillis(end - start)
+                );
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    private Path neo4jHome() {
+        return Neo4jProxy.homeDirectory(api.databaseLayout());
+    }
+
+    public static class GraphStoreFileResult {
+        public final String graphName;
+        public final String fileName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long bytes;
+        public final long millis;
+
+        public GraphStoreFileResult(
+            String graphName,
+            String fileName,
+            long nodeCount,
+            long relationshipCount,
+            long bytes,
+            long millis
+        ) {
+            this.graphName = graphName;
+            this.fileName = fileName;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.bytes = bytes;
+            this.millis = millis;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphdb.QueryExecutionException;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.utils.ExceptionUtil.rootCause;
+
+class GraphStoreFileProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { prop1: 0 })" +
+        ", (b { prop1: 1 })" +
+        ", (c { prop1: 2 })" +
+        ", (a)-[:REL1 { weight1: 42}]->(b)" +
+        ", (b)-[:REL1 { weight1: 1.5}]->(c)" +
+        ", (c)-[:REL2 { weight2: 7}]->(a)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphCreateProc.class, GraphStoreFileProc.class);
+        runQuery(DB_CYPHER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void saveAndLoadGraph() {
+        runQuery(GdsCypher.call()
+            .withAnyLabel()
+            .withNodeProperty("prop1")
+            .withRelationshipType("REL1")
+            .withRelationshipType("REL2")
+            .withRelationshipProperty("weight1")
+            .withRelationshipProperty("weight2")
+            .graphCreate("test-graph")
+            .yields());
+
+        runQueryWithRowConsumer("CALL gds.alpha.graph.save('test-graph', { fileName: 'test-graph.gds' })", row -> {
+            assertEquals("test-graph", row.getString("graphName"));
+            assertEquals("test-graph.gds", row.getString("fileName"));
+            assertEquals(3, row.getNumber("nodeCount").longValue());
+            assertEquals(3, row.getNumber("relationshipCount").longValue());
+            assertThat(row.getNumber("bytes").longValue(), greaterThan(0L));
+        });
+
+        runQueryWithRowConsumer("CALL gds.alpha.graph.load('loaded-graph', { fileName: 'test-graph.gds' })", row -> {
+            assertEquals("loaded-graph", row.getString("graphName"));
+            assertEquals(3, row.getNumber("nodeCount").longValue());
+            assertEquals(3, row.getNumber("relationshipCount").longValue());
+        });
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "test-graph").graphStore();
+        var loadedGraphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "loaded-graph").graphStore();
+        assertEquals(graphStore.schema(), loadedGraphStore.schema());
+        assertGraphEquals(graphStore.getUnion(), loadedGraphStore.getUnion());
+    }
+
+    @Test
+    void failsOnExistingGraphName() {
+        runQuery(GdsCypher.call().loadEverything().graphCreate("test-graph").yields());
+
+        assertError(
+            "CALL gds.alpha.graph.load('test-graph', { fileName: 'test-graph.gds' })",
+            "A graph with name 'test-graph' already exists."
+        );
+    }
+
+    @Test
+    void failsOnFileNameWithPath() {
+        runQuery(GdsCypher.call().loadEverything().graphCreate("test-graph").yields());
+
+        assertError(
+            "CALL gds.alpha.graph.save('test-graph', { fileName: '../test-graph.gds' })",
+            "The value of `fileName` must be a plain file name, but got `../test-graph.gds`."
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {".", ".."})
+    void failsOnDirectoryReference(String fileName) {
+        runQuery(GdsCypher.call().loadEverything().graphCreate("test-graph").yields());
+
+        assertError(
+            "CALL gds.alpha.graph.save('test-graph', { fileName: $fileName })",
+            Map.of("fileName", fileName),
+            "The value of `fileName` must be a plain file name, but got the directory reference `" + fileName + "`."
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    void failsOnBlankFileName(String fileName) {
+        runQuery(GdsCypher.call().loadEverything().graphCreate("test-graph").yields());
+
+        assertError(
+            "CALL gds.alpha.graph.save('test-graph', { fileName: $fileName })",
+            Map.of("fileName", fileName),
+            "The value of `fileName` must not be empty or blank."
+        );
+    }
+
+    @Test
+    void failsOnExistingFile() {
+        runQuery(GdsCypher.call().loadEverything().graphCreate("test-graph").yields());
+        runQuery("CALL gds.alpha.graph.save('test-graph', { fileName: 'existing-graph.gds' })");
+
+        assertError(
+            "CALL gds.alpha.graph.save('test-graph', { fileName: 'existing-graph.gds' })",
+            "Graph file `existing-graph.gds` already exists. Set `overwrite` to `true` to replace it."
+        );
+    }
+
+    @Test
+    void overwritesExistingFile() {
+        runQuery(GdsCypher.call().loadEverything().graphCreate("test-graph").yields());
+        runQuery("CALL gds.alpha.graph.save('test-graph', { fileName: 'overwritten-graph.gds' })");
+        runQuery(GdsCypher.call().withAnyLabel().withRelationshipType("REL1").graphCreate("other-graph").yields());
+
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.graph.save('other-graph', { fileName: 'overwritten-graph.gds', overwrite: true })",
+            row -> assertEquals(2, row.getNumber("relationshipCount").longValue())
+        );
+
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.graph.load('loaded-graph', { fileName: 'overwritten-graph.gds' })",
+            row -> assertEquals(2, row.getNumber("relationshipCount").longValue())
+        );
+    }
+
+    @Test
+    void keepsFilesOfDifferentUsersApart() {
+        var createQuery = GdsCypher.call().loadEverything().graphCreate("test-graph").yields();
+        runQuery("alice", createQuery, emptyMap());
+        runQuery("alice", "CALL gds.alpha.graph.save('test-graph', { fileName: 'user-graph.gds' })", emptyMap());
+
+        QueryExecutionException ex = assertThrows(
+            QueryExecutionException.class,
+            () -> runQuery("bob", "CALL gds.alpha.graph.load('loaded-graph', { fileName: 'user-graph.gds' })", emptyMap())
+        );
+        Throwable rootCause = rootCause(ex);
+        assertEquals(IllegalArgumentException.class, rootCause.getClass());
+        assertEquals("Graph file `user-graph.gds` does not exist.", rootCause.getMessage());
+
+        runQuery("bob", createQuery, emptyMap());
+        runQuery("bob", "CALL gds.alpha.graph.save('test-graph', { fileName: 'user-graph.gds' })", emptyMap());
+        runQueryWithRowConsumer(
+            "alice",
+            "CALL gds.alpha.graph.load('loaded-graph', { fileName: 'user-graph.gds' })",
+            row -> assertEquals(3, row.getNumber("nodeCount").longValue())
+        );
+    }
+}
@@ -70,12 +70,14 @@ final class LocalClusteringCoefficientCompanion {
             .orElse(EmptyResult.EMPTY_RESULT);
 
         return procResultBuilder
-            .withAverageClusteringCoefficient(result.averageClusteringCoefficient());
+            .withAverageClusteringCoefficient(result.averageClusteringCoefficient())
+            .withGlobalTriangleCountConfidenceInterval(result.globalTriangleCountConfidenceInterval());
     }
 
     abstract static class ResultBuilder<PROC_RESULT> extends AbstractCommunityResultBuilder<PROC_RESULT> {
 
         double averageClusteringCoefficient = 0;
+        double globalTriangleCountConfidenceInterval = 0.0;
 
         ResultBuilder(ProcedureCallContext callContext, AllocationTracker tracker) {
             super(callContext, tracker);
@@ -85,6 +87,11 @@ final class LocalClusteringCoefficientCompanion {
             this.averageClusteringCoefficient = averageClusteringCoefficient;
             return this;
         }
+
+        ResultBuilder<PROC_RESULT> withGlobalTriangleCountConfidenceInterval(double confidenceInterval) {
+            this.globalTriangleCountConfidenceInterval = confidenceInterval;
+            return this;
+        }
     }
 
 
@@ -111,6 +111,7 @@ public class LocalClusteringCoefficientMutateProc extends MutateProc<LocalCluste
 
         public MutateResult(
             double averageClusteringCoefficient,
+            double globalTriangleCountConfidenceInterval,
             long nodeCount,
             long nodePropertiesWritten,
             long createMillis,
@@ -120,6 +121,7 @@ public class LocalClusteringCoefficientMutateProc extends MutateProc<LocalCluste
         ) {
             super(
                 averageClusteringCoefficient,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -143,6 +145,7 @@ public class LocalClusteringCoefficientMutateProc extends MutateProc<LocalCluste
         protected MutateResult buildResult() {
             return new MutateResult(
                 averageClusteringCoefficient,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 nodePropertiesWritten,
                 createMillis,
@@ -97,6 +97,7 @@ public class LocalClusteringCoefficientStatsProc extends StatsProc<LocalClusteri
 
     public static class StatsResult {
         public final double averageClusteringCoefficient;
+        public final double globalTriangleCountConfidenceInterval;
         public final long nodeCount;
         public final long createMillis;
         public final long computeMillis;
@@ -104,12 +105,14 @@ public class LocalClusteringCoefficientStatsProc extends StatsProc<LocalClusteri
 
         public StatsResult(
             double averageClusteringCoefficient,
+            double globalTriangleCountConfidenceInterval,
             long nodeCount,
             long createMillis,
             long computeMillis,
             Map<String, Object> configuration
         ) {
             this.averageClusteringCoefficient = averageClusteringCoefficient;
+            this.globalTriangleCountConfidenceInterval = globalTriangleCountConfidenceInterval;
             this.createMillis = createMillis;
             this.computeMillis = computeMillis;
             this.nodeCount = nodeCount;
@@ -130,6 +133,7 @@ public class LocalClusteringCoefficientStatsProc extends StatsProc<LocalClusteri
         protected StatsResult buildResult() {
             return new StatsResult(
                 averageClusteringCoefficient,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 createMillis,
                 computeMillis,
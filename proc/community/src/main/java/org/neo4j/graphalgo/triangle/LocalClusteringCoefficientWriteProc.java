@@ -112,6 +112,7 @@ public class LocalClusteringCoefficientWriteProc extends WriteProc<LocalClusteri
 
         public WriteResult(
             double averageClusteringCoefficient,
+            double globalTriangleCountConfidenceInterval,
             long nodeCount,
             long createMillis,
             long computeMillis,
@@ -119,7 +120,14 @@ public class LocalClusteringCoefficientWriteProc extends WriteProc<LocalClusteri
             long writeMillis,
             Map<String, Object> configuration
         ) {
-            super(averageClusteringCoefficient, nodeCount, createMillis, computeMillis, configuration);
+            super(
+                averageClusteringCoefficient,
+                globalTriangleCountConfidenceInterval,
+                nodeCount,
+                createMillis,
+                computeMillis,
+                configuration
+            );
 
             this.nodePropertiesWritten = nodePropertiesWritten;
             this.writeMillis = writeMillis;
@@ -140,6 +148,7 @@ public class LocalClusteringCoefficientWriteProc extends WriteProc<LocalClusteri
         protected WriteResult buildResult() {
             return new WriteResult(
                 averageClusteringCoefficient,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -43,18 +43,26 @@ final class TriangleCountCompanion {
         AlgoBaseProc.ComputationResult<IntersectingTriangleCount, IntersectingTriangleCount.TriangleCountResult, CONFIG> computeResult
     ) {
         var result = Optional.ofNullable(computeResult.result()).orElse(EmptyResult.EMPTY_RESULT);
-        return procResultBuilder.withGlobalTriangleCount(result.globalTriangles());
+        return procResultBuilder
+            .withGlobalTriangleCount(result.globalTriangles())
+            .withGlobalTriangleCountConfidenceInterval(result.globalTrianglesConfidenceInterval());
     }
 
     abstract static class TriangleCountResultBuilder<PROC_RESULT> extends AbstractResultBuilder<PROC_RESULT> {
 
         long globalTriangleCount = 0;
+        double globalTriangleCountConfidenceInterval = 0.0;
 
         TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCount(long globalTriangleCount) {
             this.globalTriangleCount = globalTriangleCount;
             return this;
         }
 
+        TriangleCountResultBuilder<PROC_RESULT> withGlobalTriangleCountConfidenceInterval(double confidenceInterval) {
+            this.globalTriangleCountConfidenceInterval = confidenceInterval;
+            return this;
+        }
+
     }
 
     private TriangleCountCompanion() {}
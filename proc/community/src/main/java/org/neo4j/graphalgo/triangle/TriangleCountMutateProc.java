@@ -102,6 +102,7 @@ public class TriangleCountMutateProc extends MutateProc<IntersectingTriangleCoun
 
         public MutateResult(
             long globalTriangleCount,
+            double globalTriangleCountConfidenceInterval,
             long nodeCount,
             long nodePropertiesWritten,
             long createMillis,
@@ -111,6 +112,7 @@ public class TriangleCountMutateProc extends MutateProc<IntersectingTriangleCoun
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -127,6 +129,7 @@ public class TriangleCountMutateProc extends MutateProc<IntersectingTriangleCoun
         public MutateResult build() {
             return new MutateResult(
                 globalTriangleCount,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 nodePropertiesWritten,
                 createMillis,
@@ -89,6 +89,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
 
     public static class StatsResult {
         public final long globalTriangleCount;
+        public final double globalTriangleCountConfidenceInterval;
         public final long nodeCount;
         public final long createMillis;
         public final long computeMillis;
@@ -96,6 +97,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
 
         public StatsResult(
             long globalTriangleCount,
+            double globalTriangleCountConfidenceInterval,
             long nodeCount,
             long createMillis,
             long computeMillis,
@@ -105,6 +107,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
             this.computeMillis = computeMillis;
             this.nodeCount = nodeCount;
             this.globalTriangleCount = globalTriangleCount;
+            this.globalTriangleCountConfidenceInterval = globalTriangleCountConfidenceInterval;
             this.configuration = configuration;
         }
     }
@@ -115,6 +118,7 @@ public class TriangleCountStatsProc extends StatsProc<IntersectingTriangleCount,
         public StatsResult build() {
             return new StatsResult(
                 globalTriangleCount,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 createMillis,
                 computeMillis,
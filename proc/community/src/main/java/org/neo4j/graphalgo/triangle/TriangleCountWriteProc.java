@@ -103,6 +103,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
 
         public WriteResult(
             long globalTriangleCount,
+            double globalTriangleCountConfidenceInterval,
             long nodeCount,
             long nodePropertiesWritten,
             long createMillis,
@@ -112,6 +113,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         ) {
             super(
                 globalTriangleCount,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 createMillis,
                 computeMillis,
@@ -129,6 +131,7 @@ public class TriangleCountWriteProc extends WriteProc<IntersectingTriangleCount,
         public WriteResult build() {
             return new WriteResult(
                 globalTriangleCount,
+                globalTriangleCountConfidenceInterval,
                 nodeCount,
                 nodePropertiesWritten,
                 createMillis,
@@ -101,6 +101,7 @@ class LocalClusteringCoefficientMutateProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficient() / 5, 1e-10),
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -119,6 +120,7 @@ class LocalClusteringCoefficientMutateProcTest
 
         assertCypherResult(query, Map.of("mutateProperty", mutateProperty()), List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficientSeeded() / 5, 1e-10),
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
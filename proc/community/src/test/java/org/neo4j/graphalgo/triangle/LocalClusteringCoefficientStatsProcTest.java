@@ -39,6 +39,7 @@ class LocalClusteringCoefficientStatsProcTest extends LocalClusteringCoefficient
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficient() / 5, 1e-10),
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -52,6 +53,21 @@ class LocalClusteringCoefficientStatsProcTest extends LocalClusteringCoefficient
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficientSeeded() / 5, 1e-10),
+            "globalTriangleCountConfidenceInterval", 0.0,
+            "nodeCount", 5L,
+            "createMillis", greaterThan(-1L),
+            "computeMillis", greaterThan(-1L),
+            "configuration", isA(Map.class)
+        )));
+    }
+
+    @Test
+    void testStatsSampled() {
+        var query = "CALL gds.localClusteringCoefficient.stats('g', { samplingRate: 0.99, samplingSeed: 42 })";
+
+        assertCypherResult(query, List.of(Map.of(
+            "averageClusteringCoefficient", isA(Double.class),
+            "globalTriangleCountConfidenceInterval", greaterThan(0.0),
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -44,6 +44,7 @@ class LocalClusteringCoefficientWriteProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficient() / 5, 1e-10),
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -64,6 +65,7 @@ class LocalClusteringCoefficientWriteProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "averageClusteringCoefficient", closeTo(expectedAverageClusteringCoefficientSeeded() / 5, 1e-10),
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -86,6 +86,7 @@ class TriangleCountMutateProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 1L,
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 3L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -120,6 +121,7 @@ class TriangleCountMutateProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 0L,
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 4L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -44,6 +44,7 @@ class TriangleCountStatsProcTest extends TriangleCountBaseProcTest<TriangleCount
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 1L,
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 3L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -68,6 +69,7 @@ class TriangleCountStatsProcTest extends TriangleCountBaseProcTest<TriangleCount
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 0L,
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 4L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
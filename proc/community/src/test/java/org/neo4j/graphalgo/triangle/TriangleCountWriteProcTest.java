@@ -63,6 +63,7 @@ class TriangleCountWriteProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 5L,
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -94,6 +95,7 @@ class TriangleCountWriteProcTest
 
         assertCypherResult(query, List.of(Map.of(
             "globalTriangleCount", 0L,
+            "globalTriangleCountConfidenceInterval", 0.0,
             "nodeCount", 5L,
             "createMillis", greaterThan(-1L),
             "computeMillis", greaterThan(-1L),
@@ -26,6 +26,10 @@ import org.neo4j.graphalgo.beta.k1coloring.K1ColoringMutateProc;
 import org.neo4j.graphalgo.beta.k1coloring.K1ColoringStatsProc;
 import org.neo4j.graphalgo.beta.k1coloring.K1ColoringStreamProc;
 import org.neo4j.graphalgo.beta.k1coloring.K1ColoringWriteProc;
+import org.neo4j.graphalgo.beta.leiden.LeidenMutateProc;
+import org.neo4j.graphalgo.beta.leiden.LeidenStatsProc;
+import org.neo4j.graphalgo.beta.leiden.LeidenStreamProc;
+import org.neo4j.graphalgo.beta.leiden.LeidenWriteProc;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationMutateProc;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationStreamProc;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationWriteProc;
@@ -95,6 +99,15 @@ class ListProcTest extends BaseProcTest {
         "gds.beta.k1coloring.write",
         "gds.beta.k1coloring.write.estimate",
 
+        "gds.beta.leiden.mutate",
+        "gds.beta.leiden.mutate.estimate",
+        "gds.beta.leiden.stats",
+        "gds.beta.leiden.stats.estimate",
+        "gds.beta.leiden.stream",
+        "gds.beta.leiden.stream.estimate",
+        "gds.beta.leiden.write",
+        "gds.beta.leiden.write.estimate",
+
         "gds.beta.modularityOptimization.mutate",
         "gds.beta.modularityOptimization.mutate.estimate",
         "gds.beta.modularityOptimization.stream",
@@ -237,6 +250,10 @@ class ListProcTest extends BaseProcTest {
             LabelPropagationStreamProc.class,
             LabelPropagationStatsProc.class,
             LabelPropagationMutateProc.class,
+            LeidenWriteProc.class,
+            LeidenStreamProc.class,
+            LeidenStatsProc.class,
+            LeidenMutateProc.class,
             ListProc.class,
             LouvainWriteProc.class,
             LouvainStreamProc.class,
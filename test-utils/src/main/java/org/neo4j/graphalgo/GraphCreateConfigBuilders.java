@@ -64,7 +64,8 @@ public final class GraphCreateConfigBuilders {
         Optional<Integer> concurrency,
         Optional<Orientation> globalProjection,
         Optional<Aggregation> globalAggregation,
-        Optional<Boolean> validateRelationships
+        Optional<Boolean> validateRelationships,
+        Optional<Boolean> offHeap
     ) {
         // Node projections
         Map<String, NodeProjection> tempNP = new LinkedHashMap<>();
@@ -120,6 +121,7 @@ public final class GraphCreateConfigBuilders {
             .relationshipProperties(relationshipPropertyMappings)
             .readConcurrency(concurrency.orElse(ConcurrencyConfig.DEFAULT_CONCURRENCY))
             .validateRelationships(validateRelationships.orElse(false))
+            .offHeap(offHeap.orElse(false))
             .build()
             .withNormalizedPropertyMappings();
     }
@@ -134,6 +136,7 @@ public final class GraphCreateConfigBuilders {
         Optional<String> nodeQuery,
         Optional<String> relationshipQuery,
         Optional<Integer> concurrency,
+        Optional<Integer> queryBatchSize,
         Optional<Boolean> validateRelationships,
         Optional<Map<String, Object>> parameters
     ) {
@@ -144,6 +147,7 @@ public final class GraphCreateConfigBuilders {
             .nodeQuery(nodeQuery.orElse(ALL_NODES_QUERY))
             .relationshipQuery(relationshipQuery.orElse(ALL_RELATIONSHIPS_QUERY))
             .readConcurrency(concurrency.orElse(ConcurrencyConfig.DEFAULT_CONCURRENCY))
+            .queryBatchSize(queryBatchSize.orElse(GraphCreateFromCypherConfig.DEFAULT_QUERY_BATCH_SIZE))
             .validateRelationships(validateRelationships.orElse(true))
             .parameters(parameters.orElse(Collections.emptyMap()))
             .build();
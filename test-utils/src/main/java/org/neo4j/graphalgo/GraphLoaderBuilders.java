@@ -77,7 +77,8 @@ public final class GraphLoaderBuilders {
         Optional<Integer> concurrency,
         Optional<Orientation> globalOrientation,
         Optional<Aggregation> globalAggregation,
-        Optional<Boolean> validateRelationships
+        Optional<Boolean> validateRelationships,
+        Optional<Boolean> offHeap
     ) {
 
         GraphCreateFromStoreConfig graphCreateConfig = GraphCreateConfigBuilders.storeConfig(
@@ -94,7 +95,8 @@ public final class GraphLoaderBuilders {
             concurrency,
             globalOrientation,
             globalAggregation,
-            validateRelationships
+            validateRelationships,
+            offHeap
         );
 
         return createGraphLoader(
@@ -128,6 +130,7 @@ public final class GraphLoaderBuilders {
         Optional<String> nodeQuery,
         Optional<String> relationshipQuery,
         Optional<Integer> concurrency,
+        Optional<Integer> queryBatchSize,
         Optional<Boolean> validateRelationships,
         Optional<Map<String, Object>> parameters
     ) {
@@ -137,6 +140,7 @@ public final class GraphLoaderBuilders {
             nodeQuery,
             relationshipQuery,
             concurrency,
+            queryBatchSize,
             validateRelationships,
             parameters
         );